@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the host and port of a URI are allowed. Supported types are {@link java.net.URI}, {@link String} and {@link CharSequence}. Can be combined
+ * with {@link AllowedUriSchemes} to also restrict the scheme.
+ *
+ * <p>A host is allowed if it matches one of the {@link #hosts()} patterns or if it is an IP address in one of the {@link #cidrs()} ranges. If neither is
+ * specified, any host is allowed. A port is allowed if it is one of the {@link #ports()}; a URI without an explicit port is always allowed. No DNS lookups
+ * are done: a host name never matches a CIDR range.</p>
+ */
+@Documented
+@ConstraintCost(ConstraintCost.Level.CHEAP)
+@Constraint(validatedBy = { AllowedUriHostsValidator.class, AllowedUriHostsValidatorForCharSequence.class, AllowedUriHostsValidatorForString.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AllowedUriHosts {
+    String message() default "URI host not allowed";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * Allowed host names, matched case-insensitively. A pattern of the form <code>*.knaw.nl</code> matches all subdomains of <code>knaw.nl</code>, but not
+     * <code>knaw.nl</code> itself.
+     *
+     * @return the host patterns
+     */
+    String[] hosts() default {};
+
+    /**
+     * Allowed IPv4 and IPv6 ranges in CIDR notation, e.g., <code>192.168.0.0/16</code> or <code>2001:db8::/32</code>.
+     *
+     * @return the CIDR ranges
+     */
+    String[] cidrs() default {};
+
+    /**
+     * Allowed explicit ports. An empty array allows any port.
+     *
+     * @return the ports
+     */
+    int[] ports() default {};
+}
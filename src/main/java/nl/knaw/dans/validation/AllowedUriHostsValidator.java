@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+import java.net.URI;
+
+/**
+ * Validator for the {@link AllowedUriHosts} annotation for {@link URI} objects. The URI is checked in its (ASCII) string form, so that hosts that
+ * {@link URI#getHost()} does not recognize are handled the same way as for strings.
+ */
+@ThreadSafeValidator
+public class AllowedUriHostsValidator extends InstrumentedValidator<AllowedUriHosts, URI> {
+    private AllowedUriHostsValidatorForCharSequence charSequenceValidator;
+
+    @Override
+    public void initialize(AllowedUriHosts constraintAnnotation) {
+        this.charSequenceValidator = new AllowedUriHostsValidatorForCharSequence();
+        this.charSequenceValidator.initialize(constraintAnnotation);
+    }
+
+    @Override
+    protected boolean validate(URI uri, ConstraintValidatorContext context) {
+        if (uri == null) {
+            return true; // null is considered valid, if you want to enforce non-null, use @NotNull
+        }
+        return charSequenceValidator.validate(uri.toASCIIString(), context);
+    }
+}
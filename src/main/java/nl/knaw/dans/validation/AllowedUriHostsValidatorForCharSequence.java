@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for the {@link AllowedUriHosts} annotation for {@link CharSequence} objects. The value must be an absolute URI according to RFC 3986. Host and
+ * port are taken from the original characters, without creating a {@link java.net.URI} object.
+ */
+@ThreadSafeValidator
+public class AllowedUriHostsValidatorForCharSequence extends InstrumentedValidator<AllowedUriHosts, CharSequence> {
+    private HostAllowlist allowlist;
+
+    @Override
+    public void initialize(AllowedUriHosts constraintAnnotation) {
+        this.allowlist = HostAllowlist.compile(constraintAnnotation);
+    }
+
+    @Override
+    protected boolean validate(CharSequence value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true; // null is considered valid, if you want to enforce non-null, use @NotNull
+        }
+        int[] parts = new int[UriSyntax.PARTS_LENGTH];
+        int error = UriSyntax.scan(value, parts);
+        String message = error == UriSyntax.VALID ? allowlist.check(value, parts) : UriSyntax.errorMessage(value, error);
+        if (message != null) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(MessageTemplates.literal(message)).addConstraintViolation();
+            return false;
+        }
+        return true;
+    }
+}
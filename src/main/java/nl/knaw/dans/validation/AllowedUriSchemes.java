@@ -21,8 +21,14 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
-@Constraint(validatedBy = AllowedUriSchemesValidator.class)
-@Target({ ElementType.FIELD, ElementType.PARAMETER})
+/**
+ * Validates that the value of a field is a URI with one of the allowed schemes. Supported types are {@link java.net.URI}, {@link String} and
+ * {@link CharSequence}, and {@link Iterable} of these. String values must also be syntactically valid absolute URIs according to RFC 3986.
+ */
+@ConstraintCost(ConstraintCost.Level.CHEAP)
+@Constraint(validatedBy = { AllowedUriSchemesValidator.class, AllowedUriSchemesValidatorForCharSequence.class, AllowedUriSchemesValidatorForString.class,
+    AllowedUriSchemesValidatorForIterable.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface AllowedUriSchemes {
     String message() default "Invalid URI scheme";
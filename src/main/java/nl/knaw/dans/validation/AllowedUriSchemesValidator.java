@@ -15,41 +15,28 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
 import java.net.URI;
 
-public class AllowedUriSchemesValidator implements ConstraintValidator<AllowedUriSchemes, URI> {
+@ThreadSafeValidator
+public class AllowedUriSchemesValidator extends InstrumentedValidator<AllowedUriSchemes, URI> {
 
-    private String[] allowedSchemes;
+    private SchemeSet allowedSchemes;
 
     @Override
     public void initialize(AllowedUriSchemes constraintAnnotation) {
-        this.allowedSchemes = constraintAnnotation.schemes();
+        this.allowedSchemes = SchemeSet.compile(constraintAnnotation.schemes());
     }
 
     @Override
-    public boolean isValid(URI uri, javax.validation.ConstraintValidatorContext context) {
+    protected boolean validate(URI uri, javax.validation.ConstraintValidatorContext context) {
         if (uri == null) {
             return true; // null is considered valid, if you want to enforce non-null, use @NotNull
         }
         String scheme = uri.getScheme();
-        if (scheme != null && !scheme.trim().isEmpty()) { // second member seems superfluous, but keep it for safety
-            for (String allowedScheme : allowedSchemes) {
-                if (allowedScheme.equalsIgnoreCase(scheme)) {
-                    return true; // valid scheme found
-                }
-            }
+        if (allowedSchemes.contains(scheme)) {
+            return true; // valid scheme found
         }
-        context.disableDefaultConstraintViolation();
-        if (scheme != null) {
-            scheme = "'" + scheme + "'";
-        }
-        context.buildConstraintViolationWithTemplate(
-                "Invalid URI scheme: " + scheme + "; allowed schemes are: " +
-                    java.util.Arrays.stream(allowedSchemes)
-                        .map(s -> "'" + s + "'")
-                        .collect(java.util.stream.Collectors.joining(", ")))
-            .addConstraintViolation();
+        allowedSchemes.addViolation(context, scheme);
         return false; // no valid scheme found
     }
 }
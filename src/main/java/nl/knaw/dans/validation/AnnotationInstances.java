@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates instances of annotation types at run time, for initializing constraint validators without an annotated element. The instances behave as specified
+ * by {@link Annotation}: they are equal to, and have the same hash code as, a declared annotation with the same attribute values.
+ */
+final class AnnotationInstances {
+
+    private AnnotationInstances() {
+    }
+
+    /**
+     * Creates an annotation.
+     *
+     * @param type       the annotation type
+     * @param attributes values for the attributes; attributes that are not given get their default value
+     * @param <A>        the annotation type
+     * @return the annotation
+     * @throws IllegalArgumentException if an attribute does not exist, has a value of the wrong type, or has no value and no default
+     */
+    static <A extends Annotation> A of(Class<A> type, Map<String, ?> attributes) {
+        Set<String> unknown = new HashSet<>(attributes.keySet());
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Method method : type.getDeclaredMethods()) {
+            String name = method.getName();
+            Object value = attributes.containsKey(name) ? attributes.get(name) : method.getDefaultValue();
+            if (value == null) {
+                throw new IllegalArgumentException("No value for attribute " + name + " of @" + type.getSimpleName());
+            }
+            Class<?> expected = method.getReturnType();
+            if (!(expected.isPrimitive() ? Array.get(Array.newInstance(expected, 1), 0).getClass() : expected).isInstance(value)) {
+                throw new IllegalArgumentException("Attribute " + name + " of @" + type.getSimpleName() + " must be of type " + expected.getSimpleName());
+            }
+            values.put(name, value);
+            unknown.remove(name);
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown attributes for @" + type.getSimpleName() + ": " + unknown);
+        }
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "annotationType":
+                    return type;
+                case "hashCode":
+                    return hashCode(values);
+                case "equals":
+                    return args[0] == proxy || equals(type, values, args[0]);
+                case "toString":
+                    return toString(type, values);
+                default:
+                    return copy(values.get(method.getName()));
+            }
+        }));
+    }
+
+    private static int hashCode(Map<String, Object> values) {
+        int hash = 0;
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            hash += (127 * entry.getKey().hashCode()) ^ valueHashCode(entry.getValue());
+        }
+        return hash;
+    }
+
+    private static int valueHashCode(Object value) {
+        if (value.getClass().isArray()) {
+            return Arrays.deepHashCode(new Object[] { value }) - 31;
+        }
+        return value.hashCode();
+    }
+
+    private static boolean equals(Class<?> type, Map<String, Object> values, Object other) {
+        if (!type.isInstance(other)) {
+            return false;
+        }
+        try {
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                Object otherValue = type.getMethod(entry.getKey()).invoke(other);
+                if (!Arrays.deepEquals(new Object[] { entry.getValue() }, new Object[] { otherValue })) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    private static String toString(Class<?> type, Map<String, Object> values) {
+        StringBuilder sb = new StringBuilder("@").append(type.getName()).append('(');
+        String separator = "";
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Object value = entry.getValue();
+            sb.append(separator).append(entry.getKey()).append('=').append(value.getClass().isArray() ? arrayToString(value) : value);
+            separator = ", ";
+        }
+        return sb.append(')').toString();
+    }
+
+    private static String arrayToString(Object array) {
+        String s = Arrays.deepToString(new Object[] { array });
+        return "{" + s.substring(2, s.length() - 2) + "}";
+    }
+
+    private static Object copy(Object value) {
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        return value;
+    }
+}
@@ -27,6 +27,7 @@ import java.lang.annotation.Target;
  */
 @Target({ ElementType.TYPE })
 @Retention(RetentionPolicy.RUNTIME)
+@ConstraintCost(ConstraintCost.Level.CHEAP)
 @Constraint(validatedBy = AtLeastOneOfValidator.class)
 @Documented
 public @interface AtLeastOneOf {
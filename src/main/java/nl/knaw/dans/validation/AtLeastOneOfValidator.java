@@ -15,13 +15,13 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
 /**
  * Validator for the {@link AtLeastOneOf} annotation.
  */
-public class AtLeastOneOfValidator implements ConstraintValidator<AtLeastOneOf, Object> {
+@ThreadSafeValidator
+public class AtLeastOneOfValidator extends InstrumentedValidator<AtLeastOneOf, Object> {
 
     private String[] fields;
 
@@ -31,7 +31,7 @@ public class AtLeastOneOfValidator implements ConstraintValidator<AtLeastOneOf,
     }
 
     @Override
-    public boolean isValid(Object object, ConstraintValidatorContext context) {
+    protected boolean validate(Object object, ConstraintValidatorContext context) {
         var nonNullFound = false;
         for (String field : fields) {
             try {
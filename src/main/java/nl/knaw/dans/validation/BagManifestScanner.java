@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass check of a BagIt payload or tag manifest (<code>manifest-&lt;algorithm&gt;.txt</code> or <code>tagmanifest-&lt;algorithm&gt;.txt</code>).
+ * The manifest is memory-mapped and read line by line. For each line, the checksum syntax is checked against the algorithm, the path is checked to stay
+ * inside the bag and to exist, and the path is looked up in a hash table of the paths seen so far. That table holds offsets into the mapped manifest
+ * instead of copies of the paths, so memory use stays small even for manifests with millions of lines. Paths are compared after percent-decoding, so that
+ * two spellings of the same path are reported as duplicates.
+ */
+final class BagManifestScanner {
+    static final int MAX_REPORTED_PROBLEMS = 100;
+
+    private static final Pattern MANIFEST_NAME = Pattern.compile("(?:tag)?manifest-([a-z0-9]+)\\.txt");
+    private static final Map<String, Integer> CHECKSUM_LENGTHS = Map.of(
+        "md5", 32, "sha1", 40, "sha224", 56, "sha256", 64, "sha384", 96, "sha512", 128);
+
+    private final ByteBuffer manifest;
+    private final Path bagDir;
+    private final int checksumLength;
+    private final List<String> problems = new ArrayList<>();
+    private int problemCount;
+
+    private long[] slots = new long[1024]; // offset of a path + 1 and its line number; 0 for an empty slot
+    private int[] hashes = new int[1024];
+    private int[] ends = new int[1024]; // end offset of the path in the slot
+    private int pathCount;
+
+    private BagManifestScanner(ByteBuffer manifest, Path bagDir, int checksumLength) {
+        this.manifest = manifest;
+        this.bagDir = bagDir;
+        this.checksumLength = checksumLength;
+    }
+
+    /**
+     * Checks a manifest.
+     *
+     * @param manifestFile the manifest; its parent directory is taken as the base directory of the bag
+     * @return the problems found, at most {@link #MAX_REPORTED_PROBLEMS} plus one summary; empty if the manifest is valid
+     */
+    static List<String> scan(Path manifestFile) {
+        Path fileName = manifestFile.getFileName();
+        Matcher matcher = MANIFEST_NAME.matcher(fileName == null ? "" : fileName.toString());
+        if (!matcher.matches()) {
+            return List.of("Not a BagIt manifest file name: " + fileName);
+        }
+        Integer checksumLength = CHECKSUM_LENGTHS.get(matcher.group(1));
+        if (checksumLength == null) {
+            return List.of("Unsupported manifest algorithm: " + matcher.group(1));
+        }
+        String fileProblem = ExistingFileValidatorForFile.check(manifestFile, false);
+        if (fileProblem != null) {
+            return List.of(fileProblem);
+        }
+        Path bagDir = manifestFile.toAbsolutePath().normalize().getParent();
+        try (FileChannel channel = FileChannel.open(manifestFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                return List.of("Manifest is too large: " + channel.size() + " bytes");
+            }
+            BagManifestScanner scanner = new BagManifestScanner(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), bagDir, checksumLength);
+            // The existence checks of the scanner are answered from the snapshot while it is current
+            PathSnapshot snapshot = PathSnapshot.open(bagDir);
+            try {
+                scanner.scanLines();
+            }
+            finally {
+                snapshot.close();
+            }
+            return scanner.problems;
+        }
+        catch (IOException e) {
+            return List.of("Manifest cannot be read: " + e.getMessage());
+        }
+    }
+
+    private void scanLines() {
+        int limit = manifest.limit();
+        int line = 0;
+        int start = 0;
+        while (start < limit) {
+            int end = start;
+            while (end < limit && manifest.get(end) != '\n' && manifest.get(end) != '\r') {
+                end++;
+            }
+            line++;
+            scanLine(line, start, end);
+            start = end + (end + 1 < limit && manifest.get(end) == '\r' && manifest.get(end + 1) == '\n' ? 2 : 1);
+        }
+        if (problemCount > MAX_REPORTED_PROBLEMS) {
+            problems.add("... and " + (problemCount - MAX_REPORTED_PROBLEMS) + " more problems");
+        }
+    }
+
+    private void scanLine(int line, int start, int end) {
+        if (start == end) {
+            problem(line, "empty line");
+            return;
+        }
+        int i = start;
+        while (i < end && isHexDigit(manifest.get(i))) {
+            i++;
+        }
+        if (i - start != checksumLength || i < end && !isBlank(manifest.get(i))) {
+            problem(line, "invalid checksum");
+            return;
+        }
+        while (i < end && isBlank(manifest.get(i))) {
+            i++;
+        }
+        if (i == end) {
+            problem(line, "missing path");
+            return;
+        }
+        String path = decode(i, end);
+        Path file;
+        try {
+            file = Path.of(path).isAbsolute() ? null : bagDir.resolve(path).normalize();
+        }
+        catch (InvalidPathException e) {
+            problem(line, "invalid path: " + path);
+            return;
+        }
+        if (file == null || !file.startsWith(bagDir)) {
+            problem(line, "path is outside the bag: " + path);
+            return;
+        }
+        int firstLine = addPath(line, i, end);
+        if (firstLine > 0) {
+            problem(line, "duplicate path, also on line " + firstLine + ": " + path);
+            return;
+        }
+        String fileProblem = ExistingFileValidatorForFile.check(file, false);
+        if (fileProblem != null) {
+            problem(line, fileProblem + ": " + path);
+        }
+    }
+
+    /*
+     * Adds the path at [start, end) to the table; returns the line number of an earlier occurrence, or 0 if there is none.
+     */
+    private int addPath(int line, int start, int end) {
+        if (pathCount * 2 >= slots.length) {
+            grow();
+        }
+        int hash = hash(start, end);
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            int otherStart = (int) (slots[slot] >>> 32) - 1;
+            if (hashes[slot] == hash && decodedEquals(otherStart, ends[slot], start, end)) {
+                return (int) slots[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = (long) (start + 1) << 32 | line;
+        hashes[slot] = hash;
+        ends[slot] = end;
+        pathCount++;
+        return 0;
+    }
+
+    private void grow() {
+        long[] oldSlots = slots;
+        int[] oldHashes = hashes;
+        int[] oldEnds = ends;
+        slots = new long[oldSlots.length * 2];
+        hashes = new int[oldSlots.length * 2];
+        ends = new int[oldSlots.length * 2];
+        int mask = slots.length - 1;
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != 0) {
+                int slot = oldHashes[i] & mask;
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = oldSlots[i];
+                hashes[slot] = oldHashes[i];
+                ends[slot] = oldEnds[i];
+            }
+        }
+    }
+
+    private boolean decodedEquals(int otherStart, int otherEnd, int start, int end) {
+        int i = otherStart;
+        int j = start;
+        while (i < otherEnd && j < end) {
+            int a = decodedByte(i, otherEnd);
+            int b = decodedByte(j, end);
+            if ((a & 0xFF) != (b & 0xFF)) {
+                return false;
+            }
+            i += a >>> 8;
+            j += b >>> 8;
+        }
+        return i == otherEnd && j == end;
+    }
+
+    private int hash(int start, int end) {
+        int hash = 0x811C9DC5;
+        for (int i = start; i < end; ) {
+            int b = decodedByte(i, end);
+            hash = (hash ^ (b & 0xFF)) * 0x01000193;
+            i += b >>> 8;
+        }
+        return hash;
+    }
+
+    /*
+     * Returns the byte at the given offset after percent-decoding in the low 8 bits, and the number of manifest bytes it takes (1, or 3 for a %HH sequence)
+     * in the bits above. A '%' that does not start a valid sequence is taken literally.
+     */
+    private int decodedByte(int i, int end) {
+        byte b = manifest.get(i);
+        if (b == '%' && i + 2 < end && isHexDigit(manifest.get(i + 1)) && isHexDigit(manifest.get(i + 2))) {
+            return 3 << 8 | Character.digit(manifest.get(i + 1), 16) << 4 | Character.digit(manifest.get(i + 2), 16);
+        }
+        return 1 << 8 | b & 0xFF;
+    }
+
+    /*
+     * Decodes the UTF-8 bytes of a path after percent-decoding. BagIt only encodes line breaks and percent signs, but other sequences are decoded too, since a
+     * literal percent sign must itself be encoded.
+     */
+    private String decode(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        int length = 0;
+        for (int i = start; i < end; ) {
+            int b = decodedByte(i, end);
+            bytes[length++] = (byte) b;
+            i += b >>> 8;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void problem(int line, String message) {
+        if (++problemCount <= MAX_REPORTED_PROBLEMS) {
+            problems.add("Line " + line + ": " + message);
+        }
+    }
+
+    private static boolean isHexDigit(byte b) {
+        return b >= '0' && b <= '9' || b >= 'a' && b <= 'f' || b >= 'A' && b <= 'F';
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t';
+    }
+}
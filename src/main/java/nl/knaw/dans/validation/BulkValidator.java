@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates the items of a list in parallel with a Bean Validation {@link Validator}:
+ *
+ * <pre>
+ * try (BulkValidator bulk = BulkValidator.builder(validator).ioConcurrency(8).build()) {
+ *     List&lt;Set&lt;ConstraintViolation&lt;Deposit&gt;&gt;&gt; violations = bulk.validate(deposits);
+ * }
+ * </pre>
+ * <p>
+ * The items are grouped by class and each group is split into batches of consecutive items, so that a worker validates items of one class at a time and
+ * finds the validator's metadata for that class in its cache. The result has the violations of each item at the item's index, whatever the order in which
+ * the batches complete.
+ * <p>
+ * Checks of constraints that do I/O (see {@link ConstraintCost#io()}), such as {@link ExistingFile}, have a concurrency limit of their own, so that many
+ * workers do not overload the file system while the other checks use all processors. By default the items are validated on virtual threads if the JDK
+ * supports them, and otherwise on a pool with a thread per processor.
+ */
+public class BulkValidator implements AutoCloseable {
+    private static final ThreadLocal<Semaphore> IO_PERMITS = new ThreadLocal<>();
+
+    /*
+     * The number of bulk validations that are running, so that validators only look up the permits while there is one.
+     */
+    private static final AtomicInteger RUNNING = new AtomicInteger();
+
+    private final Validator validator;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Semaphore ioPermits;
+    private final int batchSize;
+
+    private BulkValidator(Builder builder) {
+        this.validator = builder.validator;
+        this.ownsExecutor = builder.executor == null;
+        this.executor = ownsExecutor ? defaultExecutor() : builder.executor;
+        this.ioPermits = new Semaphore(builder.ioConcurrency);
+        this.batchSize = builder.batchSize;
+    }
+
+    /**
+     * Returns a builder.
+     *
+     * @param validator the validator for the items
+     * @return the builder
+     */
+    public static Builder builder(Validator validator) {
+        return new Builder(validator);
+    }
+
+    public static class Builder {
+        private final Validator validator;
+        private ExecutorService executor;
+        private int ioConcurrency = Math.max(4, Runtime.getRuntime().availableProcessors());
+        private int batchSize = 64;
+
+        private Builder(Validator validator) {
+            if (validator == null) {
+                throw new IllegalArgumentException("validator must not be null");
+            }
+            this.validator = validator;
+        }
+
+        /**
+         * Sets the executor on which the items are validated. It is not shut down by {@link BulkValidator#close()}. By default, the validator creates its own.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of I/O checks that run at the same time. The default is the number of processors, but at least 4.
+         *
+         * @param ioConcurrency the maximum number of concurrent I/O checks
+         * @return this builder
+         */
+        public Builder ioConcurrency(int ioConcurrency) {
+            if (ioConcurrency < 1) {
+                throw new IllegalArgumentException("ioConcurrency must be positive");
+            }
+            this.ioConcurrency = ioConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of items of the same class in one task. The default is 64.
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be positive");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public BulkValidator build() {
+            return new BulkValidator(this);
+        }
+    }
+
+    /**
+     * Validates the items. Null items have no violations.
+     *
+     * @param items  the items
+     * @param groups the groups to validate
+     * @param <T>    the type of the items
+     * @return for each item, at the same index, its violations
+     */
+    public <T> List<Set<ConstraintViolation<T>>> validate(List<? extends T> items, Class<?>... groups) {
+        List<Set<ConstraintViolation<T>>> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        Map<Class<?>, List<Integer>> byClass = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            if (item == null) {
+                results.set(i, Set.of());
+            }
+            else {
+                byClass.computeIfAbsent(item.getClass(), c -> new ArrayList<>()).add(i);
+            }
+        }
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        RUNNING.incrementAndGet();
+        try {
+            for (List<Integer> indexes : byClass.values()) {
+                for (int start = 0; start < indexes.size(); start += batchSize) {
+                    List<Integer> batch = indexes.subList(start, Math.min(indexes.size(), start + batchSize));
+                    batches.add(CompletableFuture.runAsync(PathSnapshot.propagate(() -> {
+                        IO_PERMITS.set(ioPermits);
+                        try {
+                            for (int index : batch) {
+                                results.set(index, validator.validate(items.get(index), groups));
+                            }
+                        }
+                        finally {
+                            IO_PERMITS.remove();
+                        }
+                    }), executor));
+                }
+            }
+            CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException r) {
+                throw r;
+            }
+            throw e;
+        }
+        finally {
+            RUNNING.decrementAndGet();
+        }
+        return results;
+    }
+
+    /**
+     * Returns whether a bulk validation is running on any thread. Until then, validators need not look up the I/O permits of their own thread.
+     *
+     * @return true if a bulk validation is running
+     */
+    static boolean running() {
+        return RUNNING.get() != 0;
+    }
+
+    /**
+     * Returns the I/O permits of the bulk validator for which the current thread is validating.
+     *
+     * @return the permits, or null if the thread is not validating for a bulk validator
+     */
+    static Semaphore ioPermits() {
+        return IO_PERMITS.get();
+    }
+
+    /*
+     * Executors.newVirtualThreadPerTaskExecutor() is looked up at run time, so that this library still runs on JDKs without virtual threads.
+     */
+    private static ExecutorService defaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            int threads = Runtime.getRuntime().availableProcessors();
+            AtomicInteger count = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "bulk-validator-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
+    /**
+     * Shuts down the executor if this validator created it.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable character trie, compiled from a {@link Builder} into flat arrays. Each node can carry a set of flag bits that are interpreted by the user of the
+ * trie. Walking the trie does not allocate; looking up the edge for a character is a binary search over the (sorted) outgoing edges of a node.
+ */
+final class CharTrie {
+    static final int ROOT = 0;
+    static final int NO_NODE = -1;
+
+    private final int[] firstEdge;
+    private final char[] labels;
+    private final int[] targets;
+    private final int[] flags;
+
+    private CharTrie(int[] firstEdge, char[] labels, int[] targets, int[] flags) {
+        this.firstEdge = firstEdge;
+        this.labels = labels;
+        this.targets = targets;
+        this.flags = flags;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Follows the edge labeled <code>c</code> from <code>node</code>.
+     *
+     * @param node the node to start from
+     * @param c    the label of the edge
+     * @return the target node, or {@link #NO_NODE} if there is no such edge
+     */
+    int next(int node, char c) {
+        int low = firstEdge[node];
+        int high = firstEdge[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = labels[mid];
+            if (label < c) {
+                low = mid + 1;
+            }
+            else if (label > c) {
+                high = mid - 1;
+            }
+            else {
+                return targets[mid];
+            }
+        }
+        return NO_NODE;
+    }
+
+    int flags(int node) {
+        return flags[node];
+    }
+
+    boolean isEmpty() {
+        return labels.length == 0 && flags[ROOT] == 0;
+    }
+
+    static final class Builder {
+        private final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        private final List<Integer> flags = new ArrayList<>();
+
+        private Builder() {
+            addNode();
+        }
+
+        private int addNode() {
+            children.add(new TreeMap<>());
+            flags.add(0);
+            return children.size() - 1;
+        }
+
+        /**
+         * Adds a key and sets the given flags on the node where it ends. Flags of keys ending on the same node are combined.
+         *
+         * @param key       the key
+         * @param nodeFlags the flags to set
+         * @return this builder
+         */
+        Builder add(CharSequence key, int nodeFlags) {
+            int node = ROOT;
+            for (int i = 0; i < key.length(); i++) {
+                Integer next = children.get(node).get(key.charAt(i));
+                if (next == null) {
+                    next = addNode();
+                    children.get(node).put(key.charAt(i), next);
+                }
+                node = next;
+            }
+            flags.set(node, flags.get(node) | nodeFlags);
+            return this;
+        }
+
+        CharTrie build() {
+            int nodes = children.size();
+            int edges = 0;
+            for (Map<Character, Integer> edgesOfNode : children) {
+                edges += edgesOfNode.size();
+            }
+            int[] firstEdge = new int[nodes + 1];
+            char[] labels = new char[edges];
+            int[] targets = new int[edges];
+            int[] nodeFlags = new int[nodes];
+            int edge = 0;
+            for (int node = 0; node < nodes; node++) {
+                firstEdge[node] = edge;
+                nodeFlags[node] = flags.get(node);
+                for (Map.Entry<Character, Integer> e : children.get(node).entrySet()) {
+                    labels[edge] = e.getKey();
+                    targets[edge] = e.getValue();
+                    edge++;
+                }
+            }
+            firstEdge[nodes] = edge;
+            return new CharTrie(firstEdge, labels, targets, nodeFlags);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the digest of a file equals the expected checksum. The file is taken from {@link #fileField()}, which can be a {@link java.nio.file.Path},
+ * {@link java.io.File} or {@link String}, and the hexadecimal checksum from {@link #valueField()}. Both fields can also be {@link Iterable}s of the same
+ * length, in which case the files are hashed in parallel. If the file or the checksum field is null, the constraint is satisfied. In lists, a file without a
+ * checksum or a checksum without a file is a violation, including the extra elements if one list is longer than the other.
+ *
+ * @see ChecksumVerifier
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@ConstraintCost(value = ConstraintCost.Level.EXPENSIVE, io = true)
+@Constraint(validatedBy = ChecksumValidator.class)
+@Documented
+public @interface Checksum {
+    String message() default "Checksum does not match file contents";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * The digest algorithm, as a {@link java.security.MessageDigest} name such as <code>SHA-256</code> or as a BagIt name such as <code>sha256</code>.
+     *
+     * @return the algorithm
+     */
+    String algorithm() default "SHA-256";
+
+    String fileField();
+
+    String valueField();
+}
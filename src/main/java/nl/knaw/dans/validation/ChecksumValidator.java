@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Validator for {@link Checksum} annotation. Digests are computed by {@link ChecksumVerifier#getDefault()}; all files of an object are submitted before
+ * the first result is awaited, so they are hashed in parallel.
+ */
+@ThreadSafeValidator
+public class ChecksumValidator extends InstrumentedValidator<Checksum, Object> {
+    private String algorithm;
+    private String fileField;
+    private String valueField;
+
+    @Override
+    public void initialize(Checksum constraintAnnotation) {
+        algorithm = ChecksumVerifier.toDigestAlgorithm(constraintAnnotation.algorithm());
+        fileField = constraintAnnotation.fileField();
+        valueField = constraintAnnotation.valueField();
+    }
+
+    @Override
+    protected boolean validate(Object object, ConstraintValidatorContext context) {
+        if (object == null) {
+            return true;
+        }
+        Object files = FieldValues.get(object, fileField);
+        Object values = FieldValues.get(object, valueField);
+        if (files == null || values == null) {
+            return true;
+        }
+        boolean iterable = files instanceof Iterable<?> && !(files instanceof Path); // a Path is an Iterable of its name elements
+        if (iterable != values instanceof Iterable<?>) {
+            throw new IllegalStateException("Programming error: fields " + fileField + " and " + valueField + " must both be Iterable or both not be Iterable");
+        }
+
+        ChecksumVerifier verifier = ChecksumVerifier.getDefault();
+        List<CompletableFuture<String>> digests = new ArrayList<>();
+        List<Object> expected = new ArrayList<>();
+        List<String> problems = new ArrayList<>();
+        Iterator<?> fileIterator = iterable ? ((Iterable<?>) files).iterator() : List.of(files).iterator();
+        Iterator<?> valueIterator = iterable ? ((Iterable<?>) values).iterator() : List.of(values).iterator();
+        while (fileIterator.hasNext() || valueIterator.hasNext()) {
+            Object file = fileIterator.hasNext() ? fileIterator.next() : null;
+            Object value = valueIterator.hasNext() ? valueIterator.next() : null;
+            // A file without a checksum, or a checksum without a file, means the two lists are out of step
+            String problem = file != null && value == null ? "Checksum is missing" : file == null && value != null ? "Checksum has no file" : null;
+            CompletableFuture<String> digest = null;
+            if (file != null && value != null) {
+                try {
+                    digest = verifier.digestAsync(FieldValues.toPath(file), algorithm);
+                }
+                catch (InvalidPathException e) {
+                    problem = MessageTemplates.literal("Invalid path: " + e.getReason());
+                }
+            }
+            digests.add(digest);
+            expected.add(value);
+            problems.add(problem);
+        }
+
+        boolean valid = true;
+        for (int i = 0; i < digests.size(); i++) {
+            String message = problems.get(i);
+            if (digests.get(i) != null) {
+                try {
+                    if (!digests.get(i).join().equalsIgnoreCase(ElementViolations.asCharSequence(expected.get(i)).toString().trim())) {
+                        message = context.getDefaultConstraintMessageTemplate();
+                    }
+                }
+                catch (CompletionException e) {
+                    Throwable cause = ChecksumVerifier.unwrap(e);
+                    message = cause instanceof NoSuchFileException ? "File does not exist" : MessageTemplates.literal("File cannot be read: " + cause.getMessage());
+                }
+            }
+            if (message != null) {
+                if (valid) {
+                    context.disableDefaultConstraintViolation();
+                }
+                var builder = context.buildConstraintViolationWithTemplate(message).addPropertyNode(valueField);
+                if (iterable) {
+                    builder.addBeanNode().inIterable().atIndex(i).addConstraintViolation();
+                }
+                else {
+                    builder.addConstraintViolation();
+                }
+                valid = false;
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Computes file digests for the {@link Checksum} constraint. Files are read through a {@link FileChannel}: small files into a reused direct buffer, large
+ * files as memory-mapped windows. Digests are computed on a bounded pool of daemon threads and cached by file key (the inode on Unix), modification time
+ * and size, so an unchanged file is not hashed again when it is validated again.
+ */
+public final class ChecksumVerifier implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final long MAP_THRESHOLD = 8L * 1024 * 1024;
+    private static final long MAP_WINDOW = 64L * 1024 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<ByteBuffer> BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    private static volatile ChecksumVerifier defaultInstance;
+
+    private final ExecutorService pool;
+    private final Map<CacheKey, String> cache;
+
+    private static final class CacheKey {
+        private final Object fileKey;
+        private final FileTime lastModified;
+        private final long size;
+        private final String algorithm;
+
+        private CacheKey(Object fileKey, FileTime lastModified, long size, String algorithm) {
+            this.fileKey = fileKey;
+            this.lastModified = lastModified;
+            this.size = size;
+            this.algorithm = algorithm;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CacheKey other)) {
+                return false;
+            }
+            return size == other.size && fileKey.equals(other.fileKey) && lastModified.equals(other.lastModified) && algorithm.equals(other.algorithm);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fileKey, lastModified, size, algorithm);
+        }
+    }
+
+    /**
+     * Creates a verifier.
+     *
+     * @param threads   the maximum number of files that are hashed at the same time
+     * @param cacheSize the maximum number of cached digests
+     */
+    public ChecksumVerifier(int threads, int cacheSize) {
+        AtomicInteger count = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "checksum-verifier-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ((ThreadPoolExecutor) pool).allowCoreThreadTimeOut(true);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the verifier used by the {@link Checksum} validator. It hashes at most as many files at the same time as there are processors, up to 4, and
+     * caches 10,000 digests.
+     *
+     * @return the shared verifier
+     */
+    public static ChecksumVerifier getDefault() {
+        if (defaultInstance == null) {
+            synchronized (ChecksumVerifier.class) {
+                if (defaultInstance == null) {
+                    defaultInstance = new ChecksumVerifier(Math.min(4, Runtime.getRuntime().availableProcessors()), 10_000);
+                }
+            }
+        }
+        return defaultInstance;
+    }
+
+    /**
+     * Translates an algorithm name as used in BagIt manifests (<code>md5</code>, <code>sha1</code>, <code>sha256</code>, <code>sha512</code>, ...) to
+     * the name used by {@link MessageDigest}. Names that are already {@link MessageDigest} names are returned unchanged.
+     *
+     * @param algorithm the algorithm name
+     * @return the {@link MessageDigest} name
+     * @throws IllegalArgumentException if the algorithm is not supported
+     */
+    public static String toDigestAlgorithm(String algorithm) {
+        String name = algorithm.toUpperCase(Locale.ROOT);
+        if (name.matches("SHA\\d+")) {
+            name = name.equals("SHA1") ? "SHA-1" : "SHA-" + name.substring(3);
+        }
+        try {
+            MessageDigest.getInstance(name);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Unsupported checksum algorithm: " + algorithm);
+        }
+        return name;
+    }
+
+    /**
+     * Computes the digest of a file on the pool.
+     *
+     * @param file      the file
+     * @param algorithm the {@link MessageDigest} algorithm
+     * @return the lower case hexadecimal digest; completes exceptionally with an {@link UncheckedIOException} if the file cannot be read
+     */
+    public CompletableFuture<String> digestAsync(Path file, String algorithm) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return digest(file, algorithm);
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, pool);
+    }
+
+    /**
+     * Computes the digest of a file on the calling thread, or returns it from the cache.
+     *
+     * @param file      the file
+     * @param algorithm the {@link MessageDigest} algorithm
+     * @return the lower case hexadecimal digest
+     * @throws IOException if the file cannot be read
+     */
+    public String digest(Path file, String algorithm) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        Object fileKey = attributes.fileKey() != null ? attributes.fileKey() : file.toAbsolutePath().normalize();
+        CacheKey key = new CacheKey(fileKey, attributes.lastModifiedTime(), attributes.size(), algorithm);
+        synchronized (cache) {
+            String cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        String digest = compute(file, algorithm);
+        synchronized (cache) {
+            cache.put(key, digest);
+        }
+        return digest;
+    }
+
+    /**
+     * Unwraps the {@link IOException} from a failed {@link #digestAsync(Path, String)}.
+     *
+     * @param e the exception thrown by {@link CompletableFuture#join()}
+     * @return the underlying exception
+     */
+    static Throwable unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        return cause instanceof UncheckedIOException io ? io.getCause() : cause;
+    }
+
+    private static String compute(Path file, String algorithm) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(algorithm);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Unsupported checksum algorithm: " + algorithm, e);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAP_THRESHOLD) {
+                for (long position = 0; position < size; position += MAP_WINDOW) {
+                    digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW, size - position)));
+                }
+            }
+            else {
+                ByteBuffer buffer = BUFFER.get();
+                buffer.clear();
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    digest.update(buffer);
+                    buffer.clear();
+                }
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[2 * i + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Stops the threads of this verifier. The default verifier cannot be closed.
+     */
+    @Override
+    public void close() {
+        if (this == defaultInstance) {
+            throw new IllegalStateException("The default ChecksumVerifier cannot be closed");
+        }
+        pool.shutdown();
+    }
+}
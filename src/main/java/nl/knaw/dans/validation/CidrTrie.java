@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.util.Arrays;
+
+/**
+ * Immutable binary prefix tree of IPv4 and IPv6 CIDR ranges. A lookup follows at most one edge per address bit and stops at the first node that terminates a
+ * range. IPv4-mapped IPv6 addresses (<code>::ffff:a.b.c.d</code>) are looked up as IPv4 addresses.
+ */
+final class CidrTrie {
+    private static final int IPV4_ROOT = 0;
+    private static final int IPV6_ROOT = 1;
+
+    private int[] zero = new int[16];
+    private int[] one = new int[16];
+    private boolean[] terminal = new boolean[16];
+    private int size;
+
+    private CidrTrie() {
+        addNode();
+        addNode();
+    }
+
+    /**
+     * Compiles CIDR ranges such as <code>192.168.0.0/16</code> or <code>2001:db8::/32</code>. A range without a prefix length matches a single address.
+     *
+     * @param ranges the ranges
+     * @return the compiled tree
+     * @throws IllegalArgumentException if a range cannot be parsed
+     */
+    static CidrTrie compile(String[] ranges) {
+        CidrTrie trie = new CidrTrie();
+        long[] address = new long[2];
+        for (String range : ranges) {
+            int slash = range.indexOf('/');
+            int end = slash < 0 ? range.length() : slash;
+            long ipv4 = IpLiterals.parseIpv4(range, 0, end);
+            int maxLength = ipv4 >= 0 ? 32 : 128;
+            if (ipv4 >= 0) {
+                address[0] = ipv4 << 32;
+                address[1] = 0;
+            }
+            else if (!IpLiterals.parseIpv6(range, 0, end, address)) {
+                throw new IllegalArgumentException("Invalid CIDR range: " + range);
+            }
+            int prefixLength;
+            try {
+                prefixLength = slash < 0 ? maxLength : Integer.parseInt(range.substring(slash + 1));
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid CIDR range: " + range, e);
+            }
+            if (prefixLength < 0 || prefixLength > maxLength) {
+                throw new IllegalArgumentException("Invalid prefix length in CIDR range: " + range);
+            }
+            trie.add(ipv4 >= 0 ? IPV4_ROOT : IPV6_ROOT, address[0], address[1], prefixLength);
+        }
+        trie.zero = Arrays.copyOf(trie.zero, trie.size);
+        trie.one = Arrays.copyOf(trie.one, trie.size);
+        trie.terminal = Arrays.copyOf(trie.terminal, trie.size);
+        return trie;
+    }
+
+    private int addNode() {
+        if (size == zero.length) {
+            zero = Arrays.copyOf(zero, size * 2);
+            one = Arrays.copyOf(one, size * 2);
+            terminal = Arrays.copyOf(terminal, size * 2);
+        }
+        zero[size] = -1;
+        one[size] = -1;
+        return size++;
+    }
+
+    private void add(int root, long high, long low, int prefixLength) {
+        int node = root;
+        for (int bit = 0; bit < prefixLength && !terminal[node]; bit++) {
+            boolean set = bit < 64 ? (high << bit) < 0 : (low << (bit - 64)) < 0;
+            if ((set ? one : zero)[node] < 0) {
+                int child = addNode(); // may grow the arrays, so look them up again below
+                (set ? one : zero)[node] = child;
+            }
+            node = (set ? one : zero)[node];
+        }
+        terminal[node] = true;
+    }
+
+    boolean isEmpty() {
+        return size == 2 && !terminal[IPV4_ROOT] && !terminal[IPV6_ROOT];
+    }
+
+    /**
+     * @param address an IPv4 address as an unsigned 32-bit value
+     * @return whether the address falls in one of the ranges
+     */
+    boolean containsIpv4(long address) {
+        return contains(IPV4_ROOT, address << 32, 0, 32);
+    }
+
+    /**
+     * @param high the high 64 bits of an IPv6 address
+     * @param low  the low 64 bits of an IPv6 address
+     * @return whether the address falls in one of the ranges
+     */
+    boolean containsIpv6(long high, long low) {
+        if (high == 0 && low >>> 32 == 0xffffL) {
+            return containsIpv4(low & 0xffffffffL);
+        }
+        return contains(IPV6_ROOT, high, low, 128);
+    }
+
+    private boolean contains(int root, long high, long low, int bits) {
+        int node = root;
+        for (int bit = 0; bit < bits; bit++) {
+            if (terminal[node]) {
+                return true;
+            }
+            boolean set = bit < 64 ? (high << bit) < 0 : (low << (bit - 64)) < 0;
+            node = set ? one[node] : zero[node];
+            if (node < 0) {
+                return false;
+            }
+        }
+        return terminal[node];
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+/**
+ * Set of two- or three-letter codes, stored as a minimal perfect hash table. A code is packed into an int by treating its letters as base-27 digits. The
+ * packed code selects a bucket; the bucket's displacement selects the one slot where the code can be, and the slot is compared with the packed code.
+ * Keys and displacements are stored in string constants (one char per entry), so the tables are part of the class file and need no parsing when loaded.
+ *
+ * @see IsoCodeTables
+ */
+final class CodeTable {
+    private final int codeLength;
+    private final String keys;
+    private final String displacements;
+
+    CodeTable(int codeLength, String keys, String displacements) {
+        this.codeLength = codeLength;
+        this.keys = keys;
+        this.displacements = displacements;
+    }
+
+    /**
+     * Checks whether the input is one of the codes in the table, ignoring case.
+     *
+     * @param s the input
+     * @return whether the input is in the table
+     */
+    boolean contains(CharSequence s) {
+        if (s.length() != codeLength) {
+            return false;
+        }
+        int key = pack(s);
+        return key >= 0 && keys.charAt(slot(key, displacements.charAt(bucket(key, displacements.length())), keys.length())) == key;
+    }
+
+    int size() {
+        return keys.length();
+    }
+
+    /**
+     * Packs a code of ASCII letters into an int.
+     *
+     * @param s the code
+     * @return the packed code, or -1 if the input contains something other than ASCII letters
+     */
+    static int pack(CharSequence s) {
+        int key = 0;
+        for (int i = 0; i < s.length(); i++) {
+            int letter = (s.charAt(i) | 0x20) - 'a';
+            if (letter < 0 || letter > 25) {
+                return -1;
+            }
+            key = key * 27 + letter + 1;
+        }
+        return key;
+    }
+
+    static int bucket(int key, int buckets) {
+        return Integer.remainderUnsigned(mix(key), buckets);
+    }
+
+    static int slot(int key, int displacement, int slots) {
+        return Integer.remainderUnsigned(mix(key ^ (displacement + 1) * 0x9E3779B1), slots);
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ h >>> 16;
+    }
+}
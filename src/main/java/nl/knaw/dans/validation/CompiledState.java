@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Interning cache for the state that validators compile from the attributes of their constraint annotation, such as a {@link SchemeSet} or a
+ * {@link HostAllowlist}. Constraint declarations with the same attribute values share one compiled instance, so that initializing a validator for a
+ * constraint that was seen before costs a map lookup. The cache is not bounded; it holds one entry per distinct set of attribute values, which are
+ * constants in the source code.
+ */
+final class CompiledState {
+    private static final ConcurrentMap<List<Object>, Object> CACHE = new ConcurrentHashMap<>();
+
+    private CompiledState() {
+    }
+
+    /**
+     * Returns the compiled state for the given attribute values, compiling it if it is not in the cache yet. If the compiler throws, nothing is cached.
+     *
+     * @param type       the type of the compiled state
+     * @param compiler   compiles the state
+     * @param attributes the attribute values that determine the state; arrays are compared by content
+     * @param <T>        the type of the compiled state
+     * @return the compiled state
+     */
+    static <T> T intern(Class<T> type, Supplier<T> compiler, Object... attributes) {
+        List<Object> key = new ArrayList<>(attributes.length + 1);
+        key.add(type);
+        for (Object attribute : attributes) {
+            key.add(attribute instanceof Object[] array ? List.of(array)
+                : attribute instanceof int[] ints ? Arrays.stream(ints).boxed().toList()
+                : attribute);
+        }
+        Object state = CACHE.get(key);
+        if (state == null) {
+            // Not computeIfAbsent: compiling may read resources, and must not block other keys
+            state = compiler.get();
+            Object previous = CACHE.putIfAbsent(key, state);
+            if (previous != null) {
+                state = previous;
+            }
+        }
+        return type.cast(state);
+    }
+}
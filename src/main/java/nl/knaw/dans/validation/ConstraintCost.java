@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cost hint for a constraint annotation. Constraints without this hint are considered cheap. {@link CostAwareValidation} uses the hint to evaluate cheap
+ * constraints first and to skip expensive ones if a cheap one has failed.
+ */
+@Documented
+@Target(ElementType.ANNOTATION_TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConstraintCost {
+    Level value();
+
+    /**
+     * Whether the check does file system or network I/O. {@link BulkValidator} limits the number of such checks that run at the same time.
+     *
+     * @return true if the check does I/O
+     */
+    boolean io() default false;
+
+    enum Level {
+        /**
+         * In-memory checks that take about as long as reading the value, such as syntax checks.
+         */
+        CHEAP,
+        /**
+         * Checks that do I/O, such as file system lookups, or whose cost grows with the size of a collection.
+         */
+        EXPENSIVE
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Validates an object so that expensive constraints (see {@link ConstraintCost}) are skipped when a cheap one fails. This puts the rejection of invalid input
+ * before any file system access, for example. It works like a group sequence of a cheap and an expensive group, without having to assign groups to each
+ * constraint.
+ * <p>
+ * With {@link DansValidators} ({@link #validate(Object)}) the sequence applies per bean, as with a redefined default group sequence: the expensive constraints
+ * of a bean are evaluated only if all its cheap constraints pass, whatever the other beans in the graph do. A Bean Validation {@link Validator} does not tell
+ * a constraint validator which bean it is validating, so {@link #validate(Validator, Object, Class[])} runs the phases over the whole object graph: first the
+ * cheap constraints, then the expensive ones if the first phase found no violations. Constraints that are not of this library, such as
+ * <code>@NotNull</code>, are evaluated in both phases; that is cheap by definition, and they can only fail in the first. There, a failed cheap constraint
+ * anywhere in the graph skips all expensive constraints, so to keep the items of a batch independent, validate them one by one.
+ */
+public final class CostAwareValidation {
+    private static final ThreadLocal<ConstraintCost.Level> PHASE = new ThreadLocal<>();
+
+    /*
+     * The number of validations in phases that are running, so that validators only look up the phase while there is one.
+     */
+    private static final AtomicInteger RUNNING = new AtomicInteger();
+
+    private CostAwareValidation() {
+    }
+
+    /**
+     * Validates an object with a Bean Validation {@link Validator}.
+     *
+     * @param validator the validator
+     * @param object    the object to validate
+     * @param groups    the groups to validate
+     * @param <T>       the type of the object
+     * @return the violations of the cheap constraints if there are any, otherwise the violations of the expensive constraints
+     */
+    public static <T> Set<ConstraintViolation<T>> validate(Validator validator, T object, Class<?>... groups) {
+        return inPhases(() -> validator.validate(object, groups));
+    }
+
+    /**
+     * Validates an object with {@link DansValidators}, skipping the expensive constraints of each bean that fails a cheap one.
+     *
+     * @param object the object to validate
+     * @return the violations
+     */
+    public static List<DansValidators.Violation> validate(Object object) {
+        return DansValidators.validate(object, true);
+    }
+
+    private static <C extends Collection<?>> C inPhases(Supplier<C> validation) {
+        RUNNING.incrementAndGet();
+        ConstraintCost.Level outer = PHASE.get();
+        try {
+            PHASE.set(ConstraintCost.Level.CHEAP);
+            C violations = validation.get();
+            if (!violations.isEmpty()) {
+                return violations;
+            }
+            PHASE.set(ConstraintCost.Level.EXPENSIVE);
+            return validation.get();
+        }
+        finally {
+            if (outer == null) {
+                PHASE.remove();
+            }
+            else {
+                PHASE.set(outer);
+            }
+            RUNNING.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns whether a validation in phases is running on any thread. Until then, validators need not look up the phase of their own thread.
+     *
+     * @return true if a validation in phases is running
+     */
+    static boolean running() {
+        return RUNNING.get() != 0;
+    }
+
+    /**
+     * Returns whether a constraint with the given cost is skipped in the phase of the current thread.
+     *
+     * @param cost the cost of the constraint
+     * @return true if a phase is running and it is not the constraint's phase
+     */
+    static boolean skips(ConstraintCost.Level cost) {
+        ConstraintCost.Level phase = PHASE.get();
+        return phase != null && phase != cost;
+    }
+}
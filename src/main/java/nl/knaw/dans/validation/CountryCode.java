@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the value of a field is an ISO 3166-1 country code of the selected {@link Standard}, ignoring case. Supported types are {@link String} and
+ * {@link CharSequence}.
+ */
+@Documented
+@ConstraintCost(ConstraintCost.Level.CHEAP)
+@Constraint(validatedBy = { CountryCodeValidator.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CountryCode {
+    String message() default "Invalid {standard} country code";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    Standard standard() default Standard.ALPHA_2;
+
+    /**
+     * The accepted code lists.
+     */
+    enum Standard {
+        /**
+         * Two-letter codes, such as <code>NL</code>.
+         */
+        ALPHA_2,
+        /**
+         * Three-letter codes, such as <code>NLD</code>.
+         */
+        ALPHA_3
+    }
+}
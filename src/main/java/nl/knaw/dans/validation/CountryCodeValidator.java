@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for the {@link CountryCode} annotation for {@link CharSequence} objects.
+ */
+@ThreadSafeValidator
+public class CountryCodeValidator extends InstrumentedValidator<CountryCode, CharSequence> {
+    private CodeTable codes;
+
+    @Override
+    public void initialize(CountryCode constraintAnnotation) {
+        codes = constraintAnnotation.standard() == CountryCode.Standard.ALPHA_3 ? IsoCodeTables.ISO_3166_ALPHA_3 : IsoCodeTables.ISO_3166_ALPHA_2;
+    }
+
+    @Override
+    protected boolean validate(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || codes.contains(value); // If null is not allowed, this should be checked by the @NotNull annotation
+    }
+}
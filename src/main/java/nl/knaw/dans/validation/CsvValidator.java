@@ -0,0 +1,638 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates the columns of large CSV files (RFC 4180) against the constraints of this library, or against a uniqueness requirement:
+ *
+ * <pre>
+ * try (CsvValidator validator = CsvValidator.builder()
+ *     .column("id", Uuid.class)
+ *     .column("uri", AllowedUriSchemes.class, Map.of("schemes", new String[] { "https" }))
+ *     .column("path", ExistingFile.class, Map.of("under", "/data/import"))
+ *     .unique("path")
+ *     .build()) {
+ *     List&lt;DansValidators.Violation&gt; violations = validator.validate(Path.of("import.csv"));
+ * }
+ * </pre>
+ * <p>
+ * The file is memory-mapped and split into chunks that are validated in parallel. Because a quoted field may contain line breaks, the chunk boundaries are
+ * found with a first parallel pass that counts the quotes in each part of the file: a line break ends a record if it is preceded by an even number of quotes.
+ * The results of the chunks are merged in file order, so the outcome does not depend on the number of threads.
+ * <p>
+ * Fields are decoded as UTF-8 and passed to the constraint validator as a {@link String}; only fields of columns with rules are decoded. Empty fields are
+ * skipped, like null values. Violations have <code>line N, column C</code> as property path, where N is the line on which the record starts and C is the
+ * column name, or its 1-based index if the file has no header. Memory use is independent of the size of the file, except for the values of uniqueness
+ * rules. A validator can be shared between threads; {@link #close()} stops its threads.
+ */
+public class CsvValidator implements AutoCloseable {
+    private static final long MAX_CHUNK_SIZE = 256L * 1024 * 1024;
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024;
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final List<ColumnRule> rules;
+    private final boolean header;
+    private final byte delimiter;
+    private final int threads;
+    private final ExecutorService pool;
+
+    private CsvValidator(Builder builder) {
+        this.rules = List.copyOf(builder.rules);
+        this.header = builder.header;
+        this.delimiter = (byte) builder.delimiter;
+        this.threads = builder.threads;
+        AtomicInteger count = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "csv-validator-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ((ThreadPoolExecutor) pool).allowCoreThreadTimeOut(true);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final List<ColumnRule> rules = new ArrayList<>();
+        private boolean header = true;
+        private char delimiter = ',';
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a rule for a constraint whose attributes all have default values.
+         *
+         * @param column     the column name, or its 1-based index if the file has no header
+         * @param constraint the constraint annotation type
+         * @return this builder
+         */
+        public Builder column(String column, Class<? extends Annotation> constraint) {
+            return column(column, constraint, Map.of());
+        }
+
+        /**
+         * Adds a rule for a constraint.
+         *
+         * @param column     the column name, or its 1-based index if the file has no header
+         * @param constraint the constraint annotation type
+         * @param attributes values for the attributes of the constraint
+         * @return this builder
+         * @throws IllegalArgumentException if the attributes are invalid, or if the constraint cannot validate text values
+         */
+        public Builder column(String column, Class<? extends Annotation> constraint, Map<String, ?> attributes) {
+            rules.add(new ColumnRule(column, DansValidators.Check.forText(AnnotationInstances.of(constraint, attributes))));
+            return this;
+        }
+
+        /**
+         * Adds a rule that the values in a column are unique within the file. Only the values of this column are kept in memory.
+         *
+         * @param column the column name, or its 1-based index if the file has no header
+         * @return this builder
+         */
+        public Builder unique(String column) {
+            rules.add(new ColumnRule(column, null));
+            return this;
+        }
+
+        /**
+         * Sets whether the first record of the file contains the column names. The default is true.
+         *
+         * @param header whether the file has a header
+         * @return this builder
+         */
+        public Builder header(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * Sets the field delimiter. The default is a comma.
+         *
+         * @param delimiter an ASCII character other than a quote or a line break
+         * @return this builder
+         */
+        public Builder delimiter(char delimiter) {
+            if (delimiter >= 128 || delimiter == QUOTE || delimiter == CR || delimiter == LF) {
+                throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+            }
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        /**
+         * Sets the number of chunks that are validated at the same time. The default is the number of processors.
+         *
+         * @param threads the number of threads
+         * @return this builder
+         */
+        public Builder threads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("threads must be positive");
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        public CsvValidator build() {
+            return new CsvValidator(this);
+        }
+    }
+
+    /**
+     * Validates a CSV file.
+     *
+     * @param file the file
+     * @return the violations, in file order
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if a rule names a column that is not in the header
+     */
+    public List<DansValidators.Violation> validate(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = 0;
+            long headerLineBreaks = 0;
+            List<String> columnNames = List.of();
+            if (header && size > 0) {
+                Records records = new Records(channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, MAX_CHUNK_SIZE)));
+                records.next();
+                if (records.position == records.limit && size > MAX_CHUNK_SIZE) {
+                    throw new IOException("Header of " + file + " is longer than " + MAX_CHUNK_SIZE + " bytes");
+                }
+                columnNames = new ArrayList<>(records.fields);
+                for (int i = 0; i < records.fields; i++) {
+                    columnNames.add(records.field(i));
+                }
+                dataStart = records.position;
+                headerLineBreaks = records.lineBreaks;
+            }
+            Columns columns = new Columns(columnNames);
+            long[] starts = chunkStarts(channel, dataStart, size);
+            List<CompletableFuture<ChunkResult>> futures = new ArrayList<>(starts.length - 1);
+            for (int i = 0; i < starts.length - 1; i++) {
+                long start = starts[i];
+                long end = starts[i + 1];
+                futures.add(CompletableFuture.supplyAsync(PathSnapshot.propagate(() -> validateChunk(channel, start, end, columns)), pool));
+            }
+            List<ChunkResult> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<ChunkResult> future : futures) {
+                results.add(join(future));
+            }
+            return merge(results, columns, headerLineBreaks);
+        }
+    }
+
+    /*
+     * Returns the offsets at which the chunks start, followed by the size of the file. Each offset is at the start of a record.
+     */
+    private long[] chunkStarts(FileChannel channel, long dataStart, long size) throws IOException {
+        long length = size - dataStart;
+        int count = (int) Math.max(1, Math.min(threads * 4L, length / MIN_CHUNK_SIZE));
+        count = (int) Math.max(count, (length + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+        long[] raw = new long[count + 1];
+        for (int i = 0; i <= count; i++) {
+            raw[i] = dataStart + length * i / count;
+        }
+        List<CompletableFuture<Long>> quoteCounts = new ArrayList<>(count - 1);
+        for (int i = 0; i < count - 1; i++) {
+            long start = raw[i];
+            long end = raw[i + 1];
+            quoteCounts.add(CompletableFuture.supplyAsync(() -> countQuotes(channel, start, end), pool));
+        }
+        long[] starts = new long[count + 1];
+        starts[0] = dataStart;
+        starts[count] = size;
+        long quotes = 0;
+        for (int i = 1; i < count; i++) {
+            quotes += join(quoteCounts.get(i - 1));
+            starts[i] = Math.max(starts[i - 1], nextRecord(channel, raw[i], size, (quotes & 1) != 0));
+        }
+        return starts;
+    }
+
+    private static long countQuotes(FileChannel channel, long start, long end) {
+        ByteBuffer buffer = map(channel, start, end);
+        long quotes = 0;
+        for (int i = 0, n = buffer.limit(); i < n; i++) {
+            if (buffer.get(i) == QUOTE) {
+                quotes++;
+            }
+        }
+        return quotes;
+    }
+
+    /*
+     * Returns the offset of the first record that starts at or after the given position, given whether the position is inside a quoted field.
+     */
+    private static long nextRecord(FileChannel channel, long position, long size, boolean quoted) throws IOException {
+        if (position > 0 && !quoted) {
+            ByteBuffer previous = channel.map(FileChannel.MapMode.READ_ONLY, position - 1, 1);
+            if (previous.get(0) == LF) {
+                return position;
+            }
+        }
+        long end = Math.min(size, position + MAX_CHUNK_SIZE);
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+        for (int i = 0, n = buffer.limit(); i < n; i++) {
+            byte b = buffer.get(i);
+            if (b == QUOTE) {
+                quoted = !quoted;
+            }
+            else if (b == LF && !quoted) {
+                return position + i + 1;
+            }
+        }
+        if (end < size) {
+            throw new IOException("Record at offset " + position + " is longer than " + MAX_CHUNK_SIZE + " bytes");
+        }
+        return size;
+    }
+
+    private ChunkResult validateChunk(FileChannel channel, long start, long end, Columns columns) {
+        ChunkResult result = new ChunkResult(columns.unique.length);
+        Records records = new Records(map(channel, start, end));
+        List<DansValidators.Violation> found = new ArrayList<>();
+        while (records.next()) {
+            long line = records.recordLineBreaks;
+            if (records.isBlank()) {
+                continue;
+            }
+            if (records.malformed >= 0) {
+                result.found.add(new Found(line, records.malformed, "Malformed quoted field", null, null));
+            }
+            if (!columns.names.isEmpty() && records.fields != columns.names.size()) {
+                result.found.add(new Found(line, -1, "Expected " + columns.names.size() + " fields, found " + records.fields, null, null));
+            }
+            int fields = Math.min(records.fields, columns.checks.length);
+            for (int i = 0; i < fields; i++) {
+                DansValidators.Check[] checks = columns.checks[i];
+                Map<String, Long> seen = columns.unique[i] < 0 ? null : result.seen.get(columns.unique[i]);
+                if (checks.length == 0 && seen == null || records.isEmpty(i)) {
+                    continue;
+                }
+                String value = records.field(i);
+                for (DansValidators.Check check : checks) {
+                    check.run(value, "", found);
+                    for (DansValidators.Violation v : found) {
+                        result.found.add(new Found(line, i, v.getMessage(), v.getConstraint(), null));
+                    }
+                    found.clear();
+                }
+                if (seen != null && seen.putIfAbsent(value, line) != null) {
+                    result.found.add(new Found(line, i, null, null, value));
+                }
+            }
+        }
+        result.lineBreaks = records.lineBreaks;
+        return result;
+    }
+
+    /*
+     * Converts the chunk-relative line numbers, and checks uniqueness across chunks. Duplicates refer to the first occurrence in the file.
+     */
+    private static List<DansValidators.Violation> merge(List<ChunkResult> results, Columns columns, long headerLineBreaks) {
+        List<Map<String, Long>> seen = new ArrayList<>();
+        for (int i = 0; i < columns.uniqueColumns.length; i++) {
+            seen.add(new HashMap<>());
+        }
+        List<Found> found = new ArrayList<>();
+        long lineOffset = headerLineBreaks + 1;
+        for (ChunkResult result : results) {
+            for (int u = 0; u < seen.size(); u++) {
+                for (Map.Entry<String, Long> entry : result.seen.get(u).entrySet()) {
+                    long line = lineOffset + entry.getValue();
+                    if (seen.get(u).putIfAbsent(entry.getKey(), line) != null) {
+                        found.add(new Found(line, columns.uniqueColumns[u], null, null, entry.getKey()));
+                    }
+                }
+            }
+            for (Found f : result.found) {
+                found.add(new Found(lineOffset + f.line, f.column, f.message, f.constraint, f.duplicate));
+            }
+            lineOffset += result.lineBreaks;
+        }
+        found.sort(Comparator.<Found> comparingLong(f -> f.line).thenComparingInt(f -> f.column).thenComparing(f -> f.duplicate != null));
+        List<DansValidators.Violation> violations = new ArrayList<>(found.size());
+        for (Found f : found) {
+            String path = f.column < 0 ? "line " + f.line : "line " + f.line + ", column " + columns.name(f.column);
+            String message = f.duplicate == null
+                ? f.message
+                : "Duplicate value, also on line " + seen.get(columns.unique[f.column]).get(f.duplicate);
+            violations.add(new DansValidators.Violation(path, message, f.constraint));
+        }
+        return violations;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long start, long end) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        }
+        catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException r) {
+                throw r;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the threads of this validator.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private static final class ColumnRule {
+        private final String column;
+        private final DansValidators.Check check;
+
+        private ColumnRule(String column, DansValidators.Check check) {
+            this.column = column;
+            this.check = check;
+        }
+    }
+
+    /*
+     * The rules, indexed by column.
+     */
+    private final class Columns {
+        private final List<String> names;
+        private final DansValidators.Check[][] checks;
+        // Per column: the index of its uniqueness rule, or -1
+        private final int[] unique;
+        private final int[] uniqueColumns;
+
+        private Columns(List<String> names) {
+            this.names = names;
+            List<List<DansValidators.Check>> checks = new ArrayList<>();
+            List<Integer> uniqueColumns = new ArrayList<>();
+            for (ColumnRule rule : rules) {
+                int index = index(rule.column);
+                while (checks.size() <= index) {
+                    checks.add(new ArrayList<>());
+                }
+                if (rule.check != null) {
+                    checks.get(index).add(rule.check);
+                }
+                else if (!uniqueColumns.contains(index)) {
+                    uniqueColumns.add(index);
+                }
+            }
+            this.checks = checks.stream().map(c -> c.toArray(new DansValidators.Check[0])).toArray(DansValidators.Check[][]::new);
+            this.unique = new int[checks.size()];
+            Arrays.fill(unique, -1);
+            for (int i = 0; i < uniqueColumns.size(); i++) {
+                unique[uniqueColumns.get(i)] = i;
+            }
+            this.uniqueColumns = uniqueColumns.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private int index(String column) {
+            if (header) {
+                int index = names.indexOf(column);
+                if (index < 0) {
+                    throw new IllegalArgumentException("Column not found in header: " + column);
+                }
+                return index;
+            }
+            try {
+                int index = Integer.parseInt(column);
+                if (index >= 1) {
+                    return index - 1;
+                }
+            }
+            catch (NumberFormatException e) {
+                // fall through
+            }
+            throw new IllegalArgumentException("Column must be a 1-based index if the file has no header: " + column);
+        }
+
+        private String name(int column) {
+            return header ? names.get(column) : String.valueOf(column + 1);
+        }
+    }
+
+    private static final class ChunkResult {
+        private final List<Found> found = new ArrayList<>();
+        // Per uniqueness rule: the values in the chunk, with the chunk-relative line of their first occurrence
+        private final List<Map<String, Long>> seen = new ArrayList<>();
+        private long lineBreaks;
+
+        private ChunkResult(int uniqueRules) {
+            for (int i = 0; i < uniqueRules; i++) {
+                seen.add(new LinkedHashMap<>());
+            }
+        }
+    }
+
+    /*
+     * A violation with a line number that is relative to its chunk until the results are merged. For duplicates, the message is built after merging.
+     */
+    private static final class Found {
+        private final long line;
+        private final int column;
+        private final String message;
+        private final Annotation constraint;
+        private final String duplicate;
+
+        private Found(long line, int column, String message, Annotation constraint, String duplicate) {
+            this.line = line;
+            this.column = column;
+            this.message = message;
+            this.constraint = constraint;
+            this.duplicate = duplicate;
+        }
+    }
+
+    /*
+     * Reads the records of a chunk. The fields of the current record are kept as offsets into the buffer and are only decoded on request.
+     */
+    private final class Records {
+        private final ByteBuffer buffer;
+        private final int limit;
+        private int position;
+        private long lineBreaks;
+        private long recordLineBreaks;
+        private int fields;
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private boolean[] quoted = new boolean[16];
+        private boolean[] escaped = new boolean[16];
+        // The index of the first malformed quoted field of the current record, or -1
+        private int malformed;
+
+        private Records(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.limit = buffer.limit();
+        }
+
+        private boolean next() {
+            if (position >= limit) {
+                return false;
+            }
+            recordLineBreaks = lineBreaks;
+            fields = 0;
+            malformed = -1;
+            while (true) {
+                if (position < limit && buffer.get(position) == QUOTE) {
+                    readQuoted();
+                }
+                else {
+                    readUnquoted();
+                }
+                if (position >= limit) {
+                    return true;
+                }
+                if (buffer.get(position++) == LF) {
+                    lineBreaks++;
+                    return true;
+                }
+            }
+        }
+
+        private void readUnquoted() {
+            int start = position;
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b == delimiter || b == LF) {
+                    break;
+                }
+                position++;
+            }
+            int end = position;
+            if (end > start && buffer.get(end - 1) == CR && (position == limit || buffer.get(position) == LF)) {
+                end--;
+            }
+            addField(start, end, false, false);
+        }
+
+        private void readQuoted() {
+            int start = ++position;
+            int end = -1;
+            boolean hasEscapes = false;
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b == QUOTE) {
+                    if (position + 1 < limit && buffer.get(position + 1) == QUOTE) {
+                        hasEscapes = true;
+                        position += 2;
+                        continue;
+                    }
+                    end = position++;
+                    break;
+                }
+                if (b == LF) {
+                    lineBreaks++;
+                }
+                position++;
+            }
+            boolean valid = end >= 0;
+            if (!valid) {
+                end = position;
+            }
+            // Only a delimiter or a line break may follow the closing quote
+            while (position < limit) {
+                byte b = buffer.get(position);
+                if (b == delimiter || b == LF) {
+                    break;
+                }
+                if (b != CR || position + 1 < limit && buffer.get(position + 1) != LF) {
+                    valid = false;
+                }
+                position++;
+            }
+            if (!valid && malformed < 0) {
+                malformed = fields;
+            }
+            addField(start, end, true, hasEscapes);
+        }
+
+        private void addField(int start, int end, boolean isQuoted, boolean hasEscapes) {
+            if (fields == starts.length) {
+                starts = Arrays.copyOf(starts, fields * 2);
+                ends = Arrays.copyOf(ends, fields * 2);
+                quoted = Arrays.copyOf(quoted, fields * 2);
+                escaped = Arrays.copyOf(escaped, fields * 2);
+            }
+            starts[fields] = start;
+            ends[fields] = end;
+            quoted[fields] = isQuoted;
+            escaped[fields] = hasEscapes;
+            fields++;
+        }
+
+        private boolean isEmpty(int field) {
+            return starts[field] == ends[field];
+        }
+
+        private boolean isBlank() {
+            return fields == 1 && isEmpty(0) && !quoted[0];
+        }
+
+        private String field(int field) {
+            byte[] bytes = new byte[ends[field] - starts[field]];
+            buffer.get(starts[field], bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            return escaped[field] ? value.replace("\"\"", "\"") : value;
+        }
+    }
+}
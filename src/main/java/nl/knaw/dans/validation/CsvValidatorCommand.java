@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.ValidationException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line interface to {@link CsvValidator}:
+ *
+ * <pre>
+ * java -cp ... nl.knaw.dans.validation.CsvValidatorCommand [--no-header] [--delimiter C] [--threads N] [--unique COLUMN]... FILE [COLUMN=CONSTRAINT]...
+ * </pre>
+ * <p>
+ * A constraint is the simple name of a constraint of this library, optionally followed by attributes in parentheses, separated by semicolons. Elements of
+ * array attributes are separated by <code>|</code>, for example <code>uri=AllowedUriSchemes(schemes=https|http)</code>. The violations are printed one per
+ * line. The exit status is 0 if the file is valid, 1 if it has violations, and 2 if the arguments are invalid, the file cannot be read or a constraint cannot be
+ * evaluated.
+ */
+public final class CsvValidatorCommand {
+    private static final String USAGE =
+        "Usage: CsvValidatorCommand [--no-header] [--delimiter C] [--threads N] [--unique COLUMN]... FILE [COLUMN=CONSTRAINT[(ATTRIBUTE=VALUE;...)]]...";
+
+    private CsvValidatorCommand() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Runs the command.
+     *
+     * @param args the arguments
+     * @param out  receives the violations
+     * @param err  receives error messages
+     * @return the exit status
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        CsvValidator.Builder builder = CsvValidator.builder();
+        Path file = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--no-header" -> builder.header(false);
+                    case "--delimiter" -> {
+                        String delimiter = value(args, ++i, arg);
+                        if (delimiter.length() != 1) {
+                            throw new IllegalArgumentException("--delimiter must be a single character");
+                        }
+                        builder.delimiter(delimiter.charAt(0));
+                    }
+                    case "--threads" -> builder.threads(Integer.parseInt(value(args, ++i, arg)));
+                    case "--unique" -> builder.unique(value(args, ++i, arg));
+                    default -> {
+                        if (arg.startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option: " + arg);
+                        }
+                        if (file == null) {
+                            file = Path.of(arg);
+                        }
+                        else {
+                            addRule(builder, arg);
+                        }
+                    }
+                }
+            }
+            if (file == null) {
+                throw new IllegalArgumentException("No file given");
+            }
+        }
+        catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+        try (CsvValidator validator = builder.build()) {
+            List<DansValidators.Violation> violations = validator.validate(file);
+            for (DansValidators.Violation violation : violations) {
+                out.println(violation);
+            }
+            return violations.isEmpty() ? 0 : 1;
+        }
+        catch (IOException | IllegalArgumentException | ValidationException e) {
+            err.println(e.getMessage());
+            return 2;
+        }
+    }
+
+    private static String value(String[] args, int i, String option) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[i];
+    }
+
+    private static void addRule(CsvValidator.Builder builder, String rule) {
+        int equals = rule.indexOf('=');
+        if (equals <= 0) {
+            throw new IllegalArgumentException("Invalid rule, expected COLUMN=CONSTRAINT: " + rule);
+        }
+        String spec = rule.substring(equals + 1);
+        int open = spec.indexOf('(');
+        String name = open < 0 ? spec : spec.substring(0, open);
+        Class<? extends Annotation> constraint = constraint(name);
+        Map<String, Object> attributes = new HashMap<>();
+        if (open >= 0) {
+            if (!spec.endsWith(")")) {
+                throw new IllegalArgumentException("Missing ')' in rule: " + rule);
+            }
+            String list = spec.substring(open + 1, spec.length() - 1);
+            for (String attribute : list.isEmpty() ? new String[0] : list.split(";")) {
+                int separator = attribute.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Invalid attribute, expected ATTRIBUTE=VALUE: " + attribute);
+                }
+                String key = attribute.substring(0, separator);
+                attributes.put(key, convert(constraint, key, attribute.substring(separator + 1)));
+            }
+        }
+        builder.column(rule.substring(0, equals), constraint, attributes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> constraint(String name) {
+        try {
+            Class<?> type = Class.forName(CsvValidatorCommand.class.getPackageName() + "." + name);
+            if (type.isAnnotation() && type.isAnnotationPresent(Constraint.class)) {
+                return (Class<? extends Annotation>) type;
+            }
+        }
+        catch (ClassNotFoundException e) {
+            // fall through
+        }
+        throw new IllegalArgumentException("Unknown constraint: " + name);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object convert(Class<? extends Annotation> constraint, String attribute, String value) {
+        Class<?> type;
+        try {
+            Method method = constraint.getMethod(attribute);
+            type = method.getReturnType();
+        }
+        catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Unknown attribute for @" + constraint.getSimpleName() + ": " + attribute);
+        }
+        if (type == String.class) {
+            return value;
+        }
+        if (type == String[].class) {
+            return value.isEmpty() ? new String[0] : value.split("\\|");
+        }
+        if (type == boolean.class) {
+            return Boolean.parseBoolean(value);
+        }
+        if (type == int.class) {
+            return Integer.parseInt(value);
+        }
+        if (type == long.class) {
+            return Long.parseLong(value);
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<Enum>) type, value);
+        }
+        throw new IllegalArgumentException("Attribute " + attribute + " of @" + constraint.getSimpleName() + " cannot be given on the command line");
+    }
+}
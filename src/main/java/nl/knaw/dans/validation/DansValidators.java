@@ -0,0 +1,499 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.Valid;
+import javax.validation.ValidationException;
+import javax.validation.groups.Default;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Standalone validation of objects that are annotated with the constraints of this library, for tools that do not want to start a full Bean Validation
+ * provider. It needs nothing but the JDK and the Bean Validation API. The fields of a class and its constraint validators are looked up once per class; after
+ * that, validating an object costs little more than calling the validators.
+ * <p>
+ * Supported are field and class-level constraints whose annotation lists its validators in {@link Constraint#validatedBy()} (which includes all constraints of
+ * this library, but not the built-in constraints such as <code>@NotNull</code>, whose validators are provided by the Bean Validation implementation),
+ * constraints on the elements of {@link Iterable}, {@link Map} and {@link Optional} fields (<code>List&lt;@Uuid String&gt;</code>), and cascading with
+ * {@link Valid}. Only the {@link Default} group is validated. Message parameters are interpolated with the attributes of the constraint; message bundles
+ * and expression language are not supported.
+ *
+ * <pre>
+ * List&lt;DansValidators.Violation&gt; violations = DansValidators.validate(deposit);
+ * </pre>
+ */
+public final class DansValidators {
+    private static final SharingConstraintValidatorFactory VALIDATOR_FACTORY = new SharingConstraintValidatorFactory();
+
+    private static final ClassValue<Plan> PLANS = new ClassValue<>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return new Plan(type);
+        }
+    };
+
+    private DansValidators() {
+    }
+
+    /**
+     * A constraint violation.
+     */
+    public static final class Violation {
+        private final String propertyPath;
+        private final String message;
+        private final Annotation constraint;
+
+        Violation(String propertyPath, String message, Annotation constraint) {
+            this.propertyPath = propertyPath;
+            this.message = message;
+            this.constraint = constraint;
+        }
+
+        /**
+         * Returns the path to the invalid value, e.g. <code>files[3].checksum</code>, or an empty string for a class-level constraint on the validated object.
+         * For violations found by {@link StreamingValidator}, this is a JSON pointer, e.g. <code>/files/3/checksum</code>.
+         *
+         * @return the path
+         */
+        public String getPropertyPath() {
+            return propertyPath;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * Returns the violated constraint.
+         *
+         * @return the constraint, or null for a uniqueness rule of {@link StreamingValidator}
+         */
+        public Annotation getConstraint() {
+            return constraint;
+        }
+
+        @Override
+        public String toString() {
+            return propertyPath.isEmpty() ? message : propertyPath + ": " + message;
+        }
+    }
+
+    /**
+     * Validates an object.
+     *
+     * @param object the object to validate
+     * @return the violations, empty if the object is valid
+     * @throws ValidationException      if a constraint cannot be evaluated, for instance because it is put on a type it does not support
+     * @throws IllegalArgumentException if the object is null
+     */
+    public static List<Violation> validate(Object object) {
+        return validate(object, false);
+    }
+
+    /**
+     * Validates an object, optionally evaluating the expensive constraints of each bean only if its cheap constraints pass (see {@link CostAwareValidation}).
+     *
+     * @param object   the object to validate
+     * @param inPhases whether to skip the expensive constraints of a bean that fails a cheap one
+     * @return the violations, empty if the object is valid
+     */
+    static List<Violation> validate(Object object, boolean inPhases) {
+        if (object == null) {
+            throw new IllegalArgumentException("The object to validate cannot be null");
+        }
+        List<Violation> violations = new ArrayList<>();
+        validate(object, "", violations, Collections.newSetFromMap(new IdentityHashMap<>()), inPhases);
+        return violations;
+    }
+
+    private static void validate(Object bean, String path, List<Violation> violations, Set<Object> visited, boolean inPhases) {
+        if (!visited.add(bean)) {
+            return;
+        }
+        Plan plan = PLANS.get(bean.getClass());
+        if (inPhases) {
+            int before = violations.size();
+            check(bean, path, plan, ConstraintCost.Level.CHEAP, violations);
+            if (violations.size() == before) {
+                check(bean, path, plan, ConstraintCost.Level.EXPENSIVE, violations);
+            }
+        }
+        else {
+            check(bean, path, plan, null, violations);
+        }
+        for (Property property : plan.properties) {
+            Object value = property.get(bean);
+            if (value == null || !property.cascade && !property.cascadeElements) {
+                continue;
+            }
+            String propertyPath = property.path(path);
+            if (property.cascade && !isContainer(value)) {
+                validate(value, propertyPath, violations, visited, inPhases);
+                continue;
+            }
+            forEachElement(value, propertyPath, (element, elementPath) -> {
+                if (element != null) {
+                    validate(element, elementPath, violations, visited, inPhases);
+                }
+            });
+        }
+    }
+
+    /*
+     * Runs the checks of one bean with the given cost, or all of them if the cost is null, without cascading.
+     */
+    private static void check(Object bean, String path, Plan plan, ConstraintCost.Level cost, List<Violation> violations) {
+        for (Check check : plan.classChecks) {
+            if (check.hasCost(cost)) {
+                check.run(bean, path, violations);
+            }
+        }
+        for (Property property : plan.properties) {
+            Object value = property.get(bean);
+            String propertyPath = property.path(path);
+            for (Check check : property.checks) {
+                if (check.hasCost(cost)) {
+                    check.run(value, propertyPath, violations);
+                }
+            }
+            if (value != null && !property.elementChecks.isEmpty()) {
+                forEachElement(value, propertyPath, (element, elementPath) -> {
+                    for (Check check : property.elementChecks) {
+                        if (check.hasCost(cost)) {
+                            check.run(element, elementPath, violations);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private interface ElementConsumer {
+        void accept(Object element, String path);
+    }
+
+    private static boolean isContainer(Object value) {
+        return value instanceof Iterable<?> || value instanceof Map<?, ?> || value instanceof Optional<?> || value instanceof Object[];
+    }
+
+    private static void forEachElement(Object container, String path, ElementConsumer consumer) {
+        if (container instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                consumer.accept(entry.getValue(), path + "[" + entry.getKey() + "]");
+            }
+        }
+        else if (container instanceof Optional<?> optional) {
+            consumer.accept(optional.orElse(null), path);
+        }
+        else if (container instanceof Iterable<?> || container instanceof Object[]) {
+            int i = 0;
+            for (Object element : container instanceof Object[] array ? Arrays.asList(array) : (Iterable<?>) container) {
+                consumer.accept(element, path + "[" + i++ + "]");
+            }
+        }
+    }
+
+    /**
+     * What to validate for one class.
+     */
+    private static final class Plan {
+        private final List<Check> classChecks = new ArrayList<>();
+        private final List<Property> properties = new ArrayList<>();
+
+        private Plan(Class<?> type) {
+            List<Class<?>> hierarchy = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                hierarchy.add(0, c);
+            }
+            for (Class<?> c : hierarchy) {
+                for (Annotation annotation : constraints(c.getDeclaredAnnotations())) {
+                    classChecks.add(new Check(annotation, c));
+                }
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                        Property property = new Property(field);
+                        if (!property.checks.isEmpty() || !property.elementChecks.isEmpty() || property.cascade || property.cascadeElements) {
+                            properties.add(property);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Property {
+        private final Field field;
+        private final String name;
+        private final List<Check> checks = new ArrayList<>();
+        private final List<Check> elementChecks = new ArrayList<>();
+        private final boolean cascade;
+        private final boolean cascadeElements;
+
+        private Property(Field field) {
+            this.field = field;
+            this.name = field.getName();
+            for (Annotation annotation : constraints(field.getDeclaredAnnotations())) {
+                checks.add(new Check(annotation, field.getType()));
+            }
+            this.cascade = field.isAnnotationPresent(Valid.class);
+            AnnotatedType elementType = elementType(field);
+            boolean validElements = false;
+            if (elementType != null) {
+                for (Annotation annotation : constraints(elementType.getAnnotations())) {
+                    elementChecks.add(new Check(annotation, rawType(elementType.getType())));
+                }
+                validElements = elementType.isAnnotationPresent(Valid.class);
+            }
+            this.cascadeElements = validElements;
+            if (!checks.isEmpty() || !elementChecks.isEmpty() || cascade || cascadeElements) {
+                field.setAccessible(true);
+            }
+        }
+
+        private String path(String beanPath) {
+            return beanPath.isEmpty() ? name : beanPath + "." + name;
+        }
+
+        private Object get(Object bean) {
+            try {
+                return field.get(bean);
+            }
+            catch (IllegalAccessException e) {
+                throw new ValidationException("Cannot read field " + field, e);
+            }
+        }
+
+        private static AnnotatedType elementType(Field field) {
+            if (!(field.getAnnotatedType() instanceof AnnotatedParameterizedType parameterized)) {
+                return null;
+            }
+            Class<?> type = field.getType();
+            AnnotatedType[] arguments = parameterized.getAnnotatedActualTypeArguments();
+            if (Map.class.isAssignableFrom(type) && arguments.length == 2) {
+                return arguments[1];
+            }
+            if ((Iterable.class.isAssignableFrom(type) || type == Optional.class) && arguments.length == 1) {
+                return arguments[0];
+            }
+            return null;
+        }
+    }
+
+    /**
+     * One constraint, with the validator for the declared type. If the declared type does not determine the validator, for instance for a field of type
+     * {@link Object}, the validator is chosen by the type of each value.
+     */
+    static final class Check {
+        private final Annotation constraint;
+        private final ConstraintCost.Level cost;
+        private final Class<? extends ConstraintValidator<?, ?>>[] validatorClasses;
+        private final ConstraintValidator<Annotation, Object> declaredTypeValidator;
+        private final Map<Class<?>, ConstraintValidator<Annotation, Object>> valueTypeValidators = new ConcurrentHashMap<>();
+
+        Check(Annotation constraint, Class<?> declaredType) {
+            this.constraint = constraint;
+            ConstraintCost hint = constraint.annotationType().getAnnotation(ConstraintCost.class);
+            this.cost = hint == null ? ConstraintCost.Level.CHEAP : hint.value();
+            this.validatorClasses = constraint.annotationType().getAnnotation(Constraint.class).validatedBy();
+            this.declaredTypeValidator = createValidator(declaredType);
+        }
+
+        /**
+         * Creates a check for text values, such as the fields of a CSV file.
+         *
+         * @param constraint the constraint
+         * @return the check
+         * @throws IllegalArgumentException if the constraint cannot be put on a {@link String} field
+         */
+        static Check forText(Annotation constraint) {
+            Target target = constraint.annotationType().getAnnotation(Target.class);
+            Check check = new Check(constraint, String.class);
+            if (target != null && !Arrays.asList(target.value()).contains(ElementType.FIELD) || check.declaredTypeValidator == null) {
+                throw new IllegalArgumentException("@" + constraint.annotationType().getSimpleName() + " cannot validate text values");
+            }
+            return check;
+        }
+
+        boolean hasCost(ConstraintCost.Level level) {
+            return level == null || level == cost;
+        }
+
+        void run(Object value, String path, List<Violation> violations) {
+            ConstraintValidator<Annotation, Object> validator = validatorFor(value);
+            var context = new SimpleConstraintValidatorContext(constraint, path, (p, m) -> violations.add(new Violation(p, m, constraint)));
+            boolean valid;
+            try {
+                valid = validator.isValid(value, context);
+            }
+            catch (ValidationException e) {
+                throw e;
+            }
+            catch (RuntimeException e) {
+                throw new ValidationException("Unexpected exception during validation of @" + constraint.annotationType().getSimpleName() + " at '" + path + "'", e);
+            }
+            if (!valid) {
+                context.addDefaultViolation();
+            }
+        }
+
+        private ConstraintValidator<Annotation, Object> validatorFor(Object value) {
+            if (declaredTypeValidator != null) {
+                return declaredTypeValidator;
+            }
+            Class<?> type = value == null ? Object.class : value.getClass();
+            ConstraintValidator<Annotation, Object> validator = valueTypeValidators.get(type);
+            if (validator == null) {
+                validator = valueTypeValidators.computeIfAbsent(type, this::createValidator);
+                if (validator == null) {
+                    throw new ValidationException("No validator for @" + constraint.annotationType().getSimpleName() + " and type " + type.getName());
+                }
+            }
+            return validator;
+        }
+
+        @SuppressWarnings("unchecked")
+        private ConstraintValidator<Annotation, Object> createValidator(Class<?> type) {
+            Class<?> boxed = MethodType.methodType(type).wrap().returnType();
+            Class<? extends ConstraintValidator<?, ?>> best = null;
+            Class<?> bestType = null;
+            for (Class<? extends ConstraintValidator<?, ?>> candidate : validatorClasses) {
+                Class<?> validatedType = validatedType(candidate);
+                if (validatedType.isAssignableFrom(boxed) && (best == null || bestType.isAssignableFrom(validatedType))) {
+                    best = candidate;
+                    bestType = validatedType;
+                }
+            }
+            if (best == null) {
+                return null;
+            }
+            ConstraintValidator<Annotation, Object> validator = (ConstraintValidator<Annotation, Object>) VALIDATOR_FACTORY.getInstance(best);
+            validator.initialize(constraint);
+            return validator;
+        }
+    }
+
+    /**
+     * Returns the constraints of the Default group among the given annotations, including the constraints in containers of repeated constraints, such as
+     * {@link UniqueAttributes}.
+     */
+    private static List<Annotation> constraints(Annotation[] annotations) {
+        List<Annotation> constraints = new ArrayList<>();
+        for (Annotation annotation : annotations) {
+            if (isDefaultGroupConstraint(annotation)) {
+                constraints.add(annotation);
+            }
+            else {
+                for (Annotation element : repeatedConstraints(annotation)) {
+                    if (isDefaultGroupConstraint(element)) {
+                        constraints.add(element);
+                    }
+                }
+            }
+        }
+        return constraints;
+    }
+
+    private static Annotation[] repeatedConstraints(Annotation annotation) {
+        try {
+            Method value = annotation.annotationType().getMethod("value");
+            if (value.getReturnType().isArray() && value.getReturnType().getComponentType().isAnnotationPresent(Constraint.class)) {
+                return (Annotation[]) value.invoke(annotation);
+            }
+        }
+        catch (ReflectiveOperationException e) {
+            // Not a container of constraints
+        }
+        return new Annotation[0];
+    }
+
+    private static boolean isDefaultGroupConstraint(Annotation annotation) {
+        Constraint constraint = annotation.annotationType().getAnnotation(Constraint.class);
+        if (constraint == null || constraint.validatedBy().length == 0) {
+            return false;
+        }
+        try {
+            Method groupsMethod = annotation.annotationType().getMethod("groups");
+            Class<?>[] groups = (Class<?>[]) groupsMethod.invoke(annotation);
+            return groups.length == 0 || Arrays.asList(groups).contains(Default.class);
+        }
+        catch (ReflectiveOperationException | ClassCastException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Returns the type of values that a validator class accepts: the second type argument of {@link ConstraintValidator}, resolved through the class
+     * hierarchy.
+     */
+    static Class<?> validatedType(Class<?> validatorClass) {
+        Map<TypeVariable<?>, Type> bindings = new HashMap<>();
+        for (Class<?> c = validatorClass; c != null; c = c.getSuperclass()) {
+            for (Type type : c.getGenericInterfaces()) {
+                if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == ConstraintValidator.class) {
+                    return rawType(resolve(parameterized.getActualTypeArguments()[1], bindings));
+                }
+            }
+            if (c.getGenericSuperclass() instanceof ParameterizedType parameterized) {
+                TypeVariable<?>[] variables = ((Class<?>) parameterized.getRawType()).getTypeParameters();
+                Type[] arguments = parameterized.getActualTypeArguments();
+                for (int i = 0; i < variables.length; i++) {
+                    bindings.put(variables[i], resolve(arguments[i], bindings));
+                }
+            }
+        }
+        return Object.class;
+    }
+
+    private static Type resolve(Type type, Map<TypeVariable<?>, Type> bindings) {
+        while (type instanceof TypeVariable<?> && bindings.containsKey(type)) {
+            type = bindings.get(type);
+        }
+        return type;
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> c) {
+            return c;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        }
+        return Object.class;
+    }
+}
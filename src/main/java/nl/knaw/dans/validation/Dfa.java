@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Small deterministic finite automaton for recognizing identifiers. Automata are put together with a {@link Builder}, typically once in a static initializer,
+ * and then compiled into a transition table over character classes: characters that behave the same in every state share a class. All non-ASCII characters
+ * share one class. Running the automaton is a single pass over the input that does not allocate.
+ */
+final class Dfa {
+    static final int REJECT = -1;
+
+    private static final int ALPHABET = 129; // the ASCII characters plus one column for everything else
+    private static final int NON_ASCII = 128;
+
+    private final byte[] classOf;
+    private final int classes;
+    private final int[] next;
+    private final boolean[] accepting;
+
+    private Dfa(byte[] classOf, int classes, int[] next, boolean[] accepting) {
+        this.classOf = classOf;
+        this.classes = classes;
+        this.next = next;
+        this.accepting = accepting;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs the automaton over the region <code>[from, to)</code> of the input.
+     *
+     * @param s    the input
+     * @param from start of the region (inclusive)
+     * @param to   end of the region (exclusive)
+     * @return the state in which the automaton ends, or {@link #REJECT} if it got stuck
+     */
+    int run(CharSequence s, int from, int to) {
+        int state = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            state = next[state * classes + classOf[c < NON_ASCII ? c : NON_ASCII]];
+            if (state == REJECT) {
+                return REJECT;
+            }
+        }
+        return state;
+    }
+
+    boolean matches(CharSequence s) {
+        int state = run(s, 0, s.length());
+        return state != REJECT && accepting[state];
+    }
+
+    boolean isAccepting(int state) {
+        return state != REJECT && accepting[state];
+    }
+
+    static final class Builder {
+        static final String DIGITS = "0123456789";
+        static final String HEX_DIGITS = DIGITS + "abcdefABCDEF";
+        static final String LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        static final String ALPHANUMERICS = LETTERS + DIGITS;
+        static final String VISIBLE_ASCII;
+
+        static {
+            StringBuilder visible = new StringBuilder();
+            for (char c = '!'; c <= '~'; c++) {
+                visible.append(c);
+            }
+            VISIBLE_ASCII = visible.toString();
+        }
+
+        private final List<int[]> rows = new ArrayList<>();
+        private final List<Boolean> accepting = new ArrayList<>();
+
+        private Builder() {
+            state(false); // the start state
+        }
+
+        int start() {
+            return 0;
+        }
+
+        /**
+         * Adds a state.
+         *
+         * @param isAccepting whether the input is accepted if it ends in this state
+         * @return the new state
+         */
+        int state(boolean isAccepting) {
+            int[] row = new int[ALPHABET];
+            Arrays.fill(row, REJECT);
+            rows.add(row);
+            accepting.add(isAccepting);
+            return rows.size() - 1;
+        }
+
+        /**
+         * Adds transitions from <code>from</code> to <code>to</code> on each of the given characters.
+         *
+         * @param from  the source state
+         * @param chars the characters (ASCII only)
+         * @param to    the target state
+         * @return this builder
+         * @throws IllegalStateException if one of the characters already leads to another state
+         */
+        Builder on(int from, String chars, int to) {
+            for (int i = 0; i < chars.length(); i++) {
+                set(from, chars.charAt(i), to);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a transition from <code>from</code> to <code>to</code> on any non-ASCII character.
+         *
+         * @param from the source state
+         * @param to   the target state
+         * @return this builder
+         */
+        Builder onNonAscii(int from, int to) {
+            set(from, NON_ASCII, to);
+            return this;
+        }
+
+        /**
+         * Adds a chain of states that recognizes a literal text, reusing transitions that already exist (so literals with a common prefix share states).
+         *
+         * @param from       the state to start from
+         * @param text       the literal (ASCII only)
+         * @param ignoreCase whether letters match in both cases
+         * @param to         the state to end in, or -1 to end in a new (non-accepting) state
+         * @return the state the literal ends in
+         */
+        int literal(int from, String text, boolean ignoreCase, int to) {
+            int state = from;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                boolean last = i == text.length() - 1;
+                int target = rows.get(state)[c];
+                if (target == REJECT || (last && to >= 0 && target != to)) {
+                    target = last && to >= 0 ? to : state(false);
+                    set(state, c, target);
+                }
+                if (ignoreCase) {
+                    set(state, Character.toUpperCase(c), target);
+                    set(state, Character.toLowerCase(c), target);
+                }
+                state = target;
+            }
+            return state;
+        }
+
+        private void set(int from, int c, int to) {
+            int[] row = rows.get(from);
+            if (row[c] != REJECT && row[c] != to) {
+                throw new IllegalStateException("Transition from state " + from + " on '" + (char) c + "' is already defined");
+            }
+            row[c] = to;
+        }
+
+        Dfa build() {
+            int states = rows.size();
+            Map<List<Integer>, Integer> classBySignature = new HashMap<>();
+            byte[] columnClass = new byte[ALPHABET];
+            for (int c = 0; c < ALPHABET; c++) {
+                List<Integer> signature = new ArrayList<>(states);
+                for (int[] row : rows) {
+                    signature.add(row[c]);
+                }
+                Integer cls = classBySignature.get(signature);
+                if (cls == null) {
+                    cls = classBySignature.size();
+                    classBySignature.put(signature, cls);
+                }
+                columnClass[c] = (byte) (int) cls;
+            }
+            int classes = classBySignature.size();
+            if (classes > Byte.MAX_VALUE) {
+                throw new IllegalStateException("Too many character classes: " + classes);
+            }
+            int[] next = new int[states * classes];
+            for (int state = 0; state < states; state++) {
+                for (int c = 0; c < ALPHABET; c++) {
+                    next[state * classes + columnClass[c]] = rows.get(state)[c];
+                }
+            }
+            boolean[] isAccepting = new boolean[states];
+            for (int state = 0; state < states; state++) {
+                isAccepting[state] = accepting.get(state);
+            }
+            return new Dfa(columnClass, classes, next, isAccepting);
+        }
+    }
+}
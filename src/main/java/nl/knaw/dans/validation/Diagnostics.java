@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated diagnostics for the validators of this library, replacing logging per value. Validators count noteworthy events, such as an invalid mode or a
+ * null element in a list, and at most once per interval (default one minute) a summary of the counts since the previous summary is logged at INFO level to
+ * the logger of this class. Nothing is logged if nothing was counted. The summary is logged by the next count after the interval has passed, or by a daemon
+ * timer that checks every second, so that counts before an idle period are logged too. Call {@link #flush()} at shutdown to log the counts of the last
+ * period.
+ * <p>
+ * Details per value are only logged if sampling is switched on with {@link #setSampling(int)} and the logger is enabled for DEBUG; then one in every
+ * <code>n</code> events of each kind is logged with its value.
+ */
+public final class Diagnostics {
+    private static final Logger log = LoggerFactory.getLogger(Diagnostics.class);
+
+    private static final ConcurrentMap<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final AtomicLong lastSummary = new AtomicLong(System.nanoTime());
+    private static volatile long intervalNanos = Duration.ofMinutes(1).toNanos();
+    private static volatile int sampling;
+    private static final AtomicBoolean timerStarted = new AtomicBoolean();
+
+    private static final class Counter {
+        private final LongAdder total = new LongAdder();
+        private long reported; // guarded by Diagnostics.class
+    }
+
+    private Diagnostics() {
+    }
+
+    /**
+     * Sets the minimum time between two summaries.
+     *
+     * @param interval the interval
+     */
+    public static void setSummaryInterval(Duration interval) {
+        intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * Switches on logging of one in every <code>n</code> events with its value, at DEBUG level.
+     *
+     * @param n the sampling rate, or 0 to switch sampling off (the default)
+     */
+    public static void setSampling(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Sampling rate must not be negative: " + n);
+        }
+        sampling = n;
+    }
+
+    /**
+     * Returns the number of times each kind of event has been counted since the class was loaded.
+     *
+     * @return the totals, sorted by kind
+     */
+    public static Map<String, Long> getTotals() {
+        Map<String, Long> totals = new TreeMap<>();
+        COUNTERS.forEach((kind, counter) -> totals.put(kind, counter.total.sum()));
+        return totals;
+    }
+
+    /**
+     * Counts an event.
+     *
+     * @param kind  a description of the event, starting with the constraint name, e.g. "ValidMode: invalid mode"
+     * @param value the value involved; only logged if the event is sampled
+     */
+    static void count(String kind, Object value) {
+        Counter counter = counter(kind);
+        counter.total.increment();
+        int n = sampling;
+        if (n > 0 && counter.total.sum() % n == 0 && log.isDebugEnabled()) {
+            log.debug("{}: {}", kind, value);
+        }
+        maybeSummarize();
+    }
+
+    /**
+     * Logs a summary of the counts since the previous summary now, without waiting for the interval to pass.
+     */
+    public static void flush() {
+        lastSummary.set(System.nanoTime());
+        String summary = summarize();
+        if (summary != null) {
+            log.info(summary);
+        }
+    }
+
+    /**
+     * Counts <code>n</code> events of the same kind at once, without sampling.
+     *
+     * @param kind a description of the event, starting with the constraint name
+     * @param n    the number of events
+     */
+    static void add(String kind, long n) {
+        if (n > 0) {
+            counter(kind).total.add(n);
+            maybeSummarize();
+        }
+    }
+
+    private static Counter counter(String kind) {
+        Counter counter = COUNTERS.get(kind);
+        if (counter != null) {
+            return counter;
+        }
+        startTimer();
+        return COUNTERS.computeIfAbsent(kind, k -> new Counter());
+    }
+
+    private static void startTimer() {
+        if (timerStarted.compareAndSet(false, true)) {
+            ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "validation-diagnostics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.scheduleWithFixedDelay(Diagnostics::maybeSummarize, 1, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void maybeSummarize() {
+        long last = lastSummary.get();
+        long now = System.nanoTime();
+        if (now - last >= intervalNanos && lastSummary.compareAndSet(last, now)) {
+            String summary = summarize();
+            if (summary != null) {
+                log.info(summary);
+            }
+        }
+    }
+
+    /**
+     * Returns a summary of the counts since the previous summary, and starts a new period.
+     *
+     * @return the summary, or null if nothing was counted
+     */
+    static synchronized String summarize() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(COUNTERS).entrySet()) {
+            Counter counter = entry.getValue();
+            long total = counter.total.sum();
+            if (total > counter.reported) {
+                sb.append(sb.length() == 0 ? "Validation diagnostics: " : ", ").append(entry.getKey()).append(" (").append(total - counter.reported).append(')');
+                counter.reported = total;
+            }
+        }
+        return sb.length() == 0 ? null : sb.toString();
+    }
+}
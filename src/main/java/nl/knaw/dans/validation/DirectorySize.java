@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Computes the total size of the regular files in a directory tree, in parallel. Every directory is listed by its own fork-join task, using
+ * {@link Files#walkFileTree} limited to depth 1, which reads the attributes of each entry with a separate lookup; the sizes are needed anyway.
+ * Subdirectories are forked as new tasks. All tasks add to one counter and stop as soon as it exceeds the limit. Symbolic links in the tree are not followed,
+ * but the directory itself may be one.
+ */
+final class DirectorySize {
+    private static final ForkJoinPool POOL = new ForkJoinPool(Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+    private DirectorySize() {
+    }
+
+    /**
+     * Adds up the sizes of the files under a directory, stopping early once the total exceeds the limit.
+     *
+     * @param directory the directory, or a symbolic link to it
+     * @param limit     the limit
+     * @return the total size, or a value larger than <code>limit</code> if the limit was exceeded
+     * @throws IOException if a directory cannot be listed
+     */
+    static long sizeUpTo(Path directory, long limit) throws IOException {
+        AtomicLong total = new AtomicLong();
+        try {
+            // walkFileTree does not follow a link at its start path, so resolve the root first
+            POOL.invoke(new ListDirectory(directory.toRealPath(), total, limit));
+        }
+        catch (UncheckedIOException e) {
+            // The pool may rethrow a copy of the exception of a forked task, so look for the original cause
+            Throwable cause = e;
+            while (!(cause instanceof IOException) && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            throw cause instanceof IOException io ? io : e.getCause();
+        }
+        return total.get();
+    }
+
+    private static final class ListDirectory extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Path directory;
+        private final AtomicLong total;
+        private final long limit;
+
+        private ListDirectory(Path directory, AtomicLong total, long limit) {
+            this.directory = directory;
+            this.total = total;
+            this.limit = limit;
+        }
+
+        @Override
+        protected void compute() {
+            if (total.get() > limit) {
+                return;
+            }
+            List<ListDirectory> subdirectories = new ArrayList<>();
+            try {
+                Files.walkFileTree(directory, Collections.emptySet(), 1, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (attrs.isDirectory()) {
+                            subdirectories.add(new ListDirectory(file, total, limit));
+                        }
+                        else if (attrs.isRegularFile() && total.addAndGet(attrs.size()) > limit) {
+                            return FileVisitResult.TERMINATE;
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (total.get() <= limit) {
+                invokeAll(subdirectories);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for the {@link Doi} annotation for {@link CharSequence} objects.
+ */
+@ThreadSafeValidator(stateless = true)
+public class DoiValidator extends InstrumentedValidator<Doi, CharSequence> {
+    @Override
+    protected boolean validate(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || PersistentIdentifiers.isDoi(value); // If null is not allowed, this should be checked by the @NotNull annotation
+    }
+}
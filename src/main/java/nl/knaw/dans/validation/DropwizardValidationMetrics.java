@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ValidationMetrics} that report to a Dropwizard {@link MetricRegistry}. For each constraint type and value type, there is a {@link Timer} named
+ * <code>&lt;prefix&gt;.&lt;constraint&gt;.&lt;value type&gt;.calls</code>, which holds the invocation count and the latency histogram, and a {@link Counter}
+ * named <code>&lt;prefix&gt;.&lt;constraint&gt;.&lt;value type&gt;.failures</code>. Requires <code>io.dropwizard.metrics:metrics-core</code> on the class
+ * path. In a Dropwizard application:
+ *
+ * <pre>
+ * ValidationMetrics.install(new DropwizardValidationMetrics(environment.metrics()));
+ * </pre>
+ */
+public class DropwizardValidationMetrics implements ValidationMetrics {
+    public static final String DEFAULT_PREFIX = "nl.knaw.dans.validation";
+
+    private final MetricRegistry registry;
+    private final String prefix;
+
+    public DropwizardValidationMetrics(MetricRegistry registry) {
+        this(registry, DEFAULT_PREFIX);
+    }
+
+    public DropwizardValidationMetrics(MetricRegistry registry, String prefix) {
+        this.registry = registry;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Probe probe(Class<? extends Annotation> constraintType, Class<?> valueType) {
+        String name = MetricRegistry.name(prefix, constraintType.getSimpleName(), valueType.getSimpleName());
+        Timer calls = registry.timer(name + ".calls");
+        Counter failures = registry.counter(name + ".failures");
+        return (nanos, valid) -> {
+            calls.update(nanos, TimeUnit.NANOSECONDS);
+            if (!valid) {
+                failures.inc();
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * Helpers for validators that check all elements of a container in one call and report a violation per offending element.
+ */
+final class ElementViolations {
+
+    private ElementViolations() {
+    }
+
+    /**
+     * Adds a violation for the element at the given index, using the message of the constraint. The first call for a container should pass
+     * <code>first</code> as true, so that the default violation for the container as a whole is disabled.
+     *
+     * @param context the validator context
+     * @param index   the index of the offending element
+     * @param first   whether this is the first violation for the container
+     */
+    static void add(ConstraintValidatorContext context, int index, boolean first) {
+        addTemplate(context, context.getDefaultConstraintMessageTemplate(), index, first);
+    }
+
+    /**
+     * Adds a violation with the given message for the element at the given index. The message is used literally, not as a template.
+     *
+     * @param context the validator context
+     * @param message the message
+     * @param index   the index of the offending element
+     * @param first   whether this is the first violation for the container
+     */
+    static void add(ConstraintValidatorContext context, String message, int index, boolean first) {
+        addTemplate(context, MessageTemplates.literal(message), index, first);
+    }
+
+    private static void addTemplate(ConstraintValidatorContext context, String template, int index, boolean first) {
+        if (first) {
+            context.disableDefaultConstraintViolation();
+        }
+        context.buildConstraintViolationWithTemplate(template)
+            .addBeanNode()
+            .inIterable()
+            .atIndex(index)
+            .addConstraintViolation();
+    }
+
+    /**
+     * Returns the element as a {@link CharSequence}.
+     *
+     * @param element the element
+     * @return the element
+     * @throws javax.validation.ValidationException if the element is not a {@link CharSequence}
+     */
+    static CharSequence asCharSequence(Object element) {
+        if (element instanceof CharSequence charSequence) {
+            return charSequence;
+        }
+        throw new javax.validation.ValidationException("Expected elements of type CharSequence, but found " + element.getClass().getName());
+    }
+}
@@ -23,10 +23,17 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- *
+ * Validates that a file exists and is a regular file or, if {@link #isDirectory()} is set, a directory. Supported types are {@link String},
+ * {@link java.io.File}, {@link java.nio.file.Path} and {@link Iterable} of these. To validate many paths under one directory, open a {@link PathSnapshot}
+ * for it first.
+ * <p>
+ * If {@link #under()} is set, the file must also be inside that directory after symbolic links and <code>..</code> components have been resolved, so that a
+ * value cannot escape the root through either. Relative values are then resolved against the root instead of the working directory.
  */
-@Constraint(validatedBy = { ExistingFileValidatorForString.class, ExistingFileValidatorForFile.class, ExistingFileValidatorForPath.class })
-@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@ConstraintCost(value = ConstraintCost.Level.EXPENSIVE, io = true)
+@Constraint(validatedBy = { ExistingFileValidatorForString.class, ExistingFileValidatorForFile.class, ExistingFileValidatorForPath.class,
+    ExistingFileValidatorForIterable.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface ExistingFile {
     String message() default "Invalid urn:uuid";
@@ -36,4 +43,9 @@ public @interface ExistingFile {
     Class<? extends Payload>[] payload() default {};
 
     boolean isDirectory() default false;
+
+    /**
+     * The directory that the file must be in. The default, an empty string, allows any location.
+     */
+    String under() default "";
 }
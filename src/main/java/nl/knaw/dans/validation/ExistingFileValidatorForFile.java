@@ -15,40 +15,102 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 
 /**
  * Validator for {@link ExistingFile} annotation for {@link File} objects.
  */
-public class ExistingFileValidatorForFile implements ConstraintValidator<ExistingFile, File> {
+@ThreadSafeValidator
+public class ExistingFileValidatorForFile extends InstrumentedValidator<ExistingFile, File> {
     private boolean isDirectory;
+    private Path root;
 
     @Override
     public void initialize(ExistingFile constraintAnnotation) {
         this.isDirectory = constraintAnnotation.isDirectory();
+        this.root = root(constraintAnnotation);
     }
 
     @Override
-    public boolean isValid(File file, ConstraintValidatorContext constraintValidatorContext) {
+    protected boolean validate(File file, ConstraintValidatorContext constraintValidatorContext) {
         if (file == null) {
             // Use NotNullValidator for null check
             return true;
         }
 
-        if (file.exists()) {
-            boolean valid = isDirectory == file.isDirectory();
-            if (!valid) {
-                constraintValidatorContext.disableDefaultConstraintViolation();
-                constraintValidatorContext.buildConstraintViolationWithTemplate(
-                    isDirectory ? "File is not a directory" : "File is not a regular file"
-                ).addConstraintViolation();
+        String message;
+        try {
+            message = check(file.toPath(), isDirectory, root);
+        }
+        catch (InvalidPathException e) {
+            message = "File does not exist";
+        }
+        if (message != null) {
+            constraintValidatorContext.disableDefaultConstraintViolation();
+            constraintValidatorContext.buildConstraintViolationWithTemplate(MessageTemplates.literal(message)).addConstraintViolation();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks that a file exists and is of the expected type. The check is answered by the current {@link PathSnapshot} if there is one for the path.
+     *
+     * @param path        the path
+     * @param isDirectory whether a directory is expected
+     * @return null if the file is valid, otherwise a violation message
+     */
+    static String check(Path path, boolean isDirectory) {
+        int kind = PathSnapshot.kindOf(path);
+        if (kind == PathSnapshot.MISSING) {
+            return "File does not exist";
+        }
+        if (isDirectory == (kind == PathSnapshot.DIRECTORY)) {
+            return null;
+        }
+        return isDirectory ? "File is not a directory" : "File is not a regular file";
+    }
+
+    /**
+     * Checks that a file is inside a root directory, exists and is of the expected type. A relative path is resolved against the root. Containment is checked
+     * first, lexically and then on the real path. A path that is not contained or cannot be resolved is reported as not under the root, so that nothing is
+     * revealed about files outside the root.
+     *
+     * @param path        the path
+     * @param isDirectory whether a directory is expected
+     * @param root        the normalized absolute path of the root directory, or null if any location is allowed
+     * @return null if the file is valid, otherwise a violation message
+     */
+    static String check(Path path, boolean isDirectory, Path root) {
+        if (root == null) {
+            return check(path, isDirectory);
+        }
+        Path absolute = root.resolve(path);
+        if (!absolute.normalize().startsWith(root)) {
+            return "File is not under " + root;
+        }
+        try {
+            if (!RealPaths.isUnder(absolute, root)) {
+                return "File is not under " + root;
             }
-            return valid;
         }
-        constraintValidatorContext.disableDefaultConstraintViolation();
-        constraintValidatorContext.buildConstraintViolationWithTemplate("File does not exist").addConstraintViolation();
-        return false;
+        catch (IOException e) {
+            return "File is not under " + root;
+        }
+        return check(absolute, isDirectory);
+    }
+
+    /**
+     * Returns the root directory of the constraint.
+     *
+     * @param constraintAnnotation the constraint
+     * @return the normalized absolute path of {@link ExistingFile#under()}, or null if it is not set
+     */
+    static Path root(ExistingFile constraintAnnotation) {
+        return constraintAnnotation.under().isEmpty() ? null : Path.of(constraintAnnotation.under()).toAbsolutePath().normalize();
     }
 }
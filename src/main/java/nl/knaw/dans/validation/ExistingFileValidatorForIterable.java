@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ValidationException;
+import java.io.File;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * Validator for {@link ExistingFile} annotation for an {@link Iterable} of {@link Path}, {@link File} or {@link String} objects, such as the payload files
+ * of a deposit. Each element costs a single file system lookup, or none if a {@link PathSnapshot} is open for the paths. Each invalid element gets its own
+ * violation, in element order. Null elements are ignored. If {@link ExistingFile#under()} is set, relative elements are resolved against it and the real
+ * path of each parent directory is resolved once, so that the containment check adds one <code>lstat</code> per element.
+ */
+@ThreadSafeValidator
+public class ExistingFileValidatorForIterable extends InstrumentedValidator<ExistingFile, Iterable<?>> {
+    private boolean isDirectory;
+    private Path root;
+
+    @Override
+    public void initialize(ExistingFile constraintAnnotation) {
+        this.isDirectory = constraintAnnotation.isDirectory();
+        this.root = ExistingFileValidatorForFile.root(constraintAnnotation);
+    }
+
+    @Override
+    protected boolean validate(Iterable<?> values, ConstraintValidatorContext context) {
+        if (values == null) {
+            return true;
+        }
+        boolean valid = true;
+        int index = 0;
+        for (Object value : values) {
+            if (value != null) {
+                Path path = toPath(value);
+                String message = path == null ? "File does not exist" : ExistingFileValidatorForFile.check(path, isDirectory, root);
+                if (message != null) {
+                    ElementViolations.add(context, message, index, valid);
+                    valid = false;
+                }
+            }
+            index++;
+        }
+        return valid;
+    }
+
+    private static Path toPath(Object value) {
+        if (value instanceof Path path) {
+            return path;
+        }
+        if (value instanceof File file) {
+            return file.toPath();
+        }
+        if (value instanceof String s) {
+            try {
+                return Path.of(s);
+            }
+            catch (InvalidPathException e) {
+                return null; // Reported as not existing, like the validator for a single String
+            }
+        }
+        throw new ValidationException("Expected elements of type Path, File or String, but found " + value.getClass().getName());
+    }
+}
@@ -15,13 +15,13 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
 import java.nio.file.Path;
 
 /**
  * Validator for {@link ExistingFile} annotation for {@link Path} objects.
  */
-public class ExistingFileValidatorForPath implements ConstraintValidator<ExistingFile, Path> {
+@ThreadSafeValidator
+public class ExistingFileValidatorForPath extends InstrumentedValidator<ExistingFile, Path> {
     private ExistingFileValidatorForFile fileValidator;
 
     @Override
@@ -31,11 +31,11 @@ public class ExistingFileValidatorForPath implements ConstraintValidator<Existin
     }
 
     @Override
-    public boolean isValid(Path path, javax.validation.ConstraintValidatorContext context) {
+    protected boolean validate(Path path, javax.validation.ConstraintValidatorContext context) {
         if (path == null) {
             // Use NotNullValidator for null check
             return true;
         }
-        return fileValidator.isValid(path.toFile(), context);
+        return fileValidator.validate(path.toFile(), context);
     }
 }
@@ -15,13 +15,13 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
 import java.io.File;
 
 /**
  * Validator for {@link ExistingFile} annotation on {@link String} objects.
  */
-public class ExistingFileValidatorForString implements ConstraintValidator<ExistingFile, String> {
+@ThreadSafeValidator
+public class ExistingFileValidatorForString extends InstrumentedValidator<ExistingFile, String> {
     private ExistingFileValidatorForFile fileValidator;
 
     @Override
@@ -31,12 +31,12 @@ public class ExistingFileValidatorForString implements ConstraintValidator<Exist
     }
 
     @Override
-    public boolean isValid(String filePath, javax.validation.ConstraintValidatorContext context) {
+    protected boolean validate(String filePath, javax.validation.ConstraintValidatorContext context) {
         if (filePath == null) {
             // Use NotNullValidator for null check
             return true;
         }
 
-        return fileValidator.isValid(new File(filePath), context);
+        return fileValidator.validate(new File(filePath), context);
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that a ZIP archive contains the given entries. The archive is taken from {@link #archiveField()}, which can be a {@link java.nio.file.Path},
+ * {@link java.io.File} or {@link String}; the entry names from {@link #entryField()}, which can be a {@link CharSequence} or an {@link Iterable} of them.
+ * If either field is null, the constraint is satisfied.
+ *
+ * <p>Only the central directory of the archive is read, and its index is cached per archive as long as the archive is not modified, so validating many
+ * objects that refer to the same archive does not open it again.</p>
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@ConstraintCost(value = ConstraintCost.Level.EXPENSIVE, io = true)
+@Constraint(validatedBy = ExistingZipEntryValidator.class)
+@Documented
+public @interface ExistingZipEntry {
+    String message() default "Entry does not exist in archive";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    String archiveField();
+
+    String entryField();
+}
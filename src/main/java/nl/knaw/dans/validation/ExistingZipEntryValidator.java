@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+
+/**
+ * Validator for {@link ExistingZipEntry} annotation. Each missing entry gets its own violation on the entry field.
+ */
+@ThreadSafeValidator
+public class ExistingZipEntryValidator extends InstrumentedValidator<ExistingZipEntry, Object> {
+    private String archiveField;
+    private String entryField;
+
+    @Override
+    public void initialize(ExistingZipEntry constraintAnnotation) {
+        archiveField = constraintAnnotation.archiveField();
+        entryField = constraintAnnotation.entryField();
+    }
+
+    @Override
+    protected boolean validate(Object object, ConstraintValidatorContext context) {
+        if (object == null) {
+            return true;
+        }
+        Object archive = FieldValues.get(object, archiveField);
+        Object entries = FieldValues.get(object, entryField);
+        if (archive == null || entries == null) {
+            return true;
+        }
+        ZipIndex index;
+        try {
+            index = ZipIndex.of(FieldValues.toPath(archive));
+        }
+        catch (InvalidPathException e) {
+            addViolation(context, archiveField, MessageTemplates.literal("Invalid path: " + e.getReason()));
+            return false;
+        }
+        catch (NoSuchFileException e) {
+            addViolation(context, archiveField, "Archive does not exist");
+            return false;
+        }
+        catch (IOException e) {
+            addViolation(context, archiveField, MessageTemplates.literal("Archive is not a readable ZIP file: " + e.getMessage()));
+            return false;
+        }
+
+        if (!(entries instanceof Iterable<?> iterable)) {
+            if (index.contains(ElementViolations.asCharSequence(entries))) {
+                return true;
+            }
+            addViolation(context, entryField, context.getDefaultConstraintMessageTemplate());
+            return false;
+        }
+        boolean valid = true;
+        int i = 0;
+        for (Object entry : iterable) {
+            if (entry != null && !index.contains(ElementViolations.asCharSequence(entry))) {
+                if (valid) {
+                    context.disableDefaultConstraintViolation();
+                }
+                context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                    .addPropertyNode(entryField)
+                    .addBeanNode().inIterable().atIndex(i)
+                    .addConstraintViolation();
+                valid = false;
+            }
+            i++;
+        }
+        return valid;
+    }
+
+    private static void addViolation(ConstraintValidatorContext context, String field, String message) {
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(message)
+            .addPropertyNode(field)
+            .addConstraintViolation();
+    }
+}
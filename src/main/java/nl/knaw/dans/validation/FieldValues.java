@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+
+/**
+ * Helpers for class-level validators that read the fields named in their annotation.
+ */
+final class FieldValues {
+
+    private FieldValues() {
+    }
+
+    static Object get(Object object, String name) {
+        try {
+            Field field = object.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(object);
+        }
+        catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException("Programming error: field " + name + " does not exist or is not accessible");
+        }
+    }
+
+    /**
+     * Converts a field value that refers to a file to a {@link Path}.
+     *
+     * @param value a {@link Path}, {@link File} or anything else whose string form is a path
+     * @return the path
+     */
+    static Path toPath(Object value) {
+        if (value instanceof Path path) {
+            return path;
+        }
+        if (value instanceof File file) {
+            return file.toPath();
+        }
+        return Path.of(value.toString());
+    }
+}
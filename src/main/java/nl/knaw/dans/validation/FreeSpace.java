@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.io.IOException;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Usable space per file store, cached for a short time. The cache is keyed by the device ID of a path (<code>unix:dev</code>), which is one
+ * <code>stat</code> away, so that validating many paths on the same volume costs one file store query instead of one per path. On file systems without
+ * device IDs, the {@link FileStore} itself is the key; it is looked up for every path, but the usable space is still queried once per volume.
+ */
+final class FreeSpace {
+    static final long MAX_AGE_NANOS = 2_000_000_000L;
+
+    private static final ConcurrentMap<Object, Entry> CACHE = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        private final long usableSpace;
+        private final long created;
+
+        private Entry(long usableSpace, long created) {
+            this.usableSpace = usableSpace;
+            this.created = created;
+        }
+    }
+
+    private FreeSpace() {
+    }
+
+    /**
+     * Returns the usable space on the volume of a path. If the path does not exist yet, the volume of its nearest existing ancestor is used.
+     *
+     * @param path the path
+     * @return the usable space in bytes
+     * @throws IOException if no ancestor exists or the file store cannot be queried
+     */
+    static long usableSpace(Path path) throws IOException {
+        Path existing = nearestExisting(path.toAbsolutePath());
+        Object key = deviceKey(existing);
+        FileStore store = null;
+        if (key == null) {
+            store = Files.getFileStore(existing);
+            key = store;
+        }
+        long now = System.nanoTime();
+        Entry entry = CACHE.get(key);
+        if (entry != null && now - entry.created < MAX_AGE_NANOS) {
+            return entry.usableSpace;
+        }
+        if (store == null) {
+            store = Files.getFileStore(existing);
+        }
+        long usableSpace = store.getUsableSpace();
+        CACHE.put(key, new Entry(usableSpace, now));
+        return usableSpace;
+    }
+
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    private static Path nearestExisting(Path path) throws IOException {
+        for (Path p = path; p != null; p = p.getParent()) {
+            if (Files.exists(p)) {
+                return p;
+            }
+        }
+        throw new NoSuchFileException(path.toString());
+    }
+
+    private static Object deviceKey(Path path) throws IOException {
+        try {
+            return Files.getAttribute(path, "unix:dev");
+        }
+        catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
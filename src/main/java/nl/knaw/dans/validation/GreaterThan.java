@@ -28,6 +28,7 @@ import java.lang.annotation.Target;
  */
 @Target({ ElementType.TYPE })
 @Retention(RetentionPolicy.RUNTIME)
+@ConstraintCost(ConstraintCost.Level.CHEAP)
 @Constraint(validatedBy = GreaterThanValidator.class)
 @Documented
 public  @interface GreaterThan {
@@ -15,14 +15,14 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import java.lang.reflect.Field;
 
 /**
  * Validator for the {@link GreaterThan} annotation.
  */
-public class GreaterThanValidator implements ConstraintValidator<GreaterThan, Object> {
+@ThreadSafeValidator
+public class GreaterThanValidator extends InstrumentedValidator<GreaterThan, Object> {
     private String field1;
     private String field2;
 
@@ -33,7 +33,7 @@ public class GreaterThanValidator implements ConstraintValidator<GreaterThan, Ob
     }
 
     @Override
-    public boolean isValid(Object object, ConstraintValidatorContext context) {
+    protected boolean validate(Object object, ConstraintValidatorContext context) {
         try {
             Field field1Instance = object.getClass().getDeclaredField(field1);
             Field field2Instance = object.getClass().getDeclaredField(field2);
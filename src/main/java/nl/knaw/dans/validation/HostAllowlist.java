@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Compiled form of the attributes of an {@link AllowedUriHosts} annotation. Host names are kept in a trie of reversed host names, so that a host is matched
+ * against all patterns in one right-to-left pass over its characters. IP addresses are matched against a {@link CidrTrie}. Nothing is resolved through DNS.
+ */
+final class HostAllowlist {
+    private static final int EXACT = 1;
+    private static final int SUBDOMAINS = 2;
+
+    private final CharTrie hosts;
+    private final CidrTrie ranges;
+    private final int[] ports;
+    private final boolean hostRestricted;
+    private final String allowedPortsSuffix;
+
+    private HostAllowlist(CharTrie hosts, CidrTrie ranges, int[] ports) {
+        this.hosts = hosts;
+        this.ranges = ranges;
+        this.ports = ports;
+        this.hostRestricted = !hosts.isEmpty() || !ranges.isEmpty();
+        StringBuilder suffix = new StringBuilder("; allowed ports are: ");
+        for (int i = 0; i < ports.length; i++) {
+            suffix.append(i == 0 ? "" : ", ").append(ports[i]);
+        }
+        this.allowedPortsSuffix = suffix.toString();
+    }
+
+    /**
+     * Compiles the attributes of the annotation.
+     *
+     * @param annotation the annotation
+     * @return the compiled allowlist
+     * @throws IllegalArgumentException if a host pattern or CIDR range is invalid
+     */
+    static HostAllowlist compile(AllowedUriHosts annotation) {
+        return CompiledState.intern(HostAllowlist.class, () -> build(annotation), annotation.hosts(), annotation.cidrs(), annotation.ports());
+    }
+
+    private static HostAllowlist build(AllowedUriHosts annotation) {
+        CharTrie.Builder hosts = CharTrie.builder();
+        for (String pattern : annotation.hosts()) {
+            String host = pattern.toLowerCase(Locale.ROOT);
+            if (host.endsWith(".")) {
+                host = host.substring(0, host.length() - 1);
+            }
+            int flags = EXACT;
+            if (host.startsWith("*.")) {
+                host = host.substring(1);
+                flags = SUBDOMAINS;
+            }
+            if (host.isEmpty() || host.equals(".") || host.indexOf('*') >= 0 || host.indexOf('/') >= 0 || host.indexOf(':') >= 0) {
+                throw new IllegalArgumentException("Invalid host pattern: " + pattern);
+            }
+            hosts.add(new StringBuilder(host).reverse(), flags);
+        }
+        int[] ports = annotation.ports().clone();
+        Arrays.sort(ports);
+        return new HostAllowlist(hosts.build(), CidrTrie.compile(annotation.cidrs()), ports);
+    }
+
+    /**
+     * Checks the host and port of a syntactically valid absolute URI.
+     *
+     * @param uri   the URI
+     * @param parts the offsets of its parts, as filled in by {@link UriSyntax#scan(CharSequence, int[])}
+     * @return null if host and port are allowed, otherwise a violation message
+     */
+    String check(CharSequence uri, int[] parts) {
+        int hostStart = parts[UriSyntax.HOST_START];
+        int hostEnd = parts[UriSyntax.HOST_END];
+        if (hostRestricted) {
+            if (hostStart < 0 || hostStart == hostEnd) {
+                return "URI has no host";
+            }
+            if (!isAllowedHost(uri, hostStart, hostEnd)) {
+                return "Host '" + uri.subSequence(hostStart, hostEnd) + "' is not allowed";
+            }
+        }
+        int portStart = parts[UriSyntax.PORT_START];
+        int portEnd = parts[UriSyntax.PORT_END];
+        if (ports.length > 0 && portStart >= 0 && portStart < portEnd) {
+            int port = 0;
+            for (int i = portStart; i < portEnd && port <= 65535; i++) {
+                port = port * 10 + uri.charAt(i) - '0';
+            }
+            if (Arrays.binarySearch(ports, port) < 0) {
+                return "Port " + uri.subSequence(portStart, portEnd) + " is not allowed" + allowedPortsSuffix;
+            }
+        }
+        return null;
+    }
+
+    private boolean isAllowedHost(CharSequence s, int start, int end) {
+        if (s.charAt(start) == '[') {
+            long[] address = new long[2];
+            return IpLiterals.parseIpv6(s, start + 1, end - 1, address) && ranges.containsIpv6(address[0], address[1]);
+        }
+        if (s.charAt(end - 1) == '.' && end - start > 1) {
+            end--;
+        }
+        if (matchesHostPattern(s, start, end)) {
+            return true;
+        }
+        long ipv4 = IpLiterals.parseIpv4(s, start, end);
+        return ipv4 >= 0 && ranges.containsIpv4(ipv4);
+    }
+
+    private boolean matchesHostPattern(CharSequence s, int start, int end) {
+        int node = CharTrie.ROOT;
+        for (int i = end - 1; i >= start; i--) {
+            node = hosts.next(node, UriSyntax.toLowerAscii(s.charAt(i)));
+            if (node == CharTrie.NO_NODE) {
+                return false;
+            }
+            if ((hosts.flags(node) & SUBDOMAINS) != 0 && i > start) {
+                return true;
+            }
+        }
+        return (hosts.flags(node) & EXACT) != 0;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.UUID;
+
+/**
+ * Parsers for the identifiers checked by {@link Uuid}, {@link UrnUuid}, {@link SwordToken} and {@link AllowedUriSchemes}. The validators of these annotations
+ * use the same parsers, so a value that passed validation can be turned into its parsed form with a single call that is guaranteed to succeed, and a value
+ * that did not pass can be parsed directly without catching exceptions.
+ */
+public final class IdentifierParsers {
+    static final String URN_UUID_PREFIX = "urn:uuid:";
+    static final String SWORD_TOKEN_PREFIX = "sword:";
+
+    private static final ParseResult<?> INVALID_UUID = ParseResult.failure("Invalid UUID");
+    private static final ParseResult<?> INVALID_URN_UUID = ParseResult.failure("Invalid urn:uuid");
+    private static final ParseResult<?> MISSING_SWORD_PREFIX = ParseResult.failure("SWORD token must start with 'sword:' prefix");
+    private static final ParseResult<?> INVALID_SWORD_UUID = ParseResult.failure("SWORD token must contain a valid UUID after the 'sword:' prefix");
+    private static final ParseResult<?> URI_END_OF_INPUT = ParseResult.failure("Invalid URI: unexpected end of input");
+
+    private static final int CANONICAL_UUID_LENGTH = 36;
+
+    private IdentifierParsers() {
+    }
+
+    /**
+     * Parses a UUID. The canonical form (<code>8-4-4-4-12</code> ASCII hexadecimal digits) is parsed directly from the characters; shorter
+     * forms accepted by {@link UUID#fromString(String)}, such as <code>1-2-3-4-5</code>, are still accepted for compatibility.
+     *
+     * @param s the input
+     * @return the UUID, or a failure
+     */
+    public static ParseResult<UUID> parseUuid(CharSequence s) {
+        return parseUuid(s, 0, INVALID_UUID);
+    }
+
+    /**
+     * Parses a URN UUID of the form <code>urn:uuid:&lt;uuid&gt;</code>.
+     *
+     * @param s the input
+     * @return the UUID, or a failure
+     */
+    public static ParseResult<UUID> parseUrnUuid(CharSequence s) {
+        if (!startsWith(s, URN_UUID_PREFIX)) {
+            return ParseResult.cast(INVALID_URN_UUID);
+        }
+        return parseUuid(s, URN_UUID_PREFIX.length(), INVALID_URN_UUID);
+    }
+
+    /**
+     * Parses a URN UUID.
+     *
+     * @param uri the input
+     * @return the UUID, or a failure
+     */
+    public static ParseResult<UUID> parseUrnUuid(URI uri) {
+        String ssp = uri.getSchemeSpecificPart();
+        if (!"urn".equals(uri.getScheme()) || !ssp.startsWith("uuid:")) {
+            return ParseResult.cast(INVALID_URN_UUID);
+        }
+        return parseUuid(ssp, "uuid:".length(), INVALID_URN_UUID);
+    }
+
+    /**
+     * Parses a SWORD token of the form <code>sword:&lt;uuid&gt;</code>.
+     *
+     * @param s the input
+     * @return the UUID, or a failure
+     */
+    public static ParseResult<UUID> parseSwordToken(CharSequence s) {
+        if (!startsWith(s, SWORD_TOKEN_PREFIX)) {
+            return ParseResult.cast(MISSING_SWORD_PREFIX);
+        }
+        return parseUuid(s, SWORD_TOKEN_PREFIX.length(), INVALID_SWORD_UUID);
+    }
+
+    /**
+     * Parses an absolute URI. The syntax is checked with the same single-pass scanner as used by the {@link AllowedUriSchemes} validators, so the failure
+     * reasons are the same as their violation messages.
+     *
+     * @param s the input
+     * @return the URI, or a failure
+     */
+    public static ParseResult<URI> parseUri(CharSequence s) {
+        int error = UriSyntax.scan(s, null);
+        if (error != UriSyntax.VALID) {
+            return error < s.length() ? ParseResult.failure(UriSyntax.errorMessage(s, error)) : ParseResult.cast(URI_END_OF_INPUT);
+        }
+        try {
+            return ParseResult.success(new URI(s.toString()));
+        }
+        catch (URISyntaxException e) {
+            // Only reached for content the scanner does not look into, such as the inside of IP literals
+            return ParseResult.failure("Invalid URI: " + e.getReason());
+        }
+    }
+
+    private static ParseResult<UUID> parseUuid(CharSequence s, int start, ParseResult<?> failure) {
+        if (s.length() - start != CANONICAL_UUID_LENGTH) {
+            return parseNonCanonicalUuid(s.subSequence(start, s.length()).toString(), failure);
+        }
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+        for (int i = 0; i < CANONICAL_UUID_LENGTH; i++) {
+            char c = s.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return ParseResult.cast(failure);
+                }
+                continue;
+            }
+            int digit = hexValue(c);
+            if (digit < 0) {
+                return ParseResult.cast(failure);
+            }
+            if (i < 18) {
+                mostSigBits = mostSigBits << 4 | digit;
+            }
+            else {
+                leastSigBits = leastSigBits << 4 | digit;
+            }
+        }
+        return ParseResult.success(new UUID(mostSigBits, leastSigBits));
+    }
+
+    private static ParseResult<UUID> parseNonCanonicalUuid(String s, ParseResult<?> failure) {
+        if (s.length() > CANONICAL_UUID_LENGTH || s.indexOf('-') < 0) {
+            return ParseResult.cast(failure);
+        }
+        try {
+            return ParseResult.success(UUID.fromString(s));
+        }
+        catch (IllegalArgumentException e) {
+            return ParseResult.cast(failure);
+        }
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(CharSequence s, String prefix) {
+        if (s.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (s.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ValidationException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Base class for the validators of this library. Each call is reported to the {@link ValidationMetrics} that are installed with
+ * {@link ValidationMetrics#install(ValidationMetrics)}, and recorded as a flight recorder event if it is slow (see {@link ValidationEvent}). During
+ * {@link CostAwareValidation}, calls for constraints of the other phase are skipped. On the workers of a {@link BulkValidator}, checks of constraints that do
+ * I/O wait for one of the validator's I/O permits. While none of these is in use, the overhead is three volatile reads. Subclasses implement
+ * {@link #validate(Object, ConstraintValidatorContext)}. A validator that delegates to another one calls the other's <code>validate</code> method, so that each
+ * value is counted once, under the type that was actually annotated. An exception from the metrics is logged once and does not change the result; the
+ * validator then stops reporting to those metrics.
+ *
+ * @param <A> the constraint annotation
+ * @param <T> the type of the validated value
+ */
+public abstract class InstrumentedValidator<A extends Annotation, T> implements ConstraintValidator<A, T> {
+    private static final Logger log = LoggerFactory.getLogger(InstrumentedValidator.class);
+    private static final ValidationMetrics.Probe NO_PROBE = (nanos, valid) -> {
+    };
+    private static final AtomicBoolean metricsFailureLogged = new AtomicBoolean();
+
+    static volatile ValidationMetrics metrics;
+
+    /*
+     * Not volatile: a Binding is immutable, so a thread that does not see another thread's write just creates its own.
+     */
+    private Binding binding;
+    private ConstraintCost.Level cost;
+    private Boolean io;
+
+    private static final class Binding {
+        private final ValidationMetrics metrics;
+        private final ValidationMetrics.Probe probe;
+
+        private Binding(ValidationMetrics metrics, ValidationMetrics.Probe probe) {
+            this.metrics = metrics;
+            this.probe = probe;
+        }
+    }
+
+    @Override
+    public final boolean isValid(T value, ConstraintValidatorContext context) {
+        if (CostAwareValidation.running() && CostAwareValidation.skips(cost())) {
+            return true;
+        }
+        if (BulkValidator.running() && io()) {
+            Semaphore permits = BulkValidator.ioPermits();
+            if (permits != null) {
+                try {
+                    permits.acquire();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ValidationException("Interrupted while waiting for an I/O permit", e);
+                }
+                try {
+                    return measure(value, context);
+                }
+                finally {
+                    permits.release();
+                }
+            }
+        }
+        return measure(value, context);
+    }
+
+    private boolean measure(T value, ConstraintValidatorContext context) {
+        ValidationMetrics current = metrics;
+        ValidationEvent event = new ValidationEvent();
+        if (current == null && !event.isEnabled()) {
+            return validate(value, context);
+        }
+        ValidationMetrics.Probe probe = current == null ? null : probe(current);
+        event.begin();
+        long start = System.nanoTime();
+        boolean valid = validate(value, context);
+        long nanos = System.nanoTime() - start;
+        event.end();
+        if (probe != null) {
+            try {
+                probe.record(nanos, valid);
+            }
+            catch (RuntimeException e) {
+                metricsFailed(e);
+                binding = new Binding(current, NO_PROBE);
+            }
+        }
+        if (event.shouldCommit()) {
+            event.set(constraintType(), value, valid);
+            event.commit();
+        }
+        return valid;
+    }
+
+    /**
+     * Checks a value. Implements {@link #isValid(Object, ConstraintValidatorContext)}, without the metrics.
+     *
+     * @param value   the value to validate
+     * @param context the validator context
+     * @return false if the value does not pass the constraint
+     */
+    protected abstract boolean validate(T value, ConstraintValidatorContext context);
+
+    private ValidationMetrics.Probe probe(ValidationMetrics current) {
+        Binding b = binding;
+        if (b == null || b.metrics != current) {
+            ValidationMetrics.Probe probe;
+            try {
+                probe = current.probe(constraintType(), rawType(typeArguments()[1]));
+            }
+            catch (RuntimeException e) {
+                metricsFailed(e);
+                probe = NO_PROBE;
+            }
+            b = new Binding(current, probe);
+            binding = b;
+        }
+        return b.probe;
+    }
+
+    private static void metricsFailed(RuntimeException e) {
+        if (metricsFailureLogged.compareAndSet(false, true)) {
+            log.warn("Validation metrics failed; validators that hit this stop reporting to them. Further failures are not logged", e);
+        }
+    }
+
+    private ConstraintCost.Level cost() {
+        ConstraintCost.Level c = cost;
+        if (c == null) {
+            ConstraintCost hint = constraintType().getAnnotation(ConstraintCost.class);
+            c = hint == null ? ConstraintCost.Level.CHEAP : hint.value();
+            cost = c;
+        }
+        return c;
+    }
+
+    private boolean io() {
+        Boolean i = io;
+        if (i == null) {
+            ConstraintCost hint = constraintType().getAnnotation(ConstraintCost.class);
+            i = hint != null && hint.io();
+            io = i;
+        }
+        return i;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends Annotation> constraintType() {
+        return (Class<? extends Annotation>) rawType(typeArguments()[0]);
+    }
+
+    private Type[] typeArguments() {
+        Class<?> c = getClass();
+        while (c.getSuperclass() != InstrumentedValidator.class) {
+            c = c.getSuperclass();
+        }
+        return ((ParameterizedType) c.getGenericSuperclass()).getActualTypeArguments();
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> c) {
+            return c;
+        }
+        if (type instanceof ParameterizedType p) {
+            return (Class<?>) p.getRawType();
+        }
+        return Object.class;
+    }
+}
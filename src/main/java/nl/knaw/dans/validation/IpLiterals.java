@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+/**
+ * Parsers for IPv4 and IPv6 address literals as they appear in the host part of a URI. They only look at the characters of the input and never do a DNS
+ * lookup.
+ */
+final class IpLiterals {
+
+    private IpLiterals() {
+    }
+
+    /**
+     * Parses a dotted-quad IPv4 address. Octets with leading zeros are rejected, as in RFC 3986.
+     *
+     * @param s     the input
+     * @param start start of the address (inclusive)
+     * @param end   end of the address (exclusive)
+     * @return the address as an unsigned 32-bit value, or -1 if the region is not an IPv4 address
+     */
+    static long parseIpv4(CharSequence s, int start, int end) {
+        long address = 0;
+        int octets = 0;
+        int i = start;
+        while (i < end) {
+            int value = 0;
+            int digits = 0;
+            for (; i < end && s.charAt(i) >= '0' && s.charAt(i) <= '9'; i++) {
+                if (digits > 0 && value == 0) {
+                    return -1;
+                }
+                value = value * 10 + s.charAt(i) - '0';
+                if (value > 255) {
+                    return -1;
+                }
+                digits++;
+            }
+            if (digits == 0 || ++octets > 4) {
+                return -1;
+            }
+            address = address << 8 | value;
+            if (i < end) {
+                if (s.charAt(i) != '.' || i == end - 1) {
+                    return -1;
+                }
+                i++;
+            }
+        }
+        return octets == 4 ? address : -1;
+    }
+
+    /**
+     * Parses an IPv6 address, including the <code>::</code> shorthand and a trailing embedded IPv4 address. Zone identifiers are not supported.
+     *
+     * @param s       the input
+     * @param start   start of the address (inclusive), without the opening bracket
+     * @param end     end of the address (exclusive), without the closing bracket
+     * @param address receives the high and low 64 bits of the address
+     * @return whether the region is an IPv6 address
+     */
+    static boolean parseIpv6(CharSequence s, int start, int end, long[] address) {
+        int[] groups = new int[8];
+        int count = 0;
+        int compressAt = -1;
+        int i = start;
+        if (end - start >= 2 && s.charAt(i) == ':' && s.charAt(i + 1) == ':') {
+            compressAt = 0;
+            i += 2;
+        }
+        while (i < end) {
+            if (count == 8) {
+                return false;
+            }
+            int value = 0;
+            int j = i;
+            for (; j < end && Character.digit(s.charAt(j), 16) >= 0 && s.charAt(j) < 128; j++) {
+                if (j - i == 4) {
+                    return false;
+                }
+                value = value << 4 | Character.digit(s.charAt(j), 16);
+            }
+            if (j < end && s.charAt(j) == '.') {
+                long ipv4 = parseIpv4(s, i, end);
+                if (ipv4 < 0 || count > 6) {
+                    return false;
+                }
+                groups[count++] = (int) (ipv4 >>> 16);
+                groups[count++] = (int) (ipv4 & 0xffff);
+                break;
+            }
+            if (j == i) {
+                return false;
+            }
+            groups[count++] = value;
+            i = j;
+            if (i < end) {
+                if (s.charAt(i) != ':' || ++i == end) {
+                    return false;
+                }
+                if (s.charAt(i) == ':') {
+                    if (compressAt >= 0) {
+                        return false;
+                    }
+                    compressAt = count;
+                    i++;
+                }
+            }
+        }
+        if (compressAt >= 0) {
+            if (count == 8) {
+                return false;
+            }
+            int shift = 8 - count;
+            for (int g = count - 1; g >= compressAt; g--) {
+                groups[g + shift] = groups[g];
+                groups[g] = 0;
+            }
+        }
+        else if (count != 8) {
+            return false;
+        }
+        address[0] = (long) groups[0] << 48 | (long) groups[1] << 32 | (long) groups[2] << 16 | groups[3];
+        address[1] = (long) groups[4] << 48 | (long) groups[5] << 32 | (long) groups[6] << 16 | groups[7];
+        return true;
+    }
+}
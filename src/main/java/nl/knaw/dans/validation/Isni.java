@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the value of a field is an ISNI with a valid check character, e.g., <code>0000 0001 2103 2683</code>,
+ * <code>0000000121032683</code> or <code>https://isni.org/isni/0000000121032683</code>. Supported types are {@link String}, {@link CharSequence} and, to
+ * validate a list of authors in one go, {@link Iterable} of {@link CharSequence}.
+ */
+@Documented
+@ConstraintCost(ConstraintCost.Level.CHEAP)
+@Constraint(validatedBy = { IsniValidator.class, IsniValidatorForIterable.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Isni {
+    String message() default "Invalid ISNI";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,800 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+/**
+ * ISO 639 language codes and ISO 3166-1 country codes as {@link CodeTable}s.
+ *
+ * <p>GENERATED by IsoCodeTablesGenerator (in the test sources) from the iso-codes package; do not edit by hand.</p>
+ */
+final class IsoCodeTables {
+
+    static final CodeTable ISO_639_1 = new CodeTable(2,
+        "\u00d2\u0210\u00f2\u014b\u00ed\u0136\u0132\u022b\u0221\u0205\u0202\u0178\u00e1\u0096\u0251\u020f"
+            + "\u0212\u0158\u003e\u0028\u01f5\u017b\u0093\u01a2\u01c4\u00ac\u0082\u0140\u01f4\u0066\u0173\u0102"
+            + "\u018c\u003d\u00f4\u0233\u0198\u014d\u00f8\u009c\u0152\u0218\u01b1\u00d9\u00fc\u0045\u025b\u0095"
+            + "\u0190\u00e7\u017c\u0130\u0031\u00ea\u003f\u010f\u0021\u0214\u0063\u0134\u0056\u016a\u021d\u0171"
+            + "\u012a\u022a\u0217\u002e\u017e\u0029\u0188\u01fb\u01f3\u0249\u00f7\u0020\u01a7\u022f\u0224\u027c"
+            + "\u0235\u0037\u00ab\u02bf\u00b1\u020c\u023e\u0257\u0086\u0133\u006a\u0146\u00c9\u0124\u02d3\u00fe"
+            + "\u020e\u0181\u008c\u0107\u00dd\u0213\u00bb\u00f1\u026e\u0049\u0060\u0242\u003b\u001c\u0159\u00d3"
+            + "\u00ec\u01c3\u0034\u0106\u0225\u0044\u0071\u006d\u0064\u00cb\u0142\u0043\u00a8\u0216\u0168\u0145"
+            + "\u0138\u0167\u020a\u00a3\u01a8\u00be\u022e\u0153\u013e\u0261\u0067\u013f\u016b\u009b\u013b\u002d"
+            + "\u0108\u02c6\u01bc\u015a\u01b9\u01e0\u0215\u0193\u019f\u020d\u0223\u001d\u0227\u0026\u0290\u013c"
+            + "\u0228\u02ac\u0230\u0204\u0189\u0035\u016d\u009a\u0186\u00fa\u0052\u0172\u0206\u0137\u0208\u0059"
+            + "\u02b2\u0135\u01fd\u00c1\u0166\u00b4\u017f\u0048",
+        "\u0014\u0002\u0000\u0004\u0016\u0035\u0021\u0015\u0000\u0000\u0004\u002d\u0021\n\u0003\u0019"
+            + "\u0001\u0007\u0000\n\u0004\u0011\u0000\u0007\u001e\u0002\u0002\u0008\u0010\u003a\u0021\u0003"
+            + "\u0000\u005d\u0000\u0069\u0060\u0021\u0017\u0027\u0001\u0000\u003a\u001d\u004d\u0000\u0069\u0033"
+            + "\u00b7\u0007\u00a7\u0103\u002b\u0003\u0000\u0058\u0002\u0000\u0008\u001e\u0000\u002a");
+
+    static final CodeTable ISO_639_2 = new CodeTable(3,
+        "\u05e1\u08ba\u1596\u0daf\u3d4b\u4caa\u1e3c\u0ad5\u05d9\u3799\u035e\u39ee\u1549\u3a90\u1485\u3a41"
+            + "\u0f99\u39bc\u385d\u1cbf\u2038\u1534\u3642\u2981\u391c\u0306\u0e1c\u336d\u1488\u14ee\u2465\u0b8a"
+            + "\u3b03\u1e38\u0965\u2db8\u1835\u2fda\u27a9\u1b1f\u0332\u2471\u3649\u26ad\u3367\u0422\u0c33\u0b4e"
+            + "\u2577\u091e\u17cf\u363a\u3f9e\u3bad\u1598\u3987\u274f\u1140\u2054\u3eca\u0bf9\u16ec\u2f85\u1630"
+            + "\u2975\u08bb\u3775\u0a81\u1bbe\u121e\u4828\u2462\u39f9\u4acf\u380f\u28d4\u158c\u34d8\u045a\u3cc7"
+            + "\u3788\u130f\u0403\u386a\u3b3f\u1538\u2f31\u08b8\u37bd\u04d3\u2edd\u1426\u2dbb\u3813\u274a\u4a4c"
+            + "\u2058\u213c\u29ee\u0da8\u2f33\u04cc\u19f7\u2636\u2108\u0b3b\u2aa5\u2784\u3b3b\u04c6\u06b8\u265d"
+            + "\u17c9\u214e\u0a17\u07d9\u079d\u0d02\u04cd\u0d9c\u2a82\u1556\u0a32\u05e0\u0978\u2dc0\u0530\u1423"
+            + "\u2528\u18cb\u0f13\u260b\u3c46\u3b04\u0424\u1215\u4b88\u2e26\u3783\u218b\u2539\u097c\u1cab\u27be"
+            + "\u224f\u1abe\u3796\u0d67\u1145\u37be\u1f6f\u2529\u0a30\u2333\u3b52\u1e62\u22cd\u25fb\u1a1c\u1213"
+            + "\u2b11\u2688\u36d9\u39fd\u404f\u2464\u4212\u4af1\u031a\u4047\u0645\u2cd4\u2985\u0d4b\u06f7\u2801"
+            + "\u0975\u135f\u20f5\u09ed\u19e6\u202c\u367a\u367b\u371c\u1f83\u1970\u2524\u3918\u1aea\u48d8\u26a2"
+            + "\u1f71\u1f88\u0a79\u1592\u130e\u0a4b\u1f81\u376e\u075a\u23cd\u20fa\u1359\u3587\u0c6d\u1f82\u0fc4"
+            + "\u0643\u38c1\u3db7\u2a8f\u3a40\u05db\u3784\u064b\u37ef\u1adf\u16f7\u052c\u2bce\u2802\u2a8e\u453f"
+            + "\u39cd\u377b\u3a29\u3701\u4ae3\u39bd\u36e6\u1483\u2f37\u04cf\u140b\u096c\u25c3\u1bae\u2707\u27b6"
+            + "\u16f8\u17c8\u032f\u232c\u363f\u41ac\u0973\u0a33\u074b\u2145\u3644\u398f\u48ec\u41ad\u246a\u05da"
+            + "\u28e6\u16fa\u20f3\u1f8d\u153a\u08aa\u219c\u3f3b\u2ca6\u1665\u3b6a\u1f70\u28d2\u2875\u2a90\u040d"
+            + "\u285d\u1f80\u0523\u246c\u32a5\u04e7\u4a35\u18c4\u06b3\u10af\u4214\u364a\u3889\u26a8\u3805\u096a"
+            + "\u05d6\u2967\u0a76\u2256\u284f\u2532\u2748\u3c8b\u1f7a\u4c4d\u1f85\u388d\u0699\u15d7\u20fb\u0a41"
+            + "\u0740\u0e31\u3917\u224b\u203a\u2809\u381d\u252f\u2820\u42d1\u15e3\u2533\u2e76\u2530\u3d2e\u15d8"
+            + "\u2f77\u0f67\u34df\u37b7\u252e\u04d6\u3789\u0863\u23db\u252c\u0971\u3b36\u1301\u358c\u2a17\u2476"
+            + "\u19d8\u04fd\u0a40\u1b1e\u048a\u3811\u336f\u0b91\u1f7c\u0ffc\u0c65\u0647\u4cc9\u268e\u252b\u059c"
+            + "\u3aad\u0972\u297a\u2632\u280f\u34e4\u2650\u2583\u1761\u0799\u08af\u3712\u1751\u3b38\u2254\u0440"
+            + "\u2034\u1607\u3589\u1b23\u3923\u05d8\u2148\u447f\u4c4f\u07f0\u232d\u041f\u1f7b\u277e\u2051\u06ad"
+            + "\u219e\u0c00\u1144\u3d08\u03da\u0646\u41a5\u3a97\u12b9\u15da\u3760\u475b\u1a9d\u287c\u0a8e\u113f"
+            + "\u37cc\u20f6\u2606\u36af\u0bf7\u3860\u04c0\u37a0\u259a\u2523\u363e\u378d\u20b4\u36ae\u41a6\u0fbe"
+            + "\u1315\u37c4\u2e29\u1087\u3586\u1490\u3833\u0914\u2682\u280e\u2db7\u0970\u398d\u1b1c\u3b3d\u06b0"
+            + "\u2db2\u0547\u0979\u1052\u0431\u190f\u2caa\u12fd\u377f\u17c7\u07f5\u2a4e\u475c\u05de\u07fb\u0b98"
+            + "\u1217\u1b20\u2ce2\u0f8d\u1836\u1af4\u2e71\u0589\u0383\u376a\u3643\u3e8d\u0463\u225d\u1309\u04c2"
+            + "\u190d\u130b\u05d1\u2cb9\u225b\u0b8d\u0346\u1b5c\u4a9f\u0968\u39e9\u3722\u29b8\u2859\u07ea\u371d"
+            + "\u34e5\u2926\u038d\u04ee\u1b88\u2527\u0925\u037c\u2db9\u10b9\u26f4\u0ee8\u363d\u2472\u1b96\u0964"
+            + "\u38d0\u3a5b\u4320\u3afe\u3988\u2dac\u2197\u096e\u2ccb\u3865",
+        "\u0004\u0018\u0038\u0002\u0002\u0019\u0001\u0007\u000e\u0004\u008d\u0009\u0018\u001f\u0007\u0004"
+            + "\u0019\u0000\u0000\u0032\u000b\u003d\u0001\u000c\u001c\u0014\u0000\u0024\u0010\u0004\u0002\u003f"
+            + "\u0024\u0002\u0005\u0003\u0000\u0000\u000f\u000f\u005f\u0026\u0009\u0006\u0006\u000b\u0001\u002c"
+            + "\u0025\u0005\u0000\u0047\u0013\u0003\u000f\u0030\u0001\u0008\u001a\u0000\u0003\u0009\u0000\u0003"
+            + "\u0000\r\u003f\u0000\u0015\u0000\u0000\u0000\u0013\u0004\u000c\u0001\u001a\u000b\u001e\u0004"
+            + "\u004a\u001e\u0000\u0001\u000b\u0003\u0008\u0004\u0054\u001f\u0000\u0000\u0002\u0081\u001d\r"
+            + "\u0007\u0000\u003e\u0014\u0017\u008c\u003e\u0032\u0029\u0056\u0034\u0017\u0004\n\u0002\u0028"
+            + "\u0007\u0006\n\u0009\u0003\u0020\u002b\u0008\u0015\u0036\u0016\u00f4\u0007\u0024\u000c\u004e"
+            + "\u00e4\u0009\r\u0027\u01d6\u0020\u0046\u0013\u0173\u0193\u00d6\u0000\u0039\u0000\u0018\u0012"
+            + "\u0001\u0096\u0250\u0003\u0072\u0044\u0000\u027b\u000b\u0007\u000b\u0004\u0000\u0001\u0007\u022d"
+            + "\u00cf\u01ae\u02a7\u0092\u0004\u0073\u0069\u0167\u0162");
+
+    static final CodeTable ISO_639_3 = new CodeTable(3,
+        "\u07d1\u3865\u2892\u3816\u2164\u45da\u2216\u15df\u2150\u15fe\u11af\u1f83\u2278\u26af\u2e7e\u2072"
+            + "\u28fa\u183d\u3fe9\u398a\u4653\u267d\u1faf\u0399\u213f\u16ff\u06de\u0979\u214b\u262a\u068b\u0ad3"
+            + "\u3c46\u3828\u1268\u2950\u0ac4\u2661\u144c\u09f8\u27a2\u23c3\u2c25\u20d4\u3372\u08b1\u4c00\u210d"
+            + "\u39a4\u23cd\u2dcd\u29a7\u0637\u2095\u3b1c\u0632\u2a23\u1f7f\u21df\u23d9\u4661\u0c6e\u0737\u1435"
+            + "\u1f9e\u3a33\u2968\u4b8f\u1600\u066e\u32e3\u0bde\u1d86\u47a2\u2205\u0b30\u16e4\u47bb\u0613\u4319"
+            + "\u4596\u2724\u0ada\u259e\u22fd\u0349\u2254\u20dc\u298c\u130d\u15dc\u1f7c\u4585\u2468\u3794\u37d6"
+            + "\u38db\u1eb2\u0d84\u145c\u3b22\u2f09\u4867\u3762\u25ba\u1361\u2ce0\u1d7a\u39c4\u496a\u274c\u37c8"
+            + "\u494e\u3fd0\u2431\u084b\u1a63\u096f\u38a6\u2e9b\u0ea7\u3ae3\u220b\u07e4\u0696\u15e7\u2fbc\u0fbb"
+            + "\u0da0\u16a4\u2547\u3dc3\u487a\u1fab\u2394\u28b8\u1ced\u2939\u45eb\u1356\u0cd9\u132a\u0a94\u3781"
+            + "\u43ed\u3b04\u2bab\u0670\u0306\u3d39\u3ba5\u0857\u215b\u3f3f\u4828\u0504\u3a80\u23b2\u3b07\u241d"
+            + "\u432d\u2504\u2a28\u49b3\u0a0e\u075f\u1ffb\u085f\u2119\u052c\u0aeb\u096e\u4b08\u1285\u3af2\u357c"
+            + "\u05e3\u36fa\u07cc\u336c\u2099\u06e9\u3b37\u3855\u45fb\u257a\u468b\u031b\u3b1f\u1faa\u1353\u46af"
+            + "\u3994\u2e8b\u1d13\u03d2\u21d6\u1820\u25e7\u47a8\u33dc\u28f6\u26e7\u05fa\u45d3\u2ca2\u0fc5\u25eb"
+            + "\u246c\u3ec9\u2023\u3896\u0fb4\u2ca6\u0710\u0bd1\u4aff\u4c42\u0716\u37b9\u0646\u224b\u460f\u0599"
+            + "\u1e07\u2755\u09c5\u2655\u2f8e\u23d1\u1e72\u204f\u0af9\u05d8\u28d2\u06cb\u2534\u2fb5\u36ad\u1653"
+            + "\u4b42\u4a28\u49c0\u0fa7\u27bf\u391e\u4699\u2eea\u48e2\u2589\u0598\u1564\u0667\u2196\u3b03\u1915"
+            + "\u4477\u1215\u29c6\u357b\u1a6a\u38cb\u262b\u3a0b\u182c\u20fa\u4bcf\u290f\u2c0d\u3a03\u2371\u080d"
+            + "\u451e\u135a\u1a71\u19dc\u25b4\u1901\u465b\u23a0\u03bc\u25c6\u15eb\u3772\u3665\u27af\u2212\u07ff"
+            + "\u1cc5\u07a2\u148e\u20c0\u1592\u0536\u2691\u0c26\u18b1\u1418\u2117\u2374\u3982\u20b3\u0a2c\u23d6"
+            + "\u0c35\u04f0\u26c0\u4764\u3360\u4495\u2738\u3b8b\u267e\u28b3\u14c1\u2797\u496b\u3587\u08cb\u2569"
+            + "\u09b2\u2bc8\u35f8\u2044\u0723\u1830\u4863\u276b\u0d6e\u2e92\u44f4\u3a65\u48d2\u1d39\u2279\u290d"
+            + "\u099e\u27ce\u3f9d\u3a9c\u234a\u1632\u3755\u3706\u2208\u41ac\u41ad\u2a01\u0a9d\u0765\u04c0\u1fa2"
+            + "\u25ee\u23a3\u164f\u209c\u1548\u4bff\u3948\u2615\u0975\u46f4\u081e\u220d\u1c1d\u2464\u12fd\u03da"
+            + "\u4a29\u0971\u25aa\u186d\u0675\u25cf\u1700\u057e\u102c\u3400\u1452\u252e\u2db9\u42bf\u3301\u2f23"
+            + "\u215e\u2975\u4b6a\u2063\u3766\u040b\u05b1\u3d0d\u0690\u037d\u1f8a\u2be8\u3655\u3708\u34ee\u1d09"
+            + "\u2760\u0aab\u0644\u482a\u3369\u26b6\u07e0\u3a79\u3843\u1213\u0b80\u21a0\u057f\u079d\u272d\u1deb"
+            + "\u0674\u1cae\u3922\u2121\u0da4\u0a2b\u4941\u0328\u05fd\u0a8d\u3976\u380c\u1d81\u147f\u375d\u2e1f"
+            + "\u0a78\u141d\u23b4\u3917\u2dbd\u05d2\u4667\u264b\u398c\u0986\u2679\u1b81\u0467\u2700\u07d5\u28a6"
+            + "\u230c\u191d\u07d3\u4b6b\u05a5\u3956\u44be\u4707\u3cd6\u0e88\u1914\u26a7\u300b\u2734\u079c\u46c6"
+            + "\u1877\u4475\u1470\u3bad\u2f32\u1430\u436c\u2689\u04a8\u0a92\u08eb\u2251\u2baf\u4587\u1437\u08da"
+            + "\u49c6\u29d0\u3759\u0a14\u3661\u2cf0\u3d2e\u1d7e\u08fd\u2a4e\u372b\u391d\u23eb\u2e86\u22c3\u0704"
+            + "\u3421\u26b9\u3abd\u4930\u1a4e\u2f9a\u0934\u1580\u1534\u1068\u2837\u0610\u1ff3\u48af\u16e8\u3753"
+            + "\u2830\u0a8f\u2efa\u2710\u2563\u25be\u43cb\u07bb\u233f\u4533\u032e\u26d1\u2912\u22c4\u2f19\u3f9c"
+            + "\u270e\u1436\u235f\u18bd\u3650\u16e5\u05e6\u070c\u44a0\u0478\u232c\u0d8b\u14a5\u0a9b\u148d\u2789"
+            + "\u2633\u054b\u3a66\u2070\u2321\u2a07\u182d\u3d5f\u048b\u4a36\u169b\u169f\u0c4f\u2163\u4588\u0336"
+            + "\u3b17\u17cd\u1d6f\u2f4e\u44b0\u244b\u20a9\u4b76\u1424\u0607\u3bf6\u419e\u2cb4\u1fc9\u1e16\u42e2"
+            + "\u222a\u2b11\u060b\u37ce\u397c\u1b13\u17c3\u063f\u2d82\u34e4\u2e26\u0ba1\u37cf\u16ea\u45e1\u2e99"
+            + "\u185f\u44c7\u4318\u3b66\u2ca5\u16f3\u3d30\u0ccf\u1f96\u2f90\u2e31\u4836\u0420\u19f0\u14f4\u384c"
+            + "\u3c0f\u381e\u3db8\u07e1\u1fc0\u2552\u474d\u4b58\u259a\u1d65\u2c3f\u154c\u1433\u2583\u069f\u36fb"
+            + "\u0581\u36d4\u4ac9\u28cd\u1b25\u36b6\u2773\u0838\u06a1\u14d3\u1ffd\u183c\u074d\u0f75\u1220\u22b9"
+            + "\u2f35\u078c\u1db3\u2f7e\u4bc0\u2424\u2565\u4bbd\u28ea\u346d\u1644\u0dae\u2834\u4594\u07b8\u49e9"
+            + "\u1138\u44f1\u3819\u29f9\u2f37\u39fd\u3b2f\u34b7\u03ac\u2658\u447f\u3a54\u41b4\u2f17\u143a\u3813"
+            + "\u052f\u1149\u492a\u0e27\u1419\u09f1\u3afc\u28d6\u2391\u2ece\u1834\u2be4\u3693\u1fc2\u1928\u0d13"
+            + "\u0876\u0794\u2c49\u28ce\u2762\u293c\u39c3\u083b\u2419\u19e4\u1698\u0412\u0587\u0802\u423d\u3971"
+            + "\u1de7\u3a6f\u32d2\u1861\u04ea\u363c\u032b\u12b9\u2f16\u0c81\u4b80\u428b\u205d\u2692\u28e5\u2193"
+            + "\u21d2\u2a87\u097f\u0ce7\u1f90\u273f\u3d0f\u44bb\u1a49\u469b\u21b7\u45c9\u285c\u0340\u276f\u2e10"
+            + "\u19ec\u105b\u391f\u358d\u4c3e\u26fc\u2777\u3411\u3e27\u3f9f\u2aaf\u1e75\u3a91\u3551\u2793\u0669"
+            + "\u07df\u0645\u381b\u279c\u182a\u163e\u04cf\u26e5\u285a\u2779\u1a48\u4b74\u0d09\u06f3\u2214\u0351"
+            + "\u3a44\u25d2\u268d\u0789\u0697\u37f1\u3b12\u37ad\u0b92\u2728\u27b7\u33cb\u0d6a\u0aa0\u370d\u470f"
+            + "\u3de1\u065e\u2269\u04cb\u3af8\u2385\u0a0d\u247c\u29c5\u458a\u1936\u2983\u035e\u0382\u1903\u3a62"
+            + "\u37e7\u066b\u25db\u02fd\u42fd\u3850\u2741\u1ce7\u4302\u2626\u2016\u4780\u04d2\u3899\u3942\u0fc4"
+            + "\u26a1\u3645\u210b\u2f0f\u482c\u2869\u3979\u2775\u2cac\u2656\u062c\u1c79\u14b1\u142e\u2f07\u3d52"
+            + "\u062a\u2105\u3700\u437b\u19df\u21f1\u29f3\u3657\u23c8\u4839\u3953\u3703\u2870\u25ac\u20ab\u2866"
+            + "\u16f4\u34ae\u28b4\u041a\u3848\u1907\u377c\u3a96\u3bb0\u395e\u383b\u1460\u2cb5\u2de3\u3890\u0981"
+            + "\u25b1\u2218\u151d\u4984\u0416\u3d0b\u0828\u1429\u4c4e\u200c\u1847\u113b\u2536\u0660\u2585\u404d"
+            + "\u2080\u401d\u1841\u2209\u2022\u3a57\u0832\u0452\u2372\u47c1\u4b72\u3abb\u2f33\u2598\u1904\u2d2d"
+            + "\u2352\u2edd\u1053\u466b\u200f\u226f\u1ca4\u051e\u20a8\u263d\u2659\u28b1\u1b23\u0672\u3ad3\u3a34"
+            + "\u3838\u1fc3\u1aea\u19c5\u39c7\u371e\u34e5\u0c62\u26c3\u296d\u1af8\u056d\u204d\u16a0\u1cab\u3681"
+            + "\u376c\u0761\u03cd\u0664\u3373\u3940\u374c\u2839\u1538\u4758\u2945\u3952\u2f96\u2d67\u21e3\u25e9"
+            + "\u15ee\u071b\u2551\u37e1\u0707\u163b\u22a0\u2444\u4bc8\u11c1\u068f\u2dd6\u0cdc\u2639\u48f0\u067b"
+            + "\u2560\u1fed\u258a\u382e\u26b7\u449b\u0612\u29e3\u2439\u1ebf\u08b3\u29f6\u39bc\u282a\u25a1\u201f"
+            + "\u26c1\u0c71\u0681\u2f53\u17c6\u364a\u4b70\u2b37\u08e3\u2f68\u32a5\u1bbf\u258d\u0741\u4c3f\u3885"
+            + "\u2856\u4200\u3854\u41a7\u1594\u2743\u1ff4\u0977\u2175\u3738\u27bd\u259c\u2104\u391a\u291e\u47cb"
+            + "\u47a1\u0324\u0844\u37d8\u41f6\u2ccb\u447e\u0d71\u204b\u1fdf\u376a\u1fd0\u2ccd\u3910\u06b5\u466a"
+            + "\u266e\u37b8\u4bbc\u26a9\u2938\u3705\u2041\u0679\u0337\u163d\u08a7\u428e\u4a3f\u25e8\u1444\u2572"
+            + "\u1647\u3833\u0d0a\u0c01\u3802\u42ec\u21ef\u15cf\u075a\u342a\u0411\u2031\u07a8\u2965\u3a01\u384a"
+            + "\u2336\u1d75\u37c1\u0dab\u07f2\u03e5\u0807\u0db2\u227a\u09eb\u1fd4\u0e30\u0d92\u04c3\u268a\u067e"
+            + "\u2203\u0728\u27d9\u18b3\u3734\u4a98\u2fff\u156a\u1e74\u1862\u29d2\u070a\u0447\u25c9\u0405\u190c"
+            + "\u16f1\u2dae\u0634\u295a\u4476\u0421\u078f\u3a81\u25cd\u3baa\u1eb4\u11c5\u213d\u2bea\u4666\u0671"
+            + "\u28ba\u4868\u2376\u20f0\u2030\u0d0b\u2469\u186a\u2222\u0714\u07f9\u21f3\u209f\u1c35\u4cbb\u15f7"
+            + "\u1628\u2730\u270c\u48c8\u1133\u1542\u1b5a\u201d\u32b1\u2566\u243b\u2671\u1761\u47c4\u36a9\u2157"
+            + "\u12b4\u0e85\u2e24\u369f\u2f54\u4a3c\u225f\u0d04\u3ab2\u137a\u3791\u050c\u062e\u2a8e\u25d6\u071d"
+            + "\u37b4\u18f3\u3827\u2960\u2b1d\u3b16\u2725\u0bf1\u3b3c\u3a3f\u1fea\u20b7\u37e0\u465a\u0473\u221c"
+            + "\u4861\u39c0\u270d\u07b1\u32d4\u0743\u0b89\u0de4\u1fb3\u2792\u215c\u0db5\u28be\u2cec\u18c8\u238d"
+            + "\u09c3\u249a\u2420\u04d7\u38b5\u38ca\u409b\u082f\u2dc0\u0f8e\u25a9\u2007\u4b34\u3943\u2cd0\u34cc"
+            + "\u0874\u0729\u14c3\u2040\u0725\u1633\u3b5e\u27dc\u28ff\u0717\u300c\u4766\u2228\u3acc\u3891\u2bfa"
+            + "\u0885\u2783\u44eb\u06b4\u368d\u3790\u3b19\u07c9\u42d8\u1045\u1a1f\u0884\u3a31\u0858\u3a2a\u1568"
+            + "\u3821\u21c2\u084d\u17c7\u06e5\u25c1\u3928\u1c9b\u0ab5\u243d\u21d3\u08c8\u26d2\u44d5\u06ec\u17bd"
+            + "\u3ecd\u2909\u1586\u4114\u2a1f\u03cf\u03a9\u4288\u24ac\u3cfe\u033d\u0d89\u3a8c\u493f\u1ddc\u2666"
+            + "\u4a3a\u1eca\u45dc\u1487\u2a7e\u09d7\u28fe\u1821\u063c\u08c0\u06f8\u3a6a\u158c\u07d7\u3a0e\u3ad1"
+            + "\u078d\u190a\u330d\u2de9\u0be2\u28ed\u0a16\u0c4e\u037f\u14b3\u2021\u23c9\u20ad\u299d\u4a27\u3946"
+            + "\u0778\u28fb\u373b\u235e\u1c9a\u034b\u17bf\u08ca\u3673\u253f\u0989\u2627\u2be2\u0888\u2695\u257e"
+            + "\u3374\u3545\u24a0\u3f31\u2bf3\u1930\u1ebe\u377d\u080f\u3b21\u036b\u2c0f\u3bca\u3b0a\u1b1d\u0469"
+            + "\u23c2\u252a\u2f8a\u39f1\u1d0c\u0699\u1dc3\u241f\u03ad\u224d\u1ae6\u04ab\u2923\u3758\u2334\u3dbc"
+            + "\u130e\u44b7\u1acf\u396b\u0713\u29ee\u258e\u102b\u082c\u43a3\u03c4\u0616\u3993\u3cff\u3375\u2988"
+            + "\u3af4\u2808\u1908\u09f3\u284f\u3773\u0978\u461c\u29ed\u2944\u392b\u3ec7\u3b1d\u05f4\u1c5c\u3363"
+            + "\u28dc\u0770\u0797\u3737\u284d\u0ee4\u14cf\u1481\u1839\u4677\u48ee\u1cdf\u063d\u0ce9\u2a1d\u21ce"
+            + "\u364b\u298a\u357e\u27be\u2a77\u245d\u3b25\u3677\u079e\u2060\u0621\u364d\u2e1b\u2dc4\u1465\u08d6"
+            + "\u0968\u3aa9\u2576\u36b9\u2544\u0718\u0aaf\u3a45\u45cf\u214c\u23d5\u39da\u2c26\u15a0\u0304\u4bc1"
+            + "\u3b06\u2969\u2dec\u2ce1\u270b\u29d8\u2811\u237b\u38e0\u2bed\u03a5\u08aa\u06ba\u2c08\u0c54\u3ab4"
+            + "\u038e\u0712\u2a89\u3973\u4a26\u2ce7\u08b5\u0787\u27c5\u2532\u28cb\u3967\u2c48\u3580\u3a87\u2821"
+            + "\u3925\u206f\u2a2c\u4669\u0925\u400b\u4434\u0317\u3b62\u4590\u2f49\u1d16\u0327\u459b\u2202\u27fc"
+            + "\u42e1\u0c64\u45a0\u2ef8\u1742\u0953\u2383\u216d\u2052\u36db\u09c8\u496e\u437a\u1359\u2fc8\u4bbb"
+            + "\u2409\u0d01\u2a6d\u0618\u42fc\u1567\u2621\u2fd6\u27b5\u4624\u0d4c\u0b99\u3780\u0419\u0982\u391c"
+            + "\u059b\u05ff\u46b3\u254e\u2817\u3825\u2337\u3a92\u25c3\u2804\u2df8\u2ce5\u21e6\u1b09\u0bc7\u3014"
+            + "\u2220\u1c53\u29cb\u0831\u2358\u2cea\u45af\u046f\u1ba6\u04a2\u1560\u04f7\u17f6\u37a2\u0a76\u2378"
+            + "\u264e\u42ce\u06c5\u34ba\u3cfd\u4516\u4936\u2b17\u0403\u07ea\u42d2\u42ed\u4663\u39b7\u34ad\u069b"
+            + "\u2076\u0c61\u4b37\u074b\u4691\u3ecf\u4bae\u4772\u37a6\u0601\u4771\u28b5\u1fe1\u0f6b\u0534\u249e"
+            + "\u1925\u04e3\u1597\u0432\u2be1\u073c\u4882\u4258\u2bf2\u048c\u2200\u32be\u4a32\u41bb\u0e23\u0e7e"
+            + "\u097b\u266f\u447d\u1654\u1412\u1323\u3ed0\u3696\u48ef\u21a4\u2000\u3702\u279f\u2e7f\u0ced\u28e0"
+            + "\u26b2\u35be\u38af\u0990\u36ff\u3b69\u420a\u033e\u05fc\u0589\u0a8b\u401a\u2788\u4bd0\u4bf7\u23a1"
+            + "\u2ed9\u3dcf\u2110\u0fb1\u23ca\u0acc\u4564\u3a0f\u3ba9\u41c5\u0757\u3442\u2a83\u21f9\u28e9\u271d"
+            + "\u2fd0\u39c5\u277e\u0363\u1464\u052a\u0b82\u3e16\u2953\u3941\u175c\u0cca\u113f\u46a4\u3991\u1255"
+            + "\u0815\u292d\u2ecd\u1fc8\u2c41\u21d0\u1512\u032f\u3ba1\u4251\u0ad9\u3dcb\u4883\u2781\u044e\u04ce"
+            + "\u36b7\u32bc\u44c2\u145e\u2c22\u1e13\u4007\u37ac\u0b96\u038a\u08cc\u2f21\u2466\u4493\u265b\u2a8d"
+            + "\u3db6\u1756\u0d0d\u0673\u3b30\u402d\u0c24\u48df\u1757\u0436\u0310\u05d3\u3c98\u2709\u106b\u3447"
+            + "\u0c98\u26a4\u2ec1\u2a5a\u1e26\u113a\u2084\u1fe2\u43fb\u2853\u2a04\u40f1\u4acf\u04fe\u461d\u4770"
+            + "\u38dc\u1c97\u3aa7\u37d0\u063a\u3038\u0f86\u4316\u0883\u1fa8\u2e1e\u29f7\u3955\u3de3\u255d\u2153"
+            + "\u2940\u337a\u0a7c\u0e7a\u2ef5\u0ad6\u3040\u09fd\u3fdb\u37bb\u26f0\u0344\u1570\u2118\u3dcc\u27c4"
+            + "\u373e\u3300\u3a32\u09de\u2825\u36f2\u367c\u0882\u0ad4\u29b0\u25ca\u382d\u3b8e\u28b2\u2091\u273d"
+            + "\u1b35\u06c6\u054f\u162b\u07be\u1642\u1574\u34df\u08ba\u031f\u1fef\u380e\u388a\u0c05\u0c74\u262f"
+            + "\u2087\u0a97\u2280\u4542\u2dd8\u2f4c\u2256\u217c\u034f\u3ab1\u2276\u37f7\u08e0\u4790\u4825\u4b6d"
+            + "\u191f\u2864\u3719\u02fb\u2568\u163a\u09e8\u206d\u21b6\u28e2\u130f\u07c2\u42e7\u0822\u3ae4\u3913"
+            + "\u232d\u2156\u21fd\u3b71\u388e\u36b4\u2271\u23a8\u2ce6\u396e\u0428\u2364\u3f9e\u49aa\u0a24\u478a"
+            + "\u2f30\u34a3\u039d\u1d5b\u2a99\u041c\u3faf\u3788\u2ad5\u4655\u39ca\u4583\u0d5b\u15e3\u0c43\u24f8"
+            + "\u261f\u0477\u34a9\u1be5\u2852\u26c4\u29b5\u20ac\u41c8\u0579\u2653\u385d\u4689\u3bc1\u205b\u37c9"
+            + "\u1461\u2db7\u4792\u3736\u2908\u2174\u2771\u2911\u039a\u2aa0\u25a6\u2082\u2f5c\u0a54\u4621\u0b3b"
+            + "\u3dbb\u21dd\u443b\u03ba\u0614\u1552\u28c3\u0661\u0d51\u2137\u0a3c\u2426\u225c\u3368\u28e8\u2918"
+            + "\u1cde\u37e3\u3a4a\u1137\u0ca5\u42d1\u0f09\u1c09\u040d\u3388\u0a7f\u0d07\u1902\u3a51\u12b8\u076c"
+            + "\u26c8\u074f\u2684\u257b\u389b\u1a82\u37a5\u081b\u2f1d\u082a\u398b\u3c8c\u492e\u283c\u3ec6\u224c"
+            + "\u277b\u1fe4\u2a84\u14ca\u20ca\u0666\u254d\u379b\u0be3\u3a17\u140b\u3894\u2826\u266b\u35fa\u2a67"
+            + "\u3822\u2e74\u26ac\u1ca1\u1416\u1f36\u2824\u0c87\u2766\u4bca\u20f3\u3b23\u14f2\u3b27\u46bd\u05f5"
+            + "\u04d6\u2646\u0fa5\u386c\u4c3b\u2012\u32a7\u45ca\u3a7f\u25a2\u261a\u1865\u21d7\u1046\u25a0\u2135"
+            + "\u4831\u22a3\u081a\u2329\u1d71\u2dc2\u25e1\u3926\u2132\u1804\u2986\u0c30\u0949\u3b55\u212b\u275c"
+            + "\u257c\u183a\u458b\u3041\u1fbe\u051c\u28a2\u25b6\u279a\u159b\u1b1c\u45db\u2972\u0422\u343b\u2629"
+            + "\u4690\u2a9a\u0a4a\u2369\u21a6\u279b\u3844\u0849\u36bf\u08d4\u152d\u0539\u0e31\u41b3\u2ffe\u42f2"
+            + "\u37de\u39dd\u294a\u27db\u2be5\u3a22\u3ab6\u140d\u0a96\u3954\u19d9\u4599\u19e5\u4679\u2380\u275f"
+            + "\u396c\u2056\u2ab6\u0775\u29bd\u441e\u2a74\u43a8\u1df5\u0375\u0f99\u26be\u263a\u32a8\u34d9\u2290"
+            + "\u285d\u09a7\u1ef0\u21fa\u0d8d\u2144\u2c5a\u2901\u0cb3\u363e\u3b81\u0bd7\u283b\u0995\u0486\u2199"
+            + "\u2545\u3a86\u267b\u36e2\u1bab\u2a6f\u3f3c\u08f8\u2ae8\u36ec\u2c5e\u3805\u29eb\u0609\u04c8\u2206"
+            + "\u25ea\u3889\u2959\u4884\u2e79\u12f4\u275d\u042e\u3a71\u3a7c\u3a8d\u3fad\u3c78\u0341\u1eba\u2e9c"
+            + "\u34a5\u3660\u38e5\u2f20\u16ee\u3b14\u1855\u264f\u0b87\u153d\u14e4\u1478\u25f7\u054d\u4591\u034a"
+            + "\u28c4\u0568\u2fa3\u0ab6\u28f5\u140e\u2fcd\u4723\u20aa\u37bc\u117a\u0529\u180d\u43fe\u2194\u049c"
+            + "\u0820\u382f\u2c46\u28ad\u08c3\u1556\u42b4\u4bbf\u21ff\u096a\u0a98\u2efd\u354f\u3707\u05ea\u4c49"
+            + "\u227c\u3a90\u1832\u258f\u4312\u25a8\u43cf\u4803\u365e\u2782\u1061\u0da2\u39f0\u3b68\u255f\u2717"
+            + "\u371a\u41b2\u20bb\u3b0e\u39de\u3951\u4483\u22fa\u3811\u3b3a\u0fa3\u2a29\u3371\u2136\u4af1\u0dad"
+            + "\u2143\u3691\u4228\u14fc\u2aa7\u3a70\u287a\u0bfe\u0cdf\u2446\u2e8d\u0318\u42ca\u162e\u21b3\u26ae"
+            + "\u1829\u1ba5\u1828\u1ca2\u2e60\u2183\u4277\u02f7\u4015\u15ec\u2112\u3a7b\u41c0\u368c\u45e0\u22f8"
+            + "\u04a0\u449d\u1b95\u419c\u285b\u2e1d\u18b9\u37db\u2026\u3a95\u2723\u2531\u2f13\u0efb\u3acd\u3d2d"
+            + "\u07b5\u0760\u179c\u2995\u162d\u1fd7\u4584\u03ce\u3793\u0437\u4877\u48b2\u4610\u3a3a\u262c\u4c0c"
+            + "\u2827\u2155\u3af9\u2180\u18c5\u2e22\u34bb\u26fe\u2a52\u38d6\u226d\u04d1\u39f7\u0974\u3f3d\u2004"
+            + "\u2a20\u2450\u1d0d\u2f7b\u0a18\u1ac2\u45bb\u20dd\u26f7\u049f\u2361\u292c\u2332\u286b\u14e7\u166e"
+            + "\u2177\u1467\u3b2a\u3afd\u2685\u2683\u4bcb\u2e77\u1919\u0454\u0bb1\u079a\u46ed\u0bf8\u2ecc\u476c"
+            + "\u2130\u2191\u165f\u272f\u26cc\u04f3\u207d\u0880\u24c1\u16ae\u3897\u3ed6\u26ba\u4a5f\u2a73\u1fb7"
+            + "\u16ac\u208f\u0da7\u4756\u0a1c\u2ddc\u03e8\u08e4\u0551\u20b9\u07a7\u34da\u247d\u3ae7\u1ae2\u1bf5"
+            + "\u0aa2\u3376\u031d\u2e70\u2de6\u0fc9\u0c63\u3c99\u165a\u07ab\u2388\u3a68\u237d\u4b7b\u1b90\u2672"
+            + "\u1758\u03a8\u17bc\u379e\u2740\u21c3\u42f5\u3308\u2db8\u2381\u0baa\u061c\u0769\u217e\u29a6\u4a55"
+            + "\u0b8a\u2a63\u2921\u4519\u0c49\u3859\u1a0f\u38ae\u2971\u4c34\u3792\u044c\u15f5\u2581\u21e5\u3a6d"
+            + "\u10d9\u1067\u23ad\u366b\u2fa5\u3cb3\u458f\u033a\u2a50\u06e3\u2312\u34b4\u10fc\u1df8\u202e\u3664"
+            + "\u2847\u29d9\u3671\u2dd3\u3550\u158b\u2f8b\u23d2\u07ef\u45bc\u27a9\u38a8\u393d\u4b4f\u2555\u3b95"
+            + "\u08ad\u2f2c\u2833\u20d2\u336f\u2630\u0401\u2ba3\u2bc7\u4274\u1fb8\u4684\u48b9\u0c23\u282d\u20e2"
+            + "\u2716\u2151\u0860\u1f84\u0801\u2925\u2809\u382b\u42d9\u36df\u3769\u170d\u3937\u2611\u0fac\u452c"
+            + "\u39b2\u1635\u2073\u3a4d\u336d\u4373\u488a\u0b88\u2786\u1747\u4b7c\u157a\u2221\u0839\u2f4d\u211b"
+            + "\u19ca\u23aa\u1f87\u3927\u0659\u3689\u214d\u34a2\u14e9\u4592\u288c\u3c3e\u1363\u20be\u2be7\u2171"
+            + "\u269b\u04a7\u375b\u17c1\u2bef\u41a9\u05f6\u45ec\u3a4c\u3860\u3d4c\u37b2\u4bb1\u2ef0\u3384\u28d0"
+            + "\u2799\u0701\u437c\u36eb\u376b\u2f95\u261b\u10ef\u27ab\u0434\u2554\u46fc\u239b\u3990\u4ae6\u3d1d"
+            + "\u144e\u04c9\u2747\u0365\u459e\u2daf\u08cd\u0a08\u2f15\u3a88\u0bb3\u05d4\u1578\u06dc\u3764\u3920"
+            + "\u0faa\u2015\u065a\u3dd6\u3d3a\u2cab\u37b3\u36ea\u3ab0\u21b5\u246f\u2f1e\u0a34\u1468\u36ca\u363a"
+            + "\u3830\u469e\u3b11\u25b2\u2816\u0483\u46b9\u2f83\u22b6\u42d0\u243c\u23cf\u2632\u436d\u1ca3\u03be"
+            + "\u0fb3\u2cb3\u159a\u225d\u0afc\u220a\u27d0\u2e56\u0cfb\u4374\u06df\u22c9\u478e\u4688\u438b\u28bd"
+            + "\u38d0\u20d8\u32c4\u286c\u07f8\u2f00\u0e0b\u3ede\u36a7\u42aa\u451b\u29fe\u0746\u2586\u2688\u0cd6"
+            + "\u34a6\u2009\u2f0d\u1630\u284e\u07dc\u1b29\u3d17\u053a\u2cdc\u2822\u48e8\u2a6a\u4498\u2748\u486c"
+            + "\u388d\u02f6\u0ff6\u1fc5\u45e4\u22c0\u2f55\u4a2d\u47d1\u2726\u0790\u400e\u20df\u33dd\u3b7a\u045f"
+            + "\u1aec\u4978\u455d\u32ad\u45ff\u3806\u44bd\u44b6\u4645\u2258\u3b8f\u0862\u300a\u36aa\u295b\u3dca"
+            + "\u2f89\u2af8\u4750\u0cda\u4753\u0a83\u4b3a\u0baf\u27b2\u2faa\u113c\u1650\u22b8\u15e8\u1662\u216b"
+            + "\u4873\u2533\u07fe\u34af\u2e85\u20ff\u1843\u2a38\u26da\u3756\u078b\u1100\u09bc\u09ac\u1b9f\u3fac"
+            + "\u2085\u0aa8\u126c\u1636\u2090\u3afe\u21fb\u3647\u1415\u2274\u0cf2\u09e6\u2ed5\u287d\u368f\u0442"
+            + "\u03d1\u2fc0\u23c7\u210e\u211a\u3784\u3a09\u480d\u26f1\u0cfe\u2303\u3972\u3b86\u37c5\u4935\u3437"
+            + "\u36b0\u1f79\u3870\u0850\u2051\u25ce\u0a9f\u15e9\u284b\u2623\u255b\u22a9\u37a4\u2522\u4a37\u2794"
+            + "\u2d73\u2987\u3b44\u2540\u2185\u183e\u45c1\u280e\u035c\u1ff0\u23da\u1445\u06be\u1ad6\u4bc3\u4919"
+            + "\u3a2f\u245b\u2ee6\u2e69\u03fe\u32c3\u19ce\u27d5\u0acd\u2ed8\u07e7\u205a\u1e21\u0873\u1fec\u0e08"
+            + "\u0464\u0bfc\u4310\u032c\u0619\u0404\u09d0\u050a\u265e\u3818\u3582\u19e6\u3e99\u32ab\u09d9\u496f"
+            + "\u3d16\u4687\u466c\u39d7\u1baa\u1d76\u0a10\u295c\u29f5\u2815\u212c\u2951\u055b\u2456\u0c2f\u4800"
+            + "\u0869\u04af\u3d13\u0c7b\u29d4\u07c5\u45e7\u0779\u3537\u3c3a\u2cb6\u4c39\u394b\u0455\u482b\u28d5"
+            + "\u34be\u4320\u47f7\u09a4\u4b5c\u0c69\u21f8\u287f\u0f6d\u41d1\u3713\u0abc\u217d\u06f5\u3814\u4675"
+            + "\u36a1\u2bee\u279e\u2f92\u3b73\u1ca6\u059e\u3dc2\u15e2\u1ad3\u06cd\u0868\u2f88\u4ad9\u084a\u2036"
+            + "\u38dd\u272c\u4650\u0b97\u0a73\u0772\u15cc\u04ff\u20b0\u0d02\u28e7\u1f85\u0323\u07eb\u0559\u2736"
+            + "\u2541\u1310\u220e\u0a79\u25d8\u4622\u134f\u39cb\u06ef\u3fd9\u05e4\u2f38\u36ac\u26c5\u2634\u3931"
+            + "\u3dc7\u3b64\u204a\u4387\u1711\u29d1\u0c2d\u2261\u2170\u45f8\u3771\u20f4\u290c\u280b\u1f95\u460d"
+            + "\u0ba7\u1ada\u076b\u3b54\u0cce\u21eb\u36fd\u07a1\u45a5\u2f87\u1fba\u0f72\u2674\u3c04\u3d86\u3aee"
+            + "\u0fba\u36d0\u042f\u07f7\u2cd4\u1fc4\u3d2f\u2db3\u1909\u475f\u4b41\u2657\u22f7\u14da\u08ff\u4213"
+            + "\u397d\u3575\u2def\u2165\u2806\u141f\u2277\u05cf\u3306\u1051\u3669\u26d5\u41bf\u40eb\u0cf5\u05f7"
+            + "\u150a\u03d8\u358c\u08c4\u21de\u4a31\u3dea\u102e\u1585\u2057\u1a12\u1944\u1f88\u0bf7\u14f7\u464b"
+            + "\u02fa\u0584\u22bf\u4216\u40d1\u08be\u048e\u3581\u3cf7\u0fc6\u4bc2\u0f6f\u1087\u3a59\u20f7\u38cd"
+            + "\u16fc\u32ea\u1fe6\u1674\u2665\u2756\u2765\u37d4\u465d\u4315\u1362\u2327\u1af0\u0319\u291d\u3a10"
+            + "\u2cc7\u466f\u2c19\u25f5\u409f\u2ed6\u0566\u0878\u0692\u1e2b\u104f\u3b7f\u0a21\u0649\u3b6f\u048f"
+            + "\u201b\u42c1\u225e\u4bc5\u20ee\u04ec\u0fb5\u1b01\u102a\u1427\u219d\u1ddb\u087d\u21ed\u03a3\u4cc9"
+            + "\u14c0\u4b35\u3ec2\u2b24\u2669\u0c7c\u1d83\u431d\u381f\u0a93\u2dbb\u2320\u1a50\u0c39\u0c5d\u0b57"
+            + "\u1432\u3fdf\u0a42\u38d7\u0fbf\u096b\u07b6\u1d15\u1466\u1b99\u3d33\u1a0e\u2169\u2fcb\u260b\u1661"
+            + "\u45cd\u4665\u2a21\u28df\u4637\u0494\u1094\u3a1e\u3962\u0506\u3a84\u265c\u09c7\u3b84\u1c99\u046c"
+            + "\u26a5\u2399\u23d8\u475d\u14e5\u0678\u260c\u335e\u47cd\u07b4\u1dec\u07a5\u1ec0\u07fa\u0b0c\u2229"
+            + "\u16a1\u2e97\u0fbd\u0738\u3b39\u20d7\u0511\u4430\u25bf\u2e7d\u3006\u2138\u243a\u1fc7\u2477\u20d0"
+            + "\u06a9\u2a8a\u2a71\u0a06\u07aa\u0471\u4892\u4af9\u2823\u09cc\u1140\u06b2\u2729\u0461\u157e\u0a25"
+            + "\u4837\u08b2\u2e0b\u2600\u04f8\u03a7\u083e\u27fe\u2805\u1591\u37c7\u4ad4\u0d81\u41a0\u1876\u1f8b"
+            + "\u05ec\u273e\u1469\u2cc8\u25bb\u23d7\u4a4c\u0409\u21b1\u3672\u0dd2\u37c6\u04eb\u2667\u0767\u2a0c"
+            + "\u041e\u155c\u0cf3\u3a4e\u4522\u2763\u2fd8\u0c65\u2594\u0cf4\u05f8\u3995\u2357\u468a\u0730\u4cb4"
+            + "\u2ec0\u1f81\u2625\u209b\u20e7\u32ba\u087a\u3592\u16ef\u3aa1\u2e6f\u08b4\u09b6\u46c8\u237e\u4769"
+            + "\u0596\u4976\u2346\u2749\u27dd\u244f\u1f1e\u14ad\u3a7d\u3718\u1adf\u3eda\u28b0\u2fa6\u3304\u2fcc"
+            + "\u2db4\u03b2\u39c9\u1ffc\u3b98\u3b4a\u1857\u37f8\u15d9\u075e\u2a0a\u44c5\u257d\u2de2\u274f\u0641"
+            + "\u270f\u3abe\u20e1\u0528\u1410\u162f\u0997\u2ec8\u070d\u4597\u0bf4\u070e\u39d4\u2129\u1f7d\u0f4c"
+            + "\u2810\u3a61\u20eb\u3680\u22a5\u420f\u37bd\u3acb\u04d9\u2123\u39fc\u3aef\u0c76\u41cc\u41a8\u2088"
+            + "\u20fb\u4614\u0d94\u45f4\u461b\u2942\u1b4b\u0650\u2fe0\u0425\u371f\u2efc\u2270\u4619\u219c\u0458"
+            + "\u2356\u1266\u0a2a\u06fe\u431f\u218e\u21ba\u2e20\u1c45\u0830\u0ac3\u0a72\u0524\u14f9\u4924\u1ab9"
+            + "\u33ca\u34b1\u04d4\u2609\u2f3c\u1de5\u2f81\u3af6\u46b8\u0c6f\u4966\u43b8\u20cb\u1918\u146d\u34d3"
+            + "\u26d3\u2680\u3807\u142a\u0d95\u4668\u378e\u39c8\u36b2\u3768\u2ee3\u382a\u32d5\u4ac8\u4a3e\u26dd"
+            + "\u242c\u3684\u04f2\u1037\u1ab2\u22fe\u2f1f\u3b33\u18fc\u1ff1\u3d3b\u4979\u401e\u25de\u0407\u364e"
+            + "\u214f\u18d1\u1750\u0749\u4b6e\u1f72\u0d9d\u0cc6\u0750\u3a9a\u48e3\u1ba0\u232b\u1a7b\u2bf6\u3b7d"
+            + "\u2831\u2e9d\u4a9f\u1598\u0ec9\u4b75\u39b5\u0d93\u0fe6\u0a7e\u45be\u0700\u4a2b\u0c66\u304b\u2db2"
+            + "\u2c1d\u25e4\u29b7\u062f\u15dd\u2872\u2079\u22be\u033b\u0784\u45fd\u22eb\u3aaa\u0e2e\u36a8\u3afa"
+            + "\u2e90\u4bc9\u0806\u0f8a\u0a44\u08b8\u3747\u3698\u07fd\u367d\u1413\u229c\u44ab\u05db\u4322\u253c"
+            + "\u39cd\u1527\u282b\u4393\u427f\u1fa1\u290e\u41f2\u20bd\u06ca\u380f\u12af\u3f39\u35bb\u0825\u2c9e"
+            + "\u103a\u2610\u3829\u0db7\u461a\u2976\u46a3\u2a82\u3974\u3961\u2275\u0626\u2e19\u423e\u41b1\u43cc"
+            + "\u0fcc\u2a11\u41a2\u0ad8\u398f\u0c75\u04fc\u28c1\u4535\u2857\u47cc\u3b89\u0881\u0bb8\u236e\u44b5"
+            + "\u2752\u0799\u2715\u1db0\u2642\u060a\u3809\u1036\u293f\u3b85\u286f\u1873\u4485\u0818\u45b5\u2591"
+            + "\u4a30\u1f9f\u47ef\u454d\u36b8\u22c6\u38ef\u293e\u14fa\u2ce8\u3ae6\u1ff9\u1bb6\u04f6\u2fa0\u45c4"
+            + "\u3b6d\u37b1\u1f8e\u2a22\u20e3\u1ec8\u483e\u08b6\u08d0\u09d4\u40bd\u280a\u0309\u4652\u06e8\u0635"
+            + "\u1262\u395a\u224e\u2ceb\u2cef\u3a75\u45fc\u219b\u32ca\u48cf\u055c\u0afd\u27a0\u45d1\u3ab5\u2323"
+            + "\u04e8\u1b83\u04df\u1414\u1158\u2648\u1db8\u041b\u4834\u3b5f\u1536\u141b\u1fc6\u1fbc\u3593\u38c9"
+            + "\u3804\u2849\u340d\u32cb\u25f1\u24ae\u1917\u3404\u210a\u1627\u2526\u34e9\u3ad6\u0c52\u2e27\u143d"
+            + "\u0cf7\u47ce\u2124\u3878\u2e98\u0321\u07cf\u3bb1\u213a\u2997\u4308\u1b0e\u4018\u2835\u42d5\u0b86"
+            + "\u38d1\u278f\u26fa\u0c80\u0684\u29f8\u2339\u3701\u0a22\u3963\u2314\u2b10\u2071\u1cbf\u0636\u460b"
+            + "\u2850\u165e\u25e6\u09db\u3a49\u0967\u0f89\u3a83\u230d\u2fb4\u3d55\u1bd5\u47bd\u113d\u0755\u03a4"
+            + "\u28e6\u0648\u2878\u2096\u0cc9\u096d\u20ce\u2874\u3b7e\u3db4\u2f94\u27aa\u147c\u0450\u03db\u2282"
+            + "\u358e\u43a1\u05a4\u03b3\u32ac\u0417\u0527\u0a5a\u0d24\u37ae\u04e2\u3716\u03dd\u0931\u28af\u21b2"
+            + "\u2708\u0a19\u034e\u3305\u0498\u33d2\u42ac\u3724\u2a98\u3056\u071a\u078a\u1fad\u0482\u3365\u088a"
+            + "\u0842\u3a50\u3478\u1d7c\u1dd1\u3bbc\u16f8\u2e54\u389c\u045b\u141e\u4c03\u3a99\u149c\u135f\u363d"
+            + "\u1d42\u2577\u468d\u042b\u2f36\u20fc\u3872\u075d\u0d0f\u27cf\u37f4\u3531\u3db5\u2ef1\u2a18\u2b68"
+            + "\u158f\u1a75\u25f4\u217b\u39c1\u47fe\u0a2e\u06c7\u42da\u291a\u21cf\u03fa\u4969\u2268\u261e\u046b"
+            + "\u2c7b\u45b9\u21cb\u26ed\u0465\u392f\u4923\u2de8\u33d5\u0d7f\u26f6\u2f82\u40b3\u20e6\u448a\u2f85"
+            + "\u058c\u206e\u1a11\u305c\u0c58\u07a6\u2e75\u48b0\u06d7\u0a0c\u2f12\u23ea\u06c1\u4309\u3dba\u21be"
+            + "\u4375\u260f\u2c72\u1ff8\u21ec\u1add\u2f22\u3500\u2879\u2478\u27d8\u0872\u2093\u0a17\u1350\u21cd"
+            + "\u357f\u4b6f\u155b\u25bd\u0514\u21af\u08d8\u290b\u2758\u0651\u03f0\u34c3\u22cc\u260d\u4381\u3ffd"
+            + "\u0fce\u18c3\u3b8d\u054e\u2780\u1840\u21c4\u1bbe\u3644\u0b95\u0b94\u37a1\u06da\u204c\u486e\u489b"
+            + "\u36ae\u1bd4\u3815\u236a\u4618\u212a\u3c43\u44bf\u29b4\u2dfd\u2712\u37ab\u2311\u32f4\u41b7\u2362"
+            + "\u4899\u2711\u0913\u0493\u184b\u4617\u08ec\u201a\u39b4\u300f\u3893\u1d0f\u49b0\u04d0\u0803\u25c7"
+            + "\u2818\u41aa\u082e\u3992\u2dad\u2a8c\u1afa\u4643\u45b1\u0f78\u22f6\u4678\u09c0\u058e\u2727\u1fa6"
+            + "\u03a1\u0f90\u2c21\u3aad\u06eb\u2491\u1aa2\u2259\u3d12\u162c\u3c42\u46dc\u2020\u292f\u09c2\u3864"
+            + "\u0f9e\u2900\u2c2a\u467d\u39df\u4a2e\u2fda\u056e\u077c\u1631\u281d\u2467\u0c25\u0a07\u3936\u467b"
+            + "\u0c73\u0acb\u0cc8\u3d1e\u29a1\u1b60\u44c0\u07c0\u378c\u21f2\u1bae\u0cec\u3863\u1ba7\u41bd\u3a8b"
+            + "\u1595\u3aba\u073a\u08bc\u1feb\u3a72\u26e8\u2884\u22a1\u217f\u4c37\u2f3b\u3b18\u2861\u2bfc\u0449"
+            + "\u3803\u3817\u1fa0\u0600\u482f\u48da\u1549\u0d63\u3846\u28cf\u3796\u25b8\u093a\u092e\u1f86\u220c"
+            + "\u25af\u1f97\u22a7\u0886\u4278\u1bd0\u21b9\u26b4\u26a2\u06d6\u238f\u39a5\u0a38\u32e9\u0f96\u2192"
+            + "\u0687\u237c\u164e\u283e\u4017\u0a31\u2035\u448c\u2535\u2e59\u22f1\u49e6\u3d28\u0783\u060d\u336b"
+            + "\u2efb\u058d\u2714\u37cd\u20b6\u278e\u0441\u2368\u2a1c\u4751\u2a27\u271b\u39bf\u082b\u47fb\u045d"
+            + "\u3640\u1572\u08d7\u07ca\u2c33\u0662\u297c\u0780\u1049\u2b2e\u0861\u3678\u3a5d\u2ee9\u49af\u3aed"
+            + "\u297b\u2f7a\u42eb\u0d08\u21bf\u34e6\u17cf\u08a9\u0c53\u1634\u1bc2\u2a91\u2f31\u0ab4\u0446\u04b2"
+            + "\u0cd2\u45e6\u0308\u256f\u4372\u2f4b\u035d\u2841\u3ba0\u0d8f\u1b2b\u104a\u2187\u0332\u489f\u2668"
+            + "\u046a\u475c\u247f\u22c1\u07c6\u2647\u376d\u4327\u182e\u2745\u0970\u2dd2\u371c\u0d76\u2f9f\u1afb"
+            + "\u28ee\u37a7\u27cc\u228a\u1cbb\u49ce\u37ef\u0763\u3bba\u1866\u14f3\u0342\u1d06\u1fdb\u0721\u4c33"
+            + "\u39d1\u397e\u2188\u04c1\u08ae\u3ae0\u2325\u25b5\u0866\u25c8\u154a\u2fc9\u36f0\u0748\u06a3\u389d"
+            + "\u1a22\u206c\u0a89\u26d6\u237a\u20e9\u0810\u2795\u0756\u07c1\u1bd3\u281e\u25e3\u16f6\u145d\u094b"
+            + "\u37c2\u45f6\u3981\u3639\u20c1\u0b90\u3688\u21d8\u0499\u213c\u4815\u4595\u0380\u4016\u21a2\u03e4"
+            + "\u0500\u2c2b\u1ff2\u25ec\u38ec\u0bf2\u17c9\u4a54\u059c\u2ab5\u26c6\u2e7a\u290a\u0965\u3763\u26ee"
+            + "\u3e9e\u2cc1\u257f\u2767\u2981\u256b\u29b6\u0983\u0620\u460e\u3b01\u1869\u34b9\u2f24\u058a\u2ecb"
+            + "\u2134\u2108\u3b8a\u158a\u0390\u17df\u1263\u0e09\u043f\u0d90\u186c\u3bbe\u2ee0\u4204\u25c4\u0bf0"
+            + "\u2564\u0630\u2094\u4245\u2881\u26de\u3fde\u28c7\u3db7\u0691\u3a4b\u3412\u451c\u2978\u3652\u0642"
+            + "\u0926\u487e\u1db6\u0320\u06c3\u3aa3\u3608\u2147\u45df\u3978\u4b82\u26a8\u20db\u06b7\u08ac\u3a98"
+            + "\u0abb\u4b43\u2651\u2160\u2524\u3a12\u02f5\u42fb\u26e3\u0c38\u0736\u2441\u4760\u45e5\u185e\u0502"
+            + "\u1694\u22a6\u21f5\u06f1\u2128\u2929\u0497\u3d3e\u3b5b\u0c77\u373c\u1fbd\u296a\u2395\u384e\u28bf"
+            + "\u085a\u1300\u048d\u14b7\u419d\u0583\u354e\u296c\u483a\u1916\u34db\u0359\u1620\u269f\u494b\u16f2"
+            + "\u3aab\u2843\u23bd\u1bca\u1e00\u3ab8\u4b3e\u2e91\u087c\u07a3\u16ed\u4a80\u14ee\u397f\u1eb5\u0905"
+            + "\u2db0\u0418\u2223\u4887\u37b7\u049e\u2dba\u0333\u1d03\u203f\u2f06\u1713\u07de\u36f7\u294e\u2a97"
+            + "\u266c\u2322\u142b\u49c5\u3778\u1bb4\u0d12\u0d88\u09c6\u0492\u3af3\u2fd7\u1575\u0ee8\u055a\u20b1"
+            + "\u1f70\u05d7\u25fa\u3b41\u3aff\u38e9\u3787\u29de\u0329\u3944\u3b70\u0f28\u16f9\u274b\u2011\u1f9d"
+            + "\u2947\u07af\u269d\u120f\u4647\u2cf3\u297d\u400d\u228d\u2681\u0de3\u368e\u2413\u0d99\u0bb0\u0c5f"
+            + "\u4752\u2927\u26df\u35e1\u1fd8\u2fdc\u32a6\u07f5\u21b4\u38de\u1838\u0386\u2c80\u20da\u23c0\u2dcb"
+            + "\u205e\u1144\u1f91\u0841\u211c\u266d\u0f67\u3a85\u207a\u1eda\u32a1\u2deb\u3947\u28ae\u2305\u3849"
+            + "\u32b6\u2744\u356b\u0c5a\u2538\u2f8d\u1f93\u0cff\u36a4\u3950\u24a5\u227b\u3c8f\u2f84\u0847\u03d5"
+            + "\u0742\u0429\u2a0f\u43c4\u0731\u2820\u45d4\u3ab3\u4b78\u3914\u10e1\u461e\u3c8b\u453f\u379a\u0638"
+            + "\u2961\u2cc6\u17c5\u2690\u4c2b\u29e5\u41a6\u20f8\u044a\u069e\u28e3\u2038\u1fff\u23a2\u065b\u291f"
+            + "\u0751\u2616\u2963\u3dfe\u29e2\u263e\u02ff\u2e89\u43b7\u2832\u06d8\u3c67\u09a6\u0676\u2768\u0bef"
+            + "\u1f76\u393a\u3ace\u21aa\u224a\u184a\u20a4\u0ae4\u3757\u0889\u2127\u252b\u0f71\u0d10\u3799\u26aa"
+            + "\u3ae1\u2fa8\u26e2\u42e5\u29dc\u06e4\u264c\u29ff\u4bd2\u3a7e\u2618\u22ca\u4219\u0836\u0856\u0a35"
+            + "\u0c78\u0e15\u3fa7\u1673\u4395\u3aec\u2a86\u404f\u0605\u036c\u0aac\u1463\u0bae\u3b53\u0792\u4586"
+            + "\u370b\u254b\u0da9\u3df1\u0813\u224f\u20ec\u32d7\u0604\u2ee5\u2a25\u283a\u05f0\u143e\u2905\u2854"
+            + "\u2974\u0821\u256a\u27b8\u232e\u1563\u1443\u39ee\u2aff\u0c6a\u2c3a\u4926\u27d3\u29e7\u05fb\u29b8"
+            + "\u0505\u084c\u1cb9\u1905\u486f\u2131\u45f1\u16fb\u15bb\u049d\u0cd5\u0d67\u3e11\u20ef\u09cd\u272a"
+            + "\u1490\u3d09\u1ae0\u1b12\u3b51\u051b\u4a38\u07ae\u20a6\u0431\u14f6\u365a\u1fbb\u3668\u42cb\u2186"
+            + "\u0f8d\u03d7\u4367\u3880\u158d\u41c9\u2190\u19fe\u0657\u39b3\u085d\u3777\u28da\u2759\u2fa1\u23a7"
+            + "\u3b08\u0a82\u1fb9\u18c2\u1c9d\u1a20\u200d\u366e\u4306\u4940\u0643\u2952\u39d9\u4676\u07db\u2c2d"
+            + "\u083d\u1bad\u2954\u1699\u4b6c\u04b8\u19f3\u393c\u2537\u3d1f\u4a2c\u3a41\u2ede\u1482\u0d59\u1ca8"
+            + "\u25f9\u38b0\u077e\u379c\u26ca\u378a\u07b2\u1b8c\u0aa5\u0362\u41ef\u4964\u3c40\u0744\u497f\u156d"
+            + "\u1bb7\u37c4\u2b6e\u2df1\u03d6\u26d7\u3d48\u4371\u3912\u04ed\u39fb\u2fa4\u0522\u203a\u4693\u14b8"
+            + "\u3fe4\u44ef\u447c\u43b2\u254c\u0aae\u4662\u38f2\u49ee\u1421\u4317\u0d6d\u140f\u26cb\u1ad5\u0ce8"
+            + "\u458c\u221f\u4389\u09f6\u239c\u3588\u46d9\u1fd1\u26b8\u207b\u0f07\u3fa0\u0521\u0d82\u062b\u37ee"
+            + "\u1b0f\u269e\u3892\u2a58\u2578\u374a\u0611\u3ec8\u366a\u1ec3\u3d4b\u37a8\u0a1d\u130b\u03e0\u4a2a"
+            + "\u2553\u0c67\u03aa\u469f\u2754\u2126\u05eb\u063e\u0705\u16ec\u216a\u073d\u0ee0\u497a\u2cb0\u0398"
+            + "\u26bd\u4481\u1446\u0739\u23cb\u2299\u2421\u07ba\u22bb\u2e2a\u3a56\u0900\u292b\u2e95\u26ce\u24ad"
+            + "\u1fcb\u488e\u1d8d\u0c45\u0475\u371b\u475a\u48be\u1835\u4497\u0c89\u3f30\u1871\u262d\u09da\u0808"
+            + "\u033c\u17a9\u205c\u34dd\u42db\u08e9\u2877\u239a\u1fd9\u075c\u14ef\u2895\u2863\u3361\u221a\u1143"
+            + "\u3aa5\u37a3\u33ce\u0a2d\u3fda\u164b\u0a1a\u29f4\u0bfb\u4006\u086d\u28a4\u24dd\u2612\u3a9f\u2c45"
+            + "\u465e\u29f2\u16eb\u2a2b\u2377\u06a4\u09ce\u2440\u2dc9\u0cd8\u4478\u3b31\u2a3d\u0827\u031e\u4683"
+            + "\u49ac\u3fe3\u17f9\u1f9c\u05ef\u10af\u23bb\u4b47\u0faf\u4207\u386f\u20ba\u0445\u3a94\u1b22\u037a"
+            + "\u0a8e\u0a53\u4b89\u218d\u20f9\u18cb\u3dc9\u043b\u1384\u1f6f\u2265\u1adc\u2487\u2133\u0540\u2e2f"
+            + "\u28c5\u1651\u2ab1\u0a3a\u03b0\u087b\u2650\u265a\u0a88\u210c\u1911\u48a2\u1b48\u392d\u2092\u09d3"
+            + "\u2367\u2250\u061d\u07e2\u0fa9\u1caa\u3935\u1577\u051a\u374b\u1db2\u29cf\u1355\u22a4\u2c43\u0f73"
+            + "\u0b54\u05ab\u263b\u1607\u071e\u0b9f\u0518\u1bc6\u0906\u0a87\u437e\u284c\u218c\u18d5\u16e9\u3a19"
+            + "\u0bac\u0c9f\u1f77\u3303\u21d9\u0864\u2622\u3414\u1bd7\u44e6\u34b8\u4482\u065d\u3482\u3ed3\u2e8f"
+            + "\u401f\u21a9\u2720\u4b0b\u06b1\u36dd\u3a7a\u092b\u04db\u1640\u43c8\u36ab\u1ade\u4ba2\u2f11\u061a"
+            + "\u1646\u0ac5\u1de2\u37a0\u1299\u064f\u261d\u2dc5\u2a05\u0c51\u42d6\u2bf8\u06cc\u41ae\u28a3\u06f9"
+            + "\u17ca\u3584\u06aa\u3ba7\u082d\u1f73\u2aa5\u04a3\u203e\u3649\u4a63\u0a37\u2331\u25c5\u1c2c\u254a"
+            + "\u3b1e\u0a90\u030b\u35f3\u183b\u372a\u44a7\u06ea\u3b47\u0d05\u42e0\u2570\u08a8\u124a\u0f44\u3770"
+            + "\u0706\u212e\u060c\u0a7d\u219e\u114b\u3dc5\u48aa\u203d\u2065\u16b6\u1b2a\u2a96\u28a5\u336e\u3adf"
+            + "\u3a15\u4215\u427d\u278c\u419f\u04dc\u1555\u0b83\u2a64\u065c\u34e3\u229f\u280c\u26ec\u2392\u3b32"
+            + "\u400f\u3ae8\u2933\u05a1\u32de\u4971\u055f\u0745\u04e5\u06b8\u3366\u121b\u055d\u2111\u0508\u3a48"
+            + "\u3bb3\u32b0\u3f77\u283d\u24a1\u340a\u4944\u2eba\u2dbe\u2868\u0538\u28bc\u36b3\u08e1\u2a93\u26f3"
+            + "\u1f7a\u0c6d\u38c7\u2fc3\u09ef\u2722\u0823\u43c2\u3af0\u090a\u4bd1\u372e\u072e\u45ba\u2fca\u3436"
+            + "\u365f\u3a69\u36a5\u43ce\u1d3c\u39fe\u34a8\u29f0\u2784\u28a7\u3457\u0688\u040e\u29c2\u2640\u41c6"
+            + "\u2283\u45f0\u370f\u28bb\u1fa9\u37d9\u3980\u3e3b\u3895\u0686\u214e\u3a67\u34a7\u2d0d\u0fc3\u04f1"
+            + "\u2043\u485b\u4af0\u3820\u2949\u1ae4\u3b24\u1073\u1fcc\u2eeb\u2c36\u1fe7\u4a39\u0384\u1587\u0b8c"
+            + "\u15c3\u43ee\u150b\u076d\u36ef\u1c19\u2f7d\u4801\u0356\u2054\u04c7\u2cfb\u469c\u0430\u20b4\u2e05"
+            + "\u2f03\u36f8\u1870\u3a29\u040a\u0316\u2ec9\u07f4\u2956\u2937\u0966\u0720\u32ae\u3a9b\u3782\u37cc"
+            + "\u0ce3\u2cf7\u44dd\u1851\u0608\u07bc\u4296\u1f9b\u2a2f\u1141\u2024\u147d\u23b3\u2790\u3654\u2931"
+            + "\u0617\u2962\u22a8\u0973\u4765\u2819\u2de5\u0c29\u3861\u4544\u0785\u3d61\u1a89\u2ccc\u14b0\u480a"
+            + "\u06f7\u0315\u147e\u4714\u0d53\u3b63\u400a\u4865\u08b7\u0423\u20a5\u09fe\u367f\u4997\u3459\u375c"
+            + "\u1024\u2253\u0554\u4681\u2fbd\u211d\u0c4b\u2829\u2a78\u1dfe\u04a1\u2638\u2107\u0655\u121d\u437d"
+            + "\u276e\u07d4\u2032\u2ced\u3765\u474e\u0909\u20a3\u380a\u25ab\u07b9\u43be\u268b\u41a3\u2432\u2c2f"
+            + "\u0752\u1ae7\u0867\u4945\u0d56\u35ba\u293a\u36bb\u2735\u2855\u3ffa\u1479\u3ed4\u0a2f\u3789\u2699"
+            + "\u201c\u2cb1\u06bd\u4030\u0db0\u135b\u2719\u25cc\u45d0\u375e\u06c2\u295d\u1f99\u4895\u2608\u04ee"
+            + "\u4685\u06d4\u1aee\u2a94\u3675\u45d9\u2141\u0325\u3b5a\u4835\u12ff\u2a8b\u1fe0\u2b77\u2c38\u0b84"
+            + "\u3ece\u0f7f\u06bf\u08c5\u0311\u4370\u437f\u3965\u3dc1\u460a\u42e3\u2b89\u274d\u1146\u0791\u154f"
+            + "\u3658\u215d\u1ec1\u2310\u1849\u2673\u1bd6\u1bc8\u4761\u2fc5\u042d\u0bfd\u3831\u2451\u28f0\u168f"
+            + "\u2fad\u2c1f\u2dea\u08d5\u4b97\u2a4d\u091d\u4620\u2543\u26fb\u2575\u267a\u42bd\u0689\u063b\u064a"
+            + "\u3692\u21da\u0c48\u2197\u25f6\u0ab7\u23e1\u2e33\u1fd6\u37bf\u0a9a\u0693\u0bf6\u383d\u2527\u1860"
+            + "\u3740\u098e\u1c98\u17d3\u0fcd\u106e\u3739\u32c8\u2aa9\u1035\u0863\u3682\u0ac1\u39d0\u41ba\u3b36"
+            + "\u369b\u0caf\u1fd3\u1c96\u1fae\u36f6\u0383\u0e14\u49b5\u0491\u459f\u2701\u3af1\u1052\u0622\u4773"
+            + "\u217a\u18c6\u0ac0\u294b\u3720\u4980\u3c18\u17d2\u3774\u2e51\u22cb\u2afc\u23c6\u2c10\u33b0\u369a"
+            + "\u20f5\u48fb\u0ba9\u3836\u2dcf\u42f1\u0735\u078e\u19db\u3728\u2fbe\u4893\u05da\u3561\u2319\u2472"
+            + "\u0460\u1ed0\u2528\u25fe\u32c9\u378f\u2631\u432b\u28eb\u0553\u1696\u067d\u0920\u0c4a\u08d2\u04c4"
+            + "\u0871\u05f1\u2582\u27ff\u39a8\u32b3\u3dbf\u0563\u1ffa\u289d\u21a8\u19d8\u2473\u4a2f\u3b0d\u2066"
+            + "\u2617\u25fc\u0354\u0ea0\u2264\u2e72\u3b00\u23af\u0ddc\u32f2\u225a\u4b48\u03e3\u202d\u1b5c\u14e3"
+            + "\u20b5\u2207\u0715\u4593\u2750\u2069\u17c2\u424b\u46d7\u46fd\u049b\u27fb\u0fcf\u2f4f\u2521\u0837"
+            + "\u12be\u36e5\u200a\u2068\u068d\u2a88\u1bb0\u0865\u2393\u15ea\u1cb5\u4686\u1145\u3726\u3aaf\u0cfa"
+            + "\u2e8a\u48a3\u3474\u3b3d\u286a\u3984\u487c\u291b\u0da3\u077a\u2746\u26bf\u26c7\u0daa\u47ca\u38b8"
+            + "\u2584\u2787\u1e38\u050d\u2ef9\u4757\u4bd3\u41b0\u3c4e\u1cc4\u20c9\u4a41\u16ab\u0307\u0a27\u4bb2"
+            + "\u038f\u14c8\u2cde\u159e\u393e\u2e96\u1fb6\u3637\u15e4\u23ae\u135e\u4011\u2248\u3ee7\u2c2e\u153e"
+            + "\u087e\u25d1\u146c\u3ba3\u0733\u36ed\u2641\u2840\u1a60\u166a\u3840\u2a2d\u41ab\u1caf\u3a30\u48e9"
+            + "\u3808\u2e28\u280f\u459a\u19de\u208c\u2089\u0c00\u0371\u1bc9\u380d\u4bac\u1462\u2dbc\u38a1\u297e"
+            + "\u21a1\u0335\u2670\u20f1\u2876\u0e76\u2003\u21f4\u3839\u031c\u2980\u2590\u4caf\u05d9\u42e6\u1ddd"
+            + "\u08ab\u4762\u09c9\u2489\u2047\u2d30\u39c6\u24b0\u2462\u0456\u26e4\u2338\u27a7\u42a9\u1913\u2844"
+            + "\u22b5\u3441\u26c9\u2807\u20c3\u459d\u2e67\u2204\u3c1c\u1b1f\u2966\u0439\u0459\u3cc7\u0629\u060f"
+            + "\u21fc\u07c8\u46f2\u48ac\u2707\u1ec5\u21d5\u03dc\u066d\u2fba\u3a11\u27ae\u0722\u21c6\u1bb1\u4284"
+            + "\u304c\u36a6\u0353\u050f\u3d4e\u2005\u4b7a\u14db\u3749\u1526\u0829\u2390\u2e3e\u372d\u3ad0\u3717"
+            + "\u247a\u3d93\u3dd7\u4378\u263f\u38ba\u4279\u2c06\u367b\u3acf\u3eca\u3d08\u0753\u03b9\u2601\u4830"
+            + "\u0640\u2457\u38da\u0d5e\u4609\u2573\u0680\u1fac\u0c6c\u3916\u29cd\u0702\u27a6\u0361\u2158\u1545"
+            + "\u27a3\u0580\u203b\u21ee\u0314\u23d3\u0759\u25b0\u22bd\u1f8c\u4bc6\u08cf\u0a95\u216c\u156e\u0db1"
+            + "\u04e1\u3adc\u36fe\u0ba6\u3710\u068e\u4973\u0427\u1ad9\u26c2\u033f\u27cb\u1753\u25cb\u1c9f\u381a"
+            + "\u496d\u2a92\u267c\u33d6\u0f76\u37af\u06ab\u27a4\u0cc4\u0444\u09e3\u1fe3\u1ec4\u426c\u15d8\u0727"
+            + "\u299c\u067a\u204e\u21ab\u20e5\u373d\u268f\u1426\u39f6\u1fde\u3934\u297a\u48b6\u2417\u2682\u4768"
+            + "\u29e8\u05a6\u2a85\u0663\u46a1\u4763\u0cf0\u0312\u039e\u2702\u336a\u458d\u41f5\u3712\u1ebc\u28ca"
+            + "\u38b6\u2120\u2694\u1097\u2770\u0b9e\u4b3b\u241b\u03de\u2f50\u3b2e\u442b\u45bd\u208e\u272e\u3a47"
+            + "\u159c\u143f\u3964\u2182\u2592\u400c\u3721\u32f9\u37f9\u3adb\u18bb\u03a2\u2979\u3046\u213e\u4287"
+            + "\u0555\u42df\u285f\u05d0\u1fb5\u3911\u06f2\u37fe\u4bce\u2a9d\u066c\u2e23\u34a4\u058f\u2074\u26b0"
+            + "\u3f3a\u3ed1\u4492\u4cb7\u21c9\u06f4\u39ed\u0f8c\u3bfa\u1351\u1550\u2168\u20a7\u2624\u3704\u0631"
+            + "\u21cc\u3a82\u3727\u146f\u15a4\u3932\u164d\u25df\u42c8\u4898\u2604\u29f1\u49b2\u0a8a\u3d1a\u0ad7"
+            + "\u43a4\u1d9a\u1d82\u0b9c\u489e\u1af4\u205f\u2859\u076e\u1e3c\u22c7\u4696\u1bc1\u07fc\u364c\u38cc"
+            + "\u0647\u0887\u0a3e\u15de\u15e6\u1d74\u3746\u466e\u3924\u14fb\u2159\u069d\u46cc\u395c\u3a5e\u3d50"
+            + "\u0812\u4486\u20bc\u06ce\u4b83\u3463\u37ca\u2142\u26db\u387a\u1537\u3b90\u287e\u1417\u2474\u1666"
+            + "\u06b3\u364f\u427c\u2e93\u2660\u32c7\u1f71\u2c40\u068c\u296e\u0724\u22c5\u1fe8\u25e0\u042a\u20c4"
+            + "\u34ac\u2dcc\u37d7\u3b05\u045e\u3b3e\u2798\u3751\u038b\u15fd\u2718\u2596\u2028\u39ff\u2bce\u0ab3"
+            + "\u1721\u3b2c\u0fa1\u2f79\u384b\u34ce\u220f\u2559\u0ba8\u20c7\u06ee\u1fa5\u0a49\u46ca\u2dc1\u0de8"
+            + "\u1887\u4c16\u0a28\u2bd8\u491c\u45cc\u41be\u2599\u22f2\u4cd2\u2a24\u3a1f\u2f1a\u3004\u3898\u211f"
+            + "\u26a3\u208a\u2281\u0914\u050b\u0afa\u0732\u37c3\u2fc2\u1ebd\u2d5e\u420d\u0c5b\u2957\u20c8\u2a1b"
+            + "\u2af9\u2b38\u2fd1\u1cbe\u2910\u3b15\u495d\u2602\u0623\u2077\u05f3\u14f0\u4300\u2efe\u28d3\u26e0"
+            + "\u4c4d\u2ca0\u3d0c\u142c\u2dee\u23b9\u388f\u0694\u1309\u0fb8\u2359\u1f8d\u25ae\u0ad2\u1cfa\u29e1"
+            + "\u3506\u294c\u3bac\u0758\u3a43\u3377\u2017\u1566\u2842\u1423\u271c\u06d5\u03c3\u1b9c\u0462\u072b"
+            + "\u4b45\u2f0e\u38c0\u3df9\u0c59\u053f\u06fc\u03c5\u2333\u0d8e\u04f4\u02f8\u4b71\u2a6b\u2caa\u049a"
+            + "\u2ebc\u06e6\u0537\u086b\u047a\u2be9\u401b\u264a\u4776\u252c\u46cf\u27ba\u4c32\u20c2\u272b\u08df"
+            + "\u1b2e\u0dac\u2c00\u3b65\u22bc\u2c44\u38c1\u08bd\u077b\u20fe\u0848\u3a8f\u41a4\u3b02\u0877\u3715"
+            + "\u1d6e\u3752\u3fdd\u0625\u45cb\u265f\u41ff\u4b49\u03c1\u0703\u2125\u3a2b\u1792\u39e6\u081c\u4546"
+            + "\u3b2d\u2862\u2867\u2c53\u2106\u1032\u2de4\u055e\u05f9\u0653\u3847\u2967\u0781\u37ba\u3baf\u34aa"
+            + "\u190d\u1573\u226c\u2a4c\u39f3\u4484\u3aeb\u4939\u0fbe\u2b7b\u2676\u26e1\u20de\u27c1\u39d8\u27a5"
+            + "\u4b4d\u21d4\u2860\u0c84\u2af6\u2bec\u0f06\u0488\u38b2\u3ed7\u2796\u48c0\u3d26\u0db3\u200b\u05e0"
+            + "\u0846\u213b\u3a55\u14ae\u038d\u383f\u1571\u1388\u0e20\u2597\u147a\u482d\u386b\u2812\u4942\u4838"
+            + "\u1ca9\u4bcc\u475e\u0377\u3a24\u38d5\u378d\u2195\u09d2\u295f\u3d59\u145f\u2838\u156b\u26fd\u0448"
+            + "\u476f\u4554\u1a6b\u2926\u3735\u051d\u2443\u460c\u45bf\u0aa3\u28b9\u2c3c\u215f\u1fb4\u0795\u15ad"
+            + "\u18f7\u2a09\u0cc5\u1874\u083c\u06ed\u06a7\u06d3\u2172\u18c4\u0470\u0474\u41c7\u4531\u36b1\u09a2"
+            + "\u4c18\u3b79\u4972\u0525\u0305\u1f7e\u21e8\u4b5f\u212f\u241e\u2c17\u4b7f\u3aa2\u0490\u0d58\u1454"
+            + "\u28d7\u36e8\u04c6\u3d1c\u2ddf\u287b\u38f0\u2946\u271f\u3923\u46eb\u4403\u2bdb\u151c\u18af\u398e"
+            + "\u0558\u0f46\u285e\u03d4\u09f9\u1480\u21e4\u32fd\u1af5\u3643\u0c5e\u3d54\u26ef\u1906\u2db1\u4b79"
+            + "\u4326\u4332\u27d4\u2bff\u3695\u4545\u17b9\u29ef\u2a3f\u39e0\u1982\u0b8b\u0ba3\u036e\u212d\u4755"
+            + "\u1071\u2375\u0c3b\u1434\u389f\u34b6\u0c60\u2122\u0d4f\u2558\u0698\u15ed\u34e7\u2f99\u3a58\u4805"
+            + "\u44b1\u131c\u3b34\u37dd\u44ec\u46e2\u28de\u21c5\u255a\u4a99\u3a76\u0776\u3656\u0bda\u0a9e\u0300"
+            + "\u1db5\u2cd7\u0bab\u1fcd\u1b19\u0501\u39bb\u3983\u39f8\u04e7\u064e\u25ff\u076a\u1593\u39e8\u299a"
+            + "\u39ef\u044f\u1422\u0aba\u2c5f\u0517\u086f\u0719\u150f\u2ef4\u27cd\u4280\u3b78\u3b52\u0372\u3a5c"
+            + "\u4568\u2176\u0aa4\u079b\u0aa6\u0585\u28a0\u2e4e\u376f\u34c0\u2eed\u2ef3\u03d9\u0911\u2917\u1590"
+            + "\u085b\u1846\u1638\u2101\u2008\u4582\u0c2c\u3ae9\u0809\u0395\u07ee\u2a2e\u2607\u0c94\u4a92\u4754"
+            + "\u2083\u190e\u3a6c\u3a00\u3ab9\u0b8d\u1315\u43a6\u36c2\u431a\u375a\u1637\u3834\u05df\u3025\u2f1c"
+            + "\u02f9\u3b9c\u377b\u190f\u3798\u3842\u4bf1\u08b0\u1660\u4012\u3988\u0845\u28cc\u4869\u2475\u22dc"
+            + "\u2465\u26ea\u2751\u270a\u2075\u06e7\u4bfe\u4b17\u216e\u427a\u1d0a\u06d9\u2603\u0d9e\u2e9a\u2e58"
+            + "\u2873\u2686\u03c0\u2620\u0481\u0d5d\u1ba9\u2326\u16bb\u2149\u2f02\u2cd8\u202c\u14e6\u347f\u08ee"
+            + "\u05e5\u039c\u3709\u4a45\u071f\u18f9\u2906\u1b2f\u20b8\u0519\u2fdb\u256e\u2595\u2161\u48a1\u1576"
+            + "\u242f\u21f7\u2f34\u34c8\u0e1c\u1a45\u261c\u3b0c\u402b\u221d\u05fe\u077f\u252d\u41c1\u081d\u28a9"
+            + "\u0904\u0980\u3659\u0da8\u02fc\u2379\u49d2\u0c8e\u218b\u3473\u0443\u221e\u3714\u1f7b\u21bc\u41b6"
+            + "\u44e1\u1fb1\u449e\u3449\u457a\u32a4\u4974\u16f5\u34ec\u0fc8\u3a9e\u2e88\u44f2\u039f\u4bd4\u4b0a"
+            + "\u2675\u2a26\u2fdf\u0cdb\u1a5c\u06e2\u3364\u394a\u04e0\u4c20\u3566\u20d3\u28f9\u17b2\u2a90\u1f94"
+            + "\u420e\u1dda\u3dd9\u07e3\u4598\u130c\u2e21\u2948\u1489\u44d3\u27c6\u14f5\u0e82\u141c\u3d35\u1ab4"
+            + "\u097a\u0859\u1a1c\u2bb8\u2ad3\u27da\u1837\u3c45\u3653\u259f\u0a9c\u259b\u080a\u3ce4\u2f7f\u0451"
+            + "\u0326\u1bcf\u2f9d\u1eb9\u22f4\u2145\u04fa\u22fb\u04d8\u1da4\u3dbe\u2cdf\u0a7a\u1135\u2edf\u3869"
+            + "\u05ee\u3a42\u4706\u3b59\u0cc7\u4925\u2173\u291c\u4408\u22f5\u2343\u2bcc\u060e\u0b58\u169e\u27d6"
+            + "\u4aeb\u2fd9\u06ac\u0be7\u2edb\u0541\u47fa\u2dc3\u3754\u03ee\u255c\u24f6\u1dfb\u2e87\u2050\u2dd9"
+            + "\u42cc\u0b9b\u421d\u3857\u0bd9\u1fb2\u233b\u3c15\u2006\u0c2a\u1938\u1b8f\u1cc7\u39ba\u030e\u04dd"
+            + "\u45a1\u1e22\u0cfc\u0480\u0a85\u0668\u256c\u36d9\u27d7\u3730\u1fb0\u370c\u37b5\u0814\u1b28\u4491"
+            + "\u2ded\u156c\u0bdf\u4615\u436e\u2cb9\u40ea\u48ba\u04ca\u39e2\u2033\u2606\u2652\u065f\u3868\u2977"
+            + "\u148c\u2ef7\u2803\u16e7\u43ca\u36f1\u2e30\u2373\u41d9\u2587\u2637\u33e2\u0bee\u419b\u45ab\u3a77"
+            + "\u3399\u26e6\u2e2d\u2db6\u0503\u2ee8\u1bcc\u32a3\u3add\u36e3\u273a\u09dc\u0a15\u2875\u0e16\u45a3"
+            + "\u2687\u0347\u384d\u2696\u243f\u20e4\u26b1\u05dc\u427e\u431b\u21c1\u3dfb\u04e6\u142d\u07ec\u3bbf"
+            + "\u3cd3\u0bf3\u1833\u3921\u2257\u0415\u208b\u2643\u180e\u43c3\u0e29\u3d70\u25fb\u20ed\u1b4d\u24d0"
+            + "\u36dc\u226b\u14d5\u4959\u39ea\u45c7\u2025\u0ad1\u263c\u07b0\u201e\u1e62\u2ee7\u1431\u4975\u0346"
+            + "\u23dd\u467e\u246d\u1d70\u2c50\u277f\u044d\u0322\u1a65\u26ff\u4521\u29ea\u2dc8\u05dd\u0cd0\u0833"
+            + "\u28f4\u37da\u37dc\u277d\u27c8\u3ca6\u38aa\u483c\u28a8\u0ffc\u41af\u25b7\u1b14\u07bd\u3a37\u275b"
+            + "\u0a36\u28f8\u2919\u4705\u0457\u08e8\u496c\u3a35\u2549\u289e\u0910\u386e\u2a62\u23cc\u0313\u298f"
+            + "\u25c0\u0496\u079f\u07ed\u289c\u0658\u056c\u2f28\u208d\u206b\u3949\u19e9\u36b5\u25bc\u0c70\u2184"
+            + "\u4613\u0cb6\u053e\u4918\u2663\u0357\u17c4\u098c\u2eb2\u1b27\u043e\u1a6c\u05d5\u06f0\u268c\u3e8d"
+            + "\u3aa0\u27c0\u2705\u3dde\u06cf\u3663\u1850\u28dd\u094f\u043a\u3841\u04cd\u35c1\u0435\u38b1\u27ad"
+            + "\u2813\u0a80\u157d\u034d\u2109\u3810\u0c40\u274e\u401c\u3748\u03ae\u421a\u399f\u37d2\u097d\u120a"
+            + "\u3a93\u075b\u2de7\u2964\u1ffe\u2e1c\u3e2b\u0413\u2e0a\u370a\u0901\u3b0f\u3767\u464c\u29ec\u29c9"
+            + "\u2ed7\u4b09\u03fc\u2567\u24a8\u36e1\u3a23\u489d\u4b81\u2f18\u49fa\u0b8e\u37f5\u3723\u0d4d\u067f"
+            + "\u073e\u20e0\u382c\u2915\u45c8\u11e5\u0709\u25b3\u09af\u2039\u44d1\u0da6\u3e71\u0854\u27b3\u0302"
+            + "\u46d0\u3986\u279d\u1fa3\u38a5\u3812\u3866\u3939\u1629\u0548\u07d6\u1fca\u48b7\u3d5c\u254f\u29e0"
+            + "\u1f75\u33d3\u465c\u0a91\u4480\u2943\u07ad\u06b0\u246a\u0f40\u4534\u43ba\u3b5d\u1297\u388b\u4489"
+            + "\u45dd\u3dee\u08b9\u3b72\u2255\u1751\u3929\u2476\u2a14\u051f\u2e7c\u07a0\u165d\u047b\u08e6\u3c0c"
+            + "\u34de\u46d4\u20bf\u4304\u05ed\u0964\u25b9\u3987\u0520\u2114\u1f22\u2791\u3775\u23b0\u20a1\u2941"
+            + "\u2162\u2f86\u04e4\u3b75\u4ae4\u4642\u421b\u2733\u2289\u2785\u1ff6\u182f\u07a4\u394d\u047c\u1583"
+            + "\u104b\u4ad5\u1bd1\u4ae3\u477f\u39e1\u0726\u2ae4\u2ebb\u44cf\u162a\u0b5d\u29a3\u0ce2\u4881\u37aa"
+            + "\u24a6\u0364\u1fe5\u281f\u45fa\u2029\u32c0\u050e\u0834\u1307\u2e62\u0d0c\u1a04\u4377\u368a\u238c"
+            + "\u395f\u1c21\u48a8\u3af7\u20c6\u2493\u34ca\u27b0\u3a2d\u210f\u04be\u05e9\u2351\u043d\u277a\u04b6"
+            + "\u1811\u4726\u06bb\u07ac\u430e\u25ad\u10b9\u2019\u4682\u160c\u1eb3\u209a\u1519\u1671\u2b15\u39dc"
+            + "\u036d\u045c\u2b79\u17f2\u48de\u06fb\u42ba\u0a4e\u0509\u22b7\u3a3c\u2579\u206a\u3683\u1e11\u26f9"
+            + "\u2b83\u05ce\u4559\u3db9\u0db4\u4c78\u196c\u0379\u3648\u2058\u146e\u26cf\u0879\u461f\u2916\u1477"
+            + "\u22c2\u2a72\u1c71\u3d3c\u084f\u45e3\u0fad\u2914\u3a97\u3a21\u143b\u26d9\u2851\u4774\u427b\u4759"
+            + "\u32b8\u0472\u259d\u1599\u3e19\u258b\u3938\u07e8\u275e\u06d0\u40b0\u2dce\u25d3\u3a3b\u09a8\u04ef"
+            + "\u45c3\u4897\u26cd\u395d\u26ad\u07cb\u235a\u0a99\u3e24\u48f1\u040c\u16f7\u17fc\u1043\u2edc\u2f98"
+            + "\u32ff\u1357\u28e4\u447a\u0468\u1a90\u3bab\u2f45\u2471\u044b\u2dd4\u16fd\u49f6\u1cba\u27c2\u239d"
+            + "\u228e\u21a7\u3b6e\u1abd\u18ed\u219f\u0796\u09ca\u3b0b\u271e\u38e7\u29ca\u2363\u253d\u294d\u2a19"
+            + "\u2778\u2f1b\u4640\u39aa\u4832\u3832\u39d2\u3a5b\u25d0\u2703\u16fa\u4008\u21dc\u0588\u25fd\u3824"
+            + "\u06a2\u48d3\u07f3\u3662\u21ae\u035a\u298d\u265d\u215a\u03b8\u2c24\u4a43\u3958\u396f\u104d\u0786"
+            + "\u20d1\u0c28\u07d8\u2ee2\u07f0\u0e59\u17ff\u0708\u209e\u0c7d\u2698\u0463\u0777\u2f7c\u21b0\u2f0c"
+            + "\u4caa\u4a5c\u3fdc\u36f5\u44fb\u2d5c\u39f5\u2588\u4982\u1508\u394e\u34dc\u36a3\u0a3d\u0a11\u07e5"
+            + "\u2428\u080b\u3b9f\u25d4\u2628\u4612\u0606\u042c\u260a\u0330\u184c\u392e\u09c1\u20c5\u41a1\u1217"
+            + "\u4321\u33db\u28db\u0805\u2b76\u2330\u393f\u3ca3\u23ce\u35bc\u0628\u36bc\u106c\u2b09\u2731\u3919"
+            + "\u26f2\u3b40\u097c\u3367\u07c4\u2317\u276c\u45c2\u39b9\u2436\u21ac\u15ff\u2167\u39bd\u34b5\u064d"
+            + "\u0c34\u0a32\u2985\u46d1\u2027\u3a3e\u2e73\u0f9d\u1867\u22f0\u0e10\u16e6\u331c\u3b43\u455e\u2a03"
+            + "\u2800\u24d6\u128a\u087f\u4243\u157b\u39f9\u2081\u2654\u49a5\u3969\u045a\u0819\u2062\u4c2d\u229a"
+            + "\u16f0\u0406\u3d06\u1663\u0bd5\u21c8\u1219\u374d\u0875\u3779\u2318\u39d5\u289f\u3915\u385c\u222b"
+            + "\u2e11\u1fe9\u2635\u39f2\u4b7d\u29ba\u3a0c\u03a0\u28d9\u20a2\u15c8\u2f14\u0615\u36f4\u0ace\u45c6"
+            + "\u2be3\u3786\u1292\u3d02\u0aaa\u0338\u0549\u3989\u38a0\u22a2\u3571\u0969\u190b\u158e\u0de6\u1139"
+            + "\u1132\u41cb\u3a39\u26e9\u0d5f\u2beb\u4255\u4b7e\u389a\u2697\u3a64\u4616\u385b\u482e\u076f\u0972"
+            + "\u27a1\u1dfd\u21ad\u296f\u2955\u238e\u4ba7\u25a3\u0851\u4527\u4474\u35b0\u3048\u2335\u37c0\u2774"
+            + "\u47a4\u3f75\u4a34\u21bb\u09f7\u1a9d\u1fdc\u408d\u2201\u14d2\u4611\u4010\u2396\u0fb9\u47b9\u1fdd"
+            + "\u365b\u45c5\u06fa\u06a6\u0ba4\u232a\u0d73\u062d\u45aa\u1273\u25e2\u2ddb\u2f2e\u2c3b\u3302\u04f9"
+            + "\u0771\u48bc\u035f\u142f\u0fb6\u3f3b\u3745\u499f\u39fa\u23db\u4a3b\u3699\u4323\u080e\u29e6\u27c7"
+            + "\u449c\u27fa\u36e0\u064c\u0800\u2836\u25d5\u45ac\u4981\u394c\u09e4\u0b91\u2086\u0f13\u0a30\u45b8"
+            + "\u379f\u0a23\u293b\u2a8f\u120e\u3776\u07d2\u2226\u4b85\u148f\u2bd5\u4a35\u069c\u2213\u242e\u0591"
+            + "\u209d\u3d14\u3826\u218f\u2a12\u0843\u3697\u2529\u04d5\u1cc2\u080c\u3aae\u4392\u4047\u335f\u19fa"
+            + "\u1a6d\u23d4\u266a\u08d3\u04b4\u07c3\u0aff\u083f\u21a3\u22cf\u3638\u2179\u42cf\u391b\u1a10\u3d01"
+            + "\u3959\u246e\u2189\u3845\u2bdc\u1f98\u3fa5\u286d\u069a\u07bf\u2ec7\u1fee\u3ae2\u398d\u0685\u0ea1"
+            + "\u4775\u358a\u09a1\u0358\u463f\u4b73\u2a16\u105c\u24f2\u3725\u0303\u0426\u232f\u06a0\u2285\u25d9"
+            + "\u49ba\u20a0\u3abc\u1df0\u2e18\u06ff\u42f6\u04b1\u4209\u369c\u2fce\u174d\u2a95\u4922\u1d46\u1e61"
+            + "\u365c\u3b76\u0547\u452a\u2645\u1f92\u2215\u070f\u3b45\u42c6\u2f3e\u21c7\u1a58\u1438\u4bbe\u1cbd"
+            + "\u2a9e\u04c2\u040f\u09a9\u383e\u2fbb\u1810\u4c5a\u2c18\u281c\u38bf\u377f\u0824\u3d07\u4bb0\u26dc"
+            + "\u48a0\u32b9\u225b\u1411\u085e\u3bc0\u1cad\u2397\u3a46\u2e5b\u2224\u14ea\u188b\u2430\u396d\u0c22"
+            + "\u14eb\u202f\u425e\u3b1a\u1589\u4bc4\u0530\u1ba3\u23a4\u15d7\u2198\u186f\u3b35\u23c4\u47c2\u0d11"
+            + "\u2166\u48d4\u4218\u21ea\u3853\u4c3a\u0a74\u09d8\u4c4f\u2cb2\u2470\u25d7\u2479\u0656\u4488\u1836"
+            + "\u1ca0\u3666\u48d1\u0d4e\u2ce4\u153f\u2732\u0f2a\u1352\u2098\u1831\u2e6c\u23f4\u0495\u098b\u0590"
+            + "\u0343\u15fc\u1af2\u253a\u06c9\u25f0\u4cbd\u2caf\u072d\u219a\u0adb\u2037\u44f3\u4561\u396a\u0665"
+            + "\u32a9\u2a5d\u48d8\u3b26\u0da1\u2f0b\u2989\u109d\u3ade\u0811\u467c\u07e6\u074e\u07dd\u3b38\u3c92"
+            + "\u4557\u14cc\u058b\u0a77\u1f82\u0773\u2267\u442f\u33d7\u3bf5\u474f\u106d\u2a2a\u170c\u2574\u3b13"
+            + "\u497c\u2ba4\u0682\u4894\u12bd\u2b02\u34b2\u0397\u2a13\u1a21\u2c76\u1baf\u0683\u0652\u378b\u0466"
+            + "\u226e\u2064\u0d9c\u297f\u4262\u046d\u2ca4\u2996\u1366\u06b6\u4bcd\u2152\u153a\u2c32\u1528\u3b4b"
+            + "\u05e2\u3933\u3667\u3b29\u085c\u0633\u286e\u2415\u2984\u32b7\u3443\u03d3\u052d\u073b\u21e9\u32ce"
+            + "\u42dc\u0cb5\u2f39\u26b3\u0513\u3835\u0507\u235d\u36da\u0a50\u03f7\u44ae\u057d\u4bda\u389e\u2f2d"
+            + "\u3b6a\u0919\u37fb\u1c67\u1c1b\u475b\u4487\u39f4\u27bb\u26f4\u2c74\u1ec6\u2605\u4c1d\u0840\u1596"
+            + "\u44e3\u07f6\u4009\u2fa2\u48cd\u0a26\u2cbb\u3dc0\u2557\u294f\u2678\u4b77\u03ab\u1a44\u25f2\u2435"
+            + "\u26d8\u2525\u2048\u22c8\u2858\u27b4\u182b\u1d79\u25dc\u2561\u2562\u2249\u207e\u2dd5\u1697\u28ab"
+            + "\u1912\u20f6\u04e9\u1603\u367a\u2f9e\u06d2\u153b\u39c2\u1ae1\u469d\u06e1\u2f51\u20cc\u471e\u276d"
+            + "\u3dcd\u0deb\u2102\u0414\u25ed\u36fc\u15ef\u28ac\u14d9\u344a\u3383\u0788\u0b3d\u1d72\u03d0\u3823"
+            + "\u034c\u1f74\u1b92\u3b09\u4c17\u155a\u27d2\u32b2\u0a33\u07c7\u18d7\u27d1\u09fc\u255e\u3b1b\u2f2a"
+            + "\u3a2e\u15d6\u06b9\u2fde\u25ef\u074c\u37e4\u0816\u1fcf\u0a7b\u0ce5\u4275\u4866\u37fa\u2769\u06bc"
+            + "\u073f\u2bf5\u33d0\u39b6\u20cf\u125b\u253e\u44a5\u2116\u1970\u071c\u0bd4\u3b94\u203c\u0624\u0c7f"
+            + "\u2a75\u481c\u3ad4\u3d3f\u287c\u42c4\u114a\u3a5a\u26f5\u2115\u0479\u0373\u0ba0\u141a\u072f\u45ce"
+            + "\u2990\u1693\u3968\u0408\u2eee\u2c0a\u2c28\u39e5\u2324\u4424\u1e87\u28c8\u18be\u200e\u363b\u0ca0"
+            + "\u2548\u0a75\u2053\u292e\u0826\u3a5f\u3b91\u22ea\u19e3\u0766\u32c5\u2260\u21e1\u3370\u280d\u0b51"
+            + "\u28d8\u0c33\u2dff\u3ac1\u2dda\u0aca\u21ca\u4b5b\u2b6c\u1910\u1057\u1473\u3ecb\u05f2\u2739\u4680"
+            + "\u2055\u37df\u03af\u07f1\u0389\u0a84\u0440\u061f\u1a16\u4b14\u365d\u08bf\u2c68\u171a\u0512\u2178"
+            + "\u29e4\u3641\u3785\u23d0\u140c\u276a\u039b\u18dc\u3dc8\u374e\u20fd\u0dea\u0e0e\u2227\u2b01\u4a3d"
+            + "\u4396\u3a40\u086c\u1f9a\u2e37\u104c\u2042\u41c2\u0627\u4604\u3aea\u20d9\u22b4\u3d41\u28c6\u143c"
+            + "\u346c\u353c\u14d6\u22cd\u2713\u20ae\u2273\u03f5\u2217\u3b83\u4672\u1df1\u2f08\u479e\u2a1a\u42fe"
+            + "\u4a57\u3a60\u1588\u2049\u29d6\u1f78\u2737\u46c9\u25a5\u383c\u4b8b\u32d9\u2e76\u0793\u3589\u1ff7"
+            + "\u2828\u295e\u37f3\u27ca\u0774\u2fc1\u26f8\u2059\u2a1e\u4307\u2f2b\u07a9\u2546\u099a\u28b7\u031a"
+            + "\u2a54\u1665\u1e57\u4490\u3b20\u2550\u26ab\u256d\u1535\u4876\u0754\u207f\u08fc\u35ce\u0bf9\u493e"
+            + "\u2f01\u2704\u3674\u03bf\u2904\u2045\u4afe\u146a\u29c7\u20af\u1670\u2e84\u2644\u4c36\u159d\u0b2f"
+            + "\u1fa7\u20d6\u4bc7\u2afa\u386a\u281b\u0d74\u2fd4\u2f3d\u3966\u1669\u32a2\u2002\u2001\u489c\u113e"
+            + "\u453d\u21bd\u2cd5\u2cb7\u030c\u4517\u0c68\u44ac\u26bc\u12cb\u21fe\u1047\u40a0\u03bd\u06c8\u1639"
+            + "\u34b0\u3930\u44b8\u2210\u1b0c\u3b67",
+        "\u0000\u0010\"\u0007\u0020\u0015\u0064\u003d\u001a\u0001\u0000\u0005\u0003\u0030\u0000\u0000"
+            + "\u0014\u0004\u0043\u0002\u000b\u0004\u0001\u0002\u0015\u0009\u0001\u0000\u0001\u0002\u0013\u0023"
+            + "\u0006\u0039\u0002\u0001\u0003\u0128\u0003\u0007\u0007\u0004\u0006\u0008\u0004\u0000\u0002\u0001"
+            + "\u0002\u0015\u0008\n\u0000\u001f\u000b\u0019\u0000\u0015\u0009\u0000\u0005\u0001\u000b\u000b"
+            + "\r\u000e\u0000\u0004\u0003\u0000\u0000\u0008\u0002\u0003\u0023\u0000\u0002\u004a\u0006\u0002"
+            + "\u0006\u002c\u001d\u000c\u0004\u0006\u0002\u0000\u0000\u0000\u0003\u0004\u0000\u0003\u002d\u0027"
+            + "\u0000\u0000\u0004\u0005\n\u0002\u0000\u0001\u004f\u0000\u0000\u0005\u0000\u0000\u0003\u0011"
+            + "\u0003\u0006\u0007\u0017\u0005\u0005\u0008\"\u0012\u0000\u0000\u0000\u0005\u0004\u0001\u0010"
+            + "\u0003\u0011\u0005\u000b\u0019\u0004\u0000\u000c\u004b\u0027\n\r\u0001\u0006\u0012\u000b"
+            + "\u0027\u0005\u001e\u001e\u0006\u0007\u0008\u0000\u0004\u0016\u002d\u000e\u0019\u000b\u0003\u0008"
+            + "\u0008\u0005\u000c\u0001\u001f\u0062\u000c\u0000\u0000\u002a\u0000\u0010\u0001\u001c\u0000\u0002"
+            + "\u000f\u0000\u002c\u0002\u0028\u0029\u0004\u0000\u0007\u0000\u0000\u0007\u0003\u0015\u0008\u0000"
+            + "\u0000\u0038\u000b\u0016\u0014\u0017\u0008\r\u0016\u0000\u0006\u0016\u0006\u0000\u0001\u0000"
+            + "\u0000\u0017\u0026\u0000\u0001\u0014\u0003\u0000\u0003\u0002\n\u004b\u0000\r\u0005\u0035"
+            + "\u0003\u0002\n\u0036\u0007\u0000\u0002\u0011\u0002\u0002\u0000\u0000\u0021\u0017\u0013\u0000"
+            + "\u0000\u0005\u0016\u0017\u0005\u0000\u0000\u0002\u001e\u0007\u0000\u0010\u0016\r\u0016\u0012"
+            + "\u0000\u0000\u0008\u000e\u0006\u0008\u0003\u0002\u0083\u0000\u0038\u0004\u003b\u0004\u0004\u0004"
+            + "\u0047\u0003\u0000\u0001\u001e\u0054\u0008\u0003\u0005\u0030\u0005\u000f\u0005\u000b\u000f\u0002"
+            + "\u0000\u0006\u0010\u0001\u0004\u0000\u00a9\u0008\u0002\u001e\u0011\u0003\u0016\u0004\u0001\u001f"
+            + "\u0005\u0029\u0004\u0006\u0003\u0007\u001c\u000e\u0003\u0000\u0000\u0002\u0003\u0000\u0004\u0004"
+            + "\u0021\u0028\u0038\u0021\u0001\u0000\u0013\u0001\u0005\u0006\u0001\u0005\n\u0002\u0054\u0000"
+            + "\u0002\u000c\u0000\u0000\u0005\u0000\u0005\u0004\u0005\u0013\u0011\u0032\u0011\u0025\u0000\u0012"
+            + "\u0003\u0004\u002d\u0004\u0015\u0034\u0000\u0001\r\u0001\u0023\n\u0002\u0008\u0024\u0000"
+            + "\u000f\u0038\u0004\u0000\u0000\u0034\u0000\u0003\u0007\u0001\u0000\u0001\u0004\u001e\u001b\u0005"
+            + "\u002b\u0007\u0004\u000c\u0027\u0004\u0038\u0001\u0008\u0049\u0006\u0058\u0012\u0000\u0009\u0010"
+            + "\u0002\u005e\u003c\u0001\u001b\u0009\n\u0000\u0001\u0018\u0003\n\u0012\u0006\u0003\u0001"
+            + "\u0000\u0011\u0000\u0001\u002c\u0000\u0003\u0002\u0000\u0002\u0040\u0000\u0001\u0005\u0056\u001e"
+            + "\u0000\u001b\u0051\u0002\u0002\u0002\u004e\u0004\u0002\u0001\u0010\u0001\u0009\u0000\u0003\u0016"
+            + "\u0001\u0004\u0015\u0001\u0003\n\u0010\u0030\u0001\u0000\u0051\u0002\u0003\u0011\u0002\u0005"
+            + "\u001c\u0000\u0003\u0000\u0004\u0009\u0009\u0002\u0009\u0001\u0000\u0000\u0007\u0039\u0000\u0001"
+            + "\u0012\u0023\u000c\u0001\u0015\u003e\u0000\u0004\u0000\u0069\u0018\u000b\u0023\u0002\u0000\u000c"
+            + "\u0046\u0012\u000c\u0001\u0012\u0000\u0019\u0013\u000b\u0011\u0028\u000e\u0008\u000b\u0010\u0001"
+            + "\u000b\u0009\u000b\u0020\u002b\u0000\u0000\u0000\u0000\u0045\u0002\u0004\u0002\u000e\u0000\u0007"
+            + "\u000b\u0005\u001b\u0039\u0011\u0023\u0005\u0006\u0059\n\u0001\u0000\u0005\u0035\u0011\u0000"
+            + "\n\u0021\u0004\u0011\u0000\u002a\u0001\u0002\u0050\n\r\u0007\u0001\u0014\u0001\u0034"
+            + "\u0000\u0003\u0048\u0000\u0021\u0005\u0005\u0004\u0014\u0000\u0000\u0021\u001f\u0004\u0001\u0013"
+            + "\u0009\u0002\u001f\u0016\u0000\u000c\u0003\u002c\u0035\u003f\u0018\n\u0002\u0017\"\u0003"
+            + "\u0056\u0003\n\u0011\u000e\u0000\u0008\u0010\u001a\u0023\u0008\u0001\u0009\r\u0001\u0001"
+            + "\u0001\u001f\u0000\u0012\u0000\u0001\u0017\u0000\u0000\u000f\u0006\u0015\u0000\u000c\u0000\u0000"
+            + "\u0000\u0000\u0006\u0008\u0061\u0008\u0006\u001c\u002a\u0002\u003e\u0015\u0009\u0003\"\u0001"
+            + "\u000f\u0000\u0000\u0046\u0007\u0000\u0002\u0019\u0013\u0000\u0011\u0001\u001e\u0000\u0000\u0001"
+            + "\u0008\u0055\u0007\u0000\u0005\u0016\u0001\u0000\u0015\u0046\u0001\u0000\u0001\u0003\u0013\u0014"
+            + "\u0000\u0039\u0013\u000b\u0005\u0014\u0005\u0003\u0003\u0015\u0000\u0002\u000e\u0004\u0000\r"
+            + "\u0000\u000c\u0004\u0003\u0002\u001d\u0008\u0003\u001d\u0018\u0001\u000f\u0007\r\u001e\u006f"
+            + "\u0005\n\u002b\u0005\u005b\u0000\u0005\u0000\u0009\u0005\u0005\u0040\u0010\u0042\u004c\u0004"
+            + "\u0000\u005f\u0000\u0002\u0000\u001d\u0001\u0040\u0005\u0013\u0000\u0034\u0001\u0013\u003a\u0010"
+            + "\u0000\u0004\u0005\u000e\u0004\r\u000c\n\u0021\u0013\u0003\u0021\u0001\u0024\u0004\u0038"
+            + "\u0001\u0002\u0008\u0016\u0000\u0008\u0003\u0007\u0003\u0005\u000f\u0002\u0004\u0034\u001d\u0008"
+            + "\u0015\u001b\u0049\u0011\u0051\u0011\u0006\u0027\u0002\u0026\u0017\u0001\r\u0099\u0000\u0009"
+            + "\u0005\u0040\u004f\u0007\u0000\u0025\u002a\u002a\u0000\u0049\u0019\u0049\u001b\u0034\u0000\u0008"
+            + "\u0061\u0047\u0014\u0003\u0011\u000f\u0000\u0004\u0008\u000b\u0020\n\u0016\u002e\u0017\u0000"
+            + "\u0001\u0005\u0000\u0007\u002b\u0036\u0021\u0019\u0006\u0004\u0000\u0000\u0011\u0000\u0000\u0014"
+            + "\r\n\u0026\u0002\u0004\u000c\u001f\u0004\u0001\u0014\u0005\u003f\u0000\u0038\u0056\u0000"
+            + "\u0000\u0000\u0014\u0063\u0002\u0015\u0002\u0009\u0001\u0020\u0001\u0009\u0000\u0000\r\u0000"
+            + "\u0000\u002f\u000b\u0023\u0015\u0001\u0011\u0000\u0002\u0003\u0000\u0000\u0007\u000b\u001f\u0008"
+            + "\u0006\u001b\u0009\u0009\u004b\u0006\u0015\u0008\u0013\u0000\u000b\u0002\u0000\u000f\u0006\n"
+            + "\u0000\u0037\u0017\u0000\u0011\u004c\u0000\u0051\u0002\u002c\r\u0033\u0049\u0013\u0002\u0008"
+            + "\u0005\u0006\u0004\u0031\u0016\n\u0002\u0060\u0001\u0001\u0000\u0008\u000c\u0001\u0011\u0003"
+            + "\u0002\u0012\u0005\u0015\u0006\u0005\u0016\u0015\u0001\u0000\u0002\u0001\u0007\u0006\u0001\u0015"
+            + "\u0000\u000e\u0013\u0001\u0000\u0015\u0000\u0000\u0000\u000f\u0004\u008a\u001a\u0002\n\u0012"
+            + "\u0009\u0001\u000b\u0001\u0028\u0021\u0013\u0003\u0053\u002e\u00b5\u0002\u0000\u0002\u0011\u0011"
+            + "\u002e\u0000\u0002\u000e\u0008\u0048\u0028\u0000\u0002\u0006\u0005\u0013\u0010\u0000\u007a\u0002"
+            + "\u0004\u0006\u0000\u000f\r\u0021\u0108\n\u0011\u001a\n\u0001\u0020\u000e\u0000\u0000"
+            + "\u0000\u0028\u003c\u0005\u0055\u003d\u0036\u0035\u0002\u0007\u000f\u0005\u0013\u0018\u0012\u0008"
+            + "\u0017\u003e\u0000\u0000\u0003\u0001\u0000\u0014\u0009\u0000\u0011\u0007\u0011\u0004\u0031\u000b"
+            + "\u0003\u0000\n\u002b\"\u001a\u0004\u001b\u0000\u0027\u0003\u0000\u0018\u0003\u0047\u0000"
+            + "\u0021\u0016\u0021\u0007\u0006\u0013\u0000\u0014\u0003\u000f\u00d7\u0035\r\u000b\u0007\u0001"
+            + "\u0004\u0004\u000e\u0000\u0031\u0039\u0032\u005a\u0000\u0009\r\u0004\u0001\u0005\u0001\u0000"
+            + "\u00b9\u0053\u004e\u0010\u0000\u0001\u003b\r\u0019\u0000\n\u0004\u0005\u0000\u0021\u0000"
+            + "\u001e\u0000\u0003\u0000\u00b2\u0018\u0010\u0003\u0000\r\r\u002a\u000c\u001d\u0000\u001d"
+            + "\u0004\u0041\u0002\u0040\u0031\n\u0031\u0003\u0006\n\u0015\u0001\u000b\u0001\u0061\u0000"
+            + "\u000f\n\u0024\u0019\u0000\u0000\u0014\u0000\u0002\u0000\u0007\u0001\u0088\u001f\u0001\u0033"
+            + "\u0000\u003b\u001f\u0000\u001f\u0003\u005f\u0014\n\u0005\u0007\u0030\u0000\u0015\u0004\u002d"
+            + "\u0003\u0020\u0001\u0000\u0009\u0001\u0001\u004f\u005a\n\u0001\u0000\u004c\u0000\u000c\u0014"
+            + "\u0018\u0037\u0000\u0018\u009b\u0013\u0000\r\u0007\u0002\u0001\u0049\n\u0011\u0000\u004d"
+            + "\u0005\u0017\u0048\u0010\u0005\u0007\u0026\u0010\u000f\u0003\u005d\u0000\u0098\u0009\u0021\u003f"
+            + "\u001e\u0006\u0004\u0011\u0003\u0023\r\u0041\u0034\u0017\u004a\u0000\u0000\u0002\u000e\u0000"
+            + "\u000c\u0002\u0010\u001b\u0005\u0020\u0009\u005d\u0003\u0060\u0000\u002c\u0018\u0075\u0004\u0055"
+            + "\u0000\n\u0003\u0010\u0002\u0010\u0008\u0002\u0000\u0018\u0001\u0008\u0005\u00e7\u0005\u0001"
+            + "\u0005\u00c2\u0008\u0002\u0023\u000b\u0013\u0005\u0001\u0007\u0076\u0043\u002b\u000f\u0001\u0000"
+            + "\u0026\u0024\u0011\u0044\u003a\u0000\u0053\u003f\u0003\u0004\u004e\u00b0\u007e\u0026\u004b\u003a"
+            + "\u0004\u0011\u0000\u0000\u0015\r\u0018\u0009\u0007\u0000\u0018\u0005\u0003\u0000\u0174\u0007"
+            + "\u0015\u0000\u00d0\u00d0\u0026\u0045\u0020\u0000\u0000\u0000\u003c\u003f\u004f\u0002\u0072\u0021"
+            + "\u0000\u0000\u0001\u0007\u0007\u0085\u000f\u0004\u0000\u0008\u006a\u0033\u000c\u0003\u0002\u0006"
+            + "\u0003\u0003\u0002\u001b\u0050\u0025\u0000\u001b\u007f\u0004\"\u0004\u0000\u0014\u0001\u0006"
+            + "\u001a\u0004\u00af\u0025\u0030\u0088\u0052\u0055\u0001\u0010\u000c\u0005\u0047\u0007\u0003\u0063"
+            + "\u0006\u0040\u0015\u001a\"\u0003\u0009\u0033\u0002\u005d\u0036\u0005\u0007\u0000\u0027\u0004"
+            + "\u0003\u002a\u0002\u0001\u001c\u0044\u0001\u007c\u0007\u0000\u0037\u0015\u0001\u0003\n\u0005"
+            + "\u001f\r\u0019\u0012\u0038\u0011\u0003\u0003\u0002\u0000\n\u0000\u0001\u0005\u000f\u000e"
+            + "\u0016\u0000\u0002\u0007\u0003\u0006\u0017\u0038\r\u0046\u0000\u0061\u0005\u000e\u002a\u006b"
+            + "\u0001\u0074\u0002\u0000\u0017\u0003\u0028\u0000\u0037\u0027\u0013\u0001\u001f\u0049\u0000\u0000"
+            + "\u0009\u0085\u0051\u0000\u0000\u0045\u00ca\u0004\u0000\u0008\u0003\u0007\u0004\u0009\u0005\u0000"
+            + "\u00c0\u0019\u0002\u0015\u0012\u0024\u0023\u000f\u0000\u000f\u004a\u002a\u0000\u0000\u0001\u003c"
+            + "\u0001\u0002\"\u001a\u0046\u0013\u001f\u0005\u0000\u0004\u0072\u0008\u0000\u0030\u0044\u003e"
+            + "\n\u0001\u006c\u0000\u0011\u0002\u0075\u0003\u0000\u002c\u001c\u0003\u0014\u0010\u0046\u00ad"
+            + "\u0001\u0000\u007c\u0000\u000e\u000f\u002d\u0003\u0008\u0020\u0030\u000f\u0000\u0008\u004d\u000c"
+            + "\u0001\u001e\u0000\u0000\u0005\u0000\u0024\u0017\u0000\u003f\r\u001a\u0000\u0006\u0003\n"
+            + "\u0004\u0032\u0011\u000f\u001e\u0025\u0002\u0042\u0046\u0127\r\u0002\n\u0000\u0006\u0010"
+            + "\u00ba\u00a3\u0005\u00c6\u001a\u0006\u004c\u006f\u000b\u0015\u000f\u0004\u0004\u001a\u0004\n"
+            + "\u0001\u0017\u0004\u0002\u0000\u0076\u0031\u0085\u001d\u0039\u0044\u002c\u0000\u0007\u0002\u006b"
+            + "\u000c\u0063\u001d\u0002\u000b\u000e\u0019\u0015\u0008\u0021\u0008\u0041\u002f\u0000\u0008\u0006"
+            + "\u0001\u0000\u0091\u0003\u003e\u0014\u0082\u0001\u0025\u001e\u0017\u000b\u0001\u001a\u003d\n"
+            + "\u0000\u0001\u0089\u0041\u0001\n\u0003\u0004\u001f\u0063\u0000\u0013\u0002\u0000\u0000\u0031"
+            + "\u0027\u0010\u006e\u0000\u0033\u0034\u0009\u0000\u0015\u0001\u0003\u0030\u0046\u001a\u003d\u005f"
+            + "\u0000\u0012\u0001\r\u0001\u0023\u000f\u0000\u008c\u0000\u000f\u0018\u0036\u0088\u0000\u0012"
+            + "\u0012\n\u0005\u0026\u000f\u0000\u000c\u0058\u0010\u0001\u0004\u0035\u000f\u003b\u0014\u0004"
+            + "\u007e\u00a4\u0018\u003a\u0001\u003a\u00a3\u0002\u0000\u0008\u0035\u0007\u0046\u0056\u0036\u001e"
+            + "\u001b\u0049\u0052\u0039\u0032\u0036\u0049\u0033\u0004\u0000\u0039\u000b\u0000\u007b\u002d\u0002"
+            + "\n\u002d\r\u0007\u009d\u0000\u0073\u002b\u002d\u0002\u0011\u000b\u0000\u0032\u0003\u0005"
+            + "\u0010\u0080\u0027\u0001\u0002\u0035\u0017\u0020\\\u00a8\u0125\u0009\u0000\u0006\u0030\u000c"
+            + "\u0038\u0001\u0005\u003e\u0034\u0031\u0048\u001b\u0006\u008d\u0000\u000c\u0080\u0000\r\u00ad"
+            + "\u0002\u0026\u004a\u0015\u001f\u0016\u0012\u0031\u0001\u0005\u0062\u0054\u0036\u0000\u0002\u00a7"
+            + "\u0000\u0003\u0000\u0163\u0009\u0070\u0008\u0003\u0018\u0005\u0003\u0046\n\u000c\u0037\u000b"
+            + "\u0007\u0016\u0001\u000e\u002c\u0006\u008e\u0025\u0034\u0000\u0004\u0023\u0053\u0013\u00c7\u0059"
+            + "\u0006\u0000\u003d\u00af\u0005\u0002\u000f\u0006\u0017\u0050\r\u004a\u0005\u0000\u0012\u00af"
+            + "\u001d\u002d\u002d\u0020\u00c5\u0021\u0031\u0005\u0000\u0001\u0085\u0002\u0040\u0093\u0068\u0018"
+            + "\u0134\u0001\u0008\u007e\u00b2\u0014\u0007\u0011\u0000\u000f\u002e\u0004\u0001\u004f\u00fd\u0013"
+            + "\u0016\u0000\u000c\u0003\u0009\u0003\u0047\u0049\u0000\u0000\u0003\u0065\u00f2\u0007\u0000\u0011"
+            + "\u001e\u0023\u013e\u001a\u001b\u004d\u0012\u009d\u0004\u001f\u0055\u0058\u0071\u007b\u0000\u0010"
+            + "\u0004\u003a\u0001\u0000\u0008\u0012\u003b\u002a\r\u00bc\u0000\u004f\u0004\u0000\u0014\u00d2"
+            + "\u008c\u001b\u00bf\u0015\"\u0009\u0046\u0000\u0085\u0068\u0041\u0007\u0001\u0006\u0000\u0002"
+            + "\u0000\u0047\u0015\u002e\u0003\u0028\u006a\u0002\u0020\u0009\u0002\u0005\u0000\u0006\u0005\u0036"
+            + "\u002e\u000f\u008a\u0025\u0047\u0009\u0003\u001a\u0121\u0027\u0049\u0081\r\u0075\u000c\u0020"
+            + "\u0052\u0000\u003a\u0000\u0049\u0000\u004f\u0012\u0011\u0015\u0003\u000e\u0025\u013b\u0015\u0150"
+            + "\u0000\u0085\u0024\u00c3\u0010\u000f\u0000\r\u0009\u000e\u0010\u0003\u0013\u0000\u0005\u0004"
+            + "\u0000\u0001\u001e\u0011\u00d9\u004a\\\u0009\u0045\u0020\u006e\u0007\u00f5\u0000\u0041\u003f"
+            + "\u0013\u00d7\u0048\u0007\u001a\u0003\u0005\u001a\u0000\u0000\u002e\u0060\u0045\u0001\u0000\u0038"
+            + "\u0007\u00c2\u0036\r\u0056\u002b\u0017\u0035\u014b\u0040\u0001\u0012\u0210\u0003\u0017\n"
+            + "\u0006\r\u0000\u0028\u0001\u0097\u01d5\u0018\u006f\n\u000b\u0065\u0056\u0001\u0000\u0001"
+            + "\u0023\u0070\u0027\u0018\u0001\u0057\u0000\u0011\u0055\u0006\u0019\u0000\u0007\u0002\u008c\u0043"
+            + "\u0000\u0014\u0000\n\u003f\u000f\u000c\u0013\u002c\u000e\u0021\u0063\u0036\u0009\u0084\u0006"
+            + "\u0017\u00a8\u001b\u0046\u0032\u0002\u008b\u0005\u0000\u0000\u0003\u0041\u000b\u0004\u001d\u0064"
+            + "\u0282\u0013\u003e\u0019\u0000\u01ab\u0091\u00aa\u0026\u0010\u014d\u002d\u001d\u0009\u0015\u004a"
+            + "\u0023\u002f\u002c\u0048\u00d2\u0041\u0005\u0001\u0005\u0025\u0047\r\u003d\u00d4\u000c\u004e"
+            + "\u0006\u0010\n\u0035\u0074\u0063\u0005\u0011\u0000\u0040\u000b\u00c7\u0002\u003e\u0042\u0001"
+            + "\u0002\u0010\u0005\u0009\u0001\u0002\u00fd\u003c\u008b\u0006\u0031\u00e5\u0058\u000b\u0030\u0005"
+            + "\u0137\u00fb\u0019\u0014\u0099\u00e7\u0007\u0014\r\u0015\u0002\u0004\n\u014c\u0000\u00b9"
+            + "\u004d\u0002\u0046\u0088\u002f\u01bc\u017e\u017b\u0013\u0002\u007c\u0167\u0002\u0003\u0001\u0025"
+            + "\u0014\u0004\u0000\u0017\u0000\u003e\u0002\u00d1\u0013\u0020\u002a\u0002\u0031\u0018\u00b8\u0001"
+            + "\u0017\u000e\u0001\u0068\u015a\u0038\u0088\u0155\u00e0\u006d\u006e\u0053\u003c\u0005\u0067\u0007"
+            + "\u0000\u000b\u0075\u0014\u0011\u0034\u0136\u00e8\u0005\u0046\u000c\u0064\u006f\u00e2\u0015\u00b8"
+            + "\u0004\u0044\u0068\u0009\u0000\n\u009b\u0035\u001f\u00eb\u000e\u0002\u0000\u0000\n\u0004"
+            + "\u0008\u0084\u0093\u0035\u0056\u0302\u0006\u0004\u003d\u0014\u0031\u0000\u0001\u0245\u0138\u001c"
+            + "\u00dc\u004b\u0008\u0002\u0049\u0003\u0002\u0218\u0098\u0013\u0046\u001b\u0013\u00b1\u002f\u00f1"
+            + "\u0058\u0006\u0005\u0021\u0000\u0001\u0026\u000f\u004b\u0035\u006f\u01bf\u00b4\u0005\u0002\u0006"
+            + "\u001c\u006e\\\u0156\u002a\u0012\u0000\u002b\u0013\u0021\u0109\u003a\u0111\u0002\u002e\u0000"
+            + "\u0000\u0010\u0000\u0000\u00c0\u00fb\u0064\u0004\u0173\u0042\u01c7\u000c\u0003\u0024\u0001\u0000"
+            + "\u0001\u0000\u002f\u0006\u0001\u00e8\u0000\u0001\u001f\u0076\u0000\u0270\u00bc\u0014\u0058\u02ae"
+            + "\u0103\u0000\u0000\u0004\u0057\u0005\u0004\u003a\u0000\u002f\u01ad\"\u013d\u0074\u0016\u0017"
+            + "\u003b\u000f\u0003\u0040\u0004\"\u009d\u0012\u0112\u0001\u0000\u001d\"\u008b\u0001\u0055"
+            + "\u0000\n\u0025\u0065\u0040\u0005\u0003\u0004\u004c\u0004\u0183\u00ac\u00f9\u0000\u0013\u0053"
+            + "\u0014\u00fd\u00ac\u002b\u01a2\u0001\u001c\u00ad\u0187\u00dd\u0035\u0001\u0245\u001b\u0005\u0000"
+            + "\u0064\u0015\u02f0\u0002\u00a0\u0013\u0015\u001d\u0077\u00ce\u01c4\u00d5\u025a\u0000\u0004\u0004"
+            + "\u0001\u00a8\u0173\u018d\u0000\u007b\u00f2\u0017\u0000\u004b\u0000\u00fc\u001d\r\u02aa\u0068"
+            + "\u0013\u0002\u000e\u0093\u0000\u0047\u0145\u0045\u0236\u002a\u0000\u0000\u008c\u0002\u0018\u0001"
+            + "\u00d4\u0000\u001b\u0112\u00bc\u0003\u0094\u002c\u0133\u01bf\u0060\u0006\u0034\u014e\u001c\u012d"
+            + "\u007a\u03a2\u0029\u00e9\u0001\u0046\u0000\u013f\u00e1\u0131\u0020\u0118\u0030\u0000\u0099\u0001"
+            + "\u00bc\u0000\u0004\u0013\u0379\u00f2\u0247\u0002\u00d4\u0019\u0026\u037d\u0000\u0000\u0710\u020e"
+            + "\u0138\u0000\u000b\u00bd\u000f\u005e\u0001\u0034\u0051\u0086\u0094\u0028\u0075\u012c\u002a\u00d1"
+            + "\r\u0019\u0152\u00e6\u0002\u002d\u0083\u00a8\u0001\u0027\u0002\u0003\u0020\u0001\u0277\u02b6"
+            + "\u0000\u0159\u0031\u00be\u0002\u0015\u021d\u0001\u002d\u0050\u0001\u00f1\u051c\u012e\u0001\u0003"
+            + "\u0254\u0103\u0007\u0000\u0000\u0359\u0013\u06b9\u01cc\u0014\u050a\u0021\u0023\u00dd\u002a\u001a"
+            + "\u03ae\u001e\u014b\u003b\u0035\u0055\u0433\u0003\u007f\u00aa\u001e\u01d6\u006d\u0008\u0008\u01f0"
+            + "\u000c\u01a7\u03d0\u0036\u0396\u002e\u0692\u0000\u0006\u00a0\u0003\u00f9\u0243\u0167\u0032\u023a"
+            + "\u0070\u0028\u0274\u0001\u0300\u0004\u0006\u0528\u0008\u005f\u05f6\u001c\u0002");
+
+    static final CodeTable ISO_3166_ALPHA_2 = new CodeTable(2,
+        "\u0226\u0172\u01f9\u0255\u01a2\u0244\u0202\u0223\u0146\u0280\u0164\u0250\u016d\u0058\u001f\u008c"
+            + "\u0217\u00af\u0042\u0055\u0213\u00ea\u0132\u00c5\u0156\u0106\u017b\u0260\u002a\u0178\u0104\u005d"
+            + "\u020f\\\u0137\u018f\u02b7\u0020\u0181\u00b1\u00c9\u01b1\u0099\u016f\u008e\u0105\u003d\u00bf"
+            + "\u012e\u003e\u0227\u0253\u0183\u002d\u00ca\u0232\u01b6\u020a\u00ad\u002f\u0180\u00e5\u00f7\u0130"
+            + "\u0208\u022a\u008f\u0063\u0086\u020e\u0210\u0035\u0071\u0069\u0076\u01c9\u004d\u015a\u014d\u00ac"
+            + "\u00d2\u003f\u00e6\u00ed\u00d6\u0142\u016b\u018c\u0222\u0179\u0068\u0147\u002e\u016e\u01bd\u01fd"
+            + "\u0158\u0040\u0030\u004c\u0177\u0032\u0159\u00cb\u0174\u00c6\u00c2\u0101\u01cc\u0166\u01b8\u005e"
+            + "\u0107\u00d4\u01eb\u0038\u0143\u01fb\u0157\u0229\u0167\u020d\u0176\u004a\u0140\u021a\u00ff\u023e"
+            + "\u0047\u021f\u0060\u017f\u005a\u0170\u016c\u0052\u0165\u0027\u014f\u00be\u011b\u0173\u00ec\u02bf"
+            + "\u00c3\u00d1\u0224\u00f8\u0044\u00d0\u0206\u016a\u006a\u003a\u00c1\u01bc\u0049\u0205\u0054\u011d"
+            + "\u0175\u004f\u024a\u0079\u01be\u002c\u025b\u0131\u0220\u0139\u0251\u0163\u020c\u020b\u003c\u02cb"
+            + "\u0257\u0059\u01f5\u018a\u0100\u0057\u015d\u0209\u01b5\u00cf\u01c3\u022b\u0238\u02a8\u0162\u0067"
+            + "\u0028\u01c2\u0024\u011e\u0077\u0204\u0236\u01bb\u02d5\u009b\"\u00b4\u00ab\u0219\u0066\u0102"
+            + "\u0171\u006b\u0273\u0021\u0233\u00ce\u0228\u0136\u01b7\u009a\u0037\u0194\u007b\u022e\u01c7\u00e3"
+            + "\u0048\u0043\u003b\u0045\u00cd\u0189\u0259\u0033\u0113\u0230\u0050\u0145\u008a\u0267\u0160\u0215"
+            + "\u01c4\u005f\u017d\u0203\u00c4\u0214\u021b\u0186\u013b",
+        "\u0000\u0007\u000f\u0000\u0005\u0005\u0000\u002b\u0000\u0008\u0001\u001c\u000c\u0000\u0034\u0006"
+            + "\u0031\u0008\r\u0002\u0000\u0001\u0004\u000e\u0001\u0014\u0000\u000b\u0029\u0003\u0000\u000e"
+            + "\u0002\u0006\u001e\u006b\u0004\u0070\u0001\u0007\u0000\u004d\r\u0030\u0002\u0000\u0010\u0015"
+            + "\u0021\u0007\u000e\u0007\u0028\u000e\n\u0049\u0031\u0000\u000f\u00bb\u001f\u0004\u0011\u003f"
+            + "\u003c\u0036\u0001\u01a4\u0010\u0009\u0139\u00c8\u005d\u000f\u0065\u000b\u0084\u015f\u0002\u0019"
+            + "\u0017\u0063\u0066");
+
+    static final CodeTable ISO_3166_ALPHA_3 = new CodeTable(3,
+        "\u47c5\u33de\u064c\u069c\u3946\u3e8d\u25e9\u3a4b\u3d35\u2877\u28d4\u27bb\u04fb\u3820\u1d1a\u38a2"
+            + "\u38d0\u2058\u1bb4\u2aa8\u3fab\u0a2b\u2f11\u3764\u20fa\u0708\u2523\u1a1b\u36e8\u08e7\u14c8\u37bd"
+            + "\u04fc\u227b\u14f0\u36b0\u0b25\u4c7c\u2def\u0627\u1543\u3f0b\u0753\u2f31\u1633\u2686\u2eeb\u2632"
+            + "\u3d08\u3864\u40f1\u104e\u28e6\u0523\u277b\u29d9\u2676\u2718\u07dc\u04cc\u1052\u247b\u0ce9\u402d"
+            + "\u0818\u3803\u1b0e\u37d8\u1e38\u3098\u3c8b\u3b39\u0a51\u3949\u2e74\u26ff\u20ce\u0ac4\u2f96\u227e"
+            + "\u1846\u14c5\u08b4\u122d\u1fe8\u2652\u36eb\u0382\u2587\u2356\u18ed\u2926\u2f8a\u3b1f\u0971\u3ed5"
+            + "\u096f\u0a2c\u289c\u3b6f\u38c1\u2038\u15d9\u202a\u0cc4\u0b3e\u1b98\u157a\u2572\u3f65\u102c\u0524"
+            + "\u2578\u2256\u041f\u378c\u3a97\u1550\u2684\u0b3b\u14e4\u3775\u0673\u1217\u1bae\u35b0\u1b1f\u2565"
+            + "\u2db6\u34ec\u0799\u2f81\u1b95\u288b\u268f\u3b3d\u06ad\u0b4e\u156b\u2f7f\u15e1\u3736\u3f3b\u08ac"
+            + "\u18c4\u0d06\u274f\u15d8\u21d4\u04c6\u1437\u0994\u0726\u27bc\u39c0\u3dcf\u2db9\u3695\u0a2d\u247f"
+            + "\u07a6\u0703\u1061\u0e23\u130b\u0f13\u26b4\u079a\u4b6b\u438d\u163f\u2526\u2985\u25a4\u140c\u0c00"
+            + "\u03a5\u1324\u3761\u041e\u1046\u4a2b\u1e21\u3878\u283b\u3847\u3a2a\u04f6\u0681\u04e7\u1618\u03cd"
+            + "\u162c\u0457\u2270\u1485\u0a24\u38b0\u364b\u243c\u1265\u2e29\u0820\u299a\u17f8\u39cd\u2532\u358c"
+            + "\u069d\u2274\u387b\u265d\u0710\u3a0d\u3bb3\u2732\u0c7b\u42c9\u2c24\u3a29\u04c4\u1b93\u3b41\u12fd"
+            + "\u2f8f\u1f88\u0655\u3701\u0647\u2806\u190d\u0968\u1b4a\u3dcc\u182b\u3039\u0326\u245d\u2324\u0ad9"
+            + "\u0a27\u0a7a\u0645\u0ea3\u09fc\u388d\u1bbe\u059c\u1ca2",
+        "\u0004\u0001\u006c\u0000\u0001\u000e\u0018\n\u0000\u0006\u0000\u0017\u0001\u0016\u0006\u0011"
+            + "\u0000\u002d\u0018\u002c\u002b\u0012\u0007\u0016\n\u004e\u0004\u0023\u0081\u000b\u0000\u0032"
+            + "\u0008\u0004\u0025\u00b1\u0026\u0045\u0006\u0001\u0021\u0002\u003d\u0014\u0006\u000b\u0008\r"
+            + "\u000c\u0032\u0034\u0001\u0000\u0000\u0000\u0003\u00a9\u0064\u0010\u0004\u009d\u005a\u003d\u0000"
+            + "\u0002\n\u0020\u00b0\u007f\u0039\n\u0008\u0015\u0000\u0079\u0001\u004e\r\u0038\u00c1"
+            + "\u0016\u0000\u0001");
+
+    private IsoCodeTables() {
+    }
+}
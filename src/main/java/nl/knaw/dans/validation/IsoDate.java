@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the value of a field is a date in the selected {@link Profile}. Supported types are {@link String}, {@link CharSequence} and, for metadata
+ * imports, {@link Iterable} of {@link CharSequence}.
+ */
+@Documented
+@ConstraintCost(ConstraintCost.Level.CHEAP)
+@Constraint(validatedBy = { IsoDateValidator.class, IsoDateValidatorForIterable.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IsoDate {
+    String message() default "Invalid date for profile {profile}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    Profile profile() default Profile.DATE;
+
+    /**
+     * The accepted date formats.
+     */
+    enum Profile {
+        /**
+         * ISO 8601 calendar date: <code>YYYY-MM-DD</code>.
+         */
+        DATE,
+        /**
+         * ISO 8601 date and time: <code>YYYY-MM-DDThh:mm[:ss[.fff]]</code>, optionally followed by <code>Z</code> or an offset such as
+         * <code>+01:00</code>.
+         */
+        DATE_TIME,
+        /**
+         * ISO 8601 year and month: <code>YYYY-MM</code>.
+         */
+        YEAR_MONTH,
+        /**
+         * Extended Date/Time Format level 0: <code>YYYY</code>, <code>YYYY-MM</code>, <code>YYYY-MM-DD</code>, a date-time with seconds, or an interval of
+         * two dates separated by <code>/</code>.
+         */
+        EDTF_LEVEL_0,
+        /**
+         * Extended Date/Time Format level 1: level 0 plus qualifiers (<code>?</code>, <code>~</code>, <code>%</code>), unspecified digits
+         * (<code>201X</code>, <code>1985-04-XX</code>), seasons (<code>2001-21</code>), negative and <code>Y</code>-prefixed years, and intervals with an
+         * open (<code>..</code>) or unknown (empty) end.
+         */
+        EDTF_LEVEL_1
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+/**
+ * Hand-written single-pass scanner for the date formats of {@link IsoDate}. It only inspects the characters of the input: no exceptions are thrown and no
+ * temporal objects are created. Calendar dates are checked for existence (e.g., no 30 February), using the proleptic Gregorian calendar.
+ */
+final class IsoDateScanner {
+    private static final int FAIL = -1;
+
+    private IsoDateScanner() {
+    }
+
+    static boolean matches(CharSequence s, IsoDate.Profile profile) {
+        int n = s.length();
+        switch (profile) {
+            case DATE:
+                return calendarDate(s, 0) == n;
+            case YEAR_MONTH:
+                return yearMonth(s, 0) == n;
+            case DATE_TIME:
+                return n > 11 && s.charAt(10) == 'T' && calendarDate(s, 0) == 10 && time(s, 11, false) == n;
+            case EDTF_LEVEL_0:
+                return edtf(s, false);
+            case EDTF_LEVEL_1:
+                return edtf(s, true);
+            default:
+                throw new IllegalArgumentException("Unsupported profile: " + profile);
+        }
+    }
+
+    /*
+     * YYYY-MM-DD
+     */
+    private static int calendarDate(CharSequence s, int i) {
+        int year = fourDigits(s, i);
+        if (year < 0 || !isAt(s, i + 4, '-')) {
+            return FAIL;
+        }
+        int month = twoDigits(s, i + 5);
+        if (month < 1 || month > 12 || !isAt(s, i + 7, '-')) {
+            return FAIL;
+        }
+        int day = twoDigits(s, i + 8);
+        return day >= 1 && day <= daysInMonth(year, month) ? i + 10 : FAIL;
+    }
+
+    /*
+     * YYYY-MM
+     */
+    private static int yearMonth(CharSequence s, int i) {
+        if (fourDigits(s, i) < 0 || !isAt(s, i + 4, '-')) {
+            return FAIL;
+        }
+        int month = twoDigits(s, i + 5);
+        return month >= 1 && month <= 12 ? i + 7 : FAIL;
+    }
+
+    /*
+     * hh:mm[:ss[(.|,)f+]][Z|(+|-)hh[[:]mm]]
+     */
+    private static int time(CharSequence s, int i, boolean secondsRequired) {
+        int n = s.length();
+        int hour = twoDigits(s, i);
+        int minute = isAt(s, i + 2, ':') ? twoDigits(s, i + 3) : FAIL;
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return FAIL;
+        }
+        i += 5;
+        if (isAt(s, i, ':')) {
+            int second = twoDigits(s, i + 1);
+            if (second < 0 || second > 60) {
+                return FAIL;
+            }
+            i += 3;
+            if (isAt(s, i, '.') || isAt(s, i, ',')) {
+                int start = ++i;
+                while (i < n && isDigit(s.charAt(i))) {
+                    i++;
+                }
+                if (i == start) {
+                    return FAIL;
+                }
+            }
+        }
+        else if (secondsRequired) {
+            return FAIL;
+        }
+        if (isAt(s, i, 'Z')) {
+            return i + 1;
+        }
+        if (isAt(s, i, '+') || isAt(s, i, '-')) {
+            int offsetHours = twoDigits(s, i + 1);
+            if (offsetHours < 0 || offsetHours > 23) {
+                return FAIL;
+            }
+            i += 3;
+            int minuteStart = isAt(s, i, ':') ? i + 1 : i;
+            int offsetMinutes = twoDigits(s, minuteStart);
+            if (offsetMinutes >= 0) {
+                if (offsetMinutes > 59) {
+                    return FAIL;
+                }
+                i = minuteStart + 2;
+            }
+            else if (minuteStart != i) {
+                return FAIL;
+            }
+        }
+        return i;
+    }
+
+    /*
+     * A date, a date-time or an interval of dates. Level 1 adds open ("..") and unknown ("") interval ends to the level 1 features supported by edtfDate.
+     */
+    private static boolean edtf(CharSequence s, boolean level1) {
+        int n = s.length();
+        if (n > 11 && s.charAt(10) == 'T') {
+            return calendarDate(s, 0) == 10 && time(s, 11, true) == n;
+        }
+        int i;
+        boolean startIsDate = true;
+        if (level1 && n >= 2 && s.charAt(0) == '.' && s.charAt(1) == '.') {
+            i = 2;
+            startIsDate = false;
+        }
+        else if (level1 && isAt(s, 0, '/')) {
+            i = 0;
+            startIsDate = false;
+        }
+        else {
+            i = edtfDate(s, 0, level1);
+            if (i == n) {
+                return true;
+            }
+        }
+        if (i < 0 || !isAt(s, i, '/')) {
+            return false;
+        }
+        i++;
+        if (level1 && (i == n || (n - i == 2 && s.charAt(i) == '.' && s.charAt(i + 1) == '.'))) {
+            return startIsDate;
+        }
+        return edtfDate(s, i, level1) == n;
+    }
+
+    /*
+     * Level 0: YYYY, YYYY-MM or YYYY-MM-DD. Level 1 adds: Y-prefixed years of more than four digits, negative years, seasons (months 21-24), unspecified
+     * digits (YYYX, YYXX, YYYY-XX, YYYY-MM-XX, YYYY-XX-XX) and a trailing qualifier (?, ~ or %).
+     */
+    private static int edtfDate(CharSequence s, int i, boolean level1) {
+        int n = s.length();
+        if (i >= n) {
+            return FAIL;
+        }
+        if (level1 && s.charAt(i) == 'Y') {
+            int start = isAt(s, i + 1, '-') ? i + 2 : i + 1;
+            int j = start;
+            while (j < n && isDigit(s.charAt(j))) {
+                j++;
+            }
+            return j - start > 4 && s.charAt(start) != '0' ? j : FAIL;
+        }
+        boolean negative = level1 && s.charAt(i) == '-';
+        if (negative) {
+            i++;
+        }
+        if (i + 4 > n) {
+            return FAIL;
+        }
+        int year = 0;
+        int unspecifiedYearDigits = 0;
+        for (int k = 0; k < 4; k++) {
+            char c = s.charAt(i + k);
+            if (isDigit(c) && unspecifiedYearDigits == 0) {
+                year = year * 10 + c - '0';
+            }
+            else if (level1 && c == 'X' && k >= 2) {
+                unspecifiedYearDigits++;
+            }
+            else {
+                return FAIL;
+            }
+        }
+        i += 4;
+        if (negative) {
+            return year == 0 || unspecifiedYearDigits > 0 ? FAIL : qualifier(s, i, level1);
+        }
+        if (unspecifiedYearDigits > 0 || !isAt(s, i, '-')) {
+            return qualifier(s, i, level1);
+        }
+        int month = twoDigits(s, i + 1);
+        boolean monthUnspecified = level1 && isAt(s, i + 1, 'X') && isAt(s, i + 2, 'X');
+        if (level1 && month >= 21 && month <= 24) {
+            return qualifier(s, i + 3, level1);
+        }
+        if (!monthUnspecified && (month < 1 || month > 12)) {
+            return FAIL;
+        }
+        i += 3;
+        if (isAt(s, i, '-')) {
+            int day = twoDigits(s, i + 1);
+            boolean dayUnspecified = level1 && isAt(s, i + 1, 'X') && isAt(s, i + 2, 'X');
+            if (!dayUnspecified && (monthUnspecified || day < 1 || day > daysInMonth(year, month))) {
+                return FAIL;
+            }
+            i += 3;
+        }
+        return qualifier(s, i, level1);
+    }
+
+    private static int qualifier(CharSequence s, int i, boolean level1) {
+        return level1 && (isAt(s, i, '?') || isAt(s, i, '~') || isAt(s, i, '%')) ? i + 1 : i;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int fourDigits(CharSequence s, int i) {
+        int high = twoDigits(s, i);
+        int low = twoDigits(s, i + 2);
+        return high < 0 || low < 0 ? FAIL : high * 100 + low;
+    }
+
+    private static int twoDigits(CharSequence s, int i) {
+        if (i + 2 > s.length() || !isDigit(s.charAt(i)) || !isDigit(s.charAt(i + 1))) {
+            return FAIL;
+        }
+        return (s.charAt(i) - '0') * 10 + s.charAt(i + 1) - '0';
+    }
+
+    private static boolean isAt(CharSequence s, int i, char c) {
+        return i < s.length() && s.charAt(i) == c;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
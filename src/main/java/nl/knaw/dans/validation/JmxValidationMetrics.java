@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ValidationMetrics} that are exported as MXBeans, one per constraint type and value type, named
+ * <code>&lt;domain&gt;:type=ValidationStats,constraint=&lt;constraint&gt;,valueType=&lt;value type&gt;</code>. The beans are registered when a validator is
+ * first invoked, and unregistered by {@link #close()}. If a bean with that name is already registered, for instance by another instance that was not closed,
+ * the name gets an extra key property <code>instance=&lt;n&gt;</code> that is unique to this instance. See {@link ValidationStatsMXBean} for the attributes.
+ */
+public class JmxValidationMetrics implements ValidationMetrics, AutoCloseable {
+    public static final String DEFAULT_DOMAIN = "nl.knaw.dans.validation";
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final MBeanServer server;
+    private final String domain;
+    private final int instance = INSTANCES.incrementAndGet();
+    private final Map<List<Class<?>>, Stats> stats = new ConcurrentHashMap<>();
+
+    public JmxValidationMetrics() {
+        this(ManagementFactory.getPlatformMBeanServer(), DEFAULT_DOMAIN);
+    }
+
+    public JmxValidationMetrics(MBeanServer server, String domain) {
+        this.server = server;
+        this.domain = domain;
+    }
+
+    @Override
+    public Probe probe(Class<? extends Annotation> constraintType, Class<?> valueType) {
+        return stats.computeIfAbsent(List.of(constraintType, valueType), k -> register(new Stats(constraintType, valueType)));
+    }
+
+    private Stats register(Stats s) {
+        try {
+            try {
+                server.registerMBean(new StandardMBean(s, ValidationStatsMXBean.class, true), s.objectName);
+            }
+            catch (InstanceAlreadyExistsException e) {
+                s.objectName = new ObjectName(s.objectName + ",instance=" + instance);
+                server.registerMBean(new StandardMBean(s, ValidationStatsMXBean.class, true), s.objectName);
+            }
+        }
+        catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + s.objectName, e);
+        }
+        return s;
+    }
+
+    /**
+     * Unregisters the beans. Uninstall these metrics first, or beans will be registered again.
+     */
+    @Override
+    public void close() {
+        for (Stats s : stats.values()) {
+            try {
+                server.unregisterMBean(s.objectName);
+            }
+            catch (JMException e) {
+                // Already unregistered by someone else
+            }
+        }
+        stats.clear();
+    }
+
+    ObjectName objectName(Class<? extends Annotation> constraintType, Class<?> valueType) {
+        Stats s = stats.get(List.of(constraintType, valueType));
+        return s == null ? defaultObjectName(constraintType, valueType) : s.objectName;
+    }
+
+    private ObjectName defaultObjectName(Class<? extends Annotation> constraintType, Class<?> valueType) {
+        try {
+            return new ObjectName(domain + ":type=ValidationStats,constraint=" + ObjectName.quote(constraintType.getName()) + ",valueType="
+                + ObjectName.quote(valueType.getName()));
+        }
+        catch (JMException e) {
+            throw new IllegalArgumentException("Invalid JMX domain: " + domain, e);
+        }
+    }
+
+    private final class Stats implements ValidationStatsMXBean, Probe {
+        private static final int BUCKETS = 64;
+
+        private final Class<?> constraintType;
+        private final Class<?> valueType;
+        private ObjectName objectName;
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        private Stats(Class<? extends Annotation> constraintType, Class<?> valueType) {
+            this.constraintType = constraintType;
+            this.valueType = valueType;
+            this.objectName = defaultObjectName(constraintType, valueType);
+        }
+
+        @Override
+        public void record(long nanos, boolean valid) {
+            histogram.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos))));
+            totalTime.add(nanos);
+            maxTime.accumulate(nanos);
+            if (!valid) {
+                failures.increment();
+            }
+        }
+
+        @Override
+        public String getConstraintType() {
+            return constraintType.getName();
+        }
+
+        @Override
+        public String getValueType() {
+            return valueType.getName();
+        }
+
+        @Override
+        public long getInvocations() {
+            long n = 0;
+            for (long count : getLatencyHistogram()) {
+                n += count;
+            }
+            return n;
+        }
+
+        @Override
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        @Override
+        public long getTotalTimeNanos() {
+            return totalTime.sum();
+        }
+
+        @Override
+        public long getMaxTimeNanos() {
+            return maxTime.get();
+        }
+
+        @Override
+        public double getMeanTimeNanos() {
+            long n = getInvocations();
+            return n == 0 ? 0 : (double) getTotalTimeNanos() / n;
+        }
+
+        @Override
+        public long getMedianTimeNanos() {
+            return percentile(0.5);
+        }
+
+        @Override
+        public long get99thPercentileTimeNanos() {
+            return percentile(0.99);
+        }
+
+        @Override
+        public long[] getLatencyHistogram() {
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram.get(i);
+            }
+            return counts;
+        }
+
+        private long percentile(double p) {
+            long[] counts = getLatencyHistogram();
+            long n = 0;
+            for (long count : counts) {
+                n += count;
+            }
+            long rank = (long) Math.ceil(p * n);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    return i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << i;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the value of a field is a language code of the selected {@link Standard}, ignoring case. Supported types are {@link String} and
+ * {@link CharSequence}.
+ */
+@Documented
+@ConstraintCost(ConstraintCost.Level.CHEAP)
+@Constraint(validatedBy = { LanguageCodeValidator.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LanguageCode {
+    String message() default "Invalid {standard} language code";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    Standard standard() default Standard.ISO_639_1;
+
+    /**
+     * The accepted code lists.
+     */
+    enum Standard {
+        /**
+         * ISO 639-1 two-letter codes, such as <code>nl</code>.
+         */
+        ISO_639_1,
+        /**
+         * ISO 639-2 three-letter codes, both bibliographic (<code>dut</code>) and terminologic (<code>nld</code>).
+         */
+        ISO_639_2,
+        /**
+         * ISO 639-3 three-letter codes, such as <code>nld</code>.
+         */
+        ISO_639_3
+    }
+}
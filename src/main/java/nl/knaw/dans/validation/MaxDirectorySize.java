@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the regular files in a directory tree take up at most {@link #value()} bytes. Supported types are {@link String},
+ * {@link java.io.File} and {@link java.nio.file.Path}. The directory must exist. Symbolic links are not followed.
+ */
+@Documented
+@ConstraintCost(value = ConstraintCost.Level.EXPENSIVE, io = true)
+@Constraint(validatedBy = { MaxDirectorySizeValidatorForPath.class, MaxDirectorySizeValidatorForFile.class, MaxDirectorySizeValidatorForString.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxDirectorySize {
+    String message() default "Directory is larger than {value} bytes";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * The maximum size in bytes.
+     *
+     * @return the maximum size
+     */
+    long value();
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the value of a field is a media type (MIME type) of the form <code>type/subtype</code>, optionally followed by parameters, and that it is
+ * one of the allowed media types. Supported types are {@link String} and {@link CharSequence}.
+ *
+ * <p>The allowed media types are the union of {@link #allowed()} and the entries in {@link #allowedResource()}. Entries can be exact media types, such as
+ * <code>application/pdf</code>, or wildcards, such as <code>image/*</code> or <code>*&#47;*</code>. Matching ignores case and parameters. If no media types
+ * are specified, any syntactically valid media type is allowed.</p>
+ */
+@Documented
+@ConstraintCost(ConstraintCost.Level.CHEAP)
+@Constraint(validatedBy = { MediaTypeValidator.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MediaType {
+    String message() default "Media type not allowed";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * Allowed media types.
+     *
+     * @return the media types
+     */
+    String[] allowed() default {};
+
+    /**
+     * Class path resource with allowed media types, one per line. Empty lines and lines starting with <code>#</code> are ignored.
+     *
+     * @return the resource name, as passed to {@link ClassLoader#getResource(String)}
+     */
+    String allowedResource() default "";
+}
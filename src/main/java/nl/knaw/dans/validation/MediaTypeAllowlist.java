@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compiled form of the attributes of a {@link MediaType} annotation. The allowed media types are kept in a trie, so that a value is checked for syntax and
+ * matched against all entries, including <code>type/*</code> wildcards, in one left-to-right pass over its characters.
+ */
+final class MediaTypeAllowlist {
+    private static final int EXACT = 1;
+    private static final int ANY_SUBTYPE = 2;
+
+    /*
+     * The characters allowed in type and subtype names (restricted-name-chars in RFC 6838), indexed by ASCII code.
+     */
+    private static final boolean[] NAME_CHARS = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            NAME_CHARS[c] = true;
+            NAME_CHARS[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            NAME_CHARS[c] = true;
+        }
+        for (char c : "!#$&-^_.+".toCharArray()) {
+            NAME_CHARS[c] = true;
+        }
+    }
+
+    private final CharTrie types;
+    private final boolean anyType;
+
+    private MediaTypeAllowlist(CharTrie types, boolean anyType) {
+        this.types = types;
+        this.anyType = anyType;
+    }
+
+    /**
+     * Compiles the attributes of the annotation.
+     *
+     * @param annotation the annotation
+     * @return the compiled allowlist
+     * @throws IllegalArgumentException if an entry is not a media type or wildcard, or if the resource cannot be found
+     * @throws UncheckedIOException     if the resource cannot be read
+     */
+    static MediaTypeAllowlist compile(MediaType annotation) {
+        return CompiledState.intern(MediaTypeAllowlist.class, () -> build(annotation), annotation.allowed(), annotation.allowedResource());
+    }
+
+    private static MediaTypeAllowlist build(MediaType annotation) {
+        List<String> entries = new ArrayList<>(Arrays.asList(annotation.allowed()));
+        if (!annotation.allowedResource().isEmpty()) {
+            entries.addAll(readResource(annotation.allowedResource()));
+        }
+        CharTrie.Builder types = CharTrie.builder();
+        boolean anyType = entries.isEmpty();
+        for (String entry : entries) {
+            String type = entry.trim().toLowerCase(Locale.ROOT);
+            int slash = type.indexOf('/');
+            if (type.equals("*/*")) {
+                anyType = true;
+            }
+            else if (slash > 0 && type.endsWith("/*") && isName(type, 0, slash)) {
+                types.add(type.substring(0, slash + 1), ANY_SUBTYPE);
+            }
+            else if (slash > 0 && isName(type, 0, slash) && isName(type, slash + 1, type.length())) {
+                types.add(type, EXACT);
+            }
+            else {
+                throw new IllegalArgumentException("Invalid media type: " + entry);
+            }
+        }
+        return new MediaTypeAllowlist(types.build(), anyType);
+    }
+
+    private static List<String> readResource(String name) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = MediaTypeAllowlist.class.getClassLoader();
+        }
+        InputStream in = classLoader.getResourceAsStream(name);
+        if (in == null) {
+            throw new IllegalArgumentException("Media type resource not found: " + name);
+        }
+        List<String> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    entries.add(line);
+                }
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Cannot read media type resource " + name, e);
+        }
+        return entries;
+    }
+
+    /**
+     * Checks a value against the allowlist. Parameters (everything from the first <code>;</code>) are only checked to be separated from the subtype by
+     * optional whitespace.
+     *
+     * @param s the value
+     * @return null if the value is an allowed media type, otherwise a violation message
+     */
+    String check(CharSequence s) {
+        int n = s.length();
+        int node = CharTrie.ROOT;
+        int slash = -1;
+        boolean wildcardMatch = false;
+        int end = n;
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c == '/') {
+                if (slash >= 0 || i == 0) {
+                    return "Invalid media type: illegal character at index " + i;
+                }
+                slash = i;
+            }
+            else if ((c == ';' || c == ' ' || c == '\t') && slash >= 0) {
+                end = i;
+                break;
+            }
+            else if (c >= 128 || !NAME_CHARS[c]) {
+                return "Invalid media type: illegal character at index " + i;
+            }
+            if (node != CharTrie.NO_NODE) {
+                node = types.next(node, UriSyntax.toLowerAscii(c));
+                if (c == '/' && node != CharTrie.NO_NODE && (types.flags(node) & ANY_SUBTYPE) != 0) {
+                    wildcardMatch = true;
+                }
+            }
+        }
+        if (slash < 0 || end == slash + 1) {
+            return "Invalid media type: missing subtype";
+        }
+        for (int i = end; i < n; i++) {
+            char c = s.charAt(i);
+            if (c == ';') {
+                break;
+            }
+            if (c != ' ' && c != '\t') {
+                return "Invalid media type: illegal character at index " + i;
+            }
+        }
+        if (anyType || wildcardMatch || node != CharTrie.NO_NODE && (types.flags(node) & EXACT) != 0) {
+            return null;
+        }
+        return "Media type '" + s.subSequence(0, end) + "' is not allowed";
+    }
+
+    private static boolean isName(String s, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= 128 || !NAME_CHARS[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
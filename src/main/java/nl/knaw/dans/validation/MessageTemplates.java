@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+/**
+ * Helpers for violation messages that are built at validation time. Hibernate Validator treats the message of a custom violation as a template, so text
+ * taken from the validated value (a host name, a path in a manifest, an exception message) must be escaped before it is passed to
+ * {@link javax.validation.ConstraintValidatorContext#buildConstraintViolationWithTemplate(String)}; otherwise <code>{...}</code> and <code>${...}</code> in
+ * the value would be interpolated.
+ */
+final class MessageTemplates {
+
+    private MessageTemplates() {
+    }
+
+    /**
+     * Returns a template that interpolates to the given message, unchanged.
+     *
+     * @param message the message
+     * @return the escaped message
+     */
+    static String literal(String message) {
+        int i = 0;
+        int n = message.length();
+        while (i < n && !isSpecial(message.charAt(i))) {
+            i++;
+        }
+        if (i == n) {
+            return message;
+        }
+        StringBuilder sb = new StringBuilder(n + 8).append(message, 0, i);
+        for (; i < n; i++) {
+            char c = message.charAt(i);
+            if (isSpecial(c)) {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isSpecial(char c) {
+        return c == '{' || c == '}' || c == '$' || c == '\\';
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates that the volume of a path has at least {@link #value()} bytes of usable space. Supported types are {@link String}, {@link java.io.File} and
+ * {@link java.nio.file.Path}. If the path does not exist yet, the volume of its nearest existing ancestor is checked. The free space per volume is cached for
+ * two seconds.
+ */
+@Documented
+@ConstraintCost(value = ConstraintCost.Level.EXPENSIVE, io = true)
+@Constraint(validatedBy = { MinFreeSpaceValidatorForPath.class, MinFreeSpaceValidatorForFile.class, MinFreeSpaceValidatorForString.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MinFreeSpace {
+    String message() default "Less than {value} bytes of free space";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * The minimum usable space in bytes.
+     *
+     * @return the minimum usable space
+     */
+    long value();
+}
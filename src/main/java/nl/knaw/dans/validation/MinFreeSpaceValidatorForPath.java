@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Validator for the {@link MinFreeSpace} annotation for {@link Path} objects.
+ */
+@ThreadSafeValidator
+public class MinFreeSpaceValidatorForPath extends InstrumentedValidator<MinFreeSpace, Path> {
+    private long minFreeSpace;
+
+    @Override
+    public void initialize(MinFreeSpace constraintAnnotation) {
+        this.minFreeSpace = constraintAnnotation.value();
+    }
+
+    @Override
+    protected boolean validate(Path path, ConstraintValidatorContext context) {
+        if (path == null) {
+            return true; // null is considered valid, if you want to enforce non-null, use @NotNull
+        }
+        try {
+            return FreeSpace.usableSpace(path) >= minFreeSpace;
+        }
+        catch (IOException e) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(MessageTemplates.literal("Free space cannot be determined: " + e.getMessage())).addConstraintViolation();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * Validator for the {@link MinFreeSpace} annotation for {@link String} objects.
+ */
+@ThreadSafeValidator
+public class MinFreeSpaceValidatorForString extends InstrumentedValidator<MinFreeSpace, String> {
+    private MinFreeSpaceValidatorForPath pathValidator;
+
+    @Override
+    public void initialize(MinFreeSpace constraintAnnotation) {
+        this.pathValidator = new MinFreeSpaceValidatorForPath();
+        this.pathValidator.initialize(constraintAnnotation);
+    }
+
+    @Override
+    protected boolean validate(String path, ConstraintValidatorContext context) {
+        if (path == null) {
+            return true;
+        }
+        try {
+            return pathValidator.validate(Path.of(path), context);
+        }
+        catch (InvalidPathException e) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(MessageTemplates.literal("Invalid path: " + e.getReason())).addConstraintViolation();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Parser for the Unix modes checked by {@link ValidMode}: an octal number, such as <code>755</code> or <code>0644</code>, or a POSIX permission string in
+ * the format of {@link java.nio.file.attribute.PosixFilePermissions#fromString(String)}, such as <code>rwxr-x---</code>.
+ */
+public final class ModeParser {
+    private static final ParseResult<?> INVALID_MODE = ParseResult.failure("Invalid mode; a mode must be a valid octal number or a valid Posix file permission string.");
+
+    private static final int MAX_OCTAL_MODE = 07777;
+
+    /*
+     * The permissions in the order of both the bits of an octal mode (from the most significant bit) and the characters of a permission string.
+     */
+    private static final PosixFilePermission[] PERMISSIONS = {
+        PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE, PosixFilePermission.OWNER_EXECUTE,
+        PosixFilePermission.GROUP_READ, PosixFilePermission.GROUP_WRITE, PosixFilePermission.GROUP_EXECUTE,
+        PosixFilePermission.OTHERS_READ, PosixFilePermission.OTHERS_WRITE, PosixFilePermission.OTHERS_EXECUTE
+    };
+    private static final String PERMISSION_CHARS = "rwxrwxrwx";
+
+    private ModeParser() {
+    }
+
+    /**
+     * Parses a mode into the permissions it grants. The setuid, setgid and sticky bits of an octal mode are accepted but not represented in the result.
+     *
+     * @param mode the input
+     * @return the permissions, or a failure
+     */
+    public static ParseResult<Set<PosixFilePermission>> parse(CharSequence mode) {
+        int bits = parseOctal(mode);
+        if (bits < 0) {
+            bits = parsePermissionString(mode);
+        }
+        if (bits < 0) {
+            return ParseResult.cast(INVALID_MODE);
+        }
+        Set<PosixFilePermission> permissions = EnumSet.noneOf(PosixFilePermission.class);
+        for (int i = 0; i < PERMISSIONS.length; i++) {
+            if ((bits & 0400 >> i) != 0) {
+                permissions.add(PERMISSIONS[i]);
+            }
+        }
+        return ParseResult.success(permissions);
+    }
+
+    static boolean isValid(CharSequence mode) {
+        return parseOctal(mode) >= 0 || parsePermissionString(mode) >= 0;
+    }
+
+    private static int parseOctal(CharSequence s) {
+        int n = s.length();
+        if (n == 0) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '7') {
+                return -1;
+            }
+            value = value << 3 | c - '0';
+            if (value > MAX_OCTAL_MODE) {
+                return -1;
+            }
+        }
+        return value;
+    }
+
+    private static int parsePermissionString(CharSequence s) {
+        if (s.length() != PERMISSION_CHARS.length()) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < PERMISSION_CHARS.length(); i++) {
+            char c = s.charAt(i);
+            value <<= 1;
+            if (c == PERMISSION_CHARS.charAt(i)) {
+                value |= 1;
+            }
+            else if (c != '-') {
+                return -1;
+            }
+        }
+        return value;
+    }
+}
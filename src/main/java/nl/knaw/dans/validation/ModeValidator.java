@@ -15,41 +15,27 @@
  */
 package nl.knaw.dans.validation;
 
-import lombok.extern.slf4j.Slf4j;
-
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.nio.file.attribute.PosixFilePermissions;
 
 /**
- * Validator for {@link ValidMode} annotation.
+ * Validator for {@link ValidMode} annotation. Use {@link ModeParser} to get the permissions of a valid mode.
  */
-@Slf4j
-public class ModeValidator implements ConstraintValidator<ValidMode, String> {
+@ThreadSafeValidator(stateless = true)
+public class ModeValidator extends InstrumentedValidator<ValidMode, String> {
 
     @Override
     public void initialize(ValidMode constraintAnnotation) {
     }
 
     @Override
-    public boolean isValid(String mode, ConstraintValidatorContext context) {
+    protected boolean validate(String mode, ConstraintValidatorContext context) {
         if (mode == null) {
             return true; // null is valid (not set means no change in mode
         }
-        try {
-            log.debug("Validating mode: {}.", mode);
-            Integer.parseInt(mode, 8);
+        if (ModeParser.isValid(mode)) {
             return true;
         }
-        catch (NumberFormatException e) {
-            try {
-                PosixFilePermissions.fromString(mode);
-                return true;
-            }
-            catch (IllegalArgumentException e1) {
-                log.error("Invalid mode: {}.", mode);
-                return false;
-            }
-        }
+        Diagnostics.count("ValidMode: invalid mode", mode);
+        return false;
     }
 }
\ No newline at end of file
@@ -27,6 +27,7 @@ import java.lang.annotation.Target;
  */
 @Target({ ElementType.TYPE })
 @Retention(RetentionPolicy.RUNTIME)
+@ConstraintCost(ConstraintCost.Level.CHEAP)
 @Constraint(validatedBy = MutuallyExclusiveValidator.class)
 @Documented
 public @interface MutuallyExclusive {
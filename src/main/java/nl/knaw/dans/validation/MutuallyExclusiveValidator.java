@@ -15,13 +15,13 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 
 /**
  * Validator for {@link MutuallyExclusive} annotation.
  */
-public class MutuallyExclusiveValidator implements ConstraintValidator<MutuallyExclusive, Object> {
+@ThreadSafeValidator
+public class MutuallyExclusiveValidator extends InstrumentedValidator<MutuallyExclusive, Object> {
     private String[] fields;
 
     @Override
@@ -30,7 +30,7 @@ public class MutuallyExclusiveValidator implements ConstraintValidator<MutuallyE
     }
 
     @Override
-    public boolean isValid(Object object, ConstraintValidatorContext context) {
+    protected boolean validate(Object object, ConstraintValidatorContext context) {
         int count = 0;
         for (String field : fields) {
             try {
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The outcome of parsing a value: either the parsed value or the reason why the input was rejected. Parsers return failures without throwing an exception,
+ * and failures with a fixed reason are shared instances, so rejecting a value does not allocate.
+ *
+ * @param <T> the type of the parsed value
+ * @see IdentifierParsers
+ * @see ModeParser
+ */
+public final class ParseResult<T> {
+    private final T value;
+    private final String failureReason;
+
+    private ParseResult(T value, String failureReason) {
+        this.value = value;
+        this.failureReason = failureReason;
+    }
+
+    static <T> ParseResult<T> success(T value) {
+        return new ParseResult<>(value, null);
+    }
+
+    static <T> ParseResult<T> failure(String reason) {
+        return new ParseResult<>(null, reason);
+    }
+
+    /**
+     * Returns a shared failure as a result of the requested type. This is safe because a failure does not hold a value.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ParseResult<T> cast(ParseResult<?> failure) {
+        return (ParseResult<T>) failure;
+    }
+
+    public boolean isSuccess() {
+        return failureReason == null;
+    }
+
+    /**
+     * Returns the parsed value.
+     *
+     * @return the parsed value
+     * @throws NoSuchElementException if parsing failed
+     */
+    public T get() {
+        if (failureReason != null) {
+            throw new NoSuchElementException(failureReason);
+        }
+        return value;
+    }
+
+    public T orElse(T other) {
+        return failureReason == null ? value : other;
+    }
+
+    /**
+     * Returns the reason why parsing failed, suitable as a constraint violation message.
+     *
+     * @return the reason, or null if parsing succeeded
+     */
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    @Override
+    public String toString() {
+        return failureReason == null ? "ParseResult[" + value + "]" : "ParseResult.failure[" + failureReason + "]";
+    }
+}
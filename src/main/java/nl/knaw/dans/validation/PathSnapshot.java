@@ -0,0 +1,277 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * In-memory snapshot of the files under a root directory, used to answer existence and type checks for missing and repeated paths without file system
+ * lookups. Each directory is listed once, on first use, with a {@link DirectoryStream}, which reads only the names of the entries. A path whose name is not in
+ * the listing of its directory is answered as missing without a lookup; the type of an entry that is listed is looked up once, when it is first asked for.
+ * The result is kept as a trie of path names.
+ *
+ * <p>Validating many paths under the root therefore costs one listing per directory plus one lookup per distinct existing path. NIO does not return the
+ * types of the entries with a listing on Unix, so the lookups of existing paths are not saved: if nearly all paths exist and each is checked once, the
+ * listings make a snapshot more expensive than direct lookups. It pays off when many paths are missing, as in the manifest of an incomplete bag, or when
+ * the same paths are checked by several constraints.</p>
+ *
+ * <p>Opening a snapshot makes it current for the calling thread until it is closed. While it is current, the {@link ExistingFile} validators answer checks for
+ * paths under its root from the snapshot. {@link BulkValidator} and {@link CsvValidator} pass the snapshots that are current for the calling thread on to
+ * their worker threads:</p>
+ *
+ * <pre>
+ * try (PathSnapshot snapshot = PathSnapshot.open(bagDir)) {
+ *     violations = validator.validate(deposit);
+ * }
+ * </pre>
+ *
+ * <p>The snapshot does not see changes made to the file system after a directory was listed. Symbolic links are followed, like {@link java.io.File#exists()}
+ * does. If a directory cannot be listed, paths in it are looked up directly.</p>
+ */
+public final class PathSnapshot implements AutoCloseable {
+    static final int MISSING = 0;
+    static final int OTHER = 1;
+    static final int DIRECTORY = 2;
+    static final int UNKNOWN = -1;
+
+    private static final ThreadLocal<PathSnapshot> CURRENT = new ThreadLocal<>();
+
+    private final Path root;
+    private final Node rootNode;
+    private final PathSnapshot previous;
+    private final Thread owner;
+
+    private static final class Node {
+        private static final int NOT_LOOKED_UP = -2;
+
+        private final Path path;
+        private volatile int kind;
+        private volatile Map<String, Node> children;
+        private volatile boolean unlistable;
+
+        private Node(Path path, int kind) {
+            this.path = path;
+            this.kind = kind;
+        }
+
+        /*
+         * Looking up the kind twice in a race is harmless; both threads get the same answer.
+         */
+        private int kind() {
+            int k = kind;
+            if (k == NOT_LOOKED_UP) {
+                k = lookUp(path);
+                kind = k;
+            }
+            return k;
+        }
+    }
+
+    private PathSnapshot(Path root, PathSnapshot previous) {
+        this.root = root;
+        this.rootNode = new Node(root, lookUp(root));
+        this.previous = previous;
+        this.owner = Thread.currentThread();
+    }
+
+    /**
+     * Creates a snapshot of the given root directory and makes it current for the calling thread. Nothing is listed until the first check.
+     *
+     * @param root the root directory
+     * @return the snapshot
+     */
+    public static PathSnapshot open(Path root) {
+        PathSnapshot snapshot = new PathSnapshot(root.toAbsolutePath().normalize(), CURRENT.get());
+        CURRENT.set(snapshot);
+        return snapshot;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    public boolean exists(Path path) {
+        return kind(path) != MISSING;
+    }
+
+    public boolean isDirectory(Path path) {
+        return kind(path) == DIRECTORY;
+    }
+
+    /**
+     * Returns whether the path exists and is not a directory. This is what {@link ExistingFile} accepts as a file.
+     *
+     * @param path the path
+     * @return whether the path is a file
+     */
+    public boolean isFile(Path path) {
+        return kind(path) == OTHER;
+    }
+
+    /**
+     * Makes the snapshot that was current before this one was opened current again.
+     *
+     * @throws IllegalStateException if called from another thread than the one that opened the snapshot
+     */
+    @Override
+    public void close() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("PathSnapshot must be closed by the thread that opened it");
+        }
+        if (CURRENT.get() == this) {
+            if (previous == null) {
+                CURRENT.remove();
+            }
+            else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the kind of file at the given path, using the innermost current snapshot whose root contains the path, or a direct lookup if there is none.
+     *
+     * @param path the path
+     * @return {@link #MISSING}, {@link #DIRECTORY} or {@link #OTHER}
+     */
+    static int kindOf(Path path) {
+        for (PathSnapshot snapshot = CURRENT.get(); snapshot != null; snapshot = snapshot.previous) {
+            int kind = snapshot.lookUpInSnapshot(path);
+            if (kind != UNKNOWN) {
+                return kind;
+            }
+        }
+        return lookUp(path);
+    }
+
+    private int kind(Path path) {
+        int kind = lookUpInSnapshot(path);
+        return kind == UNKNOWN ? lookUp(path) : kind;
+    }
+
+    private int lookUpInSnapshot(Path path) {
+        Path absolute = path.toAbsolutePath().normalize();
+        if (!absolute.startsWith(root)) {
+            return UNKNOWN;
+        }
+        Node node = rootNode;
+        for (Path name : root.relativize(absolute)) {
+            if (name.toString().isEmpty()) {
+                continue; // relativize returns an empty path for the root itself
+            }
+            if (node.kind() != DIRECTORY) {
+                return MISSING;
+            }
+            Map<String, Node> children = list(node);
+            if (children == null) {
+                return UNKNOWN;
+            }
+            node = children.get(name.toString());
+            if (node == null) {
+                return MISSING;
+            }
+        }
+        return node.kind();
+    }
+
+    private static Map<String, Node> list(Node directory) {
+        Map<String, Node> children = directory.children;
+        if (children != null || directory.unlistable) {
+            return children;
+        }
+        synchronized (directory) {
+            if (directory.children == null && !directory.unlistable) {
+                Map<String, Node> listing = new HashMap<>();
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory.path)) {
+                    for (Path entry : entries) {
+                        listing.put(entry.getFileName().toString(), new Node(entry, Node.NOT_LOOKED_UP));
+                    }
+                }
+                catch (IOException | DirectoryIteratorException e) {
+                    directory.unlistable = true;
+                }
+                if (!directory.unlistable) {
+                    directory.children = listing;
+                }
+            }
+            return directory.children;
+        }
+    }
+
+    /**
+     * Wraps a task so that it runs with the snapshots that are current for the calling thread, for validators that hand work to other threads.
+     *
+     * @param task the task
+     * @return the wrapped task, or the task itself if no snapshot is current
+     */
+    static Runnable propagate(Runnable task) {
+        if (CURRENT.get() == null) {
+            return task;
+        }
+        Supplier<Void> wrapped = propagate(() -> {
+            task.run();
+            return null;
+        });
+        return wrapped::get;
+    }
+
+    /**
+     * Wraps a task so that it runs with the snapshots that are current for the calling thread, for validators that hand work to other threads.
+     *
+     * @param task the task
+     * @param <T>  the type of the result
+     * @return the wrapped task, or the task itself if no snapshot is current
+     */
+    static <T> Supplier<T> propagate(Supplier<T> task) {
+        PathSnapshot snapshot = CURRENT.get();
+        if (snapshot == null) {
+            return task;
+        }
+        return () -> {
+            PathSnapshot outer = CURRENT.get();
+            CURRENT.set(snapshot);
+            try {
+                return task.get();
+            }
+            finally {
+                if (outer == null) {
+                    CURRENT.remove();
+                }
+                else {
+                    CURRENT.set(outer);
+                }
+            }
+        };
+    }
+
+    private static int lookUp(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).isDirectory() ? DIRECTORY : OTHER;
+        }
+        catch (IOException | InvalidPathException e) {
+            return MISSING;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import static nl.knaw.dans.validation.Dfa.Builder.ALPHANUMERICS;
+import static nl.knaw.dans.validation.Dfa.Builder.DIGITS;
+import static nl.knaw.dans.validation.Dfa.Builder.HEX_DIGITS;
+import static nl.knaw.dans.validation.Dfa.Builder.LETTERS;
+import static nl.knaw.dans.validation.Dfa.Builder.VISIBLE_ASCII;
+
+/**
+ * Recognizers for persistent identifiers: DOIs, URN:NBNs and Handles. Each is a {@link Dfa} compiled once when this class is loaded. Besides the bare
+ * identifier, the common resolver URL forms are accepted (e.g., <code>https://doi.org/10.17026/dans-xyz</code>).
+ */
+final class PersistentIdentifiers {
+    private static final Dfa DOI;
+    private static final Dfa URN_NBN;
+    private static final Dfa HANDLE;
+
+    private static final String NBN_CHARACTERS = ALPHANUMERICS + "-._~!$&'()*+,;=:@/";
+
+    static {
+        Dfa.Builder doi = Dfa.builder();
+        int doiStart = doi.state(false);
+        int registrant = doi.state(false);
+        int registrantDigits = doi.state(false);
+        int doiSuffixStart = doi.state(false);
+        int doiSuffix = doi.state(true);
+        int afterScheme = httpOrHttps(doi);
+        doi.literal(doi.start(), "doi:", true, doiStart);
+        doi.literal(afterScheme, "doi.org/", true, doiStart);
+        doi.literal(afterScheme, "dx.doi.org/", true, doiStart);
+        doi.literal(doi.start(), "10.", false, registrant);
+        doi.literal(doiStart, "10.", false, registrant);
+        doi.on(registrant, DIGITS, registrantDigits)
+            .on(registrantDigits, DIGITS, registrantDigits)
+            .on(registrantDigits, ".", registrant)
+            .on(registrantDigits, "/", doiSuffixStart)
+            .on(doiSuffixStart, VISIBLE_ASCII, doiSuffix)
+            .onNonAscii(doiSuffixStart, doiSuffix)
+            .on(doiSuffix, VISIBLE_ASCII, doiSuffix)
+            .onNonAscii(doiSuffix, doiSuffix);
+        DOI = doi.build();
+
+        Dfa.Builder nbn = Dfa.builder();
+        int country = nbn.state(false);
+        int countryLetter = nbn.state(false);
+        int countryCode = nbn.state(false);
+        int subNamespaceStart = nbn.state(false);
+        int subNamespace = nbn.state(false);
+        int nbnStringStart = nbn.state(false);
+        int nbnString = nbn.state(true);
+        int percent = nbn.state(false);
+        int percentHex = nbn.state(false);
+        int urnStart = nbn.state(false);
+        afterScheme = httpOrHttps(nbn);
+        nbn.literal(afterScheme, "persistent-identifier.nl/", true, urnStart);
+        nbn.literal(afterScheme, "nbn-resolving.org/", true, urnStart);
+        nbn.literal(afterScheme, "nbn-resolving.de/", true, urnStart);
+        nbn.literal(nbn.start(), "urn:nbn:", true, country);
+        nbn.literal(urnStart, "urn:nbn:", true, country);
+        nbn.on(country, LETTERS, countryLetter)
+            .on(countryLetter, LETTERS, countryCode)
+            .on(countryCode, ":", subNamespaceStart)
+            .on(countryCode, "-", nbnStringStart)
+            .on(subNamespaceStart, ALPHANUMERICS, subNamespace)
+            .on(subNamespace, ALPHANUMERICS, subNamespace)
+            .on(subNamespace, ":", subNamespaceStart)
+            .on(subNamespace, "-", nbnStringStart)
+            .on(nbnStringStart, NBN_CHARACTERS, nbnString)
+            .on(nbnStringStart, "%", percent)
+            .on(nbnString, NBN_CHARACTERS, nbnString)
+            .on(nbnString, "%", percent)
+            .on(percent, HEX_DIGITS, percentHex)
+            .on(percentHex, HEX_DIGITS, nbnString);
+        URN_NBN = nbn.build();
+
+        Dfa.Builder handle = Dfa.builder();
+        int handleStart = handle.state(false);
+        int prefix = handle.state(false);
+        int prefixDot = handle.state(false);
+        int handleSuffixStart = handle.state(false);
+        int handleSuffix = handle.state(true);
+        afterScheme = httpOrHttps(handle);
+        handle.literal(handle.start(), "hdl:", true, handleStart);
+        handle.literal(afterScheme, "hdl.handle.net/", true, handleStart);
+        handle.on(handle.start(), DIGITS, prefix)
+            .on(handleStart, DIGITS, prefix)
+            .on(prefix, ALPHANUMERICS, prefix)
+            .on(prefix, ".", prefixDot)
+            .on(prefixDot, ALPHANUMERICS, prefix)
+            .on(prefix, "/", handleSuffixStart)
+            .on(handleSuffixStart, VISIBLE_ASCII, handleSuffix)
+            .onNonAscii(handleSuffixStart, handleSuffix)
+            .on(handleSuffix, VISIBLE_ASCII, handleSuffix)
+            .onNonAscii(handleSuffix, handleSuffix);
+        HANDLE = handle.build();
+    }
+
+    /*
+     * Character values for the URN:NBN check digit of the Deutsche Nationalbibliothek, indexed by ASCII code. Zero means the character cannot occur.
+     */
+    private static final int[] NBN_CHECK_VALUES = new int[128];
+
+    static {
+        String characters = "0123456789abcdefghijklmnopqrstuvwxyz+:-/_.";
+        int[] values = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 41, 18, 14, 19, 15, 16, 21, 22, 23, 24, 25, 42, 26, 27, 13, 28, 29, 31, 12, 32, 33, 11, 34, 35, 36, 37, 38,
+            49, 17, 39, 45, 43, 47 };
+        for (int i = 0; i < characters.length(); i++) {
+            NBN_CHECK_VALUES[characters.charAt(i)] = values[i];
+            NBN_CHECK_VALUES[Character.toUpperCase(characters.charAt(i))] = values[i];
+        }
+    }
+
+    private PersistentIdentifiers() {
+    }
+
+    /*
+     * Adds the states for "http://" and "https://", case-insensitive, and returns the state after the double slash.
+     */
+    private static int httpOrHttps(Dfa.Builder builder) {
+        int http = builder.literal(builder.start(), "http", true, -1);
+        int afterScheme = builder.literal(http, "://", false, -1);
+        builder.literal(http, "s://", true, afterScheme);
+        return afterScheme;
+    }
+
+    static boolean isDoi(CharSequence s) {
+        return DOI.matches(s);
+    }
+
+    static boolean isHandle(CharSequence s) {
+        return HANDLE.matches(s);
+    }
+
+    static boolean isUrnNbn(CharSequence s) {
+        return URN_NBN.matches(s);
+    }
+
+    /**
+     * Verifies the check digit of a URN:NBN, if its namespace uses one. This is currently only the case for the German namespace (<code>urn:nbn:de</code>),
+     * which uses the algorithm of the Deutsche Nationalbibliothek. The input must already be recognized by {@link #isUrnNbn(CharSequence)}.
+     *
+     * @param s the URN:NBN, possibly in resolver URL form
+     * @return false if the namespace has a check digit and it does not match, true otherwise
+     */
+    static boolean hasValidCheckDigit(CharSequence s) {
+        int start = indexOfUrn(s);
+        if (!UriSyntax.regionEqualsLowerCase(s, start + 8, start + 11, "de:")) {
+            return true;
+        }
+        int end = s.length() - 1;
+        long sum = 0;
+        int position = 0;
+        int lastDigit = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            int value = c < 128 ? NBN_CHECK_VALUES[c] : 0;
+            if (value == 0) {
+                return false;
+            }
+            if (value >= 10) {
+                sum += (long) (value / 10) * ++position;
+            }
+            lastDigit = value % 10;
+            sum += (long) lastDigit * ++position;
+        }
+        char check = s.charAt(end);
+        return lastDigit != 0 && check == (char) ('0' + (sum / lastDigit) % 10);
+    }
+
+    private static int indexOfUrn(CharSequence s) {
+        for (int i = 0; i + 8 <= s.length(); i++) {
+            if (UriSyntax.regionEqualsLowerCase(s, i, i + 8, "urn:nbn:")) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+/**
+ * Recognizers for person identifiers that end in an ISO 7064 MOD 11-2 check character: ORCID iDs and ISNIs. Layout and check character are verified in one
+ * pass over the characters of the input, without allocating.
+ */
+final class PersonIdentifiers {
+    private static final String[] ORCID_PREFIXES = { "https://orcid.org/", "http://orcid.org/" };
+    private static final String[] ISNI_PREFIXES = { "https://isni.org/isni/", "http://isni.org/isni/", "http://www.isni.org/isni/", "isni:", "isni " };
+
+    private PersonIdentifiers() {
+    }
+
+    /**
+     * Accepts an ORCID iD in the form <code>0000-0002-1825-0097</code> or <code>https://orcid.org/0000-0002-1825-0097</code>.
+     *
+     * @param s the input
+     * @return whether the input is an ORCID iD with a valid check character
+     */
+    static boolean isOrcid(CharSequence s) {
+        int start = prefixLength(s, ORCID_PREFIXES);
+        return s.length() - start == 19 && hasValidCheckCharacter(s, start, '-');
+    }
+
+    /**
+     * Accepts an ISNI as 16 characters, either without separators or in groups of four separated by spaces, optionally preceded by <code>ISNI </code>,
+     * <code>isni:</code> or an isni.org URL.
+     *
+     * @param s the input
+     * @return whether the input is an ISNI with a valid check character
+     */
+    static boolean isIsni(CharSequence s) {
+        int start = prefixLength(s, ISNI_PREFIXES);
+        int length = s.length() - start;
+        return (length == 16 || length == 19) && hasValidCheckCharacter(s, start, ' ');
+    }
+
+    private static int prefixLength(CharSequence s, String[] prefixes) {
+        for (String prefix : prefixes) {
+            if (s.length() > prefix.length() && UriSyntax.regionEqualsLowerCase(s, 0, prefix.length(), prefix)) {
+                return prefix.length();
+            }
+        }
+        return 0;
+    }
+
+    /*
+     * Checks 16 characters starting at 'start', optionally grouped in fours by 'separator' (in which case the region is 19 characters long). The first
+     * fifteen must be digits; the last is the check character: a digit or 'X'.
+     */
+    private static boolean hasValidCheckCharacter(CharSequence s, int start, char separator) {
+        boolean grouped = s.length() - start == 19;
+        int total = 0;
+        int digits = 0;
+        for (int i = start; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (grouped && (i - start) % 5 == 4) {
+                if (c != separator) {
+                    return false;
+                }
+                continue;
+            }
+            if (++digits == 16) {
+                int result = (12 - total % 11) % 11;
+                return c == (result == 10 ? 'X' : (char) ('0' + result));
+            }
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            total = (total + c - '0') * 2;
+        }
+        return false;
+    }
+}
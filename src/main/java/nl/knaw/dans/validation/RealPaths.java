@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Resolves paths to their real paths for containment checks. The real paths of directories are kept in a bounded LRU cache for a short time, so that
+ * resolving many paths in the same directory costs one <code>lstat</code> per path instead of a full <code>realpath</code>: the parent directory is looked up
+ * in the cache and only a final component that is a symbolic link is resolved further. Because resolution follows links and handles <code>..</code> the way
+ * the file system does, a path that escapes its root through either is detected. Changes to links in a cached directory's ancestry are seen once the entry
+ * expires.
+ */
+final class RealPaths {
+    static final int CACHE_SIZE = 4096;
+    static final long MAX_AGE_NANOS = 2_000_000_000L;
+
+    private static final Map<Path, Entry> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, Entry> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private static final class Entry {
+        private final Path realPath;
+        private final long created;
+
+        private Entry(Path realPath, long created) {
+            this.realPath = realPath;
+            this.created = created;
+        }
+    }
+
+    private RealPaths() {
+    }
+
+    /**
+     * Checks whether a path is inside a root directory, or is the root directory itself, after resolving symbolic links and <code>..</code> components.
+     *
+     * @param path an absolute path
+     * @param root an absolute path to the root directory
+     * @return whether the path is under the root
+     * @throws IOException if the root or the parent of the path cannot be resolved, for instance because it does not exist
+     */
+    static boolean isUnder(Path path, Path root) throws IOException {
+        return realPath(path).startsWith(realDirectory(root));
+    }
+
+    /**
+     * Returns the real path of a file, using the cached real path of its parent directory. If the file itself does not exist, the result is the real path it
+     * would have if it were created.
+     *
+     * @param path an absolute path
+     * @return the real path
+     * @throws IOException if the parent directory cannot be resolved
+     */
+    static Path realPath(Path path) throws IOException {
+        Path parent = path.getParent();
+        Path name = path.getFileName();
+        if (parent == null || name == null || name.toString().equals(".") || name.toString().equals("..")) {
+            return realDirectory(path);
+        }
+        Path candidate = realDirectory(parent).resolve(name);
+        return Files.isSymbolicLink(candidate) ? candidate.toRealPath() : candidate;
+    }
+
+    /**
+     * Returns the real path of a directory, from the cache if possible.
+     *
+     * @param directory an absolute path
+     * @return the real path
+     * @throws IOException if the directory cannot be resolved
+     */
+    static Path realDirectory(Path directory) throws IOException {
+        long now = System.nanoTime();
+        synchronized (CACHE) {
+            Entry entry = CACHE.get(directory);
+            if (entry != null && now - entry.created < MAX_AGE_NANOS) {
+                return entry.realPath;
+            }
+        }
+        Path realPath = directory.toRealPath();
+        synchronized (CACHE) {
+            CACHE.put(directory, new Entry(realPath, now));
+        }
+        return realPath;
+    }
+
+    static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+}
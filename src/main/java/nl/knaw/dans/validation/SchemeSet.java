@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Immutable set of allowed URI schemes, compiled once when an {@link AllowedUriSchemes} validator is initialized. Lookups are case-insensitive and go through
+ * a perfect hash on the length and the first character of the scheme, so that checking a value costs one table probe and at most a few character comparisons.
+ * The violation messages are also prepared here, so that rejecting a value does not rebuild the list of allowed schemes.
+ */
+final class SchemeSet {
+    private static final int MAX_TABLE_SIZE = 1 << 12;
+
+    private final String[][] table;
+    private final int mask;
+    private final int seed;
+    private final int maxLength;
+    private final String allowedSchemesSuffix;
+    private final String nullSchemeMessage;
+
+    private SchemeSet(String[][] table, int seed, int maxLength, String allowedSchemesSuffix) {
+        this.table = table;
+        this.mask = table.length - 1;
+        this.seed = seed;
+        this.maxLength = maxLength;
+        this.allowedSchemesSuffix = allowedSchemesSuffix;
+        this.nullSchemeMessage = "Invalid URI scheme: null" + allowedSchemesSuffix;
+    }
+
+    /**
+     * Compiles the given schemes.
+     *
+     * @param schemes the allowed schemes, as specified in the annotation
+     * @return the compiled set
+     */
+    static SchemeSet compile(String[] schemes) {
+        return CompiledState.intern(SchemeSet.class, () -> build(schemes), (Object) schemes);
+    }
+
+    private static SchemeSet build(String[] schemes) {
+        Set<String> lowerCase = new LinkedHashSet<>();
+        int maxLength = 0;
+        for (String scheme : schemes) {
+            if (!scheme.isEmpty()) {
+                lowerCase.add(scheme.toLowerCase(Locale.ROOT));
+                maxLength = Math.max(maxLength, scheme.length());
+            }
+        }
+        StringBuilder suffix = new StringBuilder("; allowed schemes are: ");
+        for (int i = 0; i < schemes.length; i++) {
+            suffix.append(i == 0 ? "'" : ", '").append(schemes[i]).append('\'');
+        }
+        for (int size = Integer.highestOneBit(Math.max(1, lowerCase.size() * 2 - 1)) << 1; size <= MAX_TABLE_SIZE; size <<= 1) {
+            for (int seed = 1; seed < 256; seed++) {
+                String[][] table = tryBuild(lowerCase, size, seed);
+                if (table != null) {
+                    return new SchemeSet(table, seed, maxLength, suffix.toString());
+                }
+            }
+        }
+        throw new IllegalArgumentException("Cannot build scheme table for " + lowerCase);
+    }
+
+    /*
+     * Schemes that share length and first character necessarily share a slot; they are kept together in the slot's bucket. Any other collision rejects the
+     * (size, seed) combination.
+     */
+    private static String[][] tryBuild(Set<String> schemes, int size, int seed) {
+        String[][] table = new String[size][];
+        for (String scheme : schemes) {
+            int slot = slot(scheme.length(), scheme.charAt(0), seed, size - 1);
+            String[] bucket = table[slot];
+            if (bucket == null) {
+                table[slot] = new String[] { scheme };
+            }
+            else if (bucket[0].length() == scheme.length() && bucket[0].charAt(0) == scheme.charAt(0)) {
+                String[] extended = new String[bucket.length + 1];
+                System.arraycopy(bucket, 0, extended, 0, bucket.length);
+                extended[bucket.length] = scheme;
+                table[slot] = extended;
+            }
+            else {
+                return null;
+            }
+        }
+        return table;
+    }
+
+    private static int slot(int length, char first, int seed, int mask) {
+        int key = length << 7 | (first & 0x7f);
+        key *= 0x9E3779B1 * seed;
+        return (key ^ key >>> 16) & mask;
+    }
+
+    /**
+     * Checks whether the region <code>[start, end)</code> of the input is one of the allowed schemes, ignoring case.
+     *
+     * @param s     the input
+     * @param start start of the scheme (inclusive)
+     * @param end   end of the scheme (exclusive)
+     * @return whether the scheme is allowed
+     */
+    boolean contains(CharSequence s, int start, int end) {
+        int length = end - start;
+        if (length == 0 || length > maxLength) {
+            return false;
+        }
+        char first = UriSyntax.toLowerAscii(s.charAt(start));
+        if (first >= 128) {
+            return false;
+        }
+        String[] bucket = table[slot(length, first, seed, mask)];
+        if (bucket == null) {
+            return false;
+        }
+        for (String scheme : bucket) {
+            if (UriSyntax.regionEqualsLowerCase(s, start, end, scheme)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean contains(String scheme) {
+        return scheme != null && contains(scheme, 0, scheme.length());
+    }
+
+    /**
+     * Replaces the default violation with one that names the offending scheme and the allowed schemes.
+     *
+     * @param context the validator context
+     * @param scheme  the offending scheme, or null if the value has no scheme
+     */
+    void addViolation(ConstraintValidatorContext context, String scheme) {
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(MessageTemplates.literal(violationMessage(scheme)))
+            .addConstraintViolation();
+    }
+
+    /**
+     * Returns the message for a value with a scheme that is not allowed.
+     *
+     * @param scheme the offending scheme, or null if the value has no scheme
+     * @return the message
+     */
+    String violationMessage(String scheme) {
+        return scheme == null ? nullSchemeMessage : "Invalid URI scheme: '" + scheme + "'" + allowedSchemesSuffix;
+    }
+
+    /**
+     * Checks the scheme and the syntax of a URI given as characters.
+     *
+     * @param value the value
+     * @return null if the value is a valid absolute URI with an allowed scheme, otherwise a violation message
+     */
+    String check(CharSequence value) {
+        int schemeEnd = UriSyntax.schemeEnd(value);
+        if (schemeEnd < 0) {
+            return nullSchemeMessage;
+        }
+        if (!contains(value, 0, schemeEnd)) {
+            return violationMessage(value.subSequence(0, schemeEnd).toString());
+        }
+        int error = UriSyntax.scan(value, null);
+        return error == UriSyntax.VALID ? null : UriSyntax.errorMessage(value, error);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.ValidationException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ConstraintValidatorFactory} that creates a single instance of each validator that is marked {@link ThreadSafeValidator#stateless() stateless}, and
+ * shares it among all constraint declarations. Other validators are created by the delegate factory, or by their no-argument constructor. The validators of
+ * this library that do depend on their annotation attributes compile that state once per distinct set of attribute values, so that their instances are cheap
+ * to initialize as well.
+ *
+ * <pre>
+ * ValidatorFactory factory = Validation.byDefaultProvider().configure()
+ *     .constraintValidatorFactory(new SharingConstraintValidatorFactory())
+ *     .buildValidatorFactory();
+ * </pre>
+ */
+public class SharingConstraintValidatorFactory implements ConstraintValidatorFactory {
+    private final ConstraintValidatorFactory delegate;
+    private final Map<Class<?>, ConstraintValidator<?, ?>> shared = new ConcurrentHashMap<>();
+
+    public SharingConstraintValidatorFactory() {
+        this(null);
+    }
+
+    /**
+     * @param delegate the factory for validators that are not shared, or null to create them with their no-argument constructor
+     */
+    public SharingConstraintValidatorFactory(ConstraintValidatorFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+        ThreadSafeValidator marker = key.getAnnotation(ThreadSafeValidator.class);
+        if (marker != null && marker.stateless()) {
+            return key.cast(shared.computeIfAbsent(key, k -> create(key)));
+        }
+        return create(key);
+    }
+
+    @Override
+    public void releaseInstance(ConstraintValidator<?, ?> instance) {
+        if (delegate != null && shared.get(instance.getClass()) != instance) {
+            delegate.releaseInstance(instance);
+        }
+    }
+
+    private <T extends ConstraintValidator<?, ?>> T create(Class<T> key) {
+        if (delegate != null) {
+            return delegate.getInstance(key);
+        }
+        try {
+            return key.getDeclaredConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException e) {
+            throw new ValidationException("Cannot instantiate " + key.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ClockProvider;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ValidationException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.util.function.BiConsumer;
+
+/**
+ * Minimal {@link ConstraintValidatorContext} for {@link DansValidators}. Violations are passed to a callback as a property path and an interpolated message.
+ * Property paths are rendered like Hibernate Validator renders them (<code>field</code>, <code>field[3]</code>, <code>field[key].other</code>), except
+ * that container element nodes are left out. Message templates are interpolated with the attributes of the constraint annotation; expression language is
+ * not supported.
+ */
+final class SimpleConstraintValidatorContext implements ConstraintValidatorContext {
+    private static final ClockProvider CLOCK_PROVIDER = Clock::systemDefaultZone;
+
+    private final Annotation constraint;
+    private final String basePath;
+    private final BiConsumer<String, String> violations;
+    private boolean defaultViolationDisabled;
+
+    SimpleConstraintValidatorContext(Annotation constraint, String basePath, BiConsumer<String, String> violations) {
+        this.constraint = constraint;
+        this.basePath = basePath;
+        this.violations = violations;
+    }
+
+    /**
+     * Reports the default violation, unless the validator has disabled it. Called when the validator returns false.
+     */
+    void addDefaultViolation() {
+        if (!defaultViolationDisabled) {
+            violations.accept(basePath, interpolate(getDefaultConstraintMessageTemplate()));
+        }
+    }
+
+    @Override
+    public void disableDefaultConstraintViolation() {
+        defaultViolationDisabled = true;
+    }
+
+    @Override
+    public String getDefaultConstraintMessageTemplate() {
+        Object message = attribute(constraint, "message");
+        return message instanceof String s ? s : "";
+    }
+
+    @Override
+    public ClockProvider getClockProvider() {
+        return CLOCK_PROVIDER;
+    }
+
+    @Override
+    public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+        return new Builder(messageTemplate);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        if (type.isInstance(this)) {
+            return type.cast(this);
+        }
+        throw new ValidationException("Type " + type.getName() + " not supported for unwrapping");
+    }
+
+    /**
+     * Interpolates the parameters in a message template. A parameter <code>{name}</code> is replaced by the value of the annotation attribute with that name;
+     * unknown parameters are left as they are. A backslash escapes the next character.
+     *
+     * @param template the template
+     * @return the message
+     */
+    String interpolate(String template) {
+        StringBuilder sb = new StringBuilder(template.length());
+        int n = template.length();
+        for (int i = 0; i < n; i++) {
+            char c = template.charAt(i);
+            if (c == '\\' && i + 1 < n) {
+                sb.append(template.charAt(++i));
+            }
+            else if (c == '{') {
+                int end = template.indexOf('}', i);
+                Object value = end < 0 ? null : attribute(constraint, template.substring(i + 1, end));
+                if (value == null) {
+                    sb.append(c);
+                }
+                else {
+                    sb.append(format(value));
+                    i = end;
+                }
+            }
+            else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Object attribute(Annotation annotation, String name) {
+        try {
+            Method method = annotation.annotationType().getMethod(name);
+            return method.getParameterCount() == 0 ? method.invoke(annotation) : null;
+        }
+        catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    private static String format(Object value) {
+        if (value.getClass().isArray()) {
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < Array.getLength(value); i++) {
+                sb.append(i == 0 ? "" : ", ").append(format(Array.get(value, i)));
+            }
+            return sb.append(']').toString();
+        }
+        if (value instanceof Class<?> c) {
+            return c.getName();
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Implements all node builder interfaces at once; the path is built up as a string.
+     */
+    private final class Builder implements ConstraintViolationBuilder, ConstraintViolationBuilder.NodeBuilderDefinedContext,
+        ConstraintViolationBuilder.NodeBuilderCustomizableContext, ConstraintViolationBuilder.NodeContextBuilder,
+        ConstraintViolationBuilder.LeafNodeBuilderDefinedContext, ConstraintViolationBuilder.LeafNodeBuilderCustomizableContext,
+        ConstraintViolationBuilder.LeafNodeContextBuilder, ConstraintViolationBuilder.ContainerElementNodeBuilderDefinedContext,
+        ConstraintViolationBuilder.ContainerElementNodeBuilderCustomizableContext, ConstraintViolationBuilder.ContainerElementNodeContextBuilder {
+        private final String messageTemplate;
+        private final StringBuilder path = new StringBuilder(basePath);
+
+        private Builder(String messageTemplate) {
+            this.messageTemplate = messageTemplate;
+        }
+
+        @Override
+        @Deprecated
+        public Builder addNode(String name) {
+            return addPropertyNode(name);
+        }
+
+        @Override
+        public Builder addPropertyNode(String name) {
+            if (path.length() > 0) {
+                path.append('.');
+            }
+            path.append(name);
+            return this;
+        }
+
+        @Override
+        public Builder addBeanNode() {
+            return this;
+        }
+
+        @Override
+        public Builder addContainerElementNode(String name, Class<?> containerType, Integer typeArgumentIndex) {
+            return this;
+        }
+
+        @Override
+        public Builder addParameterNode(int index) {
+            return addPropertyNode("arg" + index);
+        }
+
+        @Override
+        public Builder inIterable() {
+            return this;
+        }
+
+        @Override
+        public Builder inContainer(Class<?> containerClass, Integer typeArgumentIndex) {
+            return this;
+        }
+
+        @Override
+        public Builder atKey(Object key) {
+            path.append('[').append(key).append(']');
+            return this;
+        }
+
+        @Override
+        public Builder atIndex(Integer index) {
+            path.append('[').append(index).append(']');
+            return this;
+        }
+
+        @Override
+        public ConstraintValidatorContext addConstraintViolation() {
+            violations.accept(path.toString(), interpolate(messageTemplate));
+            return SimpleConstraintValidatorContext.this;
+        }
+    }
+}
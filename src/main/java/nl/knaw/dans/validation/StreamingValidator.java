@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates large JSON or YAML documents while they are parsed, without binding them to objects. Rules map a path in the document to a constraint of this
+ * library, or to a uniqueness requirement:
+ *
+ * <pre>
+ * StreamingValidator validator = StreamingValidator.builder()
+ *     .rule("$.files[*].id", Uuid.class)
+ *     .rule("$.links[*]", AllowedUriSchemes.class, Map.of("schemes", new String[] { "https" }))
+ *     .unique("$.files[*].path")
+ *     .build();
+ * List&lt;DansValidators.Violation&gt; violations = validator.validateJson(Path.of("metadata.json"));
+ * </pre>
+ * <p>
+ * Paths use a subset of JSONPath: <code>$</code> followed by <code>.name</code>, <code>['name']</code>, <code>.*</code> (any field), <code>[n]</code> and
+ * <code>[*]</code> (any element). Rules apply to scalar values; the value is passed to the constraint validator as a {@link String}, and null values are
+ * skipped. Violations are reported with a JSON pointer to the value as property path. Memory use is independent of the size of the document, except for
+ * the values of uniqueness rules. Requires <code>jackson-core</code>, and <code>jackson-dataformat-yaml</code> for YAML. A validator is immutable and can be
+ * shared between threads.
+ */
+public class StreamingValidator {
+    private final List<Rule> rules;
+    private final int maxPathLength;
+    private final int maxViolations;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private StreamingValidator(Builder builder) {
+        this.rules = List.copyOf(builder.rules);
+        this.maxPathLength = rules.stream().mapToInt(r -> r.segments.length).max().orElse(0);
+        this.maxViolations = builder.maxViolations;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final List<Rule> rules = new ArrayList<>();
+        private int maxViolations = 1000;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a rule for a constraint whose attributes all have default values.
+         *
+         * @param path       the path of the values
+         * @param constraint the constraint annotation type
+         * @return this builder
+         */
+        public Builder rule(String path, Class<? extends Annotation> constraint) {
+            return rule(path, constraint, Map.of());
+        }
+
+        /**
+         * Adds a rule for a constraint.
+         *
+         * @param path       the path of the values
+         * @param constraint the constraint annotation type
+         * @param attributes values for the attributes of the constraint
+         * @return this builder
+         * @throws IllegalArgumentException if the path or the attributes are invalid, or if the constraint cannot validate text values
+         */
+        public Builder rule(String path, Class<? extends Annotation> constraint, Map<String, ?> attributes) {
+            rules.add(new Rule(path, DansValidators.Check.forText(AnnotationInstances.of(constraint, attributes))));
+            return this;
+        }
+
+        /**
+         * Adds a rule that the values at a path are unique within the document. Only the values at this path are kept in memory.
+         *
+         * @param path the path of the values
+         * @return this builder
+         * @throws IllegalArgumentException if the path is invalid
+         */
+        public Builder unique(String path) {
+            rules.add(new Rule(path, null));
+            return this;
+        }
+
+        /**
+         * Sets the number of violations after which validation stops. The default is 1000.
+         *
+         * @param maxViolations the maximum number of violations
+         * @return this builder
+         */
+        public Builder maxViolations(int maxViolations) {
+            if (maxViolations < 1) {
+                throw new IllegalArgumentException("maxViolations must be positive");
+            }
+            this.maxViolations = maxViolations;
+            return this;
+        }
+
+        public StreamingValidator build() {
+            return new StreamingValidator(this);
+        }
+    }
+
+    public List<DansValidators.Violation> validateJson(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return validateJson(in);
+        }
+    }
+
+    public List<DansValidators.Violation> validateJson(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            return validate(parser);
+        }
+    }
+
+    public List<DansValidators.Violation> validateYaml(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return validateYaml(in);
+        }
+    }
+
+    public List<DansValidators.Violation> validateYaml(InputStream in) throws IOException {
+        try (JsonParser parser = new YAMLFactory().createParser(in)) {
+            return validate(parser);
+        }
+    }
+
+    /**
+     * Validates the document that a parser reads. The parser is read to the end of the document, or until the maximum number of violations is reached.
+     *
+     * @param parser the parser
+     * @return the violations, in document order
+     * @throws IOException if the document cannot be read or is malformed
+     */
+    public List<DansValidators.Violation> validate(JsonParser parser) throws IOException {
+        List<DansValidators.Violation> violations = new ArrayList<>();
+        List<Map<String, String>> seen = new ArrayList<>(rules.size());
+        for (int i = 0; i < rules.size(); i++) {
+            seen.add(rules.get(i).check == null ? new HashMap<>() : null);
+        }
+        List<DansValidators.Violation> found = new ArrayList<>();
+        JsonStreamContext[] path = new JsonStreamContext[maxPathLength];
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && violations.size() < maxViolations) {
+            if (!token.isScalarValue() || token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            int length = path(parser.getParsingContext(), path);
+            if (length < 0) {
+                continue;
+            }
+            String value = null;
+            for (int i = 0; i < rules.size(); i++) {
+                Rule rule = rules.get(i);
+                if (!rule.matches(path, length)) {
+                    continue;
+                }
+                if (value == null) {
+                    value = parser.getText();
+                }
+                if (rule.check != null) {
+                    // The pointer is only built for invalid values
+                    rule.check.run(value, "", found);
+                    if (!found.isEmpty()) {
+                        String pointer = parser.getParsingContext().pathAsPointer().toString();
+                        for (DansValidators.Violation v : found) {
+                            violations.add(new DansValidators.Violation(pointer, v.getMessage(), v.getConstraint()));
+                        }
+                        found.clear();
+                    }
+                }
+                else {
+                    String pointer = parser.getParsingContext().pathAsPointer().toString();
+                    String first = seen.get(i).putIfAbsent(value, pointer);
+                    if (first != null) {
+                        violations.add(new DansValidators.Violation(pointer, "Duplicate value, also at " + first, null));
+                    }
+                }
+            }
+        }
+        return violations.size() > maxViolations ? new ArrayList<>(violations.subList(0, maxViolations)) : violations;
+    }
+
+    /*
+     * Fills in the contexts from the root down to the given one, excluding the root context, and returns their number; -1 if there are more than any rule
+     * can match.
+     */
+    private static int path(JsonStreamContext context, JsonStreamContext[] path) {
+        int length = 0;
+        for (JsonStreamContext c = context; !c.inRoot(); c = c.getParent()) {
+            length++;
+        }
+        if (length > path.length) {
+            return -1;
+        }
+        int i = length;
+        for (JsonStreamContext c = context; !c.inRoot(); c = c.getParent()) {
+            path[--i] = c;
+        }
+        return length;
+    }
+
+    private static final class Rule {
+        private static final int ANY = -1;
+
+        private final DansValidators.Check check;
+        /*
+         * Per segment: a field name, or null for an array element or any field
+         */
+        private final String[] names;
+        /*
+         * Per segment: the array index, ANY for any element, or -2 for a field
+         */
+        private final int[] segments;
+
+        private Rule(String path, DansValidators.Check check) {
+            this.check = check;
+            List<String> names = new ArrayList<>();
+            List<Integer> segments = new ArrayList<>();
+            if (!path.startsWith("$")) {
+                throw new IllegalArgumentException("Path must start with '$': " + path);
+            }
+            int i = 1;
+            while (i < path.length()) {
+                char c = path.charAt(i);
+                if (c == '.') {
+                    int end = i + 1;
+                    while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                        end++;
+                    }
+                    String name = path.substring(i + 1, end);
+                    if (name.isEmpty()) {
+                        throw new IllegalArgumentException("Empty field name or unsupported '..' at index " + i + ": " + path);
+                    }
+                    names.add(name.equals("*") ? null : name);
+                    segments.add(-2);
+                    i = end;
+                }
+                else if (c == '[') {
+                    int end = path.indexOf(']', i);
+                    if (end < 0) {
+                        throw new IllegalArgumentException("Missing ']' at index " + i + ": " + path);
+                    }
+                    String index = path.substring(i + 1, end);
+                    if (index.length() >= 2 && index.startsWith("'") && index.endsWith("'")) {
+                        names.add(index.substring(1, index.length() - 1));
+                        segments.add(-2);
+                    }
+                    else if (index.equals("*")) {
+                        names.add(null);
+                        segments.add(ANY);
+                    }
+                    else {
+                        try {
+                            names.add(null);
+                            segments.add(Integer.parseUnsignedInt(index));
+                        }
+                        catch (NumberFormatException e) {
+                            throw new IllegalArgumentException("Invalid array index at index " + i + ": " + path);
+                        }
+                    }
+                    i = end + 1;
+                }
+                else {
+                    throw new IllegalArgumentException("Unexpected character at index " + i + ": " + path);
+                }
+            }
+            this.names = names.toArray(new String[0]);
+            this.segments = segments.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private boolean matches(JsonStreamContext[] path, int length) {
+            if (length != segments.length) {
+                return false;
+            }
+            for (int i = length - 1; i >= 0; i--) {
+                JsonStreamContext c = path[i];
+                int segment = segments[i];
+                if (segment == -2) {
+                    if (!c.inObject() || names[i] != null && !names[i].equals(c.getCurrentName())) {
+                        return false;
+                    }
+                }
+                else if (!c.inArray() || segment != ANY && segment != c.getCurrentIndex()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -23,11 +23,13 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Validates that the value of a field is a valid SWORD token.
+ * Validates that the value of a field is a valid SWORD token. Supported types are {@link String} and {@link Iterable} of {@link CharSequence}; the
+ * annotation can also be placed on container elements.
  */
-@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Target({ ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE })
 @Retention(RetentionPolicy.RUNTIME)
-@Constraint(validatedBy = SwordTokenValidator.class)
+@ConstraintCost(ConstraintCost.Level.CHEAP)
+@Constraint(validatedBy = { SwordTokenValidator.class, SwordTokenValidatorForIterable.class })
 @Documented
 public @interface SwordToken {
     String message() default "Invalid SWORD token";
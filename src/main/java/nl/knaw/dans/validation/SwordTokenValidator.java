@@ -15,30 +15,27 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.util.UUID;
 
 /**
- * Validator for {@link SwordToken} annotation.
+ * Validator for {@link SwordToken} annotation. Use {@link IdentifierParsers#parseSwordToken(CharSequence)} to get the UUID of a valid token.
  */
-public class SwordTokenValidator implements ConstraintValidator<SwordToken, String> {
-    private static final String PREFIX = "sword:";
+@ThreadSafeValidator(stateless = true)
+public class SwordTokenValidator extends InstrumentedValidator<SwordToken, String> {
 
     @Override
-    public boolean isValid(String value, javax.validation.ConstraintValidatorContext context) {
-        return value == null || isValidSwordToken(value, context);
-    }
-
-    private boolean isValidSwordToken(String value, javax.validation.ConstraintValidatorContext context) {
-        if (value.startsWith(PREFIX) && new UuidValidator().isValid(value.substring(PREFIX.length()), context)) {
+    protected boolean validate(String value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        ParseResult<UUID> result = IdentifierParsers.parseSwordToken(value);
+        if (result.isSuccess()) {
             return true;
         }
         context.disableDefaultConstraintViolation();
-        context.buildConstraintViolationWithTemplate(getErrorMessage(value))
+        context.buildConstraintViolationWithTemplate(result.getFailureReason())
             .addConstraintViolation();
         return false;
     }
-
-    private String getErrorMessage(String value) {
-        return value.startsWith(PREFIX) ? "SWORD token must contain a valid UUID after the 'sword:' prefix" : "SWORD token must start with 'sword:' prefix";
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a constraint validator as thread-safe: after {@link javax.validation.ConstraintValidator#initialize(java.lang.annotation.Annotation)}, it can be
+ * called concurrently, and its state depends only on the attributes of the constraint annotation. If it is also {@link #stateless()}, one instance can serve
+ * every constraint declaration; {@link SharingConstraintValidatorFactory} uses this.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ThreadSafeValidator {
+    /**
+     * Whether the validator keeps no state from the constraint annotation, so that initializing it is a no-op.
+     */
+    boolean stateless() default false;
+}
@@ -28,6 +28,7 @@ import javax.validation.Payload;
  */
 @Target({ ElementType.FIELD })
 @Retention(RetentionPolicy.RUNTIME)
+@ConstraintCost(ConstraintCost.Level.EXPENSIVE)
 @Constraint(validatedBy = UniqueAttributeValidator.class)
 @Repeatable(UniqueAttributes.class)
 public @interface UniqueAttribute {
@@ -15,9 +15,6 @@
  */
 package nl.knaw.dans.validation;
 
-import lombok.extern.slf4j.Slf4j;
-
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.ValidationException;
 import java.lang.reflect.Field;
@@ -28,30 +25,30 @@ import java.util.stream.Collectors;
 /**
  * Validator for the {@link UniqueAttribute} annotation.
  */
-@Slf4j
-public class UniqueAttributeValidator implements ConstraintValidator<UniqueAttribute, Object> {
+@ThreadSafeValidator
+public class UniqueAttributeValidator extends InstrumentedValidator<UniqueAttribute, Object> {
     private String attribute;
 
     @Override
     public void initialize(UniqueAttribute constraintAnnotation) {
         this.attribute = constraintAnnotation.attribute();
-        log.debug("Initialized UniqueAttributeValidator with attribute {}", attribute);
     }
 
     @Override
-    public boolean isValid(Object objects, ConstraintValidatorContext constraintValidatorContext) {
+    protected boolean validate(Object objects, ConstraintValidatorContext constraintValidatorContext) {
         if (objects == null) {
-            log.debug("List of objects is null; returning true");
             return true;
         }
 
         try {
             List<Object> values = new ArrayList<>();
+            long nullObjects = 0;
+            long nullValues = 0;
 
             if (objects instanceof Iterable<?> iterable) {
                 for (Object object : iterable) {
                     if (object == null) {
-                        log.debug("Object in list is null; ignoring it");
+                        nullObjects++;
                         continue;
                     }
 
@@ -61,7 +58,7 @@ public class UniqueAttributeValidator implements ConstraintValidator<UniqueAttri
 
                     var value = field.get(object);
                     if (value == null) {
-                        log.debug("Attribute {} is null; ignoring it", attribute);
+                        nullValues++;
                         continue;
                     }
 
@@ -69,6 +66,9 @@ public class UniqueAttributeValidator implements ConstraintValidator<UniqueAttri
                 }
             }
 
+            Diagnostics.add("UniqueAttribute: null element ignored", nullObjects);
+            Diagnostics.add("UniqueAttribute: null attribute value ignored", nullValues);
+
             // Return false if there are duplicates in values
             return values.stream().collect(
                 Collectors.groupingBy(e -> e)).entrySet().stream().noneMatch(e -> e.getValue().size() > 1);
@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+/**
+ * Single-pass syntax check for absolute URIs as defined in RFC 3986 (<code>scheme ":" hier-part [ "?" query ] [ "#" fragment ]</code>). The check works
+ * directly on the characters of the input and does not allocate. The content of IP literals (<code>[...]</code>) is only checked for allowed characters.
+ */
+final class UriSyntax {
+    /**
+     * Returned by {@link #scan(CharSequence, int[])} if the input is a syntactically valid absolute URI.
+     */
+    static final int VALID = -1;
+
+    /*
+     * Indexes into the parts array filled in by scan. Host and port are -1 if the URI has no authority, respectively no port. The host span includes the
+     * brackets of an IP literal.
+     */
+    static final int SCHEME_END = 0;
+    static final int HOST_START = 1;
+    static final int HOST_END = 2;
+    static final int PORT_START = 3;
+    static final int PORT_END = 4;
+    static final int PARTS_LENGTH = 5;
+
+    private static final byte ALPHA = 1;
+    private static final byte DIGIT = 2;
+    private static final byte HEX = 4;
+    private static final byte UNRESERVED = 8;
+    private static final byte SUB_DELIM = 16;
+    private static final byte SCHEME = 32;
+
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = ALPHA | UNRESERVED | SCHEME;
+            CLASSES[Character.toUpperCase(c)] = ALPHA | UNRESERVED | SCHEME;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = DIGIT | HEX | UNRESERVED | SCHEME;
+        }
+        for (char c = 'a'; c <= 'f'; c++) {
+            CLASSES[c] |= HEX;
+            CLASSES[Character.toUpperCase(c)] |= HEX;
+        }
+        for (char c : "-._~".toCharArray()) {
+            CLASSES[c] |= UNRESERVED;
+        }
+        for (char c : "!$&'()*+,;=".toCharArray()) {
+            CLASSES[c] |= SUB_DELIM;
+        }
+        for (char c : "+-.".toCharArray()) {
+            CLASSES[c] |= SCHEME;
+        }
+    }
+
+    private static final int AUTHORITY = 0;
+    private static final int IP_LITERAL = 1;
+    private static final int AFTER_IP_LITERAL = 2;
+    private static final int PORT = 3;
+    private static final int PATH = 4;
+    private static final int QUERY = 5;
+    private static final int FRAGMENT = 6;
+
+    private UriSyntax() {
+    }
+
+    /**
+     * Returns the index of the colon that terminates the scheme, or -1 if the input does not start with a valid scheme.
+     *
+     * @param s the input
+     * @return the index of the colon after the scheme, or -1
+     */
+    static int schemeEnd(CharSequence s) {
+        int n = s.length();
+        if (n == 0 || !is(s.charAt(0), ALPHA)) {
+            return -1;
+        }
+        for (int i = 1; i < n; i++) {
+            char c = s.charAt(i);
+            if (c == ':') {
+                return i;
+            }
+            if (!is(c, SCHEME)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks that the input is a syntactically valid absolute URI.
+     *
+     * @param s     the input
+     * @param parts if not null, an array of at least {@link #PARTS_LENGTH} elements that receives the offsets of the scheme, host and port; only filled in if
+     *              the input is valid
+     * @return {@link #VALID}, or the index of the first offending character (the length of the input if it ends prematurely)
+     */
+    static int scan(CharSequence s, int[] parts) {
+        int n = s.length();
+        int schemeEnd = schemeEnd(s);
+        if (schemeEnd < 0) {
+            return 0;
+        }
+        int i = schemeEnd + 1;
+        int state = PATH;
+        int hostStart = -1;
+        int hostEnd = -1;
+        int colon = -1;
+        int badPort = -1;
+        int portEnd = -1;
+        boolean seenAt = false;
+        if (i + 1 < n && s.charAt(i) == '/' && s.charAt(i + 1) == '/') {
+            i += 2;
+            hostStart = i;
+            state = AUTHORITY;
+        }
+        for (; i < n; i++) {
+            char c = s.charAt(i);
+            switch (state) {
+                case AUTHORITY:
+                    if (c == '/' || c == '?' || c == '#') {
+                        if (badPort >= 0) {
+                            return badPort;
+                        }
+                        hostEnd = colon >= 0 ? colon : i;
+                        portEnd = i;
+                        state = c == '/' ? PATH : c == '?' ? QUERY : FRAGMENT;
+                    }
+                    else if (c == '@') {
+                        if (seenAt) {
+                            return i;
+                        }
+                        seenAt = true;
+                        hostStart = i + 1;
+                        colon = -1;
+                        badPort = -1;
+                    }
+                    else if (c == '[' && i == hostStart) {
+                        state = IP_LITERAL;
+                    }
+                    else if (c == ':') {
+                        if (colon < 0) {
+                            colon = i;
+                        }
+                        else if (badPort < 0) {
+                            badPort = i;
+                        }
+                    }
+                    else if (c == '%') {
+                        if (!isPercentEncoded(s, i)) {
+                            return i;
+                        }
+                        if (colon >= 0 && badPort < 0) {
+                            badPort = i;
+                        }
+                        i += 2;
+                    }
+                    else if (is(c, UNRESERVED | SUB_DELIM)) {
+                        if (colon >= 0 && badPort < 0 && !is(c, DIGIT)) {
+                            badPort = i;
+                        }
+                    }
+                    else {
+                        return i;
+                    }
+                    break;
+                case IP_LITERAL:
+                    if (c == ']') {
+                        state = AFTER_IP_LITERAL;
+                    }
+                    else if (c != ':' && !is(c, UNRESERVED | SUB_DELIM)) {
+                        return i;
+                    }
+                    break;
+                case AFTER_IP_LITERAL:
+                case PORT:
+                    if (state == AFTER_IP_LITERAL && c == ':') {
+                        hostEnd = i;
+                        colon = i;
+                        state = PORT;
+                    }
+                    else if (c == '/' || c == '?' || c == '#') {
+                        if (colon < 0) {
+                            hostEnd = i;
+                        }
+                        portEnd = i;
+                        state = c == '/' ? PATH : c == '?' ? QUERY : FRAGMENT;
+                    }
+                    else if (state != PORT || !is(c, DIGIT)) {
+                        return i;
+                    }
+                    break;
+                default:
+                    // Apart from the delimiters, path, query and fragment allow the same characters
+                    if (c == '#' && state != FRAGMENT) {
+                        state = FRAGMENT;
+                    }
+                    else if (c == '?' && state != FRAGMENT) {
+                        state = QUERY;
+                    }
+                    else if (c == '%') {
+                        if (!isPercentEncoded(s, i)) {
+                            return i;
+                        }
+                        i += 2;
+                    }
+                    else if (c != '/' && c != ':' && c != '@' && c != '?' && !is(c, UNRESERVED | SUB_DELIM)) {
+                        return i;
+                    }
+            }
+        }
+        switch (state) {
+            case AUTHORITY:
+                if (badPort >= 0) {
+                    return badPort;
+                }
+                hostEnd = colon >= 0 ? colon : n;
+                portEnd = n;
+                break;
+            case IP_LITERAL:
+                return n;
+            case AFTER_IP_LITERAL:
+                hostEnd = n;
+                break;
+            case PORT:
+                portEnd = n;
+                break;
+            default:
+        }
+        if (parts != null) {
+            parts[SCHEME_END] = schemeEnd;
+            parts[HOST_START] = hostStart;
+            parts[HOST_END] = hostStart < 0 ? -1 : hostEnd;
+            parts[PORT_START] = hostStart < 0 || colon < 0 ? -1 : colon + 1;
+            parts[PORT_END] = hostStart < 0 || colon < 0 ? -1 : portEnd;
+        }
+        return VALID;
+    }
+
+    /**
+     * Describes a syntax error found by {@link #scan(CharSequence, int[])}.
+     *
+     * @param s     the input
+     * @param error the index returned by <code>scan</code>
+     * @return a violation message
+     */
+    static String errorMessage(CharSequence s, int error) {
+        return error < s.length() ? "Invalid URI: illegal character at index " + error : "Invalid URI: unexpected end of input";
+    }
+
+    /**
+     * Compares the region <code>[start, end)</code> of the input with the given lower case ASCII string, ignoring case.
+     *
+     * @param s     the input
+     * @param start start of the region (inclusive)
+     * @param end   end of the region (exclusive)
+     * @param lower the string to compare with; must be lower case
+     * @return whether the region equals <code>lower</code>, ignoring case
+     */
+    static boolean regionEqualsLowerCase(CharSequence s, int start, int end, String lower) {
+        if (end - start != lower.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (toLowerAscii(s.charAt(i)) != lower.charAt(i - start)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean isPercentEncoded(CharSequence s, int i) {
+        return i + 2 < s.length() && is(s.charAt(i + 1), HEX) && is(s.charAt(i + 2), HEX);
+    }
+
+    private static boolean is(char c, int classes) {
+        return c < 128 && (CLASSES[c] & classes) != 0;
+    }
+}
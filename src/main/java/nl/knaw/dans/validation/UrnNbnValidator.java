@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * Validator for the {@link UrnNbn} annotation for {@link CharSequence} objects.
+ */
+@ThreadSafeValidator(stateless = true)
+public class UrnNbnValidator extends InstrumentedValidator<UrnNbn, CharSequence> {
+    @Override
+    protected boolean validate(CharSequence value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true; // If null is not allowed, this should be checked by the @NotNull annotation
+        }
+        if (!PersistentIdentifiers.isUrnNbn(value)) {
+            return false;
+        }
+        if (!PersistentIdentifiers.hasValidCheckDigit(value)) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate("Invalid URN:NBN check digit").addConstraintViolation();
+            return false;
+        }
+        return true;
+    }
+}
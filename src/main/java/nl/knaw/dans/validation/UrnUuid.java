@@ -23,10 +23,12 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Validates that the value of a field is a valid URN UUID.
+ * Validates that the value of a field is a valid URN UUID. Supported types are {@link String}, {@link java.net.URI} and {@link Iterable} of either; the
+ * annotation can also be placed on container elements.
  */
-@Constraint(validatedBy = { UrnUuidValidator.class, UrnUuidValidatorForUri.class })
-@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@ConstraintCost(ConstraintCost.Level.CHEAP)
+@Constraint(validatedBy = { UrnUuidValidator.class, UrnUuidValidatorForUri.class, UrnUuidValidatorForIterable.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface UrnUuid {
     String message() default "Invalid urn:uuid";
@@ -15,27 +15,15 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.util.UUID;
 
 /**
  * Validator for the {@link UrnUuid} annotation for {@link String} objects.
  */
-public class UrnUuidValidator implements ConstraintValidator<UrnUuid, String> {
+@ThreadSafeValidator(stateless = true)
+public class UrnUuidValidator extends InstrumentedValidator<UrnUuid, String> {
     @Override
-    public boolean isValid(String s, ConstraintValidatorContext constraintValidatorContext) {
-        if (s != null) {
-            if (!s.startsWith("urn:uuid:")) {
-                return false;
-            }
-            try {
-                UUID.fromString(s.substring("urn:uuid:".length()));
-            }
-            catch (IllegalArgumentException e) {
-                return false;
-            }
-        }
-        return true; // If null is not allowed, this should be checked by the @NotNull annotation
+    protected boolean validate(String s, ConstraintValidatorContext constraintValidatorContext) {
+        return s == null || IdentifierParsers.parseUrnUuid(s).isSuccess(); // If null is not allowed, this should be checked by the @NotNull annotation
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+import java.net.URI;
+
+/**
+ * Validator for the {@link UrnUuid} annotation for an {@link Iterable} of {@link CharSequence} or {@link URI} objects. All elements are checked in one loop
+ * and each invalid element gets its own violation. Null elements are ignored.
+ */
+@ThreadSafeValidator(stateless = true)
+public class UrnUuidValidatorForIterable extends InstrumentedValidator<UrnUuid, Iterable<?>> {
+    @Override
+    protected boolean validate(Iterable<?> values, ConstraintValidatorContext context) {
+        if (values == null) {
+            return true;
+        }
+        boolean valid = true;
+        int index = 0;
+        for (Object value : values) {
+            if (value != null && !parse(value).isSuccess()) {
+                ElementViolations.add(context, index, valid);
+                valid = false;
+            }
+            index++;
+        }
+        return valid;
+    }
+
+    private static ParseResult<?> parse(Object value) {
+        if (value instanceof URI uri) {
+            return IdentifierParsers.parseUrnUuid(uri);
+        }
+        return IdentifierParsers.parseUrnUuid(ElementViolations.asCharSequence(value));
+    }
+}
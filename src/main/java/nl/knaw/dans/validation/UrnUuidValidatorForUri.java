@@ -15,32 +15,17 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import java.net.URI;
-import java.util.UUID;
 
 /**
  * Validator for the {@link UrnUuid} annotation for {@link URI} objects.
  */
-public class UrnUuidValidatorForUri implements ConstraintValidator<UrnUuid, URI> {
+@ThreadSafeValidator(stateless = true)
+public class UrnUuidValidatorForUri extends InstrumentedValidator<UrnUuid, URI> {
 
     @Override
-    public boolean isValid(URI uri, ConstraintValidatorContext constraintValidatorContext) {
-        if (uri != null) {
-            if (!uri.getScheme().equals("urn")) {
-                return false;
-            }
-            if (!uri.getSchemeSpecificPart().startsWith("uuid:")) {
-                return false;
-            }
-            try {
-                UUID.fromString(uri.getSchemeSpecificPart().substring("uuid:".length()));
-            }
-            catch (IllegalArgumentException e) {
-                return false;
-            }
-        }
-        return true; // If null is not allowed, this should be checked by the @NotNull annotation
+    protected boolean validate(URI uri, ConstraintValidatorContext constraintValidatorContext) {
+        return uri == null || IdentifierParsers.parseUrnUuid(uri).isSuccess(); // If null is not allowed, this should be checked by the @NotNull annotation
     }
 }
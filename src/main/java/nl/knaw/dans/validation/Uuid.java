@@ -23,10 +23,12 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Validates that the value of a field is a valid UUID.
+ * Validates that the value of a field is a valid UUID. Can also be placed on the elements of a container, such as <code>List&lt;@Uuid String&gt;</code>, or
+ * on an {@link Iterable} of {@link CharSequence}, in which case all elements are checked in one call.
  */
-@Constraint(validatedBy = UuidValidator.class)
-@Target({ ElementType.FIELD, ElementType.PARAMETER})
+@ConstraintCost(ConstraintCost.Level.CHEAP)
+@Constraint(validatedBy = { UuidValidator.class, UuidValidatorForIterable.class })
+@Target({ ElementType.FIELD, ElementType.PARAMETER, ElementType.TYPE_USE })
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Uuid {
     String message() default "Invalid UUID";
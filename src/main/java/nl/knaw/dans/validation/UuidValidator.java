@@ -15,25 +15,15 @@
  */
 package nl.knaw.dans.validation;
 
-import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.util.UUID;
 
 /**
- * Validator for the {@link Uuid} annotation for {@link String} objects.
+ * Validator for the {@link Uuid} annotation for {@link String} objects. Use {@link IdentifierParsers#parseUuid(CharSequence)} to get the UUID.
  */
-public class UuidValidator implements ConstraintValidator<Uuid, String> {
+@ThreadSafeValidator(stateless = true)
+public class UuidValidator extends InstrumentedValidator<Uuid, String> {
     @Override
-    public boolean isValid(String value, ConstraintValidatorContext context) {
-        if (value == null) {
-            return true;
-        }
-        try {
-            UUID.fromString(value);
-            return true;
-        }
-        catch (IllegalArgumentException e) {
-            return false;
-        }
+    protected boolean validate(String value, ConstraintValidatorContext context) {
+        return value == null || IdentifierParsers.parseUuid(value).isSuccess();
     }
 }
\ No newline at end of file
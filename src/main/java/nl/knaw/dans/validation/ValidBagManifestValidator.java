@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import javax.validation.ConstraintValidatorContext;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Validator for the {@link ValidBagManifest} annotation for {@link Path} objects.
+ */
+@ThreadSafeValidator(stateless = true)
+public class ValidBagManifestValidator extends InstrumentedValidator<ValidBagManifest, Path> {
+    @Override
+    protected boolean validate(Path manifest, ConstraintValidatorContext context) {
+        if (manifest == null) {
+            return true; // null is considered valid, if you want to enforce non-null, use @NotNull
+        }
+        List<String> problems = BagManifestScanner.scan(manifest);
+        if (problems.isEmpty()) {
+            return true;
+        }
+        context.disableDefaultConstraintViolation();
+        for (String problem : problems) {
+            context.buildConstraintViolationWithTemplate(MessageTemplates.literal(problem)).addConstraintViolation();
+        }
+        return false;
+    }
+}
@@ -27,6 +27,7 @@ import java.lang.annotation.Target;
  * Validates that the value of a field is a valid Unix mode. Both octal and symbolic modes are supported.
  */
 @Documented
+@ConstraintCost(ConstraintCost.Level.CHEAP)
 @Constraint(validatedBy = ModeValidator.class)
 @Target({ ElementType.METHOD, ElementType.FIELD })
 @Retention(RetentionPolicy.RUNTIME)
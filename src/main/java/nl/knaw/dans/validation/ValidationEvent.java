@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.io.File;
+import java.lang.annotation.Annotation;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Flight recorder event for a call of one of this library's validators. Only calls that take longer than the threshold are recorded; the default of 20 ms
+ * can be changed in the recording settings, e.g. <code>jfr configure +nl.knaw.dans.validation.Validation#threshold=1ms</code>. When the event is not enabled,
+ * the cost per call is a check of a flag that the JIT compiler folds away. Calls that throw an exception are not recorded.
+ */
+@Name(ValidationEvent.NAME)
+@Label("Validation")
+@Category({ "DANS", "Validation" })
+@Description("A call of a DANS constraint validator")
+@Threshold("20 ms")
+@StackTrace(false)
+class ValidationEvent extends Event {
+    static final String NAME = "nl.knaw.dans.validation.Validation";
+
+    @Label("Constraint")
+    Class<?> constraint;
+
+    @Label("Value Type")
+    Class<?> valueType;
+
+    @Label("Size")
+    @Description("The number of elements of a collection value, or -1")
+    int size = -1;
+
+    @Label("Path")
+    @Description("The value, if it is a file path")
+    String path;
+
+    @Label("Valid")
+    boolean valid;
+
+    /**
+     * Fills in the fields. Only called for events that are committed, so that describing the value costs nothing for fast calls.
+     *
+     * @param constraintType the constraint annotation
+     * @param value          the validated value
+     * @param valid          the result
+     */
+    void set(Class<? extends Annotation> constraintType, Object value, boolean valid) {
+        this.constraint = constraintType;
+        this.valid = valid;
+        if (value == null) {
+            return;
+        }
+        this.valueType = value.getClass();
+        if (value instanceof Collection<?> collection) {
+            this.size = collection.size();
+        }
+        else if (value instanceof Map<?, ?> map) {
+            this.size = map.size();
+        }
+        else if (value instanceof Path || value instanceof File) {
+            this.path = value.toString();
+        }
+    }
+}
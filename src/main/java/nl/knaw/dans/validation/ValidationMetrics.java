@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Service provider interface for collecting metrics on the validators of this library. Every validator reports the outcome and the duration of each call to
+ * the installed implementation, keyed by constraint type and validated value type. No metrics are collected until an implementation is installed. Adapters
+ * are available for Dropwizard Metrics ({@link DropwizardValidationMetrics}) and JMX ({@link JmxValidationMetrics}).
+ * <p>
+ * The annotated element itself is not known to a constraint validator, so metrics cannot be broken down by field. Use distinct constraint types or value
+ * types, or the message and property path of the violations, where that is needed.
+ */
+public interface ValidationMetrics {
+
+    /**
+     * Returns the probe for a combination of constraint type and value type. Called once per validator instance, when it is first invoked after installation.
+     * Implementations should return the same probe for the same arguments, so that the counts of all instances are combined.
+     *
+     * @param constraintType the constraint annotation, for example {@link Uuid}
+     * @param valueType      the type of the validated values as declared by the validator, for example {@link String} or {@link Iterable}
+     * @return the probe
+     */
+    Probe probe(Class<? extends Annotation> constraintType, Class<?> valueType);
+
+    /**
+     * Receives the measurements of one constraint type and value type. Must be thread-safe.
+     */
+    interface Probe {
+        /**
+         * Records one call. Calls that throw an exception are not recorded.
+         *
+         * @param nanos the duration of the call in nanoseconds
+         * @param valid the result of the call
+         */
+        void record(long nanos, boolean valid);
+    }
+
+    /**
+     * Installs the metrics that all validators report to, replacing any previously installed ones.
+     *
+     * @param metrics the metrics, or null to stop collecting
+     */
+    static void install(ValidationMetrics metrics) {
+        InstrumentedValidator.metrics = metrics;
+    }
+
+    /**
+     * Returns the installed metrics.
+     *
+     * @return the metrics, or null if none are installed
+     */
+    static ValidationMetrics installed() {
+        return InstrumentedValidator.metrics;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+/**
+ * Management interface for the metrics of one constraint type and value type, as exported by {@link JmxValidationMetrics}. Durations are in nanoseconds.
+ */
+public interface ValidationStatsMXBean {
+    String getConstraintType();
+
+    String getValueType();
+
+    long getInvocations();
+
+    long getFailures();
+
+    long getTotalTimeNanos();
+
+    long getMaxTimeNanos();
+
+    double getMeanTimeNanos();
+
+    /**
+     * Returns an estimate of the median duration: the upper bound of the histogram bucket that contains it.
+     *
+     * @return the estimated median
+     */
+    long getMedianTimeNanos();
+
+    /**
+     * Returns an estimate of the 99th percentile of the durations: the upper bound of the histogram bucket that contains it.
+     *
+     * @return the estimated 99th percentile
+     */
+    long get99thPercentileTimeNanos();
+
+    /**
+     * Returns the latency histogram. Element <code>i</code> counts the calls that took less than <code>2^i</code> nanoseconds, but at least
+     * <code>2^(i-1)</code>.
+     *
+     * @return the bucket counts
+     */
+    long[] getLatencyHistogram();
+}
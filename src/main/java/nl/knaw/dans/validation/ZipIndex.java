@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipException;
+
+/**
+ * Index of the entry names in a ZIP archive. Only the central directory at the end of the archive is read: it is memory-mapped and an open-addressing hash
+ * table of offsets into the mapping is built, so that the names themselves are not copied or decoded. Looking up a name hashes its UTF-8 bytes and compares
+ * them with the mapped bytes. Nothing is inflated.
+ *
+ * <p>Indexes are cached per archive path and are rebuilt if the modification time or size of the archive changes.</p>
+ */
+final class ZipIndex {
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int CENTRAL_DIRECTORY_ENTRY = 0x02014b50;
+    private static final int END_RECORD_LENGTH = 22;
+    private static final int ZIP64_LOCATOR_LENGTH = 20;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int ENTRY_HEADER_LENGTH = 46;
+    private static final int CACHE_SIZE = 16;
+
+    private static final Map<Path, ZipIndex> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, ZipIndex> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final FileTime lastModified;
+    private final long size;
+    private final ByteBuffer centralDirectory;
+    private final int[] slots; // offset of the name of an entry + 1; 0 for an empty slot
+    private final int[] hashes;
+    private final int entryCount;
+
+    private ZipIndex(FileTime lastModified, long size, ByteBuffer centralDirectory, int entryCount) throws ZipException {
+        this.lastModified = lastModified;
+        this.size = size;
+        this.centralDirectory = centralDirectory;
+        this.entryCount = entryCount;
+        int capacity = Integer.highestOneBit(Math.max(4, entryCount * 2) - 1) << 1;
+        this.slots = new int[capacity];
+        this.hashes = new int[capacity];
+        int position = 0;
+        for (int i = 0; i < entryCount; i++) {
+            if (position + ENTRY_HEADER_LENGTH > centralDirectory.limit() || centralDirectory.getInt(position) != CENTRAL_DIRECTORY_ENTRY) {
+                throw new ZipException("Invalid central directory entry at offset " + position);
+            }
+            int nameLength = centralDirectory.getShort(position + 28) & 0xFFFF;
+            int extraLength = centralDirectory.getShort(position + 30) & 0xFFFF;
+            int commentLength = centralDirectory.getShort(position + 32) & 0xFFFF;
+            int nameOffset = position + ENTRY_HEADER_LENGTH;
+            if (nameOffset + nameLength > centralDirectory.limit()) {
+                throw new ZipException("Truncated central directory entry at offset " + position);
+            }
+            int hash = hash(centralDirectory, nameOffset, nameLength);
+            int slot = hash & (capacity - 1);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            slots[slot] = nameOffset + 1;
+            hashes[slot] = hash;
+            position = nameOffset + nameLength + extraLength + commentLength;
+        }
+    }
+
+    /**
+     * Returns the index of an archive, from the cache if the archive has not changed since it was indexed.
+     *
+     * @param archive the archive
+     * @return the index
+     * @throws IOException if the archive cannot be read or is not a valid ZIP archive
+     */
+    static ZipIndex of(Path archive) throws IOException {
+        Path key = archive.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        synchronized (CACHE) {
+            ZipIndex index = CACHE.get(key);
+            if (index != null && index.size == attributes.size() && index.lastModified.equals(attributes.lastModifiedTime())) {
+                return index;
+            }
+        }
+        ZipIndex index = build(key, attributes);
+        synchronized (CACHE) {
+            CACHE.put(key, index);
+        }
+        return index;
+    }
+
+    static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    int size() {
+        return entryCount;
+    }
+
+    /**
+     * Checks whether the archive has an entry with the given name. A name without a trailing slash also matches a directory entry with that name.
+     *
+     * @param name the entry name
+     * @return whether the entry exists
+     */
+    boolean contains(CharSequence name) {
+        byte[] bytes = name.toString().getBytes(StandardCharsets.UTF_8);
+        if (find(bytes, bytes.length)) {
+            return true;
+        }
+        if (bytes.length == 0 || bytes[bytes.length - 1] == '/') {
+            return false;
+        }
+        byte[] directory = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, directory, 0, bytes.length);
+        directory[bytes.length] = '/';
+        return find(directory, directory.length);
+    }
+
+    private boolean find(byte[] name, int length) {
+        int hash = hash(name, length);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && nameEquals(slots[slot] - 1, name, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean nameEquals(int nameOffset, byte[] name, int length) {
+        if ((centralDirectory.getShort(nameOffset - ENTRY_HEADER_LENGTH + 28) & 0xFFFF) != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (centralDirectory.get(nameOffset + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ZipIndex build(Path archive, BasicFileAttributes attributes) throws IOException {
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < END_RECORD_LENGTH) {
+                throw new ZipException("Not a ZIP archive: " + archive);
+            }
+            int tailLength = (int) Math.min(fileSize, END_RECORD_LENGTH + MAX_COMMENT_LENGTH + ZIP64_LOCATOR_LENGTH);
+            long tailStart = fileSize - tailLength;
+            MappedByteBuffer tail = channel.map(FileChannel.MapMode.READ_ONLY, tailStart, tailLength);
+            tail.order(ByteOrder.LITTLE_ENDIAN);
+            int end = findEndRecord(tail);
+            if (end < 0) {
+                throw new ZipException("Not a ZIP archive: " + archive);
+            }
+            long entryCount = tail.getShort(end + 10) & 0xFFFF;
+            long directorySize = tail.getInt(end + 12) & 0xFFFFFFFFL;
+            long directoryOffset = tail.getInt(end + 16) & 0xFFFFFFFFL;
+            if ((entryCount == 0xFFFF || directorySize == 0xFFFFFFFFL || directoryOffset == 0xFFFFFFFFL) && end >= ZIP64_LOCATOR_LENGTH
+                && tail.getInt(end - ZIP64_LOCATOR_LENGTH) == ZIP64_LOCATOR) {
+                long zip64End = tail.getLong(end - ZIP64_LOCATOR_LENGTH + 8);
+                if (zip64End < 0 || zip64End + 56 > fileSize) {
+                    throw new ZipException("Invalid ZIP64 end of central directory locator: " + archive);
+                }
+                ByteBuffer record = channel.map(FileChannel.MapMode.READ_ONLY, zip64End, 56).order(ByteOrder.LITTLE_ENDIAN);
+                if (record.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY) {
+                    throw new ZipException("Invalid ZIP64 end of central directory record: " + archive);
+                }
+                entryCount = record.getLong(32);
+                directorySize = record.getLong(40);
+                directoryOffset = record.getLong(48);
+            }
+            if (directoryOffset < 0 || directorySize < 0 || directoryOffset + directorySize > fileSize || directorySize > Integer.MAX_VALUE) {
+                throw new ZipException("Central directory out of range or too large: " + archive);
+            }
+            // Checked before the hash table is sized from the untrusted entry count
+            if (entryCount < 0 || entryCount * ENTRY_HEADER_LENGTH > directorySize) {
+                throw new ZipException("Central directory too small for " + entryCount + " entries: " + archive);
+            }
+            ByteBuffer centralDirectory = channel.map(FileChannel.MapMode.READ_ONLY, directoryOffset, directorySize).order(ByteOrder.LITTLE_ENDIAN);
+            return new ZipIndex(attributes.lastModifiedTime(), attributes.size(), centralDirectory, (int) entryCount);
+        }
+    }
+
+    private static int findEndRecord(ByteBuffer tail) {
+        for (int i = tail.limit() - END_RECORD_LENGTH; i >= 0; i--) {
+            if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY && i + END_RECORD_LENGTH + (tail.getShort(i + 20) & 0xFFFF) <= tail.limit()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int hash(ByteBuffer buffer, int offset, int length) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ (buffer.get(offset + i) & 0xFF)) * 0x01000193;
+        }
+        return hash;
+    }
+
+    private static int hash(byte[] bytes, int length) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ (bytes[i] & 0xFF)) * 0x01000193;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.net.URI;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AllowedUriHostsTest {
+
+    private static class Endpoints {
+        private Endpoints(String uri) {
+            this.string = uri;
+            this.uri = uri == null ? null : URI.create(uri);
+        }
+
+        @AllowedUriHosts(hosts = { "*.knaw.nl", "example.com" }, cidrs = { "192.168.0.0/16", "2001:db8::/32" }, ports = { 80, 443 })
+        private final String string;
+
+        @AllowedUriHosts(hosts = { "*.knaw.nl", "example.com" }, cidrs = { "192.168.0.0/16", "2001:db8::/32" }, ports = { 80, 443 })
+        private final URI uri;
+    }
+
+    private Set<ConstraintViolation<Endpoints>> validate(String uri) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            return factory.getValidator().validate(new Endpoints(uri));
+        }
+    }
+
+    @Test
+    public void should_accept_subdomain_of_wildcard_pattern() {
+        assertThat(validate("https://dans.KNAW.nl/deposit")).isEmpty();
+        assertThat(validate("https://a.b.knaw.nl:443/")).isEmpty();
+    }
+
+    @Test
+    public void should_not_accept_parent_domain_of_wildcard_pattern() {
+        var violations = validate("https://knaw.nl/");
+        assertThat(violations).hasSize(2);
+        assertThat(violations).allMatch(v -> v.getMessage().equals("Host 'knaw.nl' is not allowed"));
+    }
+
+    @Test
+    public void should_not_accept_lookalike_domains() {
+        assertThat(validate("https://evilknaw.nl/")).hasSize(2);
+        assertThat(validate("https://example.com.evil.org/")).hasSize(2);
+        assertThat(validate("https://www.example.com/")).hasSize(2);
+    }
+
+    @Test
+    public void should_accept_exact_host_with_trailing_dot() {
+        assertThat(validate("http://example.com./")).isEmpty();
+    }
+
+    @Test
+    public void should_match_ip_addresses_against_cidr_ranges() {
+        assertThat(validate("http://192.168.10.20/")).isEmpty();
+        assertThat(validate("http://[2001:db8:0:1::5]/")).isEmpty();
+        assertThat(validate("http://[::ffff:192.168.1.1]/")).isEmpty();
+        assertThat(validate("http://10.0.0.1/")).hasSize(2);
+        assertThat(validate("http://[2001:db9::1]/")).hasSize(2);
+    }
+
+    @Test
+    public void should_reject_port_that_is_not_allowed() {
+        var violations = validate("http://example.com:8080/");
+        assertThat(violations).hasSize(2);
+        assertThat(violations).allMatch(v -> v.getMessage().equals("Port 8080 is not allowed; allowed ports are: 80, 443"));
+    }
+
+    @Test
+    public void should_reject_uri_without_host() {
+        var violations = validate("urn:uuid:a8348df2-768d-4995-acc8-0ea878b05078");
+        assertThat(violations).hasSize(2);
+        assertThat(violations).allMatch(v -> v.getMessage().equals("URI has no host"));
+    }
+
+    @Test
+    public void should_return_true_for_null() {
+        assertThat(validate(null)).isEmpty();
+    }
+
+    @Test
+    public void should_compile_cidr_prefix_tree() {
+        var ranges = CidrTrie.compile(new String[] { "10.0.0.0/8", "172.16.0.0/12", "127.0.0.1", "fe80::/10", "0.0.0.0/0" });
+        assertThat(ranges.containsIpv4(IpLiterals.parseIpv4("8.8.8.8", 0, 7))).isTrue();
+
+        ranges = CidrTrie.compile(new String[] { "10.0.0.0/8", "172.16.0.0/12", "127.0.0.1", "fe80::/10" });
+        assertThat(ranges.containsIpv4(IpLiterals.parseIpv4("172.31.255.255", 0, 14))).isTrue();
+        assertThat(ranges.containsIpv4(IpLiterals.parseIpv4("172.32.0.0", 0, 10))).isFalse();
+        assertThat(ranges.containsIpv4(IpLiterals.parseIpv4("127.0.0.1", 0, 9))).isTrue();
+        assertThat(ranges.containsIpv4(IpLiterals.parseIpv4("127.0.0.2", 0, 9))).isFalse();
+        var address = new long[2];
+        assertThat(IpLiterals.parseIpv6("fe80::1", 0, 7, address)).isTrue();
+        assertThat(ranges.containsIpv6(address[0], address[1])).isTrue();
+    }
+
+    @Test
+    public void should_parse_ip_literals_strictly() {
+        assertThat(IpLiterals.parseIpv4("01.2.3.4", 0, 8)).isEqualTo(-1);
+        assertThat(IpLiterals.parseIpv4("1.2.3", 0, 5)).isEqualTo(-1);
+        assertThat(IpLiterals.parseIpv4("1.2.3.256", 0, 9)).isEqualTo(-1);
+        assertThat(IpLiterals.parseIpv4("1.2.3.4.", 0, 8)).isEqualTo(-1);
+        var address = new long[2];
+        assertThat(IpLiterals.parseIpv6("::", 0, 2, address)).isTrue();
+        assertThat(IpLiterals.parseIpv6("1::2::3", 0, 7, address)).isFalse();
+        assertThat(IpLiterals.parseIpv6("1:2:3:4:5:6:7:8:9", 0, 17, address)).isFalse();
+        assertThat(IpLiterals.parseIpv6("1:2:3:4:5:6:7:8", 0, 15, address)).isTrue();
+        assertThat(address[0]).isEqualTo(0x0001000200030004L);
+        assertThat(address[1]).isEqualTo(0x0005000600070008L);
+    }
+}
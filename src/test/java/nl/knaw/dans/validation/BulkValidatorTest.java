@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import javax.validation.Validation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BulkValidatorTest {
+
+    public static class Dataset {
+        @Uuid
+        private final String id;
+
+        Dataset(String id) {
+            this.id = id;
+        }
+    }
+
+    public static class Person {
+        @Orcid
+        private final String orcid;
+
+        Person(String orcid) {
+            this.orcid = orcid;
+        }
+    }
+
+    @ConstraintCost(value = ConstraintCost.Level.EXPENSIVE, io = true)
+    @Constraint(validatedBy = SlowIoValidator.class)
+    @Target(ElementType.FIELD)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface SlowIo {
+        String message() default "Slow I/O failed";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class SlowIoValidator extends InstrumentedValidator<SlowIo, String> {
+        static final AtomicInteger running = new AtomicInteger();
+        static final AtomicInteger maxRunning = new AtomicInteger();
+
+        @Override
+        protected boolean validate(String value, ConstraintValidatorContext context) {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            try {
+                Thread.sleep(5);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return true;
+        }
+    }
+
+    public static class File {
+        @SlowIo
+        private final String path;
+
+        File(String path) {
+            this.path = path;
+        }
+    }
+
+    @Test
+    public void should_return_violations_at_the_index_of_each_item() {
+        List<Object> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(i % 3 == 0
+                ? new Person(i % 9 == 0 ? "invalid" : "0000-0002-1825-0097")
+                : new Dataset(i % 7 == 0 ? "invalid" : "123e4567-e89b-12d3-a456-426614174000"));
+        }
+        items.set(50, null);
+        try (var factory = Validation.buildDefaultValidatorFactory(); var bulk = BulkValidator.builder(factory.getValidator()).batchSize(4).build()) {
+            var results = bulk.validate(items);
+            assertThat(results).hasSize(100);
+            for (int i = 0; i < 100; i++) {
+                boolean invalid = i != 50 && (i % 3 == 0 ? i % 9 == 0 : i % 7 == 0);
+                assertThat(results.get(i)).as("item %d", i).hasSize(invalid ? 1 : 0);
+                if (invalid) {
+                    assertThat(results.get(i).iterator().next().getRootBean()).isSameAs(items.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void should_limit_concurrent_io_checks() {
+        List<File> items = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            items.add(new File("file" + i));
+        }
+        var executor = Executors.newFixedThreadPool(8);
+        try (var factory = Validation.buildDefaultValidatorFactory();
+            var bulk = BulkValidator.builder(factory.getValidator()).executor(executor).ioConcurrency(2).batchSize(1).build()) {
+            SlowIoValidator.maxRunning.set(0);
+            assertThat(bulk.validate(items)).allMatch(Set::isEmpty);
+            assertThat(SlowIoValidator.maxRunning.get()).isBetween(1, 2);
+            // Once the validation has finished, validators no longer look up the permits
+            assertThat(BulkValidator.running()).isFalse();
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ChecksumTest {
+    // sha1("hello")
+    private static final String HELLO_SHA1 = "aaf4c61ddcc5e8a2dabede0f3b482cd9aea9434d";
+    // sha256("hello")
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    private Path dir;
+
+    @Checksum(fileField = "file", valueField = "sha256")
+    private static class PayloadFile {
+        private final Path file;
+        private final String sha256;
+
+        private PayloadFile(Path file, String sha256) {
+            this.file = file;
+            this.sha256 = sha256;
+        }
+    }
+
+    @Checksum(algorithm = "sha1", fileField = "files", valueField = "checksums")
+    private static class Payload {
+        private final List<Object> files;
+        private final List<String> checksums;
+
+        private Payload(List<Object> files, List<String> checksums) {
+            this.files = files;
+            this.checksums = checksums;
+        }
+    }
+
+    private static <T> Set<ConstraintViolation<T>> validate(T object) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            return factory.getValidator().validate(object);
+        }
+    }
+
+    @Test
+    public void should_accept_matching_checksum_ignoring_case() throws Exception {
+        Path file = Files.writeString(dir.resolve("hello.txt"), "hello");
+        assertThat(validate(new PayloadFile(file, HELLO_SHA256.toUpperCase()))).isEmpty();
+        assertThat(validate(new PayloadFile(file, null))).isEmpty();
+    }
+
+    @Test
+    public void should_report_mismatch_on_value_field() throws Exception {
+        Path file = Files.writeString(dir.resolve("hello.txt"), "hello!");
+        assertThat(validate(new PayloadFile(file, HELLO_SHA256))).extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage())
+            .containsExactly("sha256: Checksum does not match file contents");
+    }
+
+    @Test
+    public void should_verify_lists_of_files_per_index() throws Exception {
+        Path hello = Files.writeString(dir.resolve("hello.txt"), "hello");
+        Path other = Files.writeString(dir.resolve("other.txt"), "other");
+        var violations = validate(new Payload(
+            Arrays.asList(hello, other.toFile(), dir.resolve("missing.txt").toString(), null, hello.toString()),
+            Arrays.asList(HELLO_SHA1, HELLO_SHA1, HELLO_SHA1, HELLO_SHA1, null)));
+        assertThat(violations).extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage()).containsExactlyInAnyOrder(
+            "checksums[1]: Checksum does not match file contents",
+            "checksums[2]: File does not exist",
+            "checksums[3]: Checksum has no file",
+            "checksums[4]: Checksum is missing");
+    }
+
+    @Test
+    public void should_report_lists_of_different_lengths() throws Exception {
+        Path hello = Files.writeString(dir.resolve("hello.txt"), "hello");
+        assertThat(validate(new Payload(List.of(hello, hello, hello), List.of(HELLO_SHA1))))
+            .extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage()).containsExactlyInAnyOrder(
+                "checksums[1]: Checksum is missing",
+                "checksums[2]: Checksum is missing");
+        assertThat(validate(new Payload(List.of(hello), List.of(HELLO_SHA1, HELLO_SHA1))))
+            .extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage()).containsExactly("checksums[1]: Checksum has no file");
+    }
+
+    @Test
+    public void should_report_invalid_paths_per_index() throws Exception {
+        Path hello = Files.writeString(dir.resolve("hello.txt"), "hello");
+        assertThat(validate(new Payload(List.of("bad\0path", hello), List.of(HELLO_SHA1, HELLO_SHA256))))
+            .extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage()).containsExactlyInAnyOrder(
+                "checksums[0]: Invalid path: Nul character not allowed",
+                "checksums[1]: Checksum does not match file contents");
+    }
+
+    @Test
+    public void should_hash_large_files_through_mapped_windows() throws Exception {
+        byte[] content = new byte[9 * 1024 * 1024 + 17];
+        Arrays.fill(content, (byte) 'x');
+        Path file = Files.write(dir.resolve("large.bin"), content);
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertThat(ChecksumVerifier.getDefault().digest(file, "SHA-256")).isEqualTo(expected);
+    }
+
+    @Test
+    public void should_not_hash_unchanged_file_again() throws Exception {
+        try (ChecksumVerifier verifier = new ChecksumVerifier(2, 10)) {
+            Path file = Files.writeString(dir.resolve("hello.txt"), "hello");
+            var lastModified = Files.getLastModifiedTime(file);
+            assertThat(verifier.digestAsync(file, "SHA-1").join()).isEqualTo(HELLO_SHA1);
+
+            // Same size and modification time: the cached digest is returned, which shows that the file is not read again
+            Files.writeString(file, "HELLO");
+            Files.setLastModifiedTime(file, lastModified);
+            assertThat(verifier.digest(file, "SHA-1")).isEqualTo(HELLO_SHA1);
+
+            Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified.toMillis() + 1000));
+            assertThat(verifier.digest(file, "SHA-1")).isNotEqualTo(HELLO_SHA1);
+        }
+    }
+
+    @Test
+    public void should_translate_bagit_algorithm_names() {
+        assertThat(ChecksumVerifier.toDigestAlgorithm("md5")).isEqualTo("MD5");
+        assertThat(ChecksumVerifier.toDigestAlgorithm("sha1")).isEqualTo("SHA-1");
+        assertThat(ChecksumVerifier.toDigestAlgorithm("sha512")).isEqualTo("SHA-512");
+        assertThat(ChecksumVerifier.toDigestAlgorithm("SHA-256")).isEqualTo("SHA-256");
+        assertThatThrownBy(() -> ChecksumVerifier.toDigestAlgorithm("crc32")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CostAwareValidationTest {
+
+    private static class Dto {
+        @NotNull
+        private final String name;
+
+        @Uuid
+        private final String id;
+
+        @ExistingFile
+        private final String file = "does-not-exist";
+
+        private Dto(String name, String id) {
+            this.name = name;
+            this.id = id;
+        }
+    }
+
+    private static class Batch {
+        @Valid
+        private final List<Dto> items;
+
+        private Batch(List<Dto> items) {
+            this.items = items;
+        }
+    }
+
+    private static final String VALID_UUID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @AfterEach
+    public void uninstall() {
+        ValidationMetrics.install(null);
+    }
+
+    private static List<String> validate(Dto dto) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            return CostAwareValidation.validate(factory.getValidator(), dto).stream().map(v -> v.getPropertyPath() + ": " + v.getMessage()).toList();
+        }
+    }
+
+    @Test
+    public void should_skip_expensive_constraints_if_a_cheap_one_fails() {
+        List<String> calls = new ArrayList<>();
+        ValidationMetrics.install((Class<? extends Annotation> constraintType, Class<?> valueType) -> (nanos, valid) -> calls.add(constraintType.getSimpleName()));
+
+        assertThat(validate(new Dto("name", "not-a-uuid"))).containsExactly("id: Invalid UUID");
+        assertThat(calls).containsExactly("Uuid");
+    }
+
+    @Test
+    public void should_skip_expensive_constraints_if_a_builtin_constraint_fails() {
+        assertThat(validate(new Dto(null, VALID_UUID))).containsExactly("name: must not be null");
+    }
+
+    @Test
+    public void should_evaluate_expensive_constraints_if_cheap_ones_pass() {
+        List<String> calls = new ArrayList<>();
+        ValidationMetrics.install((Class<? extends Annotation> constraintType, Class<?> valueType) -> (nanos, valid) -> calls.add(constraintType.getSimpleName()));
+
+        assertThat(validate(new Dto("name", VALID_UUID))).containsExactly("file: File does not exist");
+        // Each constraint of this library is evaluated once, in its own phase
+        assertThat(calls).containsExactly("Uuid", "ExistingFile");
+    }
+
+    @Test
+    public void should_work_with_standalone_engine() {
+        assertThat(CostAwareValidation.validate(new Dto("name", "not-a-uuid"))).extracting(DansValidators.Violation::toString).containsExactly("id: Invalid UUID");
+        assertThat(CostAwareValidation.validate(new Dto("name", VALID_UUID))).extracting(DansValidators.Violation::toString)
+            .containsExactly("file: File does not exist");
+    }
+
+    @Test
+    public void should_skip_expensive_constraints_per_bean_with_standalone_engine() {
+        assertThat(CostAwareValidation.validate(new Batch(List.of(new Dto("name", "not-a-uuid"), new Dto("name", VALID_UUID)))))
+            .extracting(DansValidators.Violation::toString).containsExactly("items[0].id: Invalid UUID", "items[1].file: File does not exist");
+    }
+
+    @Test
+    public void should_not_look_up_phases_after_validation() {
+        validate(new Dto("name", VALID_UUID));
+        assertThat(CostAwareValidation.running()).isFalse();
+    }
+
+    @Test
+    public void should_evaluate_all_constraints_outside_cost_aware_validation() {
+        assertThat(DansValidators.validate(new Dto("name", "not-a-uuid"))).hasSize(2);
+    }
+
+    @Test
+    public void should_mark_file_system_constraints_as_expensive() {
+        assertThat(ExistingFile.class.getAnnotation(ConstraintCost.class).value()).isEqualTo(ConstraintCost.Level.EXPENSIVE);
+        assertThat(Uuid.class.getAnnotation(ConstraintCost.class).value()).isEqualTo(ConstraintCost.Level.CHEAP);
+    }
+}
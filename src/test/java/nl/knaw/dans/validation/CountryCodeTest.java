@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+
+import static nl.knaw.dans.validation.CountryCode.Standard.ALPHA_3;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountryCodeTest {
+
+    @Test
+    public void should_accept_alpha_2_and_alpha_3_codes_ignoring_case() {
+        assertThat(IsoCodeTables.ISO_3166_ALPHA_2.size()).isEqualTo(249);
+        assertThat(IsoCodeTables.ISO_3166_ALPHA_3.size()).isEqualTo(249);
+        assertThat(IsoCodeTables.ISO_3166_ALPHA_2.contains("NL")).isTrue();
+        assertThat(IsoCodeTables.ISO_3166_ALPHA_2.contains("be")).isTrue();
+        assertThat(IsoCodeTables.ISO_3166_ALPHA_2.contains("UK")).isFalse();
+        assertThat(IsoCodeTables.ISO_3166_ALPHA_3.contains("NLD")).isTrue();
+        assertThat(IsoCodeTables.ISO_3166_ALPHA_3.contains("NL")).isFalse();
+    }
+
+    @Test
+    public void should_report_invalid_codes_with_the_standard() {
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        var violations = factory.getValidator().validate(new Object() {
+            @CountryCode
+            private final String country = "XX";
+
+            @CountryCode(standard = ALPHA_3)
+            private final String nationality = "DEU";
+        });
+
+        assertThat(violations).hasSize(1);
+        assertThat(violations.iterator().next().getMessage()).isEqualTo("Invalid ALPHA_2 country code");
+    }
+}
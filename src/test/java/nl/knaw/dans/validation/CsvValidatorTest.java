@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CsvValidatorTest {
+    @TempDir
+    Path tempDir;
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("import.csv");
+        Files.writeString(file, content);
+        return file;
+    }
+
+    @Test
+    public void should_report_invalid_values_and_duplicates_in_file_order() throws Exception {
+        Path file = write("id,uri,name\n"
+            + "123e4567-e89b-12d3-a456-426614174000,https://dans.knaw.nl,a\n"
+            + "not-a-uuid,ftp://dans.knaw.nl,b\n"
+            + "123e4567-e89b-12d3-a456-426614174000,,c\n");
+        try (var validator = CsvValidator.builder()
+            .column("id", Uuid.class)
+            .column("uri", AllowedUriSchemes.class, Map.of("schemes", new String[] { "https" }))
+            .unique("id")
+            .build()) {
+            assertThat(validator.validate(file)).extracting(Object::toString).containsExactly(
+                "line 3, column id: Invalid UUID",
+                "line 3, column uri: Invalid URI scheme: 'ftp'; allowed schemes are: 'https'",
+                "line 4, column id: Duplicate value, also on line 2");
+        }
+    }
+
+    @Test
+    public void should_handle_quoted_fields_with_line_breaks() throws Exception {
+        Path file = write("\"id\",\"note\"\r\n"
+            + "\"not-a-uuid\",\"first\r\nsecond\"\r\n"
+            + "\"123e4567-e89b-12d3-a456-426614174000\",\"say \"\"hi\"\"\"\r\n"
+            + "\r\n"
+            + "x,\"open\"quote\r\n"
+            + "123e4567-e89b-12d3-a456-426614174000,a,b\r\n");
+        try (var validator = CsvValidator.builder().column("id", Uuid.class).unique("note").build()) {
+            assertThat(validator.validate(file)).extracting(Object::toString).containsExactly(
+                "line 2, column id: Invalid UUID",
+                "line 6, column id: Invalid UUID",
+                "line 6, column note: Malformed quoted field",
+                "line 7: Expected 2 fields, found 3");
+        }
+    }
+
+    @Test
+    public void should_use_column_indexes_without_header() throws Exception {
+        Path file = write("a;123e4567-e89b-12d3-a456-426614174000\nb;urn:uuid:123e4567-e89b-12d3-a456-426614174000\n");
+        try (var validator = CsvValidator.builder().header(false).delimiter(';').column("2", UrnUuid.class).build()) {
+            assertThat(validator.validate(file)).extracting(DansValidators.Violation::getPropertyPath).containsExactly("line 1, column 2");
+        }
+    }
+
+    @Test
+    public void should_reject_unknown_columns() throws Exception {
+        Path file = write("id\n");
+        try (var validator = CsvValidator.builder().column("uuid", Uuid.class).build()) {
+            assertThatThrownBy(() -> validator.validate(file)).isInstanceOf(IllegalArgumentException.class).hasMessage("Column not found in header: uuid");
+        }
+    }
+
+    @Test
+    public void should_reject_constraints_that_cannot_validate_text() {
+        assertThatThrownBy(() -> CsvValidator.builder().column("file", Checksum.class, Map.of("fileField", "file", "valueField", "sha1")))
+            .isInstanceOf(IllegalArgumentException.class).hasMessage("@Checksum cannot validate text values");
+    }
+
+    @Test
+    public void should_check_existing_files_under_a_root() throws Exception {
+        Path root = Files.createDirectories(tempDir.resolve("data"));
+        Files.writeString(root.resolve("a.txt"), "a");
+        Path file = write("path\na.txt\nb.txt\n../import.csv\n");
+        try (var validator = CsvValidator.builder().column("path", ExistingFile.class, Map.of("under", root.toString())).build()) {
+            assertThat(validator.validate(file)).extracting(DansValidators.Violation::getPropertyPath).containsExactly("line 3, column path", "line 4, column path");
+        }
+    }
+
+    @Test
+    public void should_give_the_same_result_for_any_number_of_threads() throws Exception {
+        StringBuilder csv = new StringBuilder("id,note\n");
+        int line = 2;
+        int expectedInvalid = 0;
+        int expectedDuplicates = 0;
+        while (csv.length() < 6 * 1024 * 1024) {
+            if (line % 997 == 0) {
+                csv.append("invalid-").append(line).append(",\"multi\nline, \"\"quoted\"\" note\"\n");
+                expectedInvalid++;
+                line += 2;
+            }
+            else if (line % 1009 == 0) {
+                csv.append("00000000-0000-0000-0000-000000000000,duplicate\n");
+                expectedDuplicates++;
+                line++;
+            }
+            else {
+                csv.append(UUID.randomUUID()).append(",note ").append(line).append('\n');
+                line++;
+            }
+        }
+        Path file = write(csv.toString());
+        List<DansValidators.Violation> expected;
+        try (var validator = CsvValidator.builder().column("id", Uuid.class).unique("id").threads(1).build()) {
+            expected = validator.validate(file);
+        }
+        assertThat(expected).hasSize(expectedInvalid + expectedDuplicates - 1);
+        assertThat(expected.get(0).toString()).isEqualTo("line 997, column id: Invalid UUID");
+        try (var validator = CsvValidator.builder().column("id", Uuid.class).unique("id").threads(8).build()) {
+            assertThat(validator.validate(file)).extracting(Object::toString).containsExactlyElementsOf(expected.stream().map(Object::toString).toList());
+        }
+    }
+
+    @Test
+    public void command_should_print_violations_and_return_status() throws Exception {
+        Path file = write("id,uri\nnot-a-uuid,http://example.com\n");
+        var out = new ByteArrayOutputStream();
+        var err = new ByteArrayOutputStream();
+        int status = CsvValidatorCommand.run(new String[] { "--threads", "2", file.toString(), "id=Uuid", "uri=AllowedUriSchemes(schemes=https|http)" },
+            new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+        assertThat(status).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("line 2, column id: Invalid UUID" + System.lineSeparator());
+        assertThat(CsvValidatorCommand.run(new String[] { file.toString(), "id=NoSuchConstraint" }, new PrintStream(out), new PrintStream(err))).isEqualTo(2);
+        assertThat(CsvValidatorCommand.run(new String[] { file.toString(), "id=Checksum(fileField=id;valueField=uri)" }, new PrintStream(out), new PrintStream(err))).isEqualTo(2);
+    }
+}
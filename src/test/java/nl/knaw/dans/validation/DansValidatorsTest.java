@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.ValidationException;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
+import java.io.File;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DansValidatorsTest {
+
+    @MutuallyExclusive(fields = { "file", "directory" })
+    private static class FileEntry {
+        @ExistingFile
+        private final File file;
+
+        @ExistingFile(isDirectory = true)
+        private final String directory;
+
+        @Uuid
+        private final String id;
+
+        private FileEntry(File file, String directory, String id) {
+            this.file = file;
+            this.directory = directory;
+            this.id = id;
+        }
+    }
+
+    private static class Base {
+        @SwordToken
+        private final String token = "not-a-token";
+    }
+
+    @GreaterThan(greater = "max", smaller = "min")
+    @AtLeastOneOf(fields = { "mode", "modes" })
+    private static class Deposit extends Base {
+        @NotNull // not supported by the standalone engine
+        private final String notChecked = null;
+
+        @ValidMode
+        private final String mode = "rwxrwxrwz";
+
+        @ValidMode
+        private final String modes = null;
+
+        private final Integer min = 3;
+
+        private final Integer max = 2;
+
+        @UrnUuid
+        private final List<Object> urns = List.of("urn:uuid:123e4567-e89b-12d3-a456-426614174000", URI.create("urn:uuid:not-a-uuid"));
+
+        @AllowedUriSchemes(schemes = { "https" })
+        private final URI homepage = URI.create("http://example.org/");
+
+        private final List<@Uuid String> ids = List.of("123e4567-e89b-12d3-a456-426614174000", "abc");
+
+        private final Map<String, @ExistingFile File> files = Map.of("pom", new File("pom.xml"), "missing", new File("missing.xml"));
+
+        @Valid
+        @UniqueAttribute(attribute = "id")
+        private final List<FileEntry> entries = List.of(
+            new FileEntry(new File("pom.xml"), null, "123e4567-e89b-12d3-a456-426614174000"),
+            new FileEntry(new File("missing"), "src", "123e4567-e89b-12d3-a456-426614174000"));
+
+        @Valid
+        private final FileEntry single = new FileEntry(new File("src"), null, null);
+    }
+
+    private static Set<String> withHibernateValidator(Object object) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            return factory.getValidator().validate(object).stream()
+                .filter(v -> !(v.getConstraintDescriptor().getAnnotation() instanceof NotNull))
+                .map(v -> v.getPropertyPath().toString().replaceAll("\\.<(list element|map value)>", "") + ": " + v.getMessage())
+                .collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void should_report_the_same_violations_as_hibernate_validator() {
+        var deposit = new Deposit();
+        var violations = DansValidators.validate(deposit).stream().map(DansValidators.Violation::toString).collect(Collectors.toSet());
+        assertThat(violations).isEqualTo(withHibernateValidator(deposit).stream().map(s -> s.startsWith(": ") ? s.substring(2) : s).collect(Collectors.toSet()));
+        assertThat(violations).containsExactlyInAnyOrder(
+            "max must be larger than min",
+            "token: SWORD token must start with 'sword:' prefix",
+            "mode: Invalid mode; a mode must be a valid octal number or a valid Posix file permission string.",
+            "urns[1]: Invalid urn:uuid",
+            "homepage: Invalid URI scheme: 'http'; allowed schemes are: 'https'",
+            "ids[1]: Invalid UUID",
+            "files[missing]: File does not exist",
+            "entries: attribute id must be unique in the list of objects",
+            "entries[1]: The fields [file, directory] are mutually exclusive",
+            "entries[1].file: File does not exist",
+            "single.file: File is not a regular file");
+    }
+
+    @Test
+    public void should_return_no_violations_for_valid_object() {
+        assertThat(DansValidators.validate(new FileEntry(new File("pom.xml"), null, "123e4567-e89b-12d3-a456-426614174000"))).isEmpty();
+    }
+
+    @Test
+    public void should_reject_unsupported_value_type() {
+        var object = new Object() {
+            @Uuid
+            private final Object id = 42;
+        };
+        assertThatThrownBy(() -> DansValidators.validate(object)).isInstanceOf(ValidationException.class).hasMessageContaining("@Uuid");
+    }
+
+    @Test
+    public void should_check_repeated_constraints() {
+        var object = new Object() {
+            @UniqueAttribute(attribute = "id")
+            @UniqueAttribute(attribute = "directory")
+            private final List<FileEntry> entries = List.of(new FileEntry(null, "a", "1"), new FileEntry(null, "a", "2"));
+        };
+        assertThat(DansValidators.validate(object)).extracting(DansValidators.Violation::toString)
+            .containsExactly("entries: attribute directory must be unique in the list of objects");
+    }
+
+    @Test
+    public void should_stop_at_cycles() {
+        class Node {
+            @Valid
+            private Node next;
+
+            @Uuid
+            private final String id = "x";
+        }
+        var node = new Node();
+        node.next = node;
+        assertThat(DansValidators.validate(node)).extracting(DansValidators.Violation::toString).containsExactly("id: Invalid UUID");
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DiagnosticsTest {
+
+    private static class Item {
+        private final String name;
+
+        private Item(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class Dto {
+        @ValidMode
+        private final String mode;
+
+        @UniqueAttribute(attribute = "name")
+        private final List<Item> items = Arrays.asList(new Item("a"), null, new Item(null), null);
+
+        private Dto(String mode) {
+            this.mode = mode;
+        }
+    }
+
+    @BeforeEach
+    public void start() {
+        // Neither the timer nor a count may log a summary during a test, unless the test shortens the interval itself
+        Diagnostics.setSummaryInterval(Duration.ofHours(1));
+        Diagnostics.flush();
+    }
+
+    @AfterEach
+    public void reset() {
+        Diagnostics.setSummaryInterval(Duration.ofMinutes(1));
+        Diagnostics.setSampling(0);
+    }
+
+    @Test
+    public void should_aggregate_counts_into_summaries() {
+        var before = Diagnostics.getTotals();
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            var validator = factory.getValidator();
+            for (int i = 0; i < 1000; i++) {
+                validator.validate(new Dto(i % 2 == 0 ? "rwx" : "0644"));
+            }
+        }
+        var after = Diagnostics.getTotals();
+        assertThat(after.get("ValidMode: invalid mode") - before.getOrDefault("ValidMode: invalid mode", 0L)).isEqualTo(500);
+        assertThat(after.get("UniqueAttribute: null element ignored") - before.getOrDefault("UniqueAttribute: null element ignored", 0L)).isEqualTo(2000);
+        assertThat(Diagnostics.summarize()).isEqualTo("Validation diagnostics: UniqueAttribute: null attribute value ignored (1000), "
+            + "UniqueAttribute: null element ignored (2000), ValidMode: invalid mode (500)");
+        assertThat(Diagnostics.summarize()).isNull();
+    }
+
+    @Test
+    public void should_reject_negative_sampling_rate() {
+        assertThatThrownBy(() -> Diagnostics.setSampling(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void should_count_with_sampling_and_short_interval() {
+        Diagnostics.setSampling(1);
+        Diagnostics.setSummaryInterval(Duration.ZERO);
+        Diagnostics.count("Test: sampled", "value");
+        // The summary was emitted by count itself, so nothing is left to summarize
+        assertThat(Diagnostics.summarize()).isNull();
+        assertThat(Diagnostics.getTotals()).containsEntry("Test: sampled", 1L);
+    }
+
+    @Test
+    public void should_add_amounts_and_flush_pending_counts() {
+        Diagnostics.summarize();
+        Diagnostics.add("Test: added", 3);
+        Diagnostics.add("Test: added", 0);
+        assertThat(Diagnostics.getTotals()).containsEntry("Test: added", 3L);
+        Diagnostics.flush();
+        assertThat(Diagnostics.summarize()).isNull();
+    }
+
+    @Test
+    public void should_log_counts_before_an_idle_period() throws Exception {
+        Diagnostics.flush();
+        Diagnostics.count("Test: idle", "value");
+        Diagnostics.setSummaryInterval(Duration.ZERO);
+        // No further counts: the timer logs the pending summary
+        Thread.sleep(2500);
+        assertThat(Diagnostics.summarize()).isNull();
+    }
+}
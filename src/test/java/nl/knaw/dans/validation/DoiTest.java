@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DoiTest {
+
+    @Test
+    public void isValid_should_return_true_for_bare_doi() {
+        assertThat(new DoiValidator().isValid("10.17026/dans-2xg-umq8", null)).isTrue();
+        assertThat(new DoiValidator().isValid("10.1000.10/123.456(x)", null)).isTrue();
+    }
+
+    @Test
+    public void isValid_should_return_true_for_doi_prefix_and_resolver_urls() {
+        assertThat(new DoiValidator().isValid("doi:10.17026/dans-2xg-umq8", null)).isTrue();
+        assertThat(new DoiValidator().isValid("https://doi.org/10.17026/dans-2xg-umq8", null)).isTrue();
+        assertThat(new DoiValidator().isValid("http://dx.doi.org/10.17026/dans-2xg-umq8", null)).isTrue();
+        assertThat(new DoiValidatorForUri().isValid(URI.create("https://doi.org/10.17026/dans-2xg-umq8"), null)).isTrue();
+    }
+
+    @Test
+    public void isValid_should_return_false_for_malformed_doi() {
+        assertThat(new DoiValidator().isValid("10.17026", null)).isFalse();
+        assertThat(new DoiValidator().isValid("10.17026/", null)).isFalse();
+        assertThat(new DoiValidator().isValid("10./abc", null)).isFalse();
+        assertThat(new DoiValidator().isValid("11.17026/abc", null)).isFalse();
+        assertThat(new DoiValidator().isValid("10.17026/with space", null)).isFalse();
+        assertThat(new DoiValidator().isValid("https://example.org/10.17026/abc", null)).isFalse();
+        assertThat(new DoiValidatorForUri().isValid(URI.create("urn:uuid:a8348df2-768d-4995-acc8-0ea878b05078"), null)).isFalse();
+    }
+
+    @Test
+    public void isValid_should_return_true_for_null() {
+        assertThat(new DoiValidator().isValid(null, null)).isTrue();
+        assertThat(new DoiValidatorForUri().isValid(null, null)).isTrue();
+    }
+}
@@ -16,12 +16,18 @@
 package nl.knaw.dans.validation;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
 import javax.validation.ValidatorFactory;
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -159,4 +165,111 @@ public class ExistingFileTest {
         }
     }
 
+    @Test
+    public void should_check_all_elements_of_a_list_and_report_each_invalid_one() {
+        var testObject = new Object() {
+            @ExistingFile
+            private final List<Object> payload = Arrays.asList(
+                Path.of("src/test/resources/ExistingFileTest/afile.txt"),
+                new File("src/test/resources/ExistingFileTest/adir"),
+                "src/test/resources/ExistingFileTest/adir/keepme.txt",
+                null,
+                "src/test/resources/ExistingFileTest/nodir/afile.txt",
+                "src/test/resources/ExistingFileTest/nodir/bfile.txt",
+                "src/test/resources/ExistingFileTest/afileXXX.txt");
+        };
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            var violations = factory.getValidator().validate(testObject);
+            assertThat(violations).extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage()).containsExactlyInAnyOrder(
+                "payload[1]: File is not a regular file",
+                "payload[4]: File does not exist",
+                "payload[5]: File does not exist",
+                "payload[6]: File does not exist");
+        }
+        assertThat(DansValidators.validate(testObject)).extracting(Object::toString).containsExactly(
+            "payload[1]: File is not a regular file",
+            "payload[4]: File does not exist",
+            "payload[5]: File does not exist",
+            "payload[6]: File does not exist");
+    }
+
+    @Test
+    public void should_validate_container_elements() {
+        var testObject = new Object() {
+            private final Map<String, @ExistingFile(isDirectory = true) Path> directories = Map.of(
+                "ok", Path.of("src/test/resources/ExistingFileTest/adir"),
+                "notOk", Path.of("src/test/resources/ExistingFileTest/afile.txt"));
+        };
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            var violations = factory.getValidator().validate(testObject);
+            assertThat(violations).hasSize(1);
+            assertThat(violations).extracting(ConstraintViolation::getMessage).containsExactly("File is not a directory");
+        }
+    }
+
+    @Test
+    public void should_check_that_files_are_under_root() {
+        var testObject = new Object() {
+            @ExistingFile(under = "src/test/resources/ExistingFileTest/adir")
+            private final List<Object> payload = Arrays.asList(
+                "keepme.txt",
+                Path.of("src/test/resources/ExistingFileTest/adir/keepme.txt").toAbsolutePath(),
+                "../afile.txt",
+                "src/test/resources/ExistingFileTest/afile.txt",
+                "../adir/keepme.txt",
+                "missing.txt");
+
+            @ExistingFile(under = "src/test/resources/ExistingFileTest/adir")
+            private final String single = "../afile.txt";
+        };
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            var violations = factory.getValidator().validate(testObject);
+            String root = Path.of("src/test/resources/ExistingFileTest/adir").toAbsolutePath().toString();
+            assertThat(violations).extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage()).containsExactlyInAnyOrder(
+                "payload[2]: File is not under " + root,
+                "payload[3]: File is not under " + root,
+                "payload[5]: File does not exist",
+                "single: File is not under " + root);
+        }
+    }
+
+    @Test
+    public void should_not_let_symbolic_links_escape_the_root(@TempDir Path dir) throws Exception {
+        RealPaths.clearCache();
+        Path root = Files.createDirectories(dir.resolve("root"));
+        Path outside = Files.createDirectories(dir.resolve("outside"));
+        Files.writeString(outside.resolve("secret.txt"), "secret");
+        Files.writeString(root.resolve("inside.txt"), "inside");
+        Files.createSymbolicLink(root.resolve("link-out"), outside);
+        Files.createSymbolicLink(root.resolve("file-link-out.txt"), outside.resolve("secret.txt"));
+        Files.createSymbolicLink(root.resolve("file-link-in.txt"), root.resolve("inside.txt"));
+        Files.createSymbolicLink(outside.resolve("link-in"), root);
+
+        String notUnder = "File is not under " + root;
+        assertThat(ExistingFileValidatorForFile.check(Path.of("inside.txt"), false, root)).isNull();
+        assertThat(ExistingFileValidatorForFile.check(Path.of("file-link-in.txt"), false, root)).isNull();
+        assertThat(ExistingFileValidatorForFile.check(Path.of("link-out/secret.txt"), false, root)).isEqualTo(notUnder);
+        assertThat(ExistingFileValidatorForFile.check(Path.of("link-out"), true, root)).isEqualTo(notUnder);
+        assertThat(ExistingFileValidatorForFile.check(Path.of("file-link-out.txt"), false, root)).isEqualTo(notUnder);
+        assertThat(ExistingFileValidatorForFile.check(Path.of("link-out/../root/inside.txt"), false, root)).isNull();
+        assertThat(ExistingFileValidatorForFile.check(Path.of("link-out/../outside/secret.txt"), false, root)).isEqualTo(notUnder);
+        assertThat(ExistingFileValidatorForFile.check(outside.resolve("link-in/inside.txt"), false, root)).isEqualTo(notUnder);
+        assertThat(ExistingFileValidatorForFile.check(Path.of("link-out/missing.txt"), false, root)).isEqualTo(notUnder);
+        assertThat(ExistingFileValidatorForFile.check(Path.of("."), true, root)).isNull();
+    }
+
+    @Test
+    public void should_not_reveal_which_directories_exist_outside_the_root(@TempDir Path dir) throws Exception {
+        RealPaths.clearCache();
+        Path root = Files.createDirectories(dir.resolve("a/b/root"));
+        Files.createDirectories(dir.resolve("a/existing"));
+
+        String notUnder = "File is not under " + root;
+        assertThat(ExistingFileValidatorForFile.check(Path.of("../../nonexistent/x"), false, root)).isEqualTo(notUnder);
+        assertThat(ExistingFileValidatorForFile.check(Path.of("../../existing/x"), false, root)).isEqualTo(notUnder);
+        assertThat(ExistingFileValidatorForFile.check(Path.of("x"), false, root)).isEqualTo("File does not exist");
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ExistingZipEntryTest {
+    @TempDir
+    private Path dir;
+
+    @ExistingZipEntry(archiveField = "archive", entryField = "entries")
+    private static class Deposit {
+        private final Path archive;
+        private final List<String> entries;
+
+        private Deposit(Path archive, List<String> entries) {
+            this.archive = archive;
+            this.entries = entries;
+        }
+    }
+
+    @ExistingZipEntry(archiveField = "archive", entryField = "entry")
+    private static class SingleEntry {
+        private final String archive;
+        private final String entry;
+
+        private SingleEntry(String archive, String entry) {
+            this.archive = archive;
+            this.entry = entry;
+        }
+    }
+
+    @BeforeEach
+    public void clearCache() {
+        ZipIndex.clearCache();
+    }
+
+    private static void createZip(Path zip, String... names) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+            out.setComment("a comment at the end of the archive");
+            for (String name : names) {
+                out.putNextEntry(new ZipEntry(name));
+                if (!name.endsWith("/")) {
+                    out.write(name.getBytes());
+                }
+                out.closeEntry();
+            }
+        }
+    }
+
+    private static <T> Set<ConstraintViolation<T>> validate(T object) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            return factory.getValidator().validate(object);
+        }
+    }
+
+    @Test
+    public void should_report_each_missing_entry() throws Exception {
+        Path zip = dir.resolve("bag.zip");
+        createZip(zip, "bag/", "bag/bagit.txt", "bag/data/", "bag/data/ë-file.txt");
+
+        var violations = validate(new Deposit(zip, Arrays.asList("bag/bagit.txt", "bag/data/ë-file.txt", "bag/data", null, "bag/missing.txt", "bag/bagit")));
+        assertThat(violations).extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage()).containsExactlyInAnyOrder(
+            "entries[4]: Entry does not exist in archive",
+            "entries[5]: Entry does not exist in archive");
+    }
+
+    @Test
+    public void should_check_a_single_entry() throws Exception {
+        Path zip = dir.resolve("bag.zip");
+        createZip(zip, "a.txt");
+
+        assertThat(validate(new SingleEntry(zip.toString(), "a.txt"))).isEmpty();
+        assertThat(validate(new SingleEntry(zip.toString(), "b.txt"))).extracting(v -> v.getPropertyPath().toString()).containsExactly("entry");
+        assertThat(validate(new SingleEntry(null, "b.txt"))).isEmpty();
+    }
+
+    @Test
+    public void should_report_missing_or_invalid_archive() throws Exception {
+        assertThat(validate(new SingleEntry(dir.resolve("nope.zip").toString(), "a.txt")))
+            .extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage()).containsExactly("archive: Archive does not exist");
+        Files.writeString(dir.resolve("not.zip"), "this is not a zip file");
+        assertThat(validate(new SingleEntry(dir.resolve("not.zip").toString(), "a.txt")))
+            .extracting(ConstraintViolation::getMessage).allMatch(m -> m.startsWith("Archive is not a readable ZIP file"));
+    }
+
+    @Test
+    public void should_report_invalid_archive_path() {
+        assertThat(validate(new SingleEntry("bag\0.zip", "a.txt")))
+            .extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage()).containsExactly("archive: Invalid path: Nul character not allowed");
+    }
+
+    @Test
+    public void should_report_exception_message_verbatim() throws Exception {
+        Path archive = dir.resolve("not-${a}-{b}.zip");
+        Files.writeString(archive, "this is not a zip file");
+        assertThat(validate(new SingleEntry(archive.toString(), "a.txt")))
+            .extracting(ConstraintViolation::getMessage).containsExactly("Archive is not a readable ZIP file: Not a ZIP archive: " + archive);
+    }
+
+    @Test
+    public void should_reject_entry_count_that_does_not_fit_the_central_directory() throws Exception {
+        ByteBuffer bytes = ByteBuffer.allocate(56 + 20 + 22).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putInt(0, 0x06064b50).putLong(32, Integer.MAX_VALUE / 2).putLong(40, 0).putLong(48, 0);
+        bytes.putInt(56, 0x07064b50).putLong(64, 0);
+        bytes.putInt(76, 0x06054b50).putShort(86, (short) 0xFFFF).putInt(88, 0xFFFFFFFF).putInt(92, 0xFFFFFFFF);
+        Path zip = dir.resolve("forged.zip");
+        Files.write(zip, bytes.array());
+        assertThatThrownBy(() -> ZipIndex.of(zip)).isInstanceOf(ZipException.class).hasMessageStartingWith("Central directory too small");
+    }
+
+    @Test
+    public void should_reuse_index_until_archive_changes() throws Exception {
+        Path zip = dir.resolve("bag.zip");
+        createZip(zip, "a.txt");
+        ZipIndex index = ZipIndex.of(zip);
+        assertThat(ZipIndex.of(zip)).isSameAs(index);
+
+        createZip(zip, "a.txt", "b.txt");
+        Files.setLastModifiedTime(zip, FileTime.fromMillis(Files.getLastModifiedTime(zip).toMillis() + 2000));
+        ZipIndex rebuilt = ZipIndex.of(zip);
+        assertThat(rebuilt).isNotSameAs(index);
+        assertThat(rebuilt.contains("b.txt")).isTrue();
+    }
+
+    @Test
+    public void should_read_zip64_central_directory() throws Exception {
+        Path zip = dir.resolve("many.zip");
+        try (ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(zip)))) {
+            for (int i = 0; i < 70_000; i++) {
+                out.putNextEntry(new ZipEntry("f" + i));
+                out.closeEntry();
+            }
+        }
+        ZipIndex index = ZipIndex.of(zip);
+        assertThat(index.size()).isEqualTo(70_000);
+        assertThat(index.contains("f0")).isTrue();
+        assertThat(index.contains("f69999")).isTrue();
+        assertThat(index.contains("f70000")).isFalse();
+    }
+}
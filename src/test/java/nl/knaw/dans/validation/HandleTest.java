@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandleTest {
+
+    @Test
+    public void isValid_should_return_true_for_bare_handle() {
+        assertThat(new HandleValidator().isValid("10411/abc-123", null)).isTrue();
+        assertThat(new HandleValidator().isValid("0.NA/10411", null)).isTrue();
+    }
+
+    @Test
+    public void isValid_should_return_true_for_hdl_prefix_and_resolver_url() {
+        assertThat(new HandleValidator().isValid("hdl:10411/abc", null)).isTrue();
+        assertThat(new HandleValidator().isValid("https://hdl.handle.net/11245/1.2", null)).isTrue();
+        assertThat(new HandleValidatorForUri().isValid(URI.create("https://hdl.handle.net/11245/1.2"), null)).isTrue();
+    }
+
+    @Test
+    public void isValid_should_return_false_for_malformed_handle() {
+        assertThat(new HandleValidator().isValid("10411", null)).isFalse();
+        assertThat(new HandleValidator().isValid("10411/", null)).isFalse();
+        assertThat(new HandleValidator().isValid("abc/def", null)).isFalse();
+        assertThat(new HandleValidator().isValid("10411//", null)).isTrue(); // suffix may contain slashes
+        assertThat(new HandleValidator().isValid("10411/a b", null)).isFalse();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdentifierParsersTest {
+
+    @Test
+    public void parseUuid_should_return_same_uuid_as_UUID_fromString() {
+        for (String s : new String[] { "123e4567-e89b-12d3-a456-426614174000", "FFFFFFFF-FFFF-FFFF-FFFF-FFFFFFFFFFFF", "00000000-0000-0000-0000-000000000000",
+            "1-2-3-4-5" }) {
+            assertThat(IdentifierParsers.parseUuid(s).get()).isEqualTo(UUID.fromString(s));
+        }
+    }
+
+    @Test
+    public void parseUuid_should_return_failure_without_exception() {
+        var result = IdentifierParsers.parseUuid("123e4567-e89b-12d3-a456-42661417400g");
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailureReason()).isEqualTo("Invalid UUID");
+        assertThat(result.orElse(null)).isNull();
+        assertThat(IdentifierParsers.parseUuid("123e4567+e89b-12d3-a456-426614174000").isSuccess()).isFalse();
+        assertThat(IdentifierParsers.parseUuid("not-a-uuid").isSuccess()).isFalse();
+        assertThat(IdentifierParsers.parseUuid("").isSuccess()).isFalse();
+        assertThatThrownBy(result::get).isInstanceOf(NoSuchElementException.class).hasMessage("Invalid UUID");
+    }
+
+    @Test
+    public void parseUuid_should_share_failure_instances() {
+        assertThat(IdentifierParsers.parseUuid("x")).isSameAs(IdentifierParsers.parseUuid("y"));
+    }
+
+    @Test
+    public void parseUrnUuid_should_strip_prefix() {
+        var uuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        assertThat(IdentifierParsers.parseUrnUuid("urn:uuid:123e4567-e89b-12d3-a456-426614174000").get()).isEqualTo(uuid);
+        assertThat(IdentifierParsers.parseUrnUuid(URI.create("urn:uuid:123e4567-e89b-12d3-a456-426614174000")).get()).isEqualTo(uuid);
+        assertThat(IdentifierParsers.parseUrnUuid("123e4567-e89b-12d3-a456-426614174000").getFailureReason()).isEqualTo("Invalid urn:uuid");
+        assertThat(IdentifierParsers.parseUrnUuid(URI.create("uuid/123e4567-e89b-12d3-a456-426614174000")).isSuccess()).isFalse();
+    }
+
+    @Test
+    public void parseSwordToken_should_report_same_reasons_as_validator() {
+        assertThat(IdentifierParsers.parseSwordToken("sword:a8348df2-768d-4995-acc8-0ea878b05078").get())
+            .isEqualTo(UUID.fromString("a8348df2-768d-4995-acc8-0ea878b05078"));
+        assertThat(IdentifierParsers.parseSwordToken("a8348df2-768d-4995-acc8-0ea878b05078").getFailureReason())
+            .isEqualTo("SWORD token must start with 'sword:' prefix");
+        assertThat(IdentifierParsers.parseSwordToken("sword:not-a-uuid").getFailureReason())
+            .isEqualTo("SWORD token must contain a valid UUID after the 'sword:' prefix");
+    }
+
+    @Test
+    public void parseUri_should_return_uri_or_scanner_message() {
+        assertThat(IdentifierParsers.parseUri("https://dans.knaw.nl/en?q=1#top").get()).isEqualTo(URI.create("https://dans.knaw.nl/en?q=1#top"));
+        assertThat(IdentifierParsers.parseUri("https://dans.knaw.nl/a b").getFailureReason()).isEqualTo("Invalid URI: illegal character at index 22");
+        assertThat(IdentifierParsers.parseUri("https://[::1").getFailureReason()).isEqualTo("Invalid URI: unexpected end of input");
+        assertThat(IdentifierParsers.parseUri("dans.knaw.nl").isSuccess()).isFalse();
+    }
+}
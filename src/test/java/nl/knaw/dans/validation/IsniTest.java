@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IsniTest {
+
+    private static class Authors {
+        @Isni
+        private final List<String> isnis;
+
+        private Authors(List<String> isnis) {
+            this.isnis = isnis;
+        }
+    }
+
+    @Test
+    public void isValid_should_return_true_for_grouped_and_ungrouped_isni() {
+        assertThat(new IsniValidator().isValid("0000 0001 2103 2683", null)).isTrue();
+        assertThat(new IsniValidator().isValid("0000000121032683", null)).isTrue();
+        assertThat(new IsniValidator().isValid("0000 0001 2281 955X", null)).isTrue();
+    }
+
+    @Test
+    public void isValid_should_return_true_for_isni_prefix_and_url() {
+        assertThat(new IsniValidator().isValid("ISNI 0000 0001 2103 2683", null)).isTrue();
+        assertThat(new IsniValidator().isValid("https://isni.org/isni/0000000121032683", null)).isTrue();
+    }
+
+    @Test
+    public void isValid_should_return_false_for_wrong_check_character() {
+        assertThat(new IsniValidator().isValid("0000 0001 2103 2684", null)).isFalse();
+    }
+
+    @Test
+    public void isValid_should_return_false_for_malformed_isni() {
+        assertThat(new IsniValidator().isValid("0000-0001-2103-2683", null)).isFalse();
+        assertThat(new IsniValidator().isValid("0000 00012103 2683", null)).isFalse();
+        assertThat(new IsniValidator().isValid("000000012103268", null)).isFalse();
+    }
+
+    @Test
+    public void should_validate_list_of_isnis() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Set<ConstraintViolation<Authors>> violations = factory.getValidator()
+                .validate(new Authors(List.of("0000 0001 2103 2683", "0000 0001 2103 2684")));
+            assertThat(violations).hasSize(1);
+            assertThat(violations.iterator().next().getPropertyPath().toString()).isEqualTo("isnis[1]");
+        }
+    }
+}
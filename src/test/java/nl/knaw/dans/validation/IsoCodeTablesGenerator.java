@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Generates {@link IsoCodeTables} from the XML files of the Debian/Fedora <code>iso-codes</code> package. This is not a test; run it by hand when the ISO
+ * code lists need an update:
+ *
+ * <pre>
+ * IsoCodeTablesGenerator [iso-codes XML directory] [output file]
+ * </pre>
+ *
+ * The defaults are <code>/usr/share/xml/iso-codes</code> and <code>src/main/java/nl/knaw/dans/validation/IsoCodeTables.java</code>.
+ */
+public class IsoCodeTablesGenerator {
+    private static final int KEYS_PER_BUCKET = 3;
+    private static final int CHARS_PER_LINE = 16;
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Path.of(args.length > 0 ? args[0] : "/usr/share/xml/iso-codes");
+        Path output = Path.of(args.length > 1 ? args[1] : "src/main/java/nl/knaw/dans/validation/IsoCodeTables.java");
+        var iso6391 = codes(dir.resolve("iso_639-2.xml"), "iso_639_entry", "iso_639_1_code");
+        var iso6392 = codes(dir.resolve("iso_639-2.xml"), "iso_639_entry", "iso_639_2B_code", "iso_639_2T_code");
+        var iso6393 = codes(dir.resolve("iso_639-3.xml"), "iso_639_3_entry", "id");
+        var alpha2 = codes(dir.resolve("iso_3166-1.xml"), "iso_3166_entry", "alpha_2_code");
+        var alpha3 = codes(dir.resolve("iso_3166-1.xml"), "iso_3166_entry", "alpha_3_code");
+
+        String template = Files.readString(Path.of("src/main/java/nl/knaw/dans/validation/CodeTable.java"));
+        String header = template.substring(0, template.indexOf("package"));
+
+        try (var out = new PrintWriter(Files.newBufferedWriter(output))) {
+            out.print(header);
+            out.println("package nl.knaw.dans.validation;");
+            out.println();
+            out.println("/**");
+            out.println(" * ISO 639 language codes and ISO 3166-1 country codes as {@link CodeTable}s.");
+            out.println(" *");
+            out.println(" * <p>GENERATED by IsoCodeTablesGenerator (in the test sources) from the iso-codes package; do not edit by hand.</p>");
+            out.println(" */");
+            out.println("final class IsoCodeTables {");
+            table(out, "ISO_639_1", 2, iso6391);
+            table(out, "ISO_639_2", 3, iso6392);
+            table(out, "ISO_639_3", 3, iso6393);
+            table(out, "ISO_3166_ALPHA_2", 2, alpha2);
+            table(out, "ISO_3166_ALPHA_3", 3, alpha3);
+            out.println();
+            out.println("    private IsoCodeTables() {");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private static List<String> codes(Path file, String element, String... attributes) throws Exception {
+        var factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        var document = factory.newDocumentBuilder().parse(file.toFile());
+        NodeList entries = document.getElementsByTagName(element);
+        var codes = new TreeSet<String>();
+        for (int i = 0; i < entries.getLength(); i++) {
+            var entry = (Element) entries.item(i);
+            for (String attribute : attributes) {
+                String code = entry.getAttribute(attribute).toLowerCase(Locale.ROOT);
+                if (code.matches("[a-z]{2,3}")) {
+                    codes.add(code);
+                }
+            }
+        }
+        return new ArrayList<>(codes);
+    }
+
+    private static void table(PrintWriter out, String name, int codeLength, List<String> codes) {
+        int n = codes.size();
+        int buckets = (n + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET;
+        List<List<Integer>> keysPerBucket = new ArrayList<>();
+        for (int b = 0; b < buckets; b++) {
+            keysPerBucket.add(new ArrayList<>());
+        }
+        for (String code : codes) {
+            int key = CodeTable.pack(code);
+            keysPerBucket.get(CodeTable.bucket(key, buckets)).add(key);
+        }
+        Integer[] order = new Integer[buckets];
+        Arrays.setAll(order, b -> b);
+        Arrays.sort(order, Comparator.comparingInt((Integer b) -> keysPerBucket.get(b).size()).reversed());
+
+        char[] keys = new char[n];
+        boolean[] taken = new boolean[n];
+        char[] displacements = new char[buckets];
+        for (int bucket : order) {
+            List<Integer> bucketKeys = keysPerBucket.get(bucket);
+            if (bucketKeys.isEmpty()) {
+                continue;
+            }
+            int displacement = 0;
+            while (!fits(bucketKeys, displacement, taken)) {
+                if (++displacement > Character.MAX_VALUE) {
+                    throw new IllegalStateException("No displacement found for bucket " + bucket + " of " + name);
+                }
+            }
+            displacements[bucket] = (char) displacement;
+            for (int key : bucketKeys) {
+                int slot = CodeTable.slot(key, displacement, n);
+                taken[slot] = true;
+                keys[slot] = (char) key;
+            }
+        }
+
+        out.println();
+        out.printf("    static final CodeTable %s = new CodeTable(%d,%n", name, codeLength);
+        constant(out, keys);
+        out.println(",");
+        constant(out, displacements);
+        out.println(");");
+    }
+
+    private static boolean fits(List<Integer> keys, int displacement, boolean[] taken) {
+        var slots = new TreeSet<Integer>();
+        for (int key : keys) {
+            int slot = CodeTable.slot(key, displacement, taken.length);
+            if (taken[slot] || !slots.add(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String escape(char c) {
+        // Unicode escapes are translated before the source is tokenized, so these would end or break the string literal
+        switch (c) {
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+            default:
+                return String.format("\\u%04x", (int) c);
+        }
+    }
+
+    private static void constant(PrintWriter out, char[] chars) {
+        for (int i = 0; i < chars.length; i += CHARS_PER_LINE) {
+            out.print(i == 0 ? "        \"" : "            + \"");
+            for (int j = i; j < Math.min(chars.length, i + CHARS_PER_LINE); j++) {
+                out.print(escape(chars[j]));
+            }
+            out.print(i + CHARS_PER_LINE < chars.length ? "\"\n" : "\"");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Set;
+
+import static nl.knaw.dans.validation.IsoDate.Profile.DATE;
+import static nl.knaw.dans.validation.IsoDate.Profile.DATE_TIME;
+import static nl.knaw.dans.validation.IsoDate.Profile.EDTF_LEVEL_0;
+import static nl.knaw.dans.validation.IsoDate.Profile.EDTF_LEVEL_1;
+import static nl.knaw.dans.validation.IsoDate.Profile.YEAR_MONTH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IsoDateTest {
+
+    private static class Metadata {
+        @IsoDate
+        private final String dateAvailable;
+
+        @IsoDate(profile = EDTF_LEVEL_1)
+        private final List<String> datesOfCollection;
+
+        private Metadata(String dateAvailable, List<String> datesOfCollection) {
+            this.dateAvailable = dateAvailable;
+            this.datesOfCollection = datesOfCollection;
+        }
+    }
+
+    @Test
+    public void should_accept_existing_calendar_dates_only() {
+        assertThat(IsoDateScanner.matches("2024-02-29", DATE)).isTrue();
+        assertThat(IsoDateScanner.matches("2000-02-29", DATE)).isTrue();
+        assertThat(IsoDateScanner.matches("1900-02-29", DATE)).isFalse();
+        assertThat(IsoDateScanner.matches("2023-04-31", DATE)).isFalse();
+        assertThat(IsoDateScanner.matches("2023-13-01", DATE)).isFalse();
+        assertThat(IsoDateScanner.matches("2023-1-01", DATE)).isFalse();
+        assertThat(IsoDateScanner.matches("2023-01-01 ", DATE)).isFalse();
+    }
+
+    @Test
+    public void should_accept_year_month() {
+        assertThat(IsoDateScanner.matches("2023-12", YEAR_MONTH)).isTrue();
+        assertThat(IsoDateScanner.matches("2023-00", YEAR_MONTH)).isFalse();
+        assertThat(IsoDateScanner.matches("2023-12-01", YEAR_MONTH)).isFalse();
+    }
+
+    @Test
+    public void should_accept_date_times_with_optional_seconds_fraction_and_offset() {
+        assertThat(IsoDateScanner.matches("2023-12-01T10:15", DATE_TIME)).isTrue();
+        assertThat(IsoDateScanner.matches("2023-12-01T10:15:30.123Z", DATE_TIME)).isTrue();
+        assertThat(IsoDateScanner.matches("2023-12-01T10:15:30+01:00", DATE_TIME)).isTrue();
+        assertThat(IsoDateScanner.matches("2023-12-01T10:15:30-0530", DATE_TIME)).isTrue();
+        assertThat(IsoDateScanner.matches("2023-12-01T24:00", DATE_TIME)).isFalse();
+        assertThat(IsoDateScanner.matches("2023-12-01T10:15:30.", DATE_TIME)).isFalse();
+        assertThat(IsoDateScanner.matches("2023-12-01T10:15:30+01:", DATE_TIME)).isFalse();
+        assertThat(IsoDateScanner.matches("2023-12-01", DATE_TIME)).isFalse();
+    }
+
+    @Test
+    public void should_accept_edtf_level_0() {
+        assertThat(IsoDateScanner.matches("1985", EDTF_LEVEL_0)).isTrue();
+        assertThat(IsoDateScanner.matches("1985-04", EDTF_LEVEL_0)).isTrue();
+        assertThat(IsoDateScanner.matches("1985-04-12", EDTF_LEVEL_0)).isTrue();
+        assertThat(IsoDateScanner.matches("1985-04-12T23:20:30Z", EDTF_LEVEL_0)).isTrue();
+        assertThat(IsoDateScanner.matches("1964/2008", EDTF_LEVEL_0)).isTrue();
+        assertThat(IsoDateScanner.matches("2004-02-01/2005-02-08", EDTF_LEVEL_0)).isTrue();
+        assertThat(IsoDateScanner.matches("1985-04-12T23:20", EDTF_LEVEL_0)).isFalse();
+        assertThat(IsoDateScanner.matches("1984?", EDTF_LEVEL_0)).isFalse();
+        assertThat(IsoDateScanner.matches("201X", EDTF_LEVEL_0)).isFalse();
+        assertThat(IsoDateScanner.matches("1985/..", EDTF_LEVEL_0)).isFalse();
+    }
+
+    @Test
+    public void should_accept_edtf_level_1() {
+        assertThat(IsoDateScanner.matches("1984?", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("2004-06~", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("2004-06-11%", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("201X", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("20XX", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("2004-XX", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("1985-04-XX", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("1985-XX-XX", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("2001-21", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("Y170000002", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("Y-170000002", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("-1985", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("1985-04-12/..", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("../1985-04", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("1985-04-12/", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("/1985-04-12", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("2004-06~/2004-06-11%", EDTF_LEVEL_1)).isTrue();
+        assertThat(IsoDateScanner.matches("2X0X", EDTF_LEVEL_1)).isFalse();
+        assertThat(IsoDateScanner.matches("1985-XX-12", EDTF_LEVEL_1)).isFalse();
+        assertThat(IsoDateScanner.matches("2001-25", EDTF_LEVEL_1)).isFalse();
+        assertThat(IsoDateScanner.matches("Y1985", EDTF_LEVEL_1)).isFalse();
+        assertThat(IsoDateScanner.matches("-0000", EDTF_LEVEL_1)).isFalse();
+        assertThat(IsoDateScanner.matches("../..", EDTF_LEVEL_1)).isFalse();
+        assertThat(IsoDateScanner.matches("/", EDTF_LEVEL_1)).isFalse();
+    }
+
+    @Test
+    public void should_validate_single_dates_and_lists() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Set<ConstraintViolation<Metadata>> violations = factory.getValidator()
+                .validate(new Metadata("2023-02-30", List.of("1985-04-12/..", "1985-13", "2001-21")));
+            assertThat(violations).extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage())
+                .containsExactlyInAnyOrder("dateAvailable: Invalid date for profile DATE", "datesOfCollection[1]: Invalid date for profile EDTF_LEVEL_1");
+        }
+    }
+}
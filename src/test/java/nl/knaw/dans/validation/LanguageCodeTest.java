@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+
+import static nl.knaw.dans.validation.LanguageCode.Standard.ISO_639_2;
+import static nl.knaw.dans.validation.LanguageCode.Standard.ISO_639_3;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LanguageCodeTest {
+
+    @Test
+    public void should_contain_all_generated_codes() {
+        assertThat(IsoCodeTables.ISO_639_1.size()).isEqualTo(184);
+        assertThat(IsoCodeTables.ISO_639_1.contains("nl")).isTrue();
+        assertThat(IsoCodeTables.ISO_639_1.contains("en")).isTrue();
+        assertThat(IsoCodeTables.ISO_639_1.contains("zu")).isTrue();
+        assertThat(IsoCodeTables.ISO_639_1.contains("xx")).isFalse();
+    }
+
+    @Test
+    public void should_accept_bibliographic_and_terminologic_iso_639_2_codes() {
+        assertThat(IsoCodeTables.ISO_639_2.contains("dut")).isTrue();
+        assertThat(IsoCodeTables.ISO_639_2.contains("nld")).isTrue();
+        assertThat(IsoCodeTables.ISO_639_2.contains("qaa")).isFalse();
+    }
+
+    @Test
+    public void should_ignore_case_and_reject_non_letters() {
+        assertThat(IsoCodeTables.ISO_639_3.contains("NLD")).isTrue();
+        assertThat(IsoCodeTables.ISO_639_3.contains("nL1")).isFalse();
+        assertThat(IsoCodeTables.ISO_639_3.contains("n@d")).isFalse();
+        assertThat(IsoCodeTables.ISO_639_3.contains("nl")).isFalse();
+        assertThat(IsoCodeTables.ISO_639_3.contains("")).isFalse();
+    }
+
+    @Test
+    public void should_report_invalid_codes_with_the_standard() {
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+        var violations = factory.getValidator().validate(new Object() {
+            @LanguageCode
+            private final String language = "nl";
+
+            @LanguageCode(standard = ISO_639_2)
+            private final String bibliographic = "dut";
+
+            @LanguageCode(standard = ISO_639_3)
+            private final String individual = "xyz";
+
+            @LanguageCode
+            private final String missing = null;
+        });
+
+        assertThat(violations).hasSize(1);
+        assertThat(violations.iterator().next().getMessage()).isEqualTo("Invalid ISO_639_3 language code");
+    }
+}
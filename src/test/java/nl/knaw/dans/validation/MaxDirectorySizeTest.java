@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MaxDirectorySizeTest {
+    @TempDir
+    private Path dir;
+
+    private static class Staging {
+        @MaxDirectorySize(100)
+        private final Path path;
+
+        @MaxDirectorySize(100)
+        private final File file;
+
+        @MaxDirectorySize(100)
+        private final String string;
+
+        private Staging(Path path) {
+            this.path = path;
+            this.file = path.toFile();
+            this.string = path.toString();
+        }
+    }
+
+    private List<String> validate(Path path) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            return factory.getValidator().validate(new Staging(path)).stream().map(ConstraintViolation::getMessage).toList();
+        }
+    }
+
+    private void createTree(int filesPerDirectory, int bytesPerFile) throws Exception {
+        for (String sub : new String[] { "a", "a/b", "a/b/c", "d" }) {
+            Files.createDirectories(dir.resolve(sub));
+            for (int i = 0; i < filesPerDirectory; i++) {
+                Files.write(dir.resolve(sub).resolve("f" + i), new byte[bytesPerFile]);
+            }
+        }
+    }
+
+    @Test
+    public void should_add_up_files_in_all_subdirectories() throws Exception {
+        createTree(5, 5);
+        assertThat(validate(dir)).isEmpty();
+        assertThat(DirectorySize.sizeUpTo(dir, Long.MAX_VALUE)).isEqualTo(100);
+    }
+
+    @Test
+    public void should_report_directory_over_limit() throws Exception {
+        createTree(5, 6);
+        assertThat(validate(dir)).containsExactly("Directory is larger than 100 bytes", "Directory is larger than 100 bytes",
+            "Directory is larger than 100 bytes");
+    }
+
+    @Test
+    public void should_stop_early_once_limit_is_exceeded() throws Exception {
+        createTree(100, 10);
+        long size = DirectorySize.sizeUpTo(dir, 100);
+        assertThat(size).isGreaterThan(100).isLessThan(4000);
+    }
+
+    @Test
+    public void should_not_follow_symbolic_links() throws Exception {
+        createTree(5, 5);
+        Files.createSymbolicLink(dir.resolve("d/loop"), dir);
+        assertThat(DirectorySize.sizeUpTo(dir, Long.MAX_VALUE)).isEqualTo(100);
+    }
+
+    @Test
+    public void should_follow_a_symbolic_link_to_the_directory_itself() throws Exception {
+        createTree(5, 6);
+        Path link = Files.createSymbolicLink(dir.resolve("link"), dir);
+        assertThat(DirectorySize.sizeUpTo(link, Long.MAX_VALUE)).isEqualTo(120);
+        assertThat(validate(link)).containsExactly("Directory is larger than 100 bytes", "Directory is larger than 100 bytes",
+            "Directory is larger than 100 bytes");
+    }
+
+    @Test
+    public void should_require_existing_directory() throws Exception {
+        Path file = Files.writeString(dir.resolve("file"), "x");
+        assertThat(validate(file)).containsOnly("File is not a directory");
+        assertThat(validate(dir.resolve("missing"))).containsOnly("File does not exist");
+    }
+}
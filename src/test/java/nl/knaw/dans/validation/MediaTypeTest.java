@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidationException;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MediaTypeTest {
+
+    private static class FileMetadata {
+        @MediaType(allowed = { "application/xml", "audio/*" }, allowedResource = "MediaTypeTest/preferred-formats.txt")
+        private final String mediaType;
+
+        private FileMetadata(String mediaType) {
+            this.mediaType = mediaType;
+        }
+    }
+
+    private Set<ConstraintViolation<FileMetadata>> validate(String mediaType) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            return factory.getValidator().validate(new FileMetadata(mediaType));
+        }
+    }
+
+    @Test
+    public void should_accept_exact_media_types_from_annotation_and_resource() {
+        assertThat(validate("application/xml")).isEmpty();
+        assertThat(validate("application/pdf")).isEmpty();
+        assertThat(validate("Text/Plain")).isEmpty();
+        assertThat(validate(null)).isEmpty();
+    }
+
+    @Test
+    public void should_accept_any_subtype_of_wildcard() {
+        assertThat(validate("image/png")).isEmpty();
+        assertThat(validate("audio/x-wav")).isEmpty();
+    }
+
+    @Test
+    public void should_ignore_parameters() {
+        assertThat(validate("text/plain; charset=UTF-8")).isEmpty();
+        assertThat(validate("text/plain;charset=UTF-8")).isEmpty();
+    }
+
+    @Test
+    public void should_not_accept_other_media_types() {
+        var violations = validate("application/pdfx; version=2");
+        assertThat(violations).hasSize(1);
+        assertThat(violations.iterator().next().getMessage()).isEqualTo("Media type 'application/pdfx' is not allowed");
+        assertThat(validate("application/pd")).hasSize(1);
+        assertThat(validate("video/mp4")).hasSize(1);
+    }
+
+    @Test
+    public void should_not_accept_malformed_media_types() {
+        assertThat(validate("image")).extracting(ConstraintViolation::getMessage).containsExactly("Invalid media type: missing subtype");
+        assertThat(validate("image/")).extracting(ConstraintViolation::getMessage).containsExactly("Invalid media type: missing subtype");
+        assertThat(validate("image/*")).extracting(ConstraintViolation::getMessage).containsExactly("Invalid media type: illegal character at index 6");
+        assertThat(validate("/png")).hasSize(1);
+        assertThat(validate("image/png/x")).hasSize(1);
+        assertThat(validate("text/plain x")).hasSize(1);
+    }
+
+    @Test
+    public void should_accept_any_valid_media_type_if_nothing_is_specified() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            assertThat(factory.getValidator().validate(new Object() {
+                @MediaType
+                private final String mediaType = "x-custom/thing+json";
+            })).isEmpty();
+        }
+    }
+
+    @Test
+    public void should_fail_on_missing_resource() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            assertThatThrownBy(() -> factory.getValidator().validate(new Object() {
+                @MediaType(allowedResource = "MediaTypeTest/missing.txt")
+                private final String mediaType = "text/plain";
+            })).isInstanceOf(ValidationException.class);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MinFreeSpaceTest {
+    @TempDir
+    private Path dir;
+
+    private static class Staging {
+        @MinFreeSpace(1)
+        private final Path enough;
+
+        @MinFreeSpace(Long.MAX_VALUE)
+        private final String tooMuch;
+
+        private Staging(Path path) {
+            this.enough = path;
+            this.tooMuch = path.toString();
+        }
+    }
+
+    @Test
+    public void should_compare_usable_space_of_volume() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Set<ConstraintViolation<Staging>> violations = factory.getValidator().validate(new Staging(dir.resolve("not/yet/created")));
+            assertThat(violations).extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage())
+                .containsExactly("tooMuch: Less than " + Long.MAX_VALUE + " bytes of free space");
+        }
+    }
+
+    @Test
+    public void should_query_file_store_once_per_volume() throws Exception {
+        FreeSpace.clearCache();
+        long first = FreeSpace.usableSpace(dir);
+        Files.write(dir.resolve("file"), new byte[1024 * 1024]);
+        assertThat(FreeSpace.usableSpace(dir.resolve("file"))).isEqualTo(first);
+        assertThat(FreeSpace.usableSpace(dir.resolve("missing/child"))).isEqualTo(first);
+    }
+}
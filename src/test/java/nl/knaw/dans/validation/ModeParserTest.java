@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModeParserTest {
+
+    @Test
+    public void should_parse_octal_modes() {
+        assertThat(ModeParser.parse("755").get()).isEqualTo(PosixFilePermissions.fromString("rwxr-xr-x"));
+        assertThat(ModeParser.parse("0640").get()).isEqualTo(PosixFilePermissions.fromString("rw-r-----"));
+        assertThat(ModeParser.parse("4755").get()).isEqualTo(PosixFilePermissions.fromString("rwxr-xr-x"));
+        assertThat(ModeParser.parse("0").get()).isEmpty();
+    }
+
+    @Test
+    public void should_parse_permission_strings() {
+        assertThat(ModeParser.parse("rw-r--r--").get()).isEqualTo(PosixFilePermissions.fromString("rw-r--r--"));
+        assertThat(ModeParser.parse("---------").get()).isEmpty();
+    }
+
+    @Test
+    public void should_reject_invalid_modes() {
+        for (String mode : new String[] { "", "8", "-1", "17777", "rwxrwxrw", "rwxrwxrwt", "wrxrwxrwx" }) {
+            assertThat(ModeParser.parse(mode).getFailureReason()).as(mode).startsWith("Invalid mode");
+        }
+    }
+
+    @Test
+    public void validator_should_accept_what_parser_accepts() {
+        var validator = new ModeValidator();
+        assertThat(validator.isValid("755", null)).isTrue();
+        assertThat(validator.isValid("rwxr-x---", null)).isTrue();
+        assertThat(validator.isValid("rwx", null)).isFalse();
+        assertThat(validator.isValid(null, null)).isTrue();
+    }
+}
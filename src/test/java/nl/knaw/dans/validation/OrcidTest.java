@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrcidTest {
+
+    private static class Authors {
+        @Orcid
+        private final List<String> orcids;
+
+        private Authors(String... orcids) {
+            this.orcids = Arrays.asList(orcids);
+        }
+    }
+
+    @Test
+    public void isValid_should_return_true_for_bare_orcid() {
+        assertThat(new OrcidValidator().isValid("0000-0002-1825-0097", null)).isTrue();
+        assertThat(new OrcidValidator().isValid("0000-0002-1694-233X", null)).isTrue();
+    }
+
+    @Test
+    public void isValid_should_return_true_for_orcid_url() {
+        assertThat(new OrcidValidator().isValid("https://orcid.org/0000-0002-1825-0097", null)).isTrue();
+        assertThat(new OrcidValidator().isValid("http://orcid.org/0000-0001-5109-3700", null)).isTrue();
+    }
+
+    @Test
+    public void isValid_should_return_false_for_wrong_check_character() {
+        assertThat(new OrcidValidator().isValid("0000-0002-1825-0098", null)).isFalse();
+        assertThat(new OrcidValidator().isValid("0000-0002-1694-2330", null)).isFalse();
+    }
+
+    @Test
+    public void isValid_should_return_false_for_malformed_orcid() {
+        assertThat(new OrcidValidator().isValid("0000000218250097", null)).isFalse();
+        assertThat(new OrcidValidator().isValid("0000-0002-1825-009", null)).isFalse();
+        assertThat(new OrcidValidator().isValid("0000 0002 1825 0097", null)).isFalse();
+        assertThat(new OrcidValidator().isValid("https://example.org/0000-0002-1825-0097", null)).isFalse();
+        assertThat(new OrcidValidator().isValid("0000-000X-1825-0097", null)).isFalse();
+    }
+
+    @Test
+    public void should_report_each_invalid_element_of_a_list() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Set<ConstraintViolation<Authors>> violations = factory.getValidator()
+                .validate(new Authors("0000-0002-1825-0097", "0000-0002-1825-0098", null, "not-an-orcid"));
+            assertThat(violations).hasSize(2);
+            assertThat(violations).allMatch(v -> v.getMessage().equals("Invalid ORCID iD"));
+            assertThat(violations).extracting(v -> v.getPropertyPath().toString()).containsExactlyInAnyOrder("orcids[1]", "orcids[3]");
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathSnapshotTest {
+    @TempDir
+    private Path bag;
+
+    private void createBag() throws IOException {
+        Files.createDirectories(bag.resolve("data/sub"));
+        Files.writeString(bag.resolve("bagit.txt"), "BagIt-Version: 1.0");
+        Files.writeString(bag.resolve("data/a.txt"), "a");
+        Files.writeString(bag.resolve("data/sub/b.txt"), "b");
+        Files.createSymbolicLink(bag.resolve("data/link-to-sub"), bag.resolve("data/sub"));
+        Files.createSymbolicLink(bag.resolve("data/broken-link"), bag.resolve("data/nothing"));
+    }
+
+    @Test
+    public void should_answer_checks_from_the_listing() throws Exception {
+        createBag();
+        try (PathSnapshot snapshot = PathSnapshot.open(bag)) {
+            assertThat(snapshot.isDirectory(bag)).isTrue();
+            assertThat(snapshot.isFile(bag.resolve("data/a.txt"))).isTrue();
+            assertThat(snapshot.isDirectory(bag.resolve("data/sub"))).isTrue();
+            assertThat(snapshot.isFile(bag.resolve("data/sub/b.txt"))).isTrue();
+            assertThat(snapshot.exists(bag.resolve("data/missing.txt"))).isFalse();
+            assertThat(snapshot.exists(bag.resolve("data/a.txt/x"))).isFalse();
+            assertThat(snapshot.isDirectory(bag.resolve("data/link-to-sub"))).isTrue();
+            assertThat(snapshot.isFile(bag.resolve("data/link-to-sub/b.txt"))).isTrue();
+            assertThat(snapshot.exists(bag.resolve("data/broken-link"))).isFalse();
+            assertThat(snapshot.exists(bag.resolve("data/sub/../a.txt"))).isTrue();
+        }
+    }
+
+    @Test
+    public void should_not_see_changes_after_a_directory_was_listed() throws Exception {
+        createBag();
+        try (PathSnapshot snapshot = PathSnapshot.open(bag)) {
+            assertThat(snapshot.exists(bag.resolve("data/a.txt"))).isTrue();
+            Files.delete(bag.resolve("data/a.txt"));
+            Files.writeString(bag.resolve("data/new.txt"), "new");
+            assertThat(snapshot.exists(bag.resolve("data/a.txt"))).isTrue();
+            assertThat(snapshot.exists(bag.resolve("data/new.txt"))).isFalse();
+        }
+    }
+
+    @Test
+    public void should_be_used_by_existing_file_validators_while_open() throws Exception {
+        createBag();
+        var testObject = new Object() {
+            @ExistingFile
+            private final List<Path> payload = List.of(bag.resolve("data/a.txt"), bag.resolve("data/sub/b.txt"));
+
+            @ExistingFile
+            private final Path bagit = bag.resolve("bagit.txt");
+        };
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            var validator = factory.getValidator();
+            try (PathSnapshot snapshot = PathSnapshot.open(bag)) {
+                assertThat(validator.validate(testObject)).isEmpty();
+                Files.delete(bag.resolve("data/sub/b.txt"));
+                Files.delete(bag.resolve("bagit.txt"));
+                assertThat(validator.validate(testObject)).isEmpty();
+            }
+            assertThat(validator.validate(testObject)).extracting(ConstraintViolation::getMessage)
+                .containsExactlyInAnyOrder("File does not exist", "File does not exist");
+        }
+    }
+
+    private static class Item {
+        @ExistingFile
+        private final Path file;
+
+        private Item(Path file) {
+            this.file = file;
+        }
+    }
+
+    @Test
+    public void should_be_passed_to_bulk_and_csv_workers() throws Exception {
+        createBag();
+        Path csv = Files.writeString(bag.resolve("files.csv"), "file\n" + bag.resolve("data/a.txt") + "\n");
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+            BulkValidator bulk = BulkValidator.builder(factory.getValidator()).build();
+            CsvValidator csvValidator = CsvValidator.builder().column("file", ExistingFile.class).threads(2).build()) {
+            try (PathSnapshot snapshot = PathSnapshot.open(bag)) {
+                assertThat(snapshot.exists(bag.resolve("data/a.txt"))).isTrue();
+                Files.delete(bag.resolve("data/a.txt"));
+                // Answered by the snapshot on the worker threads, which has listed data before the file was deleted
+                assertThat(bulk.validate(List.of(new Item(bag.resolve("data/a.txt"))))).containsExactly(Set.of());
+                assertThat(csvValidator.validate(csv)).isEmpty();
+            }
+            assertThat(bulk.validate(List.of(new Item(bag.resolve("data/a.txt")))).get(0)).hasSize(1);
+            assertThat(csvValidator.validate(csv)).hasSize(1);
+        }
+    }
+
+    @Test
+    public void should_restore_previous_snapshot_on_close() throws Exception {
+        createBag();
+        Path sub = bag.resolve("data/sub");
+        try (PathSnapshot outer = PathSnapshot.open(bag)) {
+            assertThat(PathSnapshot.kindOf(bag.resolve("data/a.txt"))).isEqualTo(PathSnapshot.OTHER);
+            try (PathSnapshot inner = PathSnapshot.open(sub)) {
+                assertThat(PathSnapshot.kindOf(sub.resolve("b.txt"))).isEqualTo(PathSnapshot.OTHER);
+            }
+            Files.delete(sub.resolve("b.txt"));
+            Files.delete(bag.resolve("data/a.txt"));
+            // Answered by the outer snapshot, which has not listed data/sub yet
+            assertThat(PathSnapshot.kindOf(sub.resolve("b.txt"))).isEqualTo(PathSnapshot.MISSING);
+            assertThat(PathSnapshot.kindOf(bag.resolve("data/a.txt"))).isEqualTo(PathSnapshot.OTHER);
+        }
+        assertThat(PathSnapshot.kindOf(bag.resolve("data/a.txt"))).isEqualTo(PathSnapshot.MISSING);
+    }
+
+    @Test
+    public void should_only_be_closed_by_owner_thread() throws Exception {
+        try (PathSnapshot snapshot = PathSnapshot.open(bag)) {
+            var failure = new Throwable[1];
+            var thread = new Thread(() -> {
+                try {
+                    snapshot.close();
+                }
+                catch (IllegalStateException e) {
+                    failure[0] = e;
+                }
+            });
+            thread.start();
+            thread.join();
+            assertThat(failure[0]).isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
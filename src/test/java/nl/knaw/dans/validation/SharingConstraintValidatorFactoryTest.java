@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharingConstraintValidatorFactoryTest {
+
+    private static class Dto {
+        @Uuid
+        private final String id = "not-a-uuid";
+
+        @Uuid(message = "Invalid parent UUID")
+        private final String parentId = "123e4567-e89b-12d3-a456-426614174000";
+
+        @AllowedUriSchemes(schemes = { "https" })
+        private final URI homepage = URI.create("http://example.org/");
+
+        @AllowedUriSchemes(schemes = { "https" }, message = "Only https")
+        private final String mirror = "ftp://example.org/";
+
+        @AllowedUriSchemes(schemes = { "http", "https" })
+        private final URI other = URI.create("http://example.org/");
+    }
+
+    @Test
+    public void should_share_stateless_validators_only() {
+        var factory = new SharingConstraintValidatorFactory();
+        assertThat(factory.getInstance(UuidValidator.class)).isSameAs(factory.getInstance(UuidValidator.class));
+        assertThat(factory.getInstance(SwordTokenValidator.class)).isSameAs(factory.getInstance(SwordTokenValidator.class));
+        assertThat(factory.getInstance(ExistingFileValidatorForPath.class)).isNotSameAs(factory.getInstance(ExistingFileValidatorForPath.class));
+    }
+
+    @Test
+    public void should_intern_compiled_state_by_attribute_values() {
+        assertThat(SchemeSet.compile(new String[] { "https", "ftp" })).isSameAs(SchemeSet.compile(new String[] { "https", "ftp" }));
+        assertThat(SchemeSet.compile(new String[] { "https", "ftp" })).isNotSameAs(SchemeSet.compile(new String[] { "https" }));
+    }
+
+    @Test
+    public void should_validate_with_hibernate_validator() {
+        try (ValidatorFactory factory = Validation.byDefaultProvider().configure()
+            .constraintValidatorFactory(new SharingConstraintValidatorFactory())
+            .buildValidatorFactory()) {
+            assertThat(factory.getValidator().validate(new Dto())).extracting(v -> v.getPropertyPath() + ": " + v.getMessage()).containsExactlyInAnyOrder(
+                "id: Invalid UUID",
+                "homepage: Invalid URI scheme: 'http'; allowed schemes are: 'https'",
+                "mirror: Invalid URI scheme: 'ftp'; allowed schemes are: 'https'");
+        }
+    }
+
+    @Test
+    public void should_mark_all_validators() throws Exception {
+        try (Stream<Path> files = Files.list(Path.of("src/main/java/nl/knaw/dans/validation"))) {
+            var validators = files.map(p -> p.getFileName().toString().replace(".java", ""))
+                .map(name -> {
+                    try {
+                        return Class.forName(SharingConstraintValidatorFactoryTest.class.getPackageName() + "." + name);
+                    }
+                    catch (ClassNotFoundException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .filter(c -> ConstraintValidator.class.isAssignableFrom(c) && !Modifier.isAbstract(c.getModifiers()))
+                .toList();
+            assertThat(validators).hasSizeGreaterThan(40);
+            assertThat(validators).allMatch(c -> c.isAnnotationPresent(ThreadSafeValidator.class));
+        }
+    }
+}
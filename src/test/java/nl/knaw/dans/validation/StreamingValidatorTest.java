@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StreamingValidatorTest {
+    private static final String UUID = "123e4567-e89b-12d3-a456-426614174000";
+
+    private final StreamingValidator validator = StreamingValidator.builder()
+        .rule("$.id", UrnUuid.class)
+        .rule("$.files[*].id", Uuid.class)
+        .rule("$.files[*]['path']", ExistingFile.class, Map.of("under", "src", "isDirectory", true))
+        .rule("$.links.*", AllowedUriSchemes.class, Map.of("schemes", new String[] { "https" }))
+        .rule("$.token", SwordToken.class)
+        .unique("$.files[*].id")
+        .build();
+
+    private static List<String> strings(List<DansValidators.Violation> violations) {
+        return violations.stream().map(DansValidators.Violation::toString).toList();
+    }
+
+    @Test
+    public void should_report_violations_with_json_pointers() throws Exception {
+        String json = "{\"id\": \"urn:uuid:" + UUID + "\", \"ignored\": {\"id\": \"x\"},"
+            + " \"files\": ["
+            + "  {\"id\": \"" + UUID + "\", \"path\": \"main\", \"nested\": {\"id\": \"x\"}},"
+            + "  {\"id\": \"not-a-uuid\", \"path\": \"../pom.xml\"},"
+            + "  {\"id\": \"" + UUID + "\", \"path\": null, \"size\": 3}"
+            + "],"
+            + " \"links\": {\"home\": \"https://dans.knaw.nl\", \"a/b~c\": \"http://example.org\"},"
+            + " \"token\": 42}";
+        var violations = validator.validateJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        assertThat(strings(violations)).containsExactly(
+            "/files/1/id: Invalid UUID",
+            "/files/1/path: File is not under " + Path.of("src").toAbsolutePath(),
+            "/files/2/id: Duplicate value, also at /files/0/id",
+            "/links/a~1b~0c: Invalid URI scheme: 'http'; allowed schemes are: 'https'",
+            "/token: SWORD token must start with 'sword:' prefix");
+        assertThat(violations.get(0).getConstraint()).isInstanceOf(Uuid.class);
+        assertThat(violations.get(2).getConstraint()).isNull();
+    }
+
+    @Test
+    public void should_validate_yaml() throws Exception {
+        String yaml = "id: urn:uuid:not-a-uuid\nfiles:\n  - id: " + UUID + "\n    path: main\n";
+        assertThat(strings(validator.validateYaml(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)))))
+            .containsExactly("/id: Invalid urn:uuid");
+    }
+
+    @Test
+    public void should_stream_large_documents_and_stop_at_max_violations(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("large.json");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("{\"files\": [");
+            for (int i = 0; i < 200_000; i++) {
+                writer.write((i == 0 ? "" : ",") + "{\"id\": \"" + (i % 1000 == 999 ? "bad" : UUID) + "\", \"other\": [1, 2, 3]}");
+            }
+            writer.write("]}");
+        }
+        var ids = StreamingValidator.builder().rule("$.files[*].id", Uuid.class).build();
+        assertThat(ids.validateJson(file)).hasSize(200).first().extracting(DansValidators.Violation::getPropertyPath).isEqualTo("/files/999/id");
+        var limited = StreamingValidator.builder().rule("$.files[*].id", Uuid.class).maxViolations(3).build();
+        assertThat(strings(limited.validateJson(file))).containsExactly(
+            "/files/999/id: Invalid UUID", "/files/1999/id: Invalid UUID", "/files/2999/id: Invalid UUID");
+    }
+
+    @Test
+    public void should_reject_invalid_rules() {
+        assertThatThrownBy(() -> StreamingValidator.builder().rule("files[*]", Uuid.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StreamingValidator.builder().rule("$..id", Uuid.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StreamingValidator.builder().rule("$.a[x]", Uuid.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StreamingValidator.builder().rule("$.a", UniqueAttribute.class)).hasMessageContaining("No value for attribute attribute");
+        assertThatThrownBy(() -> StreamingValidator.builder().rule("$.a", Uuid.class, Map.of("foo", 1))).hasMessageContaining("Unknown attributes");
+        assertThatThrownBy(() -> StreamingValidator.builder().rule("$.a", Checksum.class, Map.of("fileField", "file", "valueField", "sha1")))
+            .isInstanceOf(IllegalArgumentException.class).hasMessage("@Checksum cannot validate text values");
+    }
+
+    @Test
+    public void should_create_annotations_equal_to_declared_ones() throws Exception {
+        class Declared {
+            @AllowedUriSchemes(schemes = { "https" })
+            private String uri;
+        }
+        var declared = Declared.class.getDeclaredField("uri").getAnnotation(AllowedUriSchemes.class);
+        var created = AnnotationInstances.of(AllowedUriSchemes.class, Map.of("schemes", new String[] { "https" }));
+        assertThat(created).isEqualTo(declared);
+        assertThat(declared).isEqualTo(created);
+        assertThat(created.hashCode()).isEqualTo(declared.hashCode());
+        assertThat(created.toString()).contains("schemes={\"https\"}".replace("\"", "")).startsWith("@" + AllowedUriSchemes.class.getName());
+    }
+}
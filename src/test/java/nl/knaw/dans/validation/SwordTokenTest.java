@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import javax.validation.Validation;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -91,4 +92,37 @@ public class SwordTokenTest {
         }
     }
 
+    @Test
+    public void should_report_each_invalid_token_in_a_list() {
+        var testObject = new Object() {
+
+            @SwordToken
+            private final List<String> swordTokens = List.of("sword:a8348df2-768d-4995-acc8-0ea878b05078", "a8348df2-768d-4995-acc8-0ea878b05078",
+                "sword:not-a-uuid");
+        };
+
+        // Validate
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            var violations = validator.validate(testObject);
+            assertThat(violations).extracting(v -> v.getPropertyPath().toString() + ": " + v.getMessage()).containsExactlyInAnyOrder(
+                "swordTokens[1]: SWORD token must start with 'sword:' prefix",
+                "swordTokens[2]: SWORD token must contain a valid UUID after the 'sword:' prefix");
+        }
+    }
+
+    @Test
+    public void should_validate_container_elements() {
+        var testObject = new Object() {
+
+            private final List<@SwordToken String> swordTokens = List.of("sword:a8348df2-768d-4995-acc8-0ea878b05078", "sword:");
+        };
+
+        // Validate
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            var violations = validator.validate(testObject);
+            assertThat(violations).hasSize(1);
+        }
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UrnNbnTest {
+
+    @Test
+    public void isValid_should_return_true_for_dutch_urn_nbn() {
+        assertThat(new UrnNbnValidator().isValid("urn:nbn:nl:ui:13-2g-6ioa", null)).isTrue();
+        assertThat(new UrnNbnValidator().isValid("URN:NBN:NL:UI:13-2G-6IOA", null)).isTrue();
+        assertThat(new UrnNbnValidator().isValid("https://persistent-identifier.nl/urn:nbn:nl:ui:13-2g-6ioa", null)).isTrue();
+        assertThat(new UrnNbnValidatorForUri().isValid(URI.create("urn:nbn:nl:ui:13-2g-6ioa"), null)).isTrue();
+    }
+
+    @Test
+    public void isValid_should_verify_check_digit_of_german_urn_nbn() {
+        assertThat(new UrnNbnValidator().isValid("urn:nbn:de:gbv:089-3321752945", null)).isTrue();
+        assertThat(new UrnNbnValidator().isValid("urn:nbn:de:bvb:12-bsb00064093-3", null)).isTrue();
+        assertThat(new UrnNbnValidator().isValid("https://nbn-resolving.org/urn:nbn:de:hbz:6-85659524771", null)).isTrue();
+    }
+
+    @Test
+    public void should_report_wrong_check_digit() {
+        var testObject = new Object() {
+
+            @UrnNbn
+            private final String urn = "urn:nbn:de:gbv:089-3321752944";
+        };
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            var violations = factory.getValidator().validate(testObject);
+            assertThat(violations).hasSize(1);
+            assertThat(violations.iterator().next().getMessage()).isEqualTo("Invalid URN:NBN check digit");
+        }
+    }
+
+    @Test
+    public void isValid_should_return_false_for_malformed_urn_nbn() {
+        assertThat(new UrnNbnValidator().isValid("urn:nbn:nl:ui:13", null)).isFalse();
+        assertThat(new UrnNbnValidator().isValid("urn:nbn:nld-abc", null)).isFalse();
+        assertThat(new UrnNbnValidator().isValid("urn:nbn:nl:ui:13-", null)).isFalse();
+        assertThat(new UrnNbnValidator().isValid("urn:nbn:nl:ui:13-abc%2", null)).isFalse();
+        assertThat(new UrnNbnValidator().isValid("urn:uuid:a8348df2-768d-4995-acc8-0ea878b05078", null)).isFalse();
+    }
+}
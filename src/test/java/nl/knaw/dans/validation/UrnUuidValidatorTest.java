@@ -17,6 +17,10 @@ package nl.knaw.dans.validation;
 
 import org.junit.jupiter.api.Test;
 
+import javax.validation.Validation;
+import java.net.URI;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class UrnUuidValidatorTest {
@@ -31,4 +35,19 @@ public class UrnUuidValidatorTest {
         assertThat(new UrnUuidValidator().isValid("123e4567-e89b-12d3-a456-426614174000", null)).isFalse();
     }
 
+    @Test
+    public void should_check_all_elements_of_a_list() {
+        var testObject = new Object() {
+            @UrnUuid
+            private final List<Object> ids = List.of("urn:uuid:123e4567-e89b-12d3-a456-426614174000", URI.create("urn:uuid:123e4567-e89b-12d3-a456-426614174000"),
+                "123e4567-e89b-12d3-a456-426614174000");
+
+            private final List<@UrnUuid URI> elementIds = List.of(URI.create("urn:isbn:123"));
+        };
+
+        try (var factory = Validation.buildDefaultValidatorFactory()) {
+            var violations = factory.getValidator().validate(testObject);
+            assertThat(violations).extracting(v -> v.getPropertyPath().toString()).containsExactlyInAnyOrder("ids[2]", "elementIds[0].<list element>");
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UuidTest {
+
+    private static class Deposit {
+        @Uuid
+        private final String id;
+
+        @Uuid
+        private final List<String> relatedIds;
+
+        private final List<@Uuid String> elementIds;
+
+        private Deposit(String id, List<String> relatedIds, List<String> elementIds) {
+            this.id = id;
+            this.relatedIds = relatedIds;
+            this.elementIds = elementIds;
+        }
+    }
+
+    private Set<ConstraintViolation<Deposit>> validate(Deposit deposit) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            return factory.getValidator().validate(deposit);
+        }
+    }
+
+    @Test
+    public void should_accept_valid_uuids() {
+        assertThat(validate(new Deposit("a8348df2-768d-4995-acc8-0ea878b05078", List.of("A8348DF2-768D-4995-ACC8-0EA878B05078"), List.of()))).isEmpty();
+        assertThat(validate(new Deposit(null, null, null))).isEmpty();
+    }
+
+    @Test
+    public void should_report_invalid_uuid() {
+        assertThat(validate(new Deposit("a8348df2-768d-4995-acc8-0ea878b0507g", null, null)))
+            .extracting(ConstraintViolation::getMessage).containsExactly("Invalid UUID");
+    }
+
+    @Test
+    public void should_report_each_invalid_element_of_a_list() {
+        var violations = validate(new Deposit(null,
+            Arrays.asList("a8348df2-768d-4995-acc8-0ea878b05078", "nope", null, "a8348df2_768d_4995_acc8_0ea878b05078"),
+            List.of("a8348df2-768d-4995-acc8-0ea878b05078", "nope")));
+        assertThat(violations).extracting(v -> v.getPropertyPath().toString())
+            .containsExactlyInAnyOrder("relatedIds[1]", "relatedIds[3]", "elementIds[1].<list element>");
+    }
+}
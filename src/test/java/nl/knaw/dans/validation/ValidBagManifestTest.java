@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ValidBagManifestTest {
+    private static final String SHA1 = "aaf4c61ddcc5e8a2dabede0f3b482cd9aea9434d";
+
+    @TempDir
+    private Path bag;
+
+    private static class Bag {
+        @ValidBagManifest
+        private final Path manifest;
+
+        private Bag(Path manifest) {
+            this.manifest = manifest;
+        }
+    }
+
+    private List<String> validate(Path manifest) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            return factory.getValidator().validate(new Bag(manifest)).stream().map(ConstraintViolation::getMessage).sorted().toList();
+        }
+    }
+
+    private Path createPayload(String... names) throws Exception {
+        for (String name : names) {
+            Path file = bag.resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, name);
+        }
+        return bag;
+    }
+
+    @Test
+    public void should_accept_valid_manifest() throws Exception {
+        createPayload("data/a.txt", "data/sub dir/b c.txt", "data/100%.txt");
+        Path manifest = Files.writeString(bag.resolve("manifest-sha1.txt"),
+            SHA1 + "  data/a.txt\r\n" + SHA1.toUpperCase() + " data/sub dir/b c.txt\n" + SHA1 + "\tdata/100%25.txt\n");
+        assertThat(validate(manifest)).isEmpty();
+    }
+
+    @Test
+    public void should_report_each_problem_with_its_line() throws Exception {
+        createPayload("data/a.txt", "data/b.txt");
+        Files.createDirectories(bag.resolve("data/dir"));
+        Path manifest = Files.writeString(bag.resolve("manifest-sha1.txt"), String.join("\n",
+            SHA1 + " data/a.txt",
+            SHA1.substring(1) + " data/b.txt",
+            SHA1 + "x data/b.txt",
+            SHA1,
+            "",
+            SHA1 + " data/a.txt",
+            SHA1 + " data/missing.txt",
+            SHA1 + " ../outside.txt",
+            SHA1 + " /etc/passwd",
+            SHA1 + " data/dir"));
+        assertThat(validate(manifest)).containsExactly(
+            "Line 10: File is not a regular file: data/dir",
+            "Line 2: invalid checksum",
+            "Line 3: invalid checksum",
+            "Line 4: missing path",
+            "Line 5: empty line",
+            "Line 6: duplicate path, also on line 1: data/a.txt",
+            "Line 7: File does not exist: data/missing.txt",
+            "Line 8: path is outside the bag: ../outside.txt",
+            "Line 9: path is outside the bag: /etc/passwd");
+    }
+
+    @Test
+    public void should_check_manifest_name_and_existence() throws Exception {
+        assertThat(validate(Files.writeString(bag.resolve("manifest.txt"), "")))
+            .containsExactly("Not a BagIt manifest file name: manifest.txt");
+        assertThat(validate(Files.writeString(bag.resolve("manifest-crc32.txt"), "")))
+            .containsExactly("Unsupported manifest algorithm: crc32");
+        assertThat(validate(bag.resolve("tagmanifest-md5.txt")))
+            .containsExactly("File does not exist");
+    }
+
+    @Test
+    public void should_handle_large_manifest_and_cap_reported_problems() throws Exception {
+        createPayload("data/f.txt");
+        Path manifest = bag.resolve("manifest-sha1.txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(manifest)) {
+            writer.write(SHA1 + " data/f.txt\n");
+            for (int i = 0; i < 200_000; i++) {
+                writer.write(SHA1 + " data/f.txt\n");
+            }
+        }
+        var problems = validate(manifest);
+        assertThat(problems).hasSize(BagManifestScanner.MAX_REPORTED_PROBLEMS + 1);
+        assertThat(problems).contains("... and 199900 more problems");
+    }
+
+    @Test
+    public void should_find_duplicates_among_many_distinct_paths() throws Exception {
+        Path manifest = bag.resolve("manifest-sha1.txt");
+        Files.createDirectories(bag.resolve("data"));
+        try (BufferedWriter writer = Files.newBufferedWriter(manifest)) {
+            for (int i = 0; i < 5_000; i++) {
+                Files.writeString(bag.resolve("data/f" + i + ".txt"), "");
+                writer.write(SHA1 + " data/f" + i + ".txt\n");
+            }
+            writer.write(SHA1 + " data/f4999.txt\n");
+            writer.write(SHA1 + " data/f17.txt");
+        }
+        assertThat(validate(manifest)).containsExactly(
+            "Line 5001: duplicate path, also on line 5000: data/f4999.txt",
+            "Line 5002: duplicate path, also on line 18: data/f17.txt");
+    }
+
+    @Test
+    public void should_compare_paths_after_percent_decoding() throws Exception {
+        createPayload("data/a b.txt", "data/100%.txt");
+        Path manifest = Files.writeString(bag.resolve("manifest-sha1.txt"), String.join("\n",
+            SHA1 + " data/a b.txt",
+            SHA1 + " data/a%20b.txt",
+            SHA1 + " data/100%25.txt",
+            SHA1 + " data/100%2525.txt",
+            SHA1 + " data/%61%20b.txt"));
+        assertThat(validate(manifest)).containsExactly(
+            "Line 2: duplicate path, also on line 1: data/a b.txt",
+            "Line 4: File does not exist: data/100%25.txt",
+            "Line 5: duplicate path, also on line 1: data/a b.txt");
+    }
+
+    @Test
+    public void should_report_paths_verbatim() throws Exception {
+        Path manifest = Files.writeString(bag.resolve("manifest-sha1.txt"), SHA1 + " data/{message}-${1+1}\\x.txt\n");
+        assertThat(validate(manifest)).containsExactly("Line 1: File does not exist: data/{message}-${1+1}\\x.txt");
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ValidationEventTest {
+    @TempDir
+    private Path dir;
+
+    private static class Dto {
+        @Uuid
+        private final String id = "not-a-uuid";
+
+        @ExistingFile
+        private final Path file = Path.of("pom.xml");
+
+        @ExistingFile
+        private final List<String> files = List.of("pom.xml", "does-not-exist");
+    }
+
+    private List<RecordedEvent> record(Duration threshold) throws Exception {
+        Path file = dir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ValidationEvent.NAME).withThreshold(threshold);
+            recording.start();
+            try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+                factory.getValidator().validate(new Dto());
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    @Test
+    public void should_record_constraint_value_and_outcome() throws Exception {
+        List<RecordedEvent> events = record(Duration.ZERO);
+        assertThat(events).extracting(e -> e.getClass("constraint").getName() + " " + e.getClass("valueType").getName() + " " + e.getInt("size") + " "
+            + e.getString("path") + " " + e.getBoolean("valid")).containsExactlyInAnyOrder(
+            Uuid.class.getName() + " java.lang.String -1 null false",
+            ExistingFile.class.getName() + " " + Path.of("pom.xml").getClass().getName() + " -1 pom.xml true",
+            ExistingFile.class.getName() + " " + List.of("a", "b").getClass().getName() + " 2 null false");
+        assertThat(events).allMatch(e -> !e.getDuration().isNegative());
+    }
+
+    @Test
+    public void should_skip_calls_below_threshold() throws Exception {
+        assertThat(record(Duration.ofHours(1))).isEmpty();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2024 DANS - Data Archiving and Networked Services (info@dans.knaw.nl)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package nl.knaw.dans.validation;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ValidationMetricsTest {
+
+    private static class Dto {
+        @Uuid
+        private final String id;
+
+        @ExistingFile
+        private final String file;
+
+        private Dto(String id, String file) {
+            this.id = id;
+            this.file = file;
+        }
+    }
+
+    private static class RecordingMetrics implements ValidationMetrics {
+        private final List<String> records = new ArrayList<>();
+
+        @Override
+        public Probe probe(Class<? extends Annotation> constraintType, Class<?> valueType) {
+            return (nanos, valid) -> {
+                assertThat(nanos).isGreaterThanOrEqualTo(0);
+                synchronized (records) {
+                    records.add(constraintType.getSimpleName() + "/" + valueType.getSimpleName() + ": " + valid);
+                }
+            };
+        }
+    }
+
+    @AfterEach
+    public void uninstall() {
+        ValidationMetrics.install(null);
+    }
+
+    private static void validate(Object... objects) {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            for (Object object : objects) {
+                factory.getValidator().validate(object);
+            }
+        }
+    }
+
+    @Test
+    public void should_record_nothing_when_not_installed() {
+        var metrics = new RecordingMetrics();
+        ValidationMetrics.install(metrics);
+        ValidationMetrics.install(null);
+        validate(new Dto("not-a-uuid", "pom.xml"));
+        assertThat(metrics.records).isEmpty();
+        assertThat(ValidationMetrics.installed()).isNull();
+    }
+
+    @Test
+    public void should_record_each_call_once_under_the_annotated_type() {
+        var metrics = new RecordingMetrics();
+        ValidationMetrics.install(metrics);
+        validate(new Dto("not-a-uuid", "pom.xml"), new Dto("123e4567-e89b-12d3-a456-426614174000", "does-not-exist"));
+        // The String validator of @ExistingFile delegates to the File validator; the call is only counted for String
+        assertThat(metrics.records).containsExactlyInAnyOrder(
+            "Uuid/String: false",
+            "ExistingFile/String: true",
+            "Uuid/String: true",
+            "ExistingFile/String: false");
+    }
+
+    @Test
+    public void should_report_to_dropwizard_registry() {
+        var registry = new MetricRegistry();
+        ValidationMetrics.install(new DropwizardValidationMetrics(registry));
+        validate(new Dto("not-a-uuid", null), new Dto("also-not-a-uuid", null), new Dto("123e4567-e89b-12d3-a456-426614174000", null));
+        assertThat(registry.timer("nl.knaw.dans.validation.Uuid.String.calls").getCount()).isEqualTo(3);
+        assertThat(registry.counter("nl.knaw.dans.validation.Uuid.String.failures").getCount()).isEqualTo(2);
+        assertThat(registry.timer("nl.knaw.dans.validation.ExistingFile.String.calls").getCount()).isEqualTo(3);
+        assertThat(registry.counter("nl.knaw.dans.validation.ExistingFile.String.failures").getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_export_stats_as_mxbeans() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name;
+        try (var metrics = new JmxValidationMetrics()) {
+            ValidationMetrics.install(metrics);
+            validate(new Dto("not-a-uuid", Path.of("pom.xml").toString()), new Dto(null, null));
+            ValidationMetrics.install(null);
+
+            name = metrics.objectName(Uuid.class, String.class);
+            assertThat(server.getAttribute(name, "Invocations")).isEqualTo(2L);
+            assertThat(server.getAttribute(name, "Failures")).isEqualTo(1L);
+            assertThat((long) server.getAttribute(name, "MaxTimeNanos")).isLessThanOrEqualTo((long) server.getAttribute(name, "TotalTimeNanos"));
+            assertThat((long) server.getAttribute(name, "99thPercentileTimeNanos")).isGreaterThanOrEqualTo((long) server.getAttribute(name, "MaxTimeNanos"));
+            assertThat((long[]) server.getAttribute(name, "LatencyHistogram")).hasSize(64);
+            assertThat(server.isRegistered(metrics.objectName(ExistingFile.class, String.class))).isTrue();
+        }
+        assertThat(server.isRegistered(name)).isFalse();
+    }
+
+    @Test
+    public void should_export_stats_of_two_jmx_exporters_under_different_names() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try (var first = new JmxValidationMetrics(); var second = new JmxValidationMetrics()) {
+            ValidationMetrics.install(first);
+            assertThat(new UuidValidator().isValid("x", null)).isFalse();
+            ValidationMetrics.install(second);
+            assertThat(new UuidValidator().isValid("x", null)).isFalse();
+            ValidationMetrics.install(null);
+
+            ObjectName firstName = first.objectName(Uuid.class, String.class);
+            ObjectName secondName = second.objectName(Uuid.class, String.class);
+            assertThat(secondName).isNotEqualTo(firstName);
+            assertThat(server.getAttribute(firstName, "Invocations")).isEqualTo(1L);
+            assertThat(server.getAttribute(secondName, "Invocations")).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    public void should_not_change_results_if_metrics_fail() {
+        ValidationMetrics.install((constraintType, valueType) -> {
+            throw new IllegalStateException("probe failed");
+        });
+        assertThat(new UuidValidator().isValid("x", null)).isFalse();
+        assertThat(new UuidValidator().isValid("123e4567-e89b-12d3-a456-426614174000", null)).isTrue();
+
+        ValidationMetrics.install((constraintType, valueType) -> (nanos, valid) -> {
+            throw new IllegalStateException("record failed");
+        });
+        var validator = new UuidValidator();
+        assertThat(validator.isValid("x", null)).isFalse();
+        assertThat(validator.isValid("x", null)).isFalse();
+    }
+}